@@ -1,23 +1,50 @@
 package kr.minex.pvplorestat;
 
 import kr.minex.pvplorestat.application.CombatService;
+import kr.minex.pvplorestat.application.CombatSimulationService;
 import kr.minex.pvplorestat.application.ItemLoreService;
 import kr.minex.pvplorestat.application.PlayerStatsService;
+import kr.minex.pvplorestat.infrastructure.cache.DirtyPlayerTracker;
+import kr.minex.pvplorestat.infrastructure.cache.ItemStatsInterner;
 import kr.minex.pvplorestat.infrastructure.cache.PlayerStatsCache;
+import kr.minex.pvplorestat.infrastructure.config.ConfigChange;
+import kr.minex.pvplorestat.infrastructure.config.ConfigFileWatcher;
 import kr.minex.pvplorestat.infrastructure.config.ConfigManager;
+import kr.minex.pvplorestat.infrastructure.config.ConfigSnapshot;
 import kr.minex.pvplorestat.infrastructure.config.MessageManager;
 import kr.minex.pvplorestat.infrastructure.lore.LoreManager;
+import kr.minex.pvplorestat.infrastructure.lore.ParsedLoreCache;
 import kr.minex.pvplorestat.infrastructure.monitoring.MetricsLogTask;
 import kr.minex.pvplorestat.infrastructure.monitoring.PluginMetrics;
+import kr.minex.pvplorestat.infrastructure.scheduler.PluginScheduler;
+import kr.minex.pvplorestat.infrastructure.storage.PdcStatStorage;
 import kr.minex.pvplorestat.presentation.command.PlsCommand;
 import kr.minex.pvplorestat.presentation.listener.CombatListener;
+import kr.minex.pvplorestat.presentation.listener.EquipmentChangeListener;
 import kr.minex.pvplorestat.presentation.listener.EquipmentListener;
+import kr.minex.pvplorestat.presentation.task.StatRederiveTask;
 import kr.minex.pvplorestat.presentation.task.StatUpdateTask;
 import org.bukkit.Bukkit;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.event.HandlerList;
 import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.scheduler.BukkitTask;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * PVPLoreStat 메인 플러그인 클래스
@@ -38,20 +65,43 @@ public class PVPLoreStat extends JavaPlugin {
     private MessageManager messageManager;
     private LoreManager loreManager;
     private PlayerStatsCache statsCache;
+    private DirtyPlayerTracker dirtyTracker;
     private PluginMetrics metrics;
+    private PdcStatStorage statStorage;
+    private ItemStatsInterner statsInterner;
+    private PluginScheduler scheduler;
 
     // 애플리케이션
     private ItemLoreService itemLoreService;
     private PlayerStatsService playerStatsService;
     private CombatService combatService;
+    private CombatSimulationService combatSimulationService;
 
     // 태스크
-    private BukkitTask statUpdateTask;
-    private BukkitTask metricsLogTask;
+    private PluginScheduler.TaskHandle statUpdateTask;
+    private PluginScheduler.TaskHandle metricsLogTask;
+
+    // 리로드 후 나누어 진행 중인 스탯 재계산
+    private StatRederiveTask rederiveTask;
+
+    // 비동기 로어 파싱 워커 (settings.async-parse)
+    private ExecutorService statParseExecutor;
+
+    // 리로드 1단계(파일 읽기, 파싱) 워커
+    private ExecutorService reloadExecutor;
+    private final AtomicBoolean reloading = new AtomicBoolean();
+    private final AtomicBoolean reloadQueued = new AtomicBoolean();
+
+    // 전투 시뮬레이션 워커 (/pls simulate)
+    private ForkJoinPool simulationPool;
+
+    // 설정 파일 감시 (settings.watch-config)
+    private ConfigFileWatcher configWatcher;
 
     // 리스너(리로드 시 중복 등록 방지)
     private CombatListener combatListener;
     private EquipmentListener equipmentListener;
+    private EquipmentChangeListener equipmentChangeListener;
 
     @Override
     public void onEnable() {
@@ -76,11 +126,10 @@ public class PVPLoreStat extends JavaPlugin {
 
             // 태스크 시작
             startTasks();
+            updateConfigWatcher();
 
             // 이미 접속해 있는 플레이어 처리 (리로드 대응)
-            for (Player player : Bukkit.getOnlinePlayers()) {
-                playerStatsService.calculateAndCache(player);
-            }
+            recalculateOnlinePlayers();
 
             getLogger().info("========================================");
             getLogger().info("  PVPLoreStat Plugin v" + getDescription().getVersion());
@@ -103,6 +152,20 @@ public class PVPLoreStat extends JavaPlugin {
         if (metricsLogTask != null) {
             metricsLogTask.cancel();
         }
+        if (rederiveTask != null) {
+            rederiveTask.cancel();
+        }
+        stopAsyncParsing();
+        if (configWatcher != null) {
+            configWatcher.close();
+            configWatcher = null;
+        }
+        if (reloadExecutor != null) {
+            reloadExecutor.shutdownNow();
+        }
+        if (simulationPool != null) {
+            simulationPool.shutdownNow();
+        }
 
         // 모든 플레이어 체력 리셋
         if (playerStatsService != null) {
@@ -128,19 +191,103 @@ public class PVPLoreStat extends JavaPlugin {
      */
     private void initializeManagers() {
         configManager = new ConfigManager(this);
+        scheduler = PluginScheduler.create(this);
+        if (scheduler.isRegionized()) {
+            getLogger().info("Folia 리전 스케줄러를 사용합니다.");
+        }
         messageManager = new MessageManager(this);
-        loreManager = new LoreManager(configManager.getLoreTemplate());
-        statsCache = new PlayerStatsCache();
         metrics = new PluginMetrics();
+        statsInterner = createStatsInterner(configManager.getSnapshot());
+        bindStatsInternMetrics();
+        loreManager = createLoreManager(configManager.getSnapshot(), statsInterner);
+        // 최대 인원만큼 슬롯을 미리 확보 (넘는 플레이어는 슬롯 없이 보관)
+        statsCache = new PlayerStatsCache(metrics,
+                Math.max(PlayerStatsCache.DEFAULT_CAPACITY, getServer().getMaxPlayers()));
+        dirtyTracker = new DirtyPlayerTracker();
+        statStorage = new PdcStatStorage(this);
+        reloadExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "PVPLoreStat-Reload");
+            thread.setDaemon(true);
+            return thread;
+        });
+        simulationPool = createSimulationPool();
+    }
+
+    /**
+     * 전투 시뮬레이션용 Fork/Join 풀을 생성합니다.
+     * 메인 스레드 몫으로 코어 하나를 남기며, 작업 스레드는 데몬입니다.
+     */
+    private static ForkJoinPool createSimulationPool() {
+        int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        AtomicInteger threadIndex = new AtomicInteger();
+        return new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("PVPLoreStat-Simulator-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * 현재 설정의 템플릿으로 LoreManager를 생성합니다.
+     * <p>
+     * 파싱 캐시는 LoreManager마다 새로 만들어지므로, 리로드 시 이전 템플릿의 결과가 남지 않습니다.
+     * </p>
+     */
+    private LoreManager createLoreManager(ConfigSnapshot config, ItemStatsInterner interner) {
+        int cacheSize = config.getLoreCacheSize();
+        ParsedLoreCache parseCache = cacheSize > 0 ? new ParsedLoreCache(cacheSize, metrics) : null;
+        return new LoreManager(config.getLoreTemplate(), parseCache, interner);
+    }
+
+    /**
+     * 설정의 크기로 ItemStats 인터닝 테이블을 생성합니다. 크기가 0이면 null을 반환합니다.
+     * 메트릭 연결은 교체할 때 {@link #bindStatsInternMetrics()}로 합니다.
+     */
+    private ItemStatsInterner createStatsInterner(ConfigSnapshot config) {
+        int size = config.getStatsInternSize();
+        return size > 0 ? new ItemStatsInterner(size, metrics) : null;
+    }
+
+    /**
+     * 현재 인터닝 테이블의 크기를 메트릭에 연결합니다. 테이블이 없으면 이전 테이블의 크기가 남지 않도록 0을 연결합니다.
+     */
+    private void bindStatsInternMetrics() {
+        ItemStatsInterner interner = statsInterner;
+        metrics.bindStatsInternRetained(interner != null ? interner::size : () -> 0);
+    }
+
+    /**
+     * 설정의 저장 방식으로 ItemLoreService를 생성합니다.
+     */
+    private ItemLoreService createItemLoreService(ConfigSnapshot config, LoreManager lore) {
+        PdcStatStorage storage = config.isPdcStorage() ? statStorage : null;
+        return new ItemLoreService(lore, configManager, metrics, getLogger(), storage);
+    }
+
+    /**
+     * 스탯 서비스를 생성합니다. 공유 캐시에 결과를 게시하므로 교체 전에는 사용하지 않아야 합니다.
+     * <p>
+     * 리로드 준비 단계의 실패를 시험할 수 있도록 protected로 둡니다.
+     * </p>
+     *
+     * @param itemLoreService 아이템 로어 서비스
+     * @param interner        인터닝 테이블 (없으면 null)
+     * @return 스탯 서비스
+     */
+    protected PlayerStatsService createPlayerStatsService(ItemLoreService itemLoreService, ItemStatsInterner interner) {
+        return new PlayerStatsService(itemLoreService, statsCache, configManager, metrics, getLogger(), interner);
     }
 
     /**
      * 서비스를 초기화합니다.
      */
     private void initializeServices() {
-        itemLoreService = new ItemLoreService(loreManager, configManager, metrics, getLogger());
-        playerStatsService = new PlayerStatsService(itemLoreService, statsCache, configManager, metrics, getLogger());
+        itemLoreService = createItemLoreService(configManager.getSnapshot(), loreManager);
+        playerStatsService = createPlayerStatsService(itemLoreService, statsInterner);
         combatService = new CombatService(playerStatsService, configManager, messageManager, metrics, getLogger());
+        // 설정은 호출마다 스냅샷에서 읽고 캐시는 리로드해도 유지되므로 리로드 때 다시 만들지 않음
+        combatSimulationService = new CombatSimulationService(statsCache, configManager, simulationPool);
     }
 
     /**
@@ -151,17 +298,20 @@ public class PVPLoreStat extends JavaPlugin {
         HandlerList.unregisterAll(this);
 
         combatListener = new CombatListener(combatService, configManager, getLogger());
-        equipmentListener = new EquipmentListener(playerStatsService, this, getLogger());
+        equipmentListener = new EquipmentListener(playerStatsService, scheduler, metrics, getLogger());
+        equipmentChangeListener = new EquipmentChangeListener(dirtyTracker, playerStatsService);
 
         getServer().getPluginManager().registerEvents(combatListener, this);
         getServer().getPluginManager().registerEvents(equipmentListener, this);
+        getServer().getPluginManager().registerEvents(equipmentChangeListener, this);
     }
 
     /**
      * 명령어를 등록합니다.
      */
     private void registerCommands() {
-        PlsCommand plsCommand = new PlsCommand(this, messageManager, itemLoreService, playerStatsService);
+        PlsCommand plsCommand = new PlsCommand(this, messageManager, itemLoreService, playerStatsService,
+                combatSimulationService, scheduler);
 
         var command = getCommand("pvplorestat");
         if (command != null) {
@@ -174,64 +324,361 @@ public class PVPLoreStat extends JavaPlugin {
      * 주기적 태스크를 시작합니다.
      */
     private void startTasks() {
-        int interval = configManager.getUpdateInterval();
-        statUpdateTask = new StatUpdateTask(playerStatsService, metrics, getLogger(), configManager)
-                .runTaskTimer(this, interval, interval);
+        startAsyncParsing();
+
+        StatUpdateTask task = new StatUpdateTask(playerStatsService, dirtyTracker, metrics, getLogger(), configManager,
+                scheduler);
+        int period = task.getPeriodTicks();
+        statUpdateTask = scheduler.runGlobalTimer(task, period, period);
 
         // 디버그 모드에서만 주기적으로 메트릭 로그 출력
         if (configManager.isDebug()) {
             int logIntervalTicks = 20 * 60 * 5; // 5분
-            metricsLogTask = new MetricsLogTask(metrics, getLogger())
-                    .runTaskTimer(this, logIntervalTicks, logIntervalTicks);
+            metricsLogTask = scheduler.runGlobalTimer(new MetricsLogTask(metrics, getLogger()),
+                    logIntervalTicks, logIntervalTicks);
+        }
+    }
+
+    /**
+     * 설정에 따라 로어 파싱 워커를 시작합니다.
+     * 결과는 다음 틱 플레이어 스레드에서 반영됩니다.
+     */
+    private void startAsyncParsing() {
+        if (!configManager.isAsyncParse()) {
+            return;
+        }
+        AtomicInteger threadIndex = new AtomicInteger();
+        statParseExecutor = Executors.newFixedThreadPool(configManager.getAsyncParseThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "PVPLoreStat-StatParser-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        playerStatsService.enableAsync(statParseExecutor, scheduler);
+    }
+
+    /**
+     * 로어 파싱 워커를 중지합니다. 진행 중인 결과는 버려집니다.
+     */
+    private void stopAsyncParsing() {
+        if (playerStatsService != null) {
+            playerStatsService.disableAsync();
+        }
+        if (statParseExecutor != null) {
+            statParseExecutor.shutdown();
+            statParseExecutor = null;
+        }
+    }
+
+    /**
+     * 접속 중인 모든 플레이어의 스탯을 각 플레이어를 소유한 스레드에서 다시 계산합니다.
+     */
+    private void recalculateOnlinePlayers() {
+        PlayerStatsService service = playerStatsService;
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            scheduler.executeForPlayer(player, () -> {
+                service.calculateAndCache(player);
+                service.indexHotbar(player);
+            });
         }
     }
 
     /**
-     * 설정을 리로드합니다.
+     * 설정을 단계적으로 리로드합니다.
+     * <p>
+     * 1단계(워커 스레드): config.yml과 messages.yml을 읽고 파싱해 새 설정 스냅샷(무기 표, 로어 템플릿 포함)을 만들고,
+     * 로어 설정이 바뀌었으면 로어 템플릿을 컴파일해 LoreManager까지 만듭니다.<br>
+     * 2단계(메인 스레드): 새 서비스를 모두 만든 뒤 스냅샷을 게시하고 서비스, 리스너, 태스크를 한 번에 교체합니다.<br>
+     * 3단계: 접속 중인 플레이어의 스탯을 update-interval 틱에 걸쳐 나누어 다시 계산합니다.
+     * </p>
+     * <p>
+     * 1단계나 2단계의 준비에서 실패하면(YAML 문법 오류, 서비스 생성 실패 등) 현재 설정과 서비스는 그대로 유지됩니다.
+     * 리로드가 이미 진행 중이면 새 요청은 바로 false로 완료됩니다.
+     * </p>
+     *
+     * @return 교체까지 끝나면 true, 실패했거나 이미 진행 중이면 false (메인 스레드에서 완료)
      */
-    public void reload() {
+    public CompletableFuture<Boolean> reload() {
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        if (!reloading.compareAndSet(false, true)) {
+            result.complete(false);
+            return result;
+        }
+        reloadQueued.set(false); // 이 리로드가 지금까지의 파일 변경을 모두 읽음
+
+        long start = System.nanoTime();
+        CompletableFuture.supplyAsync(this::stageReload, reloadExecutor)
+                .whenComplete((staged, error) -> scheduler.runGlobal(() -> {
+                    try {
+                        if (error != null) {
+                            logReloadFailure(error instanceof CompletionException ? error.getCause() : error);
+                            metrics.recordReload(System.nanoTime() - start, false);
+                            result.complete(false);
+                        } else if (isEnabled()) {
+                            long swapStart = System.nanoTime();
+                            applyReload(staged);
+                            long swapNanos = System.nanoTime() - swapStart;
+                            metrics.recordReload(System.nanoTime() - start, true);
+                            if (configManager.isDebug()) {
+                                getLogger().info("[Debug] 설정 리로드 완료 (전체 " + (System.nanoTime() - start) / 1_000_000
+                                        + "ms, 메인 스레드 교체 " + swapNanos / 1_000 + "μs)");
+                            }
+                            result.complete(true);
+                        } else {
+                            result.complete(false);
+                        }
+                    } catch (Exception e) {
+                        getLogger().severe("설정 리로드 중 오류가 발생했습니다. 자세한 내용은 스택트레이스를 확인하세요.");
+                        e.printStackTrace();
+                        metrics.recordReload(System.nanoTime() - start, false);
+                        result.complete(false);
+                    } finally {
+                        reloading.set(false);
+                        // 진행 중에 파일이 다시 바뀌었으면 한 번 더
+                        if (reloadQueued.getAndSet(false) && isEnabled()) {
+                            reload();
+                        }
+                    }
+                }));
+        return result;
+    }
+
+    /**
+     * 리로드가 진행 중인지 확인합니다.
+     *
+     * @return 진행 중이면 true
+     */
+    public boolean isReloading() {
+        return reloading.get();
+    }
+
+    /**
+     * 리로드 1단계: 설정 파일을 읽고 검증해 새 스냅샷을 만듭니다. 현재 상태는 건드리지 않습니다.
+     * 로어 관련 설정이 바뀌었으면 로어 템플릿 컴파일과 LoreManager 생성도 여기서 합니다.
+     */
+    private StagedReload stageReload() {
         try {
-            // 태스크 중지
+            ConfigSnapshot config = configManager.loadSnapshot();
+            FileConfiguration messages = messageManager.loadMessages();
+            // 무기 태그를 풀지 않은 스냅샷이지만 로어 관련 항목의 비교에는 영향이 없음
+            StagedLore lore = rebuildsLore(config.diff(configManager.getSnapshot())) ? stageLore(config) : null;
+            return new StagedReload(config, messages, lore);
+        } catch (IOException | InvalidConfigurationException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * 새 인터닝 테이블과 LoreManager(로어 템플릿 컴파일 포함)를 만듭니다. 현재 상태는 건드리지 않습니다.
+     */
+    private StagedLore stageLore(ConfigSnapshot config) {
+        ItemStatsInterner interner = createStatsInterner(config);
+        return new StagedLore(interner, createLoreManager(config, interner));
+    }
+
+    /**
+     * LoreManager부터 다시 만들어야 하는 변경인지 확인합니다.
+     */
+    private static boolean rebuildsLore(Set<ConfigChange> changes) {
+        return changes.contains(ConfigChange.LORE_TEMPLATE)
+                || changes.contains(ConfigChange.LORE_CACHE)
+                || changes.contains(ConfigChange.STATS_INTERN);
+    }
+
+    /**
+     * 리로드 2단계: 새 구성 요소를 모두 만든 뒤, 설정을 게시하고 한 번에 교체합니다. 메인 스레드에서 호출합니다.
+     * <p>
+     * 준비(무기 태그 해석, 변경 항목 비교, 서비스 생성)는 현재 상태를 건드리지 않으므로,
+     * 여기서 실패하면 이전 설정과 서비스가 그대로 남습니다. 준비가 끝난 뒤에만 설정을 게시하고
+     * 이전 구성 요소를 닫고 새 것을 대입합니다.
+     * </p>
+     * <p>
+     * 최대값 제한, 무기 목록, 기본 체력, PVP 전용, 디버그처럼 매번 스냅샷에서 읽는 값은 게시만으로 반영됩니다.
+     * 로어 템플릿, 파싱 캐시, 인터닝, 저장 방식은 LoreManager부터 서비스 전체를,
+     * 데미지 계수는 CombatService만, 업데이트 주기와 비동기 파싱은 태스크만 다시 만듭니다.
+     * 플레이어 스탯은 스탯에 영향을 주는 항목이 바뀌었거나 스탯 서비스를 새로 만들었을 때만 다시 계산합니다.
+     * 이전 스탯 서비스와 장비 리스너는 교체 전에 닫아 늦게 도착한 결과가 공유 캐시에 섞이지 않게 합니다.
+     * </p>
+     */
+    private void applyReload(StagedReload staged) {
+        List<String> rebuilt = new ArrayList<>();
+
+        // 준비: 여기까지는 현재 상태를 바꾸지 않음
+        ConfigSnapshot config = configManager.resolve(staged.config());
+        EnumSet<ConfigChange> changes = config.diff(configManager.getSnapshot());
+
+        boolean rebuildLore = rebuildsLore(changes);
+        boolean rebuildServices = rebuildLore || changes.contains(ConfigChange.STORAGE);
+        boolean rebuildCombat = rebuildServices || changes.contains(ConfigChange.DAMAGE);
+        boolean restartTasks = rebuildServices
+                || changes.contains(ConfigChange.UPDATE_TASK)
+                || changes.contains(ConfigChange.ASYNC_PARSE)
+                || changes.contains(ConfigChange.DEBUG);
+        boolean recompute = changes.stream().anyMatch(ConfigChange::isStatAffecting);
+        // 새 서비스는 장비 기록이 비어 있으므로, 스탯이 그대로여도 첫 타격에서 파싱하지 않게 미리 계산
+        boolean rederive = recompute || rebuildServices;
+
+        StagedLore lore = null;
+        if (rebuildLore) {
+            // 워커에서 이미 만들었으면 그대로 사용
+            lore = staged.lore() != null ? staged.lore() : stageLore(config);
+        }
+        ItemLoreService nextItemLoreService = itemLoreService;
+        PlayerStatsService nextStatsService = playerStatsService;
+        if (rebuildServices) {
+            long start = System.nanoTime();
+            nextItemLoreService = createItemLoreService(config, lore != null ? lore.loreManager() : loreManager);
+            nextStatsService = createPlayerStatsService(nextItemLoreService,
+                    lore != null ? lore.interner() : statsInterner);
+            rebuilt.add("스탯 서비스 " + (System.nanoTime() - start) / 1_000 + "μs");
+        }
+        CombatService nextCombatService = combatService;
+        if (rebuildCombat) {
+            long start = System.nanoTime();
+            nextCombatService = new CombatService(nextStatsService, configManager, messageManager, metrics, getLogger());
+            rebuilt.add("CombatService " + (System.nanoTime() - start) / 1_000 + "μs");
+        }
+
+        // 교체: 여기부터 현재 상태를 바꿈
+        configManager.apply(config);
+        if (messageManager.apply(staged.messages())) {
+            changes.add(ConfigChange.MESSAGES);
+        }
+        if (changes.isEmpty()) {
+            getLogger().info("설정 리로드: 바뀐 설정이 없습니다.");
+            return;
+        }
+
+        if (restartTasks) {
             if (statUpdateTask != null) {
                 statUpdateTask.cancel();
             }
             if (metricsLogTask != null) {
                 metricsLogTask.cancel();
             }
+            stopAsyncParsing(); // 이전 설정으로 파싱한 결과가 새 서비스에 섞이지 않도록 먼저 중지
+        }
+        if (rederive && rederiveTask != null) {
+            rederiveTask.cancel();
+        }
+        if (recompute) {
+            // 재계산이 끝날 때까지 전투 리스너의 빠른 경로가 이전 스탯으로 판단하지 않도록
+            statsCache.invalidateCombatFlags();
+        }
+        if (rebuildServices) {
+            // 교체 전에 이전 서비스와 리스너를 닫아, 이미 예약된 갱신이 공유 캐시에 이전 결과를 쓰지 않도록
+            if (equipmentListener != null) {
+                equipmentListener.close();
+            }
+            if (playerStatsService != null) {
+                playerStatsService.close();
+            }
+        }
 
-            // 설정 리로드
-            configManager.reload();
-            messageManager.reload();
+        if (lore != null) {
+            // 이전 파싱 캐시는 비우고 워커에서 만든 LoreManager로 교체
+            if (loreManager != null && loreManager.getParseCache() != null) {
+                loreManager.getParseCache().clear();
+            }
+            statsInterner = lore.interner();
+            loreManager = lore.loreManager();
+            bindStatsInternMetrics();
+            rebuilt.add("LoreManager");
+        }
+        itemLoreService = nextItemLoreService;
+        playerStatsService = nextStatsService;
+        combatService = nextCombatService;
+        if (rebuildCombat) {
+            // 리스너, 명령어 재등록 (새 서비스 참조를 위해)
+            timed(rebuilt, "리스너/명령어", () -> {
+                registerListeners();
+                registerCommands();
+            });
+        }
+        if (restartTasks) {
+            timed(rebuilt, "태스크", this::startTasks);
+        }
+        if (changes.contains(ConfigChange.FILE_WATCH)) {
+            timed(rebuilt, "설정 파일 감시", this::updateConfigWatcher);
+        }
+        if (rederive) {
+            // 3단계: 모든 플레이어 스탯을 여러 틱에 나누어 재계산
+            rederiveTask = StatRederiveTask.start(playerStatsService, scheduler, Bukkit.getOnlinePlayers(),
+                    configManager.getUpdateInterval());
+            rebuilt.add("플레이어 스탯 재계산 " + rederiveTask.getRemaining() + "명 예약");
+        }
 
-            // LoreManager 재생성
-            loreManager = new LoreManager(configManager.getLoreTemplate());
+        StringJoiner changed = new StringJoiner(", ");
+        for (ConfigChange change : changes) {
+            changed.add(change.getDisplayName());
+        }
+        getLogger().info("설정 리로드: 변경 [" + changed + "], 재구성 "
+                + (rebuilt.isEmpty() ? "없음" : "[" + String.join(", ", rebuilt) + "]"));
+    }
 
-            // 서비스 전체 재생성 (의존성 갱신)
-            itemLoreService = new ItemLoreService(loreManager, configManager, metrics, getLogger());
-            playerStatsService = new PlayerStatsService(itemLoreService, statsCache, configManager, metrics, getLogger());
-            combatService = new CombatService(playerStatsService, configManager, messageManager, metrics, getLogger());
+    /**
+     * 재구성 단계 하나를 실행하고 걸린 시간을 기록합니다.
+     */
+    private static void timed(List<String> rebuilt, String name, Runnable step) {
+        long start = System.nanoTime();
+        step.run();
+        rebuilt.add(name + " " + (System.nanoTime() - start) / 1_000 + "μs");
+    }
 
-            // 리스너 재등록 (새 서비스 참조를 위해)
-            registerListeners();
+    /**
+     * settings.watch-config에 따라 설정 파일 감시를 시작하거나 멈춥니다.
+     */
+    private void updateConfigWatcher() {
+        boolean enabled = configManager.isWatchConfig();
+        if (enabled == (configWatcher != null)) {
+            return;
+        }
+        if (!enabled) {
+            configWatcher.close();
+            configWatcher = null;
+            return;
+        }
+        try {
+            configWatcher = ConfigFileWatcher.start(getDataFolder().toPath(), ConfigFileWatcher.DEFAULT_DEBOUNCE_MILLIS,
+                    this::onConfigFileChanged, getLogger());
+        } catch (IOException e) {
+            getLogger().warning("설정 파일을 감시할 수 없습니다: " + e.getMessage());
+        }
+    }
 
-            // 명령어 재등록
-            registerCommands();
+    /**
+     * 설정 파일이 바뀌었을 때 감시 스레드에서 호출됩니다.
+     * 리로드가 진행 중이면 그 리로드가 끝난 뒤 한 번 더 리로드합니다.
+     */
+    private void onConfigFileChanged() {
+        getLogger().info("설정 파일 변경을 감지했습니다. 설정을 리로드합니다.");
+        reloadQueued.set(true); // 진행 중인 리로드에 거절되어도 끝난 뒤 다시 실행
+        reload();
+    }
 
-            // 태스크 재시작
-            startTasks();
+    /**
+     * 리로드 1단계의 실패를 기록합니다. 파일 오류는 메시지만, 그 밖의 오류는 스택트레이스까지 남깁니다.
+     */
+    private void logReloadFailure(Throwable cause) {
+        getLogger().severe("설정 리로드에 실패했습니다. 기존 설정을 그대로 사용합니다.");
+        if (cause instanceof IOException || cause instanceof InvalidConfigurationException) {
+            getLogger().severe(cause.getMessage());
+        } else {
+            cause.printStackTrace();
+        }
+    }
 
-            // 모든 플레이어 스탯 재계산
-            for (Player player : Bukkit.getOnlinePlayers()) {
-                playerStatsService.calculateAndCache(player);
-            }
+    /**
+     * 워커 스레드에서 읽어 둔 리로드 설정
+     *
+     * @param lore 로어 관련 설정이 바뀌었을 때 새로 만든 LoreManager (아니면 null)
+     */
+    private record StagedReload(ConfigSnapshot config, FileConfiguration messages, StagedLore lore) {
+    }
 
-            if (configManager.isDebug()) {
-                getLogger().info("[Debug] 설정 리로드 완료");
-            }
-        } catch (Exception e) {
-            getLogger().severe("설정 리로드 중 오류가 발생했습니다. 자세한 내용은 스택트레이스를 확인하세요.");
-            e.printStackTrace();
-        }
+    /**
+     * 워커 스레드에서 만든 인터닝 테이블(없으면 null)과 LoreManager
+     */
+    private record StagedLore(ItemStatsInterner interner, LoreManager loreManager) {
     }
 
     /**
@@ -265,7 +712,15 @@ public class PVPLoreStat extends JavaPlugin {
         return playerStatsService;
     }
 
+    public DirtyPlayerTracker getDirtyTracker() {
+        return dirtyTracker;
+    }
+
     public CombatService getCombatService() {
         return combatService;
     }
+
+    public CombatSimulationService getCombatSimulationService() {
+        return combatSimulationService;
+    }
 }
@@ -0,0 +1,168 @@
+package kr.minex.pvplorestat.application;
+
+import kr.minex.pvplorestat.domain.model.EquipmentSlot;
+import kr.minex.pvplorestat.domain.model.ItemStats;
+import kr.minex.pvplorestat.infrastructure.monitoring.PluginMetrics;
+import kr.minex.pvplorestat.infrastructure.scheduler.PluginScheduler;
+import org.bukkit.entity.Player;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 비동기 로어 파싱 파이프라인
+ * <p>
+ * 스탯 갱신을 세 단계로 나눕니다.
+ * </p>
+ * <ol>
+ *     <li>플레이어 스레드: 바뀐 장비 슬롯의 로어/PDC 기록을 복사합니다.</li>
+ *     <li>워커 스레드: 복사본을 파싱하고 최대값 제한을 적용합니다.</li>
+ *     <li>다음 틱 플레이어 스레드: 결과를 캐시에 반영하고 최대 체력을 갱신합니다.</li>
+ * </ol>
+ * <p>
+ * 플레이어 스레드는 Bukkit에서는 메인 스레드, Folia에서는 플레이어를 소유한 리전 스레드입니다.
+ * </p>
+ * <p>
+ * 작업마다 플레이어별 순번을 기록해, 그 사이 더 새로운 갱신이 있었다면 결과를 버립니다.
+ * 동기 계산 때문에 버려진 작업은 아직 반영되지 않은 슬롯만 다시 넣습니다.
+ * 워커에 작업을 넣을 수 없으면 호출자가 동기 경로로 처리합니다.
+ * </p>
+ *
+ * @author Minex
+ * @since 1.0.0
+ */
+final class AsyncStatPipeline {
+
+    private final PlayerStatsService service;
+    private final Executor workers;
+    private final PluginScheduler scheduler;
+    private final PluginMetrics metrics;
+    private final Logger logger;
+
+    private volatile boolean closed;
+
+    AsyncStatPipeline(PlayerStatsService service, Executor workers, PluginScheduler scheduler,
+                      PluginMetrics metrics, Logger logger) {
+        this.service = Objects.requireNonNull(service, "service");
+        this.workers = Objects.requireNonNull(workers, "workers");
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler");
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+        this.logger = Objects.requireNonNull(logger, "logger");
+    }
+
+    /**
+     * 플레이어 갱신을 파이프라인에 넣습니다. (플레이어 스레드)
+     *
+     * @param player 플레이어
+     * @return 파이프라인이 처리하면 true, 호출자가 동기로 처리해야 하면 false
+     */
+    boolean submit(Player player) {
+        if (closed) {
+            return false;
+        }
+
+        Job job = service.snapshotChanged(player);
+        if (job == null) {
+            return true; // 바뀐 장비 없음
+        }
+
+        try {
+            workers.execute(() -> parse(job));
+        } catch (RejectedExecutionException e) {
+            metrics.recordAsyncStatFallback();
+            return false;
+        }
+        metrics.recordAsyncStatSubmit();
+        return true;
+    }
+
+    /**
+     * 워커 스레드에서 스냅샷을 파싱하고 결과를 플레이어 스레드로 넘깁니다.
+     */
+    private void parse(Job job) {
+        boolean failed = false;
+        try {
+            for (int i = 0; i < job.slots.length; i++) {
+                job.results[i] = service.parseSource(job.sources[i]);
+            }
+        } catch (RuntimeException e) {
+            failed = true;
+            logger.log(Level.WARNING, "비동기 스탯 파싱 중 오류가 발생했습니다: " + job.player.getName(), e);
+        }
+
+        boolean fallback = failed;
+        boolean scheduled;
+        try {
+            scheduled = scheduler.runForPlayer(job.player, () -> apply(job, fallback));
+        } catch (RuntimeException e) {
+            scheduled = false; // 플러그인 비활성화 중
+        }
+        if (!scheduled) {
+            // 플레이어 퇴장 또는 플러그인 비활성화: 결과 버림
+            metrics.recordAsyncStatDiscard();
+        }
+    }
+
+    /**
+     * 플레이어 스레드에서 결과를 반영합니다. 파싱이 실패했으면 동기 경로로 다시 계산합니다.
+     */
+    private void apply(Job job, boolean fallback) {
+        if (closed) {
+            metrics.recordAsyncStatDiscard();
+            return;
+        }
+        if (!service.isCurrent(job)) {
+            metrics.recordAsyncStatDiscard();
+            if (service.needsResubmit(job)) {
+                service.refresh(job.player); // 아직 반영되지 않은 슬롯만 다시 복사
+            }
+            return;
+        }
+        if (fallback) {
+            metrics.recordAsyncStatFallback();
+            service.calculateAndCache(job.player);
+            return;
+        }
+        service.applyParsed(job);
+        metrics.recordAsyncStatApply();
+    }
+
+    /**
+     * 파이프라인을 닫습니다. 진행 중인 작업의 결과는 버려집니다.
+     */
+    void close() {
+        closed = true;
+    }
+
+    /**
+     * 한 플레이어의 갱신 작업
+     * <p>
+     * 배열의 같은 인덱스가 한 슬롯을 나타냅니다.
+     * {@code sources[i]}가 null이면 그 슬롯은 빈 스탯입니다.
+     * </p>
+     */
+    static final class Job {
+        final Player player;
+        final UUID playerId;
+        final long sequence;
+        final EquipmentSlot[] slots;
+        final long[] fingerprints;
+        final ItemLoreService.ItemSource[] sources;
+        final ItemStats[] results;
+
+        Job(Player player, long sequence, EquipmentSlot[] slots, long[] fingerprints,
+            ItemLoreService.ItemSource[] sources) {
+            this.player = player;
+            this.playerId = player.getUniqueId();
+            this.sequence = sequence;
+            this.slots = slots;
+            this.fingerprints = fingerprints;
+            this.sources = sources;
+            this.results = new ItemStats[slots.length];
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package kr.minex.pvplorestat.application;
 
-import kr.minex.pvplorestat.domain.model.ItemStats;
 import kr.minex.pvplorestat.domain.model.PlayerStats;
 import kr.minex.pvplorestat.domain.service.DamageCalculator;
+import kr.minex.pvplorestat.infrastructure.cache.PlayerStatsCache;
 import kr.minex.pvplorestat.infrastructure.config.ConfigManager;
 import kr.minex.pvplorestat.infrastructure.config.MessageManager;
 import kr.minex.pvplorestat.infrastructure.monitoring.PluginMetrics;
@@ -29,6 +29,11 @@ public class CombatService {
     private final PluginMetrics metrics;
     private final Logger logger;
 
+    /**
+     * 스레드별 재사용 계산 결과 (Bukkit은 메인 스레드 하나, Folia는 리전 스레드마다 하나)
+     */
+    private final ThreadLocal<DamageCalculator.Outcome> outcomes = ThreadLocal.withInitial(DamageCalculator.Outcome::new);
+
     public CombatService(PlayerStatsService playerStatsService,
                          ConfigManager configManager,
                          MessageManager messageManager,
@@ -39,7 +44,34 @@ public class CombatService {
         this.messageManager = Objects.requireNonNull(messageManager, "messageManager");
         this.metrics = Objects.requireNonNull(metrics, "metrics");
         this.logger = Objects.requireNonNull(logger, "logger");
-        this.damageCalculator = new DamageCalculator(configManager.getDamageConfig());
+        this.damageCalculator = new DamageCalculator(configManager.getSnapshot().getDamageConfig());
+    }
+
+    /**
+     * 결과를 바꿀 스탯이 양쪽 모두에 없는 타격인지 확인합니다. (전투 리스너의 빠른 경로)
+     * <p>
+     * 공격자에게 공격 스탯이 없고 피해자에게 방어 스탯이 없으면 계산 결과는 기본 데미지 그대로이고
+     * 치명타, 회피, 피흡수도 없습니다. 캐시의 전투 플래그만 읽으므로 스탯 조회, 계산, 시간 측정을 모두 건너뜁니다.
+     * 어느 한쪽이라도 플래그가 없으면(캐시에 없음, 리로드 후 재계산 대기) false를 반환해 일반 경로로 보냅니다.
+     * </p>
+     *
+     * @param attacker 공격자
+     * @param victim   피해자
+     * @return 계산을 건너뛰어도 되면 true (빠른 경로 횟수를 기록함)
+     */
+    public boolean rejectNeutralHit(Player attacker, Player victim) {
+        int attackerFlags = playerStatsService.getCombatFlags(attacker);
+        if ((attackerFlags & (PlayerStatsCache.COMBAT_KNOWN | PlayerStatsCache.COMBAT_OFFENSIVE))
+                != PlayerStatsCache.COMBAT_KNOWN) {
+            return false;
+        }
+        int victimFlags = playerStatsService.getCombatFlags(victim);
+        if ((victimFlags & (PlayerStatsCache.COMBAT_KNOWN | PlayerStatsCache.COMBAT_DEFENSIVE))
+                != PlayerStatsCache.COMBAT_KNOWN) {
+            return false;
+        }
+        metrics.recordCombatFastReject();
+        return true;
     }
 
     /**
@@ -51,27 +83,44 @@ public class CombatService {
      * @return 계산 결과
      */
     public CombatResult calculateDamage(Player attacker, Player victim, double baseDamage) {
+        PlayerStats attackerStats = playerStatsService.getStats(attacker);
+        PlayerStats victimStats = playerStatsService.getStats(victim);
+        DamageCalculator.Outcome outcome = resolve(attackerStats, victimStats, baseDamage);
+        return new CombatResult(outcome.toResult(), attackerStats, victimStats);
+    }
+
+    /**
+     * PVP 데미지를 객체 할당 없이 계산합니다. (전투 리스너용)
+     * <p>
+     * 결과는 현재 스레드의 재사용 객체에 담기며, 같은 스레드에서 다음에 호출하기 전까지만 유효합니다.
+     * 보관하려면 {@link DamageCalculator.Outcome#toResult()}로 복사합니다.
+     * </p>
+     *
+     * @param attacker   공격자
+     * @param victim     피해자
+     * @param baseDamage 기본 데미지
+     * @return 현재 스레드의 계산 결과
+     */
+    public DamageCalculator.Outcome resolveDamage(Player attacker, Player victim, double baseDamage) {
+        return resolve(playerStatsService.getStats(attacker), playerStatsService.getStats(victim), baseDamage);
+    }
+
+    private DamageCalculator.Outcome resolve(PlayerStats attackerStats, PlayerStats victimStats, double baseDamage) {
         if (Double.isNaN(baseDamage) || Double.isInfinite(baseDamage) || baseDamage < 0) {
             baseDamage = 0;
         }
 
         long start = System.nanoTime();
-        PlayerStats attackerStats = playerStatsService.getStats(attacker.getUniqueId());
-        PlayerStats victimStats = playerStatsService.getStats(victim.getUniqueId());
-
-        ItemStats attackerItemStats = attackerStats.getTotalStats();
-        ItemStats victimItemStats = victimStats.getTotalStats();
-
-        DamageCalculator.Result calcResult = damageCalculator.calculate(
-                baseDamage, attackerItemStats, victimItemStats);
+        // 전투 계수는 스탯이나 데미지 설정이 바뀐 뒤 처음 조회할 때만 만들어짐
+        DamageCalculator.Outcome outcome = damageCalculator.resolve(baseDamage,
+                damageCalculator.profile(attackerStats), damageCalculator.profile(victimStats), outcomes.get());
 
         long nanos = System.nanoTime() - start;
         metrics.recordCombatCalc(nanos);
-        if (configManager.isDebug() && nanos > 2_000_000) { // 2ms
+        if (nanos > 2_000_000 && configManager.isDebug()) { // 2ms
             logger.info("[Debug] combat.calculateDamage took " + (nanos / 1_000_000.0) + "ms");
         }
-
-        return new CombatResult(calcResult, attackerStats, victimStats);
+        return outcome;
     }
 
     /**
@@ -83,22 +132,38 @@ public class CombatService {
      */
     public void applyResult(Player attacker, Player victim, CombatResult result) {
         DamageCalculator.Result calcResult = result.getCalculatorResult();
+        apply(attacker, victim, calcResult.isDodged(), calcResult.isCritical(),
+                calcResult.getCriticalBonusDamage(), calcResult.getLifestealAmount());
+    }
+
+    /**
+     * {@link #resolveDamage(Player, Player, double)}의 결과를 적용합니다.
+     *
+     * @param attacker 공격자
+     * @param victim   피해자
+     * @param outcome  계산 결과
+     */
+    public void applyOutcome(Player attacker, Player victim, DamageCalculator.Outcome outcome) {
+        apply(attacker, victim, outcome.isDodged(), outcome.isCritical(),
+                outcome.getCriticalBonusDamage(), outcome.getLifestealAmount());
+    }
 
+    private void apply(Player attacker, Player victim, boolean dodged, boolean critical,
+                       double criticalBonusDamage, double lifestealAmount) {
         // 회피 메시지
-        if (calcResult.isDodged()) {
+        if (dodged) {
             messageManager.sendRaw(victim, "combat.dodge.victim");
             messageManager.sendRaw(attacker, "combat.dodge.attacker");
             return;
         }
 
         // 치명타 메시지
-        if (calcResult.isCritical()) {
+        if (critical) {
             messageManager.sendRaw(attacker, "combat.critical.attacker",
-                    "damage", calcResult.getCriticalBonusDamage());
+                    "damage", criticalBonusDamage);
         }
 
         // 피흡수 적용
-        double lifestealAmount = calcResult.getLifestealAmount();
         if (lifestealAmount > 0) {
             var maxHealthAttr = attacker.getAttribute(org.bukkit.attribute.Attribute.GENERIC_MAX_HEALTH);
             if (maxHealthAttr != null) {
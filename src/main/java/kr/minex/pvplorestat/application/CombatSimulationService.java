@@ -0,0 +1,124 @@
+package kr.minex.pvplorestat.application;
+
+import kr.minex.pvplorestat.domain.model.ItemStats;
+import kr.minex.pvplorestat.domain.model.PlayerStats;
+import kr.minex.pvplorestat.domain.service.CombatSimulator;
+import kr.minex.pvplorestat.infrastructure.cache.PlayerStatsCache;
+import kr.minex.pvplorestat.infrastructure.config.ConfigManager;
+import kr.minex.pvplorestat.infrastructure.config.ConfigSnapshot;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 전투 시뮬레이션 서비스
+ * <p>
+ * 두 스탯 구성(또는 두 플레이어의 캐시된 스탯)으로 {@link CombatSimulator}를 실행합니다.
+ * 호출한 스레드에서는 설정과 캐시된 스탯(불변 객체)만 읽고, 계산은 모두 Fork/Join 풀에서 합니다.
+ * 풀 스레드는 Bukkit 상태를 건드리지 않으므로, 결과를 플레이어에게 보낼 때는 호출자가 스케줄러로 돌아가야 합니다.
+ * </p>
+ * <p>
+ * 설정은 호출할 때마다 스냅샷에서 읽으므로 리로드해도 다시 만들 필요가 없습니다.
+ * </p>
+ * <p>
+ * 풀을 독점하지 않도록 한 번에 하나만 실행합니다. 실행 자리는 {@code simulate}가 원자적으로 차지하므로,
+ * 여러 스레드가 동시에 호출해도 하나만 시작되고 나머지는 {@link IllegalStateException}을 받습니다.
+ * </p>
+ *
+ * @author Minex
+ * @since 1.0.0
+ */
+public class CombatSimulationService {
+
+    private final PlayerStatsCache statsCache;
+    private final ConfigManager configManager;
+    private final ForkJoinPool pool;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public CombatSimulationService(PlayerStatsCache statsCache, ConfigManager configManager, ForkJoinPool pool) {
+        this.statsCache = Objects.requireNonNull(statsCache, "statsCache");
+        this.configManager = Objects.requireNonNull(configManager, "configManager");
+        this.pool = Objects.requireNonNull(pool, "pool");
+    }
+
+    /**
+     * 두 스탯 구성으로 시뮬레이션합니다. 어느 스레드에서나 호출할 수 있습니다.
+     * 피해자의 최대 체력은 설정의 기본 체력과 피해자의 체력 스탯으로 정합니다.
+     *
+     * @param attacker   공격자 스탯 총합
+     * @param victim     피해자 스탯 총합
+     * @param baseDamage 타격당 기본 데미지
+     * @param fights     반복할 전투 수
+     * @return 풀 스레드에서 완료되는 결과
+     * @throws IllegalArgumentException 값이 범위를 벗어났을 때
+     * @throws IllegalStateException    이미 진행 중인 시뮬레이션이 있을 때
+     */
+    public CompletableFuture<CombatSimulator.Report> simulate(ItemStats attacker, ItemStats victim,
+                                                              double baseDamage, int fights) {
+        ConfigSnapshot config = configManager.getSnapshot();
+        CombatSimulator.Scenario scenario = CombatSimulator.Scenario.builder(attacker, victim)
+                .baseDamage(baseDamage)
+                .victimHealth(config.getBaseHealth() + victim.getHealth())
+                .fights(fights)
+                .build();
+        return simulate(config, scenario);
+    }
+
+    /**
+     * 두 플레이어의 캐시된 스탯으로 시뮬레이션합니다.
+     * 캐시만 읽으므로 두 플레이어를 소유한 스레드가 아니어도 됩니다. 캐시에 없으면 빈 스탯으로 계산합니다.
+     *
+     * @param attackerId 공격자 UUID
+     * @param victimId   피해자 UUID
+     * @param baseDamage 타격당 기본 데미지
+     * @param fights     반복할 전투 수
+     * @return 풀 스레드에서 완료되는 결과
+     * @throws IllegalArgumentException 값이 범위를 벗어났을 때
+     * @throws IllegalStateException    이미 진행 중인 시뮬레이션이 있을 때
+     */
+    public CompletableFuture<CombatSimulator.Report> simulate(UUID attackerId, UUID victimId,
+                                                              double baseDamage, int fights) {
+        PlayerStats attacker = statsCache.getOrEmpty(attackerId);
+        PlayerStats victim = statsCache.getOrEmpty(victimId);
+        return simulate(attacker.getTotalStats(), victim.getTotalStats(), baseDamage, fights);
+    }
+
+    /**
+     * 조건을 직접 지정해 시뮬레이션합니다. 데미지 계수는 현재 설정을 씁니다.
+     *
+     * @param scenario 시뮬레이션 조건
+     * @return 풀 스레드에서 완료되는 결과
+     * @throws IllegalStateException 이미 진행 중인 시뮬레이션이 있을 때
+     */
+    public CompletableFuture<CombatSimulator.Report> simulate(CombatSimulator.Scenario scenario) {
+        return simulate(configManager.getSnapshot(), scenario);
+    }
+
+    private CompletableFuture<CombatSimulator.Report> simulate(ConfigSnapshot config,
+                                                               CombatSimulator.Scenario scenario) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 전투 시뮬레이션이 실행 중입니다");
+        }
+        CompletableFuture<CombatSimulator.Report> future;
+        try {
+            future = new CombatSimulator(config.getDamageConfig(), pool).simulate(scenario);
+        } catch (RuntimeException e) {
+            // 풀이 거절(RejectedExecutionException)하면 자리를 돌려줌
+            running.set(false);
+            throw e;
+        }
+        return future.whenComplete((report, error) -> running.set(false));
+    }
+
+    /**
+     * 진행 중인 시뮬레이션이 있는지 확인합니다.
+     *
+     * @return 진행 중이면 true
+     */
+    public boolean isRunning() {
+        return running.get();
+    }
+}
@@ -0,0 +1,90 @@
+package kr.minex.pvplorestat.application;
+
+import kr.minex.pvplorestat.domain.model.ItemStats;
+
+/**
+ * 플레이어별 핫바 스탯 색인
+ * <p>
+ * 핫바 9칸과 오프핸드의 파싱된 스탯(무기 필터와 최대값 제한 적용 후)을 칸 번호로 보관합니다.
+ * 핫바 슬롯을 바꿀 때 아이템을 다시 파싱하지 않고 배열에서 바로 꺼내 씁니다.
+ * </p>
+ * <p>
+ * 인벤토리 이벤트로 칸이 바뀌었을 수 있으면 그 칸을 무효화하고, 다음 조회 때 다시 파싱합니다.
+ * 조회 시 장비 지문(재질 + 로어 해시)이 기록과 다르면(이벤트 없이 바뀐 경우) 무효로 처리합니다.
+ * 플레이어를 소유한 스레드에서만 접근해야 합니다.
+ * </p>
+ *
+ * @author Minex
+ * @since 1.0.0
+ */
+final class HotbarStatIndex {
+
+    /**
+     * 핫바 칸 수
+     */
+    static final int HOTBAR_SIZE = 9;
+
+    /**
+     * 오프핸드의 색인 번호
+     */
+    static final int OFF_HAND = HOTBAR_SIZE;
+
+    /**
+     * 모든 칸의 비트
+     */
+    static final int ALL = (1 << (HOTBAR_SIZE + 1)) - 1;
+
+    private final long[] fingerprints = new long[HOTBAR_SIZE + 1];
+    private final ItemStats[] stats = new ItemStats[HOTBAR_SIZE + 1];
+    private int validMask;
+
+    /**
+     * 칸이 유효하고 지문이 기록과 같은지 확인합니다.
+     * 재질이 같아도 로어가 바뀌었으면 지문이 달라 다시 파싱합니다.
+     *
+     * @param index       칸 (0~8 핫바, {@link #OFF_HAND})
+     * @param fingerprint 현재 아이템의 지문
+     * @return 기록을 그대로 쓸 수 있으면 true
+     */
+    boolean matches(int index, long fingerprint) {
+        return (validMask & (1 << index)) != 0 && fingerprints[index] == fingerprint;
+    }
+
+    /**
+     * 칸에 기록된 스탯을 반환합니다. {@link #matches(int, long)}가 true일 때만 의미가 있습니다.
+     */
+    ItemStats getStats(int index) {
+        return stats[index];
+    }
+
+    /**
+     * 칸의 지문과 스탯을 기록합니다.
+     *
+     * @param index       칸
+     * @param fingerprint 지문
+     * @param itemStats   무기 필터와 최대값 제한을 적용한 스탯
+     */
+    void put(int index, long fingerprint, ItemStats itemStats) {
+        fingerprints[index] = fingerprint;
+        stats[index] = itemStats;
+        validMask |= 1 << index;
+    }
+
+    /**
+     * 비트로 지정한 칸을 무효화합니다.
+     *
+     * @param mask 칸 비트 ({@code 1 << index}), 전체는 {@link #ALL}
+     */
+    void invalidate(int mask) {
+        validMask &= ~mask;
+    }
+
+    /**
+     * 유효한 칸의 비트를 반환합니다.
+     *
+     * @return 칸 비트
+     */
+    int getValidMask() {
+        return validMask;
+    }
+}
@@ -3,8 +3,11 @@ package kr.minex.pvplorestat.application;
 import kr.minex.pvplorestat.domain.model.ItemStats;
 import kr.minex.pvplorestat.domain.model.StatType;
 import kr.minex.pvplorestat.infrastructure.config.ConfigManager;
+import kr.minex.pvplorestat.infrastructure.config.ConfigSnapshot;
 import kr.minex.pvplorestat.infrastructure.monitoring.PluginMetrics;
 import kr.minex.pvplorestat.infrastructure.lore.LoreManager;
+import kr.minex.pvplorestat.infrastructure.storage.ItemStatsCodec;
+import kr.minex.pvplorestat.infrastructure.storage.PdcStatStorage;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
@@ -18,6 +21,10 @@ import java.util.logging.Logger;
  * <p>
  * 아이템에 스탯 로어를 설정, 수정, 제거하는 기능을 제공합니다.
  * </p>
+ * <p>
+ * PDC 저장소를 사용하면 스탯을 아이템 PersistentDataContainer에도 기록하고 먼저 읽습니다.
+ * 이때 로어는 표시용이며, 기록이 없는 기존 아이템만 로어를 파싱합니다.
+ * </p>
  *
  * @author Minex
  * @since 1.0.0
@@ -28,19 +35,45 @@ public class ItemLoreService {
     private final ConfigManager configManager;
     private final PluginMetrics metrics;
     private final Logger logger;
+    private final PdcStatStorage statStorage;
 
     public ItemLoreService(LoreManager loreManager, ConfigManager configManager, PluginMetrics metrics, Logger logger) {
+        this(loreManager, configManager, metrics, logger, null);
+    }
+
+    /**
+     * @param statStorage PDC 스탯 저장소 (null이면 로어만 사용)
+     */
+    public ItemLoreService(LoreManager loreManager, ConfigManager configManager, PluginMetrics metrics, Logger logger,
+                           PdcStatStorage statStorage) {
         this.loreManager = Objects.requireNonNull(loreManager, "loreManager");
         this.configManager = Objects.requireNonNull(configManager, "configManager");
         this.metrics = Objects.requireNonNull(metrics, "metrics");
         this.logger = Objects.requireNonNull(logger, "logger");
+        this.statStorage = statStorage;
     }
 
     public record StatApplyResult(boolean success, double appliedValue) {
     }
 
+    /**
+     * 파싱에 필요한 아이템 데이터 스냅샷
+     * <p>
+     * 플레이어 스레드에서 만들어 다른 스레드에서 {@link #parseSnapshot(ItemSource)}로 파싱할 수 있습니다.
+     * </p>
+     *
+     * @param record PDC 스탯 기록 (없으면 null)
+     * @param lore   로어 (없으면 null)
+     */
+    public record ItemSource(byte[] record, List<String> lore) {
+    }
+
     /**
      * 아이템에서 스탯을 파싱합니다.
+     * <p>
+     * PDC 저장소를 사용하면 스탯 기록을 먼저 읽고, 기록이 없을 때만 로어를 파싱합니다.
+     * 로어에서 스탯을 찾은 기존 아이템은 설정에 따라 그 자리에서 기록을 만들어 둡니다.
+     * </p>
      *
      * @param item 아이템
      * @return 파싱된 스탯
@@ -51,18 +84,87 @@ public class ItemLoreService {
         }
 
         ItemMeta meta = item.getItemMeta();
-        if (meta == null || !meta.hasLore()) {
+        if (meta == null) {
+            return ItemStats.empty();
+        }
+
+        if (statStorage != null) {
+            ItemStats stored = statStorage.read(meta);
+            if (stored != null) {
+                metrics.recordStatRecordHit();
+                return stored;
+            }
+        }
+
+        if (!meta.hasLore()) {
             return ItemStats.empty();
         }
 
+        ItemStats parsed = parseLore(meta.getLore());
+
+        // 기존 아이템 마이그레이션 (다음부터는 로어를 파싱하지 않음)
+        if (statStorage != null && !parsed.isEmpty() && configManager.isMigrateLegacyItems()) {
+            statStorage.write(meta, parsed);
+            item.setItemMeta(meta);
+            metrics.recordStatRecordMigration();
+        }
+        return parsed;
+    }
+
+    private ItemStats parseLore(List<String> lore) {
         long start = System.nanoTime();
         try {
-            return loreManager.parseLore(meta.getLore());
+            return loreManager.parseLore(lore);
         } finally {
             metrics.recordLoreParse(System.nanoTime() - start);
         }
     }
 
+    /**
+     * 아이템 메타에서 파싱에 필요한 데이터만 복사합니다. (플레이어 스레드)
+     *
+     * @param meta 아이템 메타
+     * @return 스냅샷, 기록과 로어가 모두 없으면 null
+     */
+    public ItemSource snapshot(ItemMeta meta) {
+        if (meta == null) {
+            return null;
+        }
+        byte[] record = statStorage != null ? statStorage.readRaw(meta) : null;
+        List<String> lore = meta.hasLore() ? meta.getLore() : null;
+        if (record == null && lore == null) {
+            return null;
+        }
+        return new ItemSource(record, lore);
+    }
+
+    /**
+     * 스냅샷에서 스탯을 파싱합니다. 어느 스레드에서나 호출할 수 있습니다.
+     * <p>
+     * {@link #parseStats(ItemStack)}와 같은 순서(PDC 기록 → 로어)로 읽지만,
+     * 아이템에 접근하지 않으므로 기존 아이템 마이그레이션은 하지 않습니다.
+     * </p>
+     *
+     * @param source 스냅샷
+     * @return 파싱된 스탯
+     */
+    public ItemStats parseSnapshot(ItemSource source) {
+        if (source == null) {
+            return ItemStats.empty();
+        }
+        if (source.record() != null) {
+            ItemStats stored = ItemStatsCodec.decode(source.record());
+            if (stored != null) {
+                metrics.recordStatRecordHit();
+                return stored;
+            }
+        }
+        if (source.lore() == null) {
+            return ItemStats.empty();
+        }
+        return parseLore(source.lore());
+    }
+
     /**
      * 아이템에 단일 스탯을 설정합니다.
      * 기존 같은 스탯이 있으면 덮어씁니다.
@@ -129,7 +231,18 @@ public class ItemLoreService {
         }
 
         List<String> currentLore = meta.hasLore() ? new ArrayList<>(meta.getLore()) : new ArrayList<>();
-        List<String> newLore = loreManager.removeStat(currentLore, type);
+        List<String> newLore;
+        if (statStorage == null) {
+            newLore = loreManager.removeStat(currentLore, type);
+        } else {
+            // 기록이 있으면 기록 기준으로 제거 (로어는 표시용)
+            ItemStats stored = statStorage.read(meta);
+            ItemStats newStats = (stored != null ? stored : loreManager.parseLore(currentLore)).removeStat(type);
+            newLore = newStats.isEmpty()
+                    ? loreManager.removeAllStats(currentLore)
+                    : loreManager.addOrUpdateStats(currentLore, newStats, 0);
+            statStorage.write(meta, newStats);
+        }
 
         meta.setLore(newLore);
         item.setItemMeta(meta);
@@ -154,6 +267,9 @@ public class ItemLoreService {
 
         List<String> currentLore = meta.hasLore() ? new ArrayList<>(meta.getLore()) : new ArrayList<>();
         List<String> newLore = loreManager.removeAllStats(currentLore);
+        if (statStorage != null) {
+            statStorage.remove(meta);
+        }
 
         meta.setLore(newLore.isEmpty() ? null : newLore);
         item.setItemMeta(meta);
@@ -181,6 +297,9 @@ public class ItemLoreService {
         // 기존 스탯 로어가 있으면 찾아서 그 위치에 업데이트
         // 없으면 맨 위에 추가 (인덱스 0)
         List<String> newLore = loreManager.addOrUpdateStats(currentLore, newStats, 0);
+        if (statStorage != null) {
+            statStorage.write(meta, newStats);
+        }
 
         meta.setLore(newLore.isEmpty() ? null : newLore);
         item.setItemMeta(meta);
@@ -191,20 +310,7 @@ public class ItemLoreService {
      * 요청 값을 설정값(최대/최소) 기준으로 보정합니다.
      */
     public double clampStatValue(StatType type, double value) {
-        if (type == null) {
-            return Math.max(0, value);
-        }
-
-        // 음수 방지
-        double clamped = Math.max(0, value);
-
-        // 최대값 제한
-        double maxValue = configManager.getMaxStat(type);
-        if (maxValue > 0 && clamped > maxValue) {
-            clamped = maxValue;
-        }
-
-        return clamped;
+        return configManager.getSnapshot().clamp(type, value);
     }
 
     /**
@@ -214,10 +320,11 @@ public class ItemLoreService {
      * @return 제한이 적용된 스탯
      */
     private ItemStats applyMaxLimits(ItemStats stats) {
+        ConfigSnapshot config = configManager.getSnapshot();
         ItemStats.Builder builder = ItemStats.builder();
 
         for (StatType type : StatType.values()) {
-            double value = clampStatValue(type, stats.getStat(type));
+            double value = config.clamp(type, stats.getStat(type));
 
             switch (type) {
                 case DAMAGE -> builder.damage(value);
@@ -251,4 +358,13 @@ public class ItemLoreService {
     public LoreManager getLoreManager() {
         return loreManager;
     }
+
+    /**
+     * PDC 스탯 저장소를 반환합니다.
+     *
+     * @return PDC 저장소, 로어만 사용하면 null
+     */
+    public PdcStatStorage getStatStorage() {
+        return statStorage;
+    }
 }
@@ -0,0 +1,219 @@
+package kr.minex.pvplorestat.application;
+
+import kr.minex.pvplorestat.domain.model.EquipmentSlot;
+import kr.minex.pvplorestat.domain.model.ItemStats;
+import kr.minex.pvplorestat.domain.model.PlayerStats;
+import kr.minex.pvplorestat.domain.model.PlayerStatsAccumulator;
+import kr.minex.pvplorestat.infrastructure.cache.PlayerSlotTable;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 플레이어별 장비 지문 상태
+ * <p>
+ * 슬롯마다 마지막으로 파싱한 장비의 지문(재질 + 로어 해시)과 그때의 스탯을 기억합니다.
+ * 지문이 같은 슬롯은 다시 파싱하지 않습니다.
+ * 슬롯 스탯의 총합은 {@link PlayerStatsAccumulator}로 바뀐 슬롯만큼만 갱신합니다.
+ * </p>
+ *
+ * @author Minex
+ * @since 1.0.0
+ */
+final class PlayerEquipmentState {
+
+    /**
+     * 빈 슬롯(없음/AIR)의 지문
+     */
+    static final long EMPTY_FINGERPRINT = 0L;
+
+    private static final EquipmentSlot[] SLOTS = EquipmentSlot.values();
+
+    private final long[] fingerprints = new long[SLOTS.length];
+    private final boolean[] known = new boolean[SLOTS.length];
+    private final PlayerStatsAccumulator accumulator;
+    private final HotbarStatIndex hotbar = new HotbarStatIndex();
+
+    /**
+     * 비동기 갱신 순번 (플레이어 스레드에서만 접근)
+     */
+    private long sequence;
+
+    /**
+     * 마지막으로 비동기 파이프라인에 넣은 작업의 순번
+     */
+    private long submittedSequence;
+
+    /**
+     * 스탯 캐시에서 배정받은 슬롯 (전투 경로가 다른 스레드에서 읽음)
+     */
+    private volatile int cacheSlot = PlayerSlotTable.NO_SLOT;
+
+    PlayerEquipmentState(UUID playerId) {
+        this.accumulator = new PlayerStatsAccumulator(playerId);
+    }
+
+    /**
+     * 아이템의 지문을 계산합니다.
+     * <p>
+     * 재질과 로어 내용으로 계산하며, 로어 내용이 같으면 다른 ItemStack이어도 같은 값입니다.
+     * </p>
+     *
+     * @param item 아이템
+     * @return 지문 (빈 슬롯이면 {@link #EMPTY_FINGERPRINT})
+     */
+    static long fingerprint(ItemStack item) {
+        if (item == null || item.getType() == Material.AIR) {
+            return EMPTY_FINGERPRINT;
+        }
+        return fingerprint(item.getType(), item.hasItemMeta() ? item.getItemMeta() : null);
+    }
+
+    /**
+     * 이미 꺼낸 아이템 메타로 지문을 계산합니다.
+     *
+     * @param type 재질 (AIR가 아니어야 함)
+     * @param meta 아이템 메타 (없으면 null)
+     * @return 지문
+     */
+    static long fingerprint(Material type, ItemMeta meta) {
+        long hash = 0xCBF29CE484222325L;
+        hash = (hash ^ (type.ordinal() + 1)) * 0x100000001B3L;
+
+        if (meta != null && meta.hasLore()) {
+            List<String> lore = meta.getLore();
+            for (int i = 0, size = lore.size(); i < size; i++) {
+                String line = lore.get(i);
+                if (line != null) {
+                    for (int c = 0; c < line.length(); c++) {
+                        hash = (hash ^ line.charAt(c)) * 0x100000001B3L;
+                    }
+                }
+                hash = (hash ^ 0x10000) * 0x100000001B3L; // 라인 구분
+            }
+        }
+        return hash == EMPTY_FINGERPRINT ? 1L : hash;
+    }
+
+    /**
+     * 슬롯의 지문이 마지막으로 기록한 값과 같은지 확인합니다.
+     *
+     * @param slot        슬롯
+     * @param fingerprint 현재 지문
+     * @return 같으면 true (한 번도 기록하지 않았으면 false)
+     */
+    boolean isUnchanged(EquipmentSlot slot, long fingerprint) {
+        int index = slot.ordinal();
+        return known[index] && fingerprints[index] == fingerprint;
+    }
+
+    /**
+     * 슬롯의 지문과 스탯을 기록합니다.
+     *
+     * @param slot        슬롯
+     * @param fingerprint 지문
+     * @param stats       해당 장비의 스탯
+     */
+    void update(EquipmentSlot slot, long fingerprint, ItemStats stats) {
+        int index = slot.ordinal();
+        fingerprints[index] = fingerprint;
+        known[index] = true;
+        accumulator.set(slot, stats);
+    }
+
+    /**
+     * 모든 슬롯과 핫바 색인의 기록을 잊습니다. 다음 계산에서 모든 장비를 다시 파싱합니다.
+     * 파싱 결과에 영향을 주는 설정이 바뀌었을 때 사용합니다.
+     */
+    void forget() {
+        Arrays.fill(known, false);
+        hotbar.invalidate(HotbarStatIndex.ALL);
+    }
+
+    /**
+     * 순번을 올려 진행 중인 비동기 갱신 결과를 무효화합니다.
+     *
+     * @return 새 순번
+     */
+    long nextSequence() {
+        return ++sequence;
+    }
+
+    /**
+     * 비동기 작업용 순번을 발급합니다.
+     *
+     * @return 새 순번
+     */
+    long nextSubmission() {
+        submittedSequence = ++sequence;
+        return submittedSequence;
+    }
+
+    /**
+     * 마지막으로 발급한 비동기 작업 순번을 반환합니다.
+     *
+     * @return 비동기 작업 순번
+     */
+    long getSubmittedSequence() {
+        return submittedSequence;
+    }
+
+    /**
+     * 현재 순번을 반환합니다.
+     *
+     * @return 현재 순번
+     */
+    long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * 스탯 캐시 슬롯을 반환합니다.
+     *
+     * @return 슬롯, 아직 저장하지 않았으면 {@link PlayerSlotTable#NO_SLOT}
+     */
+    int getCacheSlot() {
+        return cacheSlot;
+    }
+
+    /**
+     * 스탯을 캐시에 저장하고 받은 슬롯을 기록합니다.
+     *
+     * @param slot 슬롯
+     */
+    void setCacheSlot(int slot) {
+        this.cacheSlot = slot;
+    }
+
+    /**
+     * 슬롯에 기록된 스탯을 반환합니다.
+     *
+     * @param slot 슬롯
+     * @return 기록된 스탯 (없으면 빈 스탯)
+     */
+    ItemStats getStats(EquipmentSlot slot) {
+        return accumulator.get(slot);
+    }
+
+    /**
+     * 핫바 스탯 색인을 반환합니다.
+     *
+     * @return 핫바 스탯 색인
+     */
+    HotbarStatIndex getHotbar() {
+        return hotbar;
+    }
+
+    /**
+     * 기록된 슬롯 스탯의 불변 스냅샷을 반환합니다.
+     *
+     * @return 플레이어 스탯
+     */
+    PlayerStats snapshot() {
+        return accumulator.snapshot();
+    }
+}
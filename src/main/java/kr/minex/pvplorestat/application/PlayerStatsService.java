@@ -3,18 +3,30 @@ package kr.minex.pvplorestat.application;
 import kr.minex.pvplorestat.domain.model.EquipmentSlot;
 import kr.minex.pvplorestat.domain.model.ItemStats;
 import kr.minex.pvplorestat.domain.model.PlayerStats;
+import kr.minex.pvplorestat.domain.model.PlayerStatsAccumulator;
+import kr.minex.pvplorestat.infrastructure.cache.ItemStatsInterner;
 import kr.minex.pvplorestat.infrastructure.cache.PlayerStatsCache;
 import kr.minex.pvplorestat.infrastructure.config.ConfigManager;
+import kr.minex.pvplorestat.infrastructure.config.ConfigSnapshot;
 import kr.minex.pvplorestat.infrastructure.monitoring.PluginMetrics;
+import kr.minex.pvplorestat.infrastructure.scheduler.PluginScheduler;
+import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.attribute.Attribute;
 import org.bukkit.attribute.AttributeInstance;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.EntityEquipment;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.bukkit.inventory.meta.ItemMeta;
 
+import java.util.Arrays;
+import java.util.Map;
 import java.util.UUID;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 /**
@@ -33,12 +45,54 @@ public class PlayerStatsService {
     private final ConfigManager configManager;
     private final PluginMetrics metrics;
     private final Logger logger;
+    private final ItemStatsInterner interner;
+
+    private static final EquipmentSlot[] SLOTS = EquipmentSlot.values();
+
+    /**
+     * PlayerInventory의 오프핸드 칸 번호
+     */
+    private static final int OFF_HAND_INVENTORY_SLOT = 40;
+
+    /**
+     * 플레이어별 마지막 장비 지문
+     */
+    private final Map<UUID, PlayerEquipmentState> equipmentStates = new ConcurrentHashMap<>();
+
+    /**
+     * 비동기 파싱 파이프라인 (null이면 동기 계산)
+     */
+    private volatile AsyncStatPipeline asyncPipeline;
+
+    /**
+     * 리로드로 교체되어 더 이상 공유 캐시에 쓰지 않는지 여부
+     */
+    private volatile boolean closed;
+
+    // computeIfStale에 넘길 함수 (호출마다 람다를 만들지 않도록 보관)
+    private final Predicate<PlayerStats> staleCheck = this::isStale;
+    private final Function<UUID, PlayerStats> onlineLoader = this::loadOnline;
 
     public PlayerStatsService(ItemLoreService itemLoreService,
                               PlayerStatsCache statsCache,
                               ConfigManager configManager,
                               PluginMetrics metrics,
                               Logger logger) {
+        this(itemLoreService, statsCache, configManager, metrics, logger, null);
+    }
+
+    /**
+     * 인터닝 테이블을 사용하는 서비스를 생성합니다.
+     *
+     * @param interner 최대값 제한 결과 인터닝 테이블 (null이면 인터닝하지 않음)
+     */
+    public PlayerStatsService(ItemLoreService itemLoreService,
+                              PlayerStatsCache statsCache,
+                              ConfigManager configManager,
+                              PluginMetrics metrics,
+                              Logger logger,
+                              ItemStatsInterner interner) {
+        this.interner = interner;
         this.itemLoreService = Objects.requireNonNull(itemLoreService, "itemLoreService");
         this.statsCache = Objects.requireNonNull(statsCache, "statsCache");
         this.configManager = Objects.requireNonNull(configManager, "configManager");
@@ -48,94 +102,300 @@ public class PlayerStatsService {
 
     /**
      * 플레이어의 모든 장비 스탯을 계산하고 캐싱합니다.
+     * <p>
+     * 슬롯마다 장비 지문(재질 + 로어 해시)을 비교해 바뀐 슬롯만 다시 파싱합니다.
+     * 바뀐 슬롯이 없고 캐시가 있으면 캐시와 최대 체력을 건드리지 않고 캐시된 스탯을 반환합니다.
+     * </p>
      *
      * @param player 플레이어
      * @return 계산된 스탯
      */
     public PlayerStats calculateAndCache(Player player) {
         long start = System.nanoTime();
-        PlayerStats stats = calculate(player);
-        statsCache.put(stats);
+        UUID playerId = player.getUniqueId();
+        PlayerEquipmentState state = equipmentStates.computeIfAbsent(playerId, id -> new PlayerEquipmentState(id));
+        state.nextSequence(); // 진행 중인 비동기 결과보다 이 계산이 새로움
+        PlayerInventory equipment = player.getInventory();
+
+        int parsed = 0;
+        for (EquipmentSlot slot : SLOTS) {
+            ItemStack item = getItem(equipment, slot);
+            long fingerprint = PlayerEquipmentState.fingerprint(item);
+            if (!state.isUnchanged(slot, fingerprint)) {
+                ItemStats stats = parseSlot(slot, item);
+                state.update(slot, fingerprint, stats);
+                if (slot.isWeapon()) {
+                    // 이벤트 없이 바뀐 손 아이템도 색인에 반영
+                    state.getHotbar().put(hotbarIndex(equipment, slot), fingerprint, stats);
+                }
+                parsed++;
+            }
+        }
+        metrics.recordEquipmentSlots(SLOTS.length - parsed, parsed);
 
-        // 최대 체력 업데이트
-        updateMaxHealth(player, stats);
+        if (parsed == 0) {
+            PlayerStats cached = statsCache.getBySlot(state.getCacheSlot(), playerId);
+            if (cached != null) {
+                metrics.recordPlayerStatSkip();
+                return cached;
+            }
+        }
 
+        PlayerStats stats = publish(player, state);
         metrics.recordPlayerStatCalc(System.nanoTime() - start);
 
         return stats;
     }
 
     /**
-     * 플레이어의 모든 장비 스탯을 계산합니다 (캐싱 없음).
+     * 기록된 장비 스탯을 버리고 모든 장비를 다시 파싱해 스탯과 핫바 색인을 만듭니다.
+     * <p>
+     * 최대값 제한이나 무기 목록처럼 파싱 결과에 영향을 주는 설정이 바뀐 뒤 플레이어 스레드에서 호출합니다.
+     * 장비 지문이 그대로여도 다시 파싱하므로 최대 체력도 함께 갱신됩니다.
+     * </p>
      *
      * @param player 플레이어
      * @return 계산된 스탯
      */
-    public PlayerStats calculate(Player player) {
-        UUID playerId = player.getUniqueId();
-        EntityEquipment equipment = player.getEquipment();
+    public PlayerStats recalculate(Player player) {
+        PlayerEquipmentState state = equipmentStates.get(player.getUniqueId());
+        if (state != null) {
+            state.forget();
+        }
+        PlayerStats stats = calculateAndCache(player);
+        indexHotbar(player);
+        return stats;
+    }
 
-        if (equipment == null) {
-            return PlayerStats.empty(playerId);
+    /**
+     * 기록된 슬롯 스탯으로 플레이어 스탯을 만들어 캐시에 넣고 최대 체력을 갱신합니다.
+     */
+    private PlayerStats publish(Player player, PlayerEquipmentState state) {
+        PlayerStats stats = state.snapshot();
+        if (closed) {
+            return stats; // 교체된 서비스의 늦은 결과는 공유 캐시와 최대 체력에 반영하지 않음
         }
+        state.setCacheSlot(statsCache.put(stats));
 
-        PlayerStats stats = PlayerStats.empty(playerId);
+        // 최대 체력 업데이트
+        updateMaxHealth(player, stats);
+        return stats;
+    }
 
-        // 투구
-        ItemStack helmet = equipment.getHelmet();
-        if (helmet != null && helmet.getType() != Material.AIR) {
-            stats = stats.withEquipmentStats(EquipmentSlot.HELMET,
-                    clampStats(itemLoreService.parseStats(helmet)));
+    /**
+     * 비동기 파싱을 켭니다. 이후 {@link #refresh(Player)}는 파싱을 워커로 보냅니다.
+     *
+     * @param workers    파싱을 실행할 워커 풀
+     * @param scheduler  결과를 다음 틱 플레이어 스레드에서 실행할 스케줄러
+     */
+    public void enableAsync(Executor workers, PluginScheduler scheduler) {
+        disableAsync();
+        asyncPipeline = new AsyncStatPipeline(this, workers, scheduler, metrics, logger);
+    }
+
+    /**
+     * 비동기 파싱을 끕니다. 진행 중인 결과는 버려집니다.
+     */
+    public void disableAsync() {
+        AsyncStatPipeline pipeline = asyncPipeline;
+        asyncPipeline = null;
+        if (pipeline != null) {
+            pipeline.close();
         }
+    }
+
+    /**
+     * 서비스를 닫습니다. 리로드로 새 서비스와 교체하기 전에 메인 스레드에서 호출합니다.
+     * <p>
+     * 비동기 파싱을 끄고, 이후 이 서비스로 계산되는 스탯(이미 예약된 손 아이템 갱신, 플레이어별 재계산 등)은
+     * 공유 캐시와 최대 체력에 반영하지 않습니다. 캐시는 새 서비스가 다시 계산해 채웁니다.
+     * </p>
+     */
+    public void close() {
+        closed = true;
+        disableAsync();
+    }
 
-        // 갑옷
-        ItemStack chestplate = equipment.getChestplate();
-        if (chestplate != null && chestplate.getType() != Material.AIR) {
-            stats = stats.withEquipmentStats(EquipmentSlot.CHESTPLATE,
-                    clampStats(itemLoreService.parseStats(chestplate)));
+    /**
+     * 비동기 파싱이 켜져 있는지 확인합니다.
+     *
+     * @return 켜져 있으면 true
+     */
+    public boolean isAsync() {
+        return asyncPipeline != null;
+    }
+
+    /**
+     * 플레이어 스탯 갱신을 요청합니다.
+     * <p>
+     * 비동기 파싱이 켜져 있으면 바뀐 장비를 복사해 워커로 보내고, 결과는 다음 틱에 반영됩니다.
+     * 꺼져 있거나 워커에 넣을 수 없으면 {@link #calculateAndCache(Player)}로 즉시 계산합니다.
+     * </p>
+     *
+     * @param player 플레이어
+     */
+    public void refresh(Player player) {
+        AsyncStatPipeline pipeline = asyncPipeline;
+        if (pipeline == null || !pipeline.submit(player)) {
+            calculateAndCache(player);
         }
+    }
+
+    /**
+     * 1단계(플레이어 스레드): 지문이 바뀐 슬롯의 파싱 데이터를 복사합니다.
+     *
+     * @return 갱신 작업, 바뀐 슬롯이 없고 캐시가 있으면 null
+     */
+    AsyncStatPipeline.Job snapshotChanged(Player player) {
+        UUID playerId = player.getUniqueId();
+        PlayerEquipmentState state = equipmentStates.computeIfAbsent(playerId, id -> new PlayerEquipmentState(id));
+        PlayerInventory equipment = player.getInventory();
+        ConfigSnapshot config = configManager.getSnapshot();
+
+        EquipmentSlot[] slots = new EquipmentSlot[SLOTS.length];
+        long[] fingerprints = new long[SLOTS.length];
+        ItemLoreService.ItemSource[] sources = new ItemLoreService.ItemSource[SLOTS.length];
+        int changed = 0;
+        for (EquipmentSlot slot : SLOTS) {
+            ItemStack item = getItem(equipment, slot);
+            long fingerprint;
+            ItemMeta meta = null;
+            if (item == null || item.getType() == Material.AIR) {
+                fingerprint = PlayerEquipmentState.EMPTY_FINGERPRINT;
+            } else {
+                meta = item.hasItemMeta() ? item.getItemMeta() : null;
+                fingerprint = PlayerEquipmentState.fingerprint(item.getType(), meta);
+            }
+            if (state.isUnchanged(slot, fingerprint)) {
+                continue;
+            }
 
-        // 레깅스
-        ItemStack leggings = equipment.getLeggings();
-        if (leggings != null && leggings.getType() != Material.AIR) {
-            stats = stats.withEquipmentStats(EquipmentSlot.LEGGINGS,
-                    clampStats(itemLoreService.parseStats(leggings)));
+            slots[changed] = slot;
+            fingerprints[changed] = fingerprint;
+            if (meta != null && (!slot.isWeapon() || config.isWeapon(item.getType()))) {
+                sources[changed] = itemLoreService.snapshot(meta);
+            }
+            changed++;
         }
+        metrics.recordEquipmentSlots(SLOTS.length - changed, changed);
 
-        // 부츠
-        ItemStack boots = equipment.getBoots();
-        if (boots != null && boots.getType() != Material.AIR) {
-            stats = stats.withEquipmentStats(EquipmentSlot.BOOTS,
-                    clampStats(itemLoreService.parseStats(boots)));
+        if (changed == 0 && statsCache.contains(playerId)) {
+            metrics.recordPlayerStatSkip();
+            return null;
         }
+        return new AsyncStatPipeline.Job(player, state.nextSubmission(),
+                Arrays.copyOf(slots, changed),
+                Arrays.copyOf(fingerprints, changed),
+                Arrays.copyOf(sources, changed));
+    }
+
+    /**
+     * 2단계(워커 스레드): 복사한 데이터를 파싱하고 최대값 제한을 적용합니다.
+     */
+    ItemStats parseSource(ItemLoreService.ItemSource source) {
+        return source == null ? ItemStats.empty() : clampStats(itemLoreService.parseSnapshot(source));
+    }
 
-        // 주무기 (무기로 인식되는 아이템만)
-        ItemStack mainHand = equipment.getItemInMainHand();
-        if (mainHand != null && mainHand.getType() != Material.AIR
-                && configManager.isWeapon(mainHand.getType())) {
-            stats = stats.withEquipmentStats(EquipmentSlot.MAIN_HAND,
-                    clampStats(itemLoreService.parseStats(mainHand)));
+    /**
+     * 작업이 아직 플레이어의 최신 갱신인지 확인합니다. (플레이어 스레드)
+     */
+    boolean isCurrent(AsyncStatPipeline.Job job) {
+        PlayerEquipmentState state = equipmentStates.get(job.playerId);
+        return state != null && state.getSequence() == job.sequence && job.player.isOnline();
+    }
+
+    /**
+     * 버려진 작업 이후 다른 비동기 작업이 없었는지 확인합니다. (플레이어 스레드)
+     * <p>
+     * 동기 계산이 작업을 무효화했다면 작업이 맡은 다른 슬롯은 아직 반영되지 않았으므로
+     * 다시 갱신해야 합니다.
+     * </p>
+     */
+    boolean needsResubmit(AsyncStatPipeline.Job job) {
+        PlayerEquipmentState state = equipmentStates.get(job.playerId);
+        return state != null && state.getSubmittedSequence() == job.sequence && job.player.isOnline();
+    }
+
+    /**
+     * 3단계(플레이어 스레드): 파싱 결과를 기록하고 스탯을 반영합니다.
+     */
+    void applyParsed(AsyncStatPipeline.Job job) {
+        long start = System.nanoTime();
+        PlayerEquipmentState state = equipmentStates.get(job.playerId);
+        if (state == null) {
+            return;
         }
+        for (int i = 0; i < job.slots.length; i++) {
+            state.update(job.slots[i], job.fingerprints[i], job.results[i]);
+        }
+        publish(job.player, state);
+        metrics.recordPlayerStatCalc(System.nanoTime() - start);
+    }
+
+    /**
+     * 플레이어의 모든 장비 스탯을 계산합니다 (캐싱 없음).
+     * <p>
+     * 인벤토리가 돌려주는 아이템은 실제 장비를 가리키므로,
+     * PDC 마이그레이션으로 기록된 스탯이 그대로 장비에 남습니다.
+     * </p>
+     *
+     * @param player 플레이어
+     * @return 계산된 스탯
+     */
+    public PlayerStats calculate(Player player) {
+        UUID playerId = player.getUniqueId();
+        PlayerInventory equipment = player.getInventory();
 
-        // 보조무기 (오프핸드)
-        ItemStack offHand = equipment.getItemInOffHand();
-        if (offHand != null && offHand.getType() != Material.AIR
-                && configManager.isWeapon(offHand.getType())) {
-            stats = stats.withEquipmentStats(EquipmentSlot.OFF_HAND,
-                    clampStats(itemLoreService.parseStats(offHand)));
+        PlayerStatsAccumulator stats = new PlayerStatsAccumulator(playerId);
+        for (EquipmentSlot slot : SLOTS) {
+            stats.set(slot, parseSlot(slot, getItem(equipment, slot)));
         }
+        return stats.snapshot();
+    }
 
-        return stats;
+    private static ItemStack getItem(PlayerInventory equipment, EquipmentSlot slot) {
+        return switch (slot) {
+            case HELMET -> equipment.getHelmet();
+            case CHESTPLATE -> equipment.getChestplate();
+            case LEGGINGS -> equipment.getLeggings();
+            case BOOTS -> equipment.getBoots();
+            case MAIN_HAND -> equipment.getItemInMainHand();
+            case OFF_HAND -> equipment.getItemInOffHand();
+        };
     }
 
+    /**
+     * 슬롯에 장착된 아이템의 스탯을 파싱하고 최대값 제한을 적용합니다.
+     * 무기 슬롯은 무기로 인식되는 아이템만 스탯이 적용됩니다.
+     */
+    private ItemStats parseSlot(EquipmentSlot slot, ItemStack item) {
+        if (item == null || item.getType() == Material.AIR) {
+            return ItemStats.empty();
+        }
+        if (slot.isWeapon() && !configManager.isWeapon(item.getType())) {
+            return ItemStats.empty();
+        }
+        return clampStats(itemLoreService.parseStats(item));
+    }
+
+    /**
+     * 최대값 제한을 적용합니다. 바뀐 값이 없으면 입력 인스턴스를 그대로 반환하고,
+     * 바뀌었으면 인터닝 테이블의 대표 인스턴스를 반환합니다.
+     */
     private ItemStats clampStats(ItemStats stats) {
         if (stats == null || stats.isEmpty()) {
             return ItemStats.empty();
         }
 
+        ConfigSnapshot config = configManager.getSnapshot();
+        boolean clamped = false;
         ItemStats.Builder builder = ItemStats.builder();
         for (var type : kr.minex.pvplorestat.domain.model.StatType.values()) {
-            double value = itemLoreService.clampStatValue(type, stats.getStat(type));
+            double original = stats.getStat(type);
+            double value = config.clamp(type, original);
+            if (Double.compare(value, original) != 0) {
+                clamped = true;
+            }
             switch (type) {
                 case DAMAGE -> builder.damage(value);
                 case DEFENSE -> builder.defense(value);
@@ -146,19 +406,70 @@ public class PlayerStatsService {
                 case DODGE -> builder.dodge(value);
             }
         }
-        return builder.build();
+        if (!clamped) {
+            return interner != null ? interner.intern(stats) : stats;
+        }
+        ItemStats result = builder.build();
+        return interner != null ? interner.intern(result) : result;
     }
 
     /**
      * 캐시된 플레이어 스탯을 조회합니다.
      *
      * @param playerId 플레이어 UUID
-     * @return 캐시된 스탯 (없으면 빈 스탯)
+     * @return 캐시된 스탯 (없으면 공유 빈 스탯)
      */
     public PlayerStats getStats(UUID playerId) {
         return statsCache.getOrEmpty(playerId);
     }
 
+    /**
+     * 플레이어 스탯을 조회하고, 캐시에 없거나 이 서비스가 계산한 스탯이 아니면 즉시 계산합니다.
+     * 전투 경로용이며 플레이어 스레드(Bukkit은 메인 스레드, Folia는 리전 스레드)에서 호출해야 합니다. 캐시 적중 시 할당이 없습니다.
+     * <p>
+     * 장비 기록에 캐시 슬롯이 있으면 슬롯으로 바로 읽고, 없을 때만 UUID로 조회합니다.
+     * </p>
+     *
+     * @param player 플레이어
+     * @return 플레이어 스탯
+     */
+    public PlayerStats getStats(Player player) {
+        UUID playerId = player.getUniqueId();
+        PlayerEquipmentState state = equipmentStates.get(playerId);
+        if (state != null) {
+            // 장비 기록이 있으면 이 서비스가 계산한 스탯이므로 오래된 것인지 따로 볼 필요가 없음
+            PlayerStats stats = statsCache.getBySlot(state.getCacheSlot(), playerId);
+            if (stats != null) {
+                return stats;
+            }
+        }
+        return statsCache.computeIfStale(playerId, staleCheck, onlineLoader);
+    }
+
+    /**
+     * 플레이어의 전투 플래그를 캐시 슬롯으로 조회합니다.
+     *
+     * @param player 플레이어
+     * @return {@link PlayerStatsCache#COMBAT_KNOWN} 등의 조합 (장비 기록이나 슬롯이 없으면 0)
+     */
+    public int getCombatFlags(Player player) {
+        UUID playerId = player.getUniqueId();
+        PlayerEquipmentState state = equipmentStates.get(playerId);
+        return state != null ? statsCache.getCombatFlags(state.getCacheSlot(), playerId) : 0;
+    }
+
+    /**
+     * 리로드 전 서비스가 계산한 스탯(장비 기록이 없는 플레이어)을 오래된 것으로 봅니다.
+     */
+    private boolean isStale(PlayerStats stats) {
+        return !equipmentStates.containsKey(stats.getPlayerId());
+    }
+
+    private PlayerStats loadOnline(UUID playerId) {
+        Player player = Bukkit.getPlayer(playerId);
+        return player != null && player.isOnline() ? calculateAndCache(player) : null;
+    }
+
     /**
      * 플레이어 스탯을 캐시에서 제거합니다.
      *
@@ -166,6 +477,7 @@ public class PlayerStatsService {
      */
     public void removeStats(UUID playerId) {
         statsCache.remove(playerId);
+        equipmentStates.remove(playerId);
     }
 
     /**
@@ -173,6 +485,7 @@ public class PlayerStatsService {
      */
     public void clearCache() {
         statsCache.clear();
+        equipmentStates.clear();
     }
 
     /**
@@ -230,24 +543,137 @@ public class PlayerStatsService {
      * @param item   장비 아이템
      */
     public void updateEquipmentSlot(Player player, EquipmentSlot slot, ItemStack item) {
-        UUID playerId = player.getUniqueId();
-        PlayerStats currentStats = statsCache.getOrEmpty(playerId);
+        PlayerEquipmentState state = equipmentStates.get(player.getUniqueId());
+        if (state == null) {
+            // 다른 슬롯의 기록이 없으면 먼저 전체를 계산
+            calculateAndCache(player);
+            state = equipmentStates.get(player.getUniqueId());
+        }
+
+        state.update(slot, PlayerEquipmentState.fingerprint(item), parseSlot(slot, item));
+        state.nextSequence(); // 진행 중인 비동기 결과가 이 슬롯을 덮어쓰지 않도록
+
+        // 바뀐 슬롯만 총합에 반영하고 최대 체력 업데이트
+        publish(player, state);
+    }
+
+    /**
+     * 여러 장비 슬롯의 스탯을 현재 인벤토리에서 한 번에 업데이트합니다.
+     * 슬롯마다 한 번씩 파싱하고, 총합 반영과 최대 체력 갱신은 한 번만 합니다.
+     *
+     * @param player   플레이어
+     * @param slotMask 갱신할 슬롯 비트 ({@code 1 << slot.ordinal()})
+     * @return 갱신한 슬롯 수
+     */
+    public int updateEquipmentSlots(Player player, int slotMask) {
+        if (slotMask == 0) {
+            return 0;
+        }
+        PlayerEquipmentState state = equipmentStates.get(player.getUniqueId());
+        if (state == null) {
+            // 다른 슬롯의 기록이 없으면 전체를 계산 (요청한 슬롯도 포함)
+            calculateAndCache(player);
+            return Integer.bitCount(slotMask);
+        }
 
-        ItemStats newSlotStats = ItemStats.empty();
-        if (item != null && item.getType() != Material.AIR) {
-            // 무기 슬롯인 경우 무기 타입 체크
-            if (slot.isWeapon() && !configManager.isWeapon(item.getType())) {
-                newSlotStats = ItemStats.empty();
+        PlayerInventory equipment = player.getInventory();
+        int updated = 0;
+        for (EquipmentSlot slot : SLOTS) {
+            if ((slotMask & (1 << slot.ordinal())) == 0) {
+                continue;
+            }
+            if (slot.isWeapon()) {
+                updateHandSlot(state, equipment, slot);
             } else {
-                newSlotStats = itemLoreService.parseStats(item);
+                ItemStack item = getItem(equipment, slot);
+                state.update(slot, PlayerEquipmentState.fingerprint(item), parseSlot(slot, item));
             }
+            updated++;
         }
+        state.nextSequence(); // 진행 중인 비동기 결과가 이 슬롯들을 덮어쓰지 않도록
 
-        PlayerStats newStats = currentStats.withEquipmentStats(slot, newSlotStats);
-        statsCache.put(newStats);
+        publish(player, state);
+        return updated;
+    }
 
-        // 최대 체력 업데이트
-        updateMaxHealth(player, newStats);
+    /**
+     * 손 슬롯을 핫바 색인에서 갱신합니다. 색인이 없거나 무효면 파싱해 색인에 기록합니다.
+     */
+    private void updateHandSlot(PlayerEquipmentState state, PlayerInventory equipment, EquipmentSlot slot) {
+        HotbarStatIndex hotbar = state.getHotbar();
+        int index = hotbarIndex(equipment, slot);
+        ItemStack item = getItem(equipment, slot);
+        long fingerprint = PlayerEquipmentState.fingerprint(item);
+        if (hotbar.matches(index, fingerprint)) {
+            metrics.recordHotbarIndexHit();
+            state.update(slot, fingerprint, hotbar.getStats(index));
+            return;
+        }
+
+        metrics.recordHotbarIndexMiss();
+        ItemStats stats = parseSlot(slot, item);
+        hotbar.put(index, fingerprint, stats);
+        state.update(slot, fingerprint, stats);
+    }
+
+    /**
+     * 핫바 9칸과 오프핸드의 스탯 색인을 만듭니다. 접속 시 스탯 계산 후 호출합니다.
+     * 이미 유효한 칸은 건너뛰며, 무기 필터는 이때 한 번만 적용됩니다.
+     *
+     * @param player 플레이어
+     */
+    public void indexHotbar(Player player) {
+        PlayerEquipmentState state = equipmentStates.get(player.getUniqueId());
+        if (state == null) {
+            return;
+        }
+        HotbarStatIndex hotbar = state.getHotbar();
+        PlayerInventory equipment = player.getInventory();
+        for (int index = 0; index <= HotbarStatIndex.HOTBAR_SIZE; index++) {
+            ItemStack item = index == HotbarStatIndex.OFF_HAND ? equipment.getItemInOffHand() : equipment.getItem(index);
+            long fingerprint = PlayerEquipmentState.fingerprint(item);
+            if (!hotbar.matches(index, fingerprint)) {
+                EquipmentSlot slot = index == HotbarStatIndex.OFF_HAND ? EquipmentSlot.OFF_HAND : EquipmentSlot.MAIN_HAND;
+                hotbar.put(index, fingerprint, parseSlot(slot, item));
+            }
+        }
+    }
+
+    /**
+     * 핫바 색인 전체를 무효화합니다. 어느 칸이 바뀌었는지 모르는 인벤토리 변경에 사용합니다.
+     *
+     * @param player 플레이어
+     */
+    public void invalidateHotbar(Player player) {
+        PlayerEquipmentState state = equipmentStates.get(player.getUniqueId());
+        if (state != null) {
+            state.getHotbar().invalidate(HotbarStatIndex.ALL);
+        }
+    }
+
+    /**
+     * 인벤토리 칸 하나의 핫바 색인을 무효화합니다. 핫바(0~8)와 오프핸드(40) 외의 칸은 무시합니다.
+     *
+     * @param player        플레이어
+     * @param inventorySlot PlayerInventory 칸 번호
+     */
+    public void invalidateHotbarSlot(Player player, int inventorySlot) {
+        int index;
+        if (inventorySlot >= 0 && inventorySlot < HotbarStatIndex.HOTBAR_SIZE) {
+            index = inventorySlot;
+        } else if (inventorySlot == OFF_HAND_INVENTORY_SLOT) {
+            index = HotbarStatIndex.OFF_HAND;
+        } else {
+            return;
+        }
+        PlayerEquipmentState state = equipmentStates.get(player.getUniqueId());
+        if (state != null) {
+            state.getHotbar().invalidate(1 << index);
+        }
+    }
+
+    private static int hotbarIndex(PlayerInventory equipment, EquipmentSlot slot) {
+        return slot == EquipmentSlot.OFF_HAND ? HotbarStatIndex.OFF_HAND : equipment.getHeldItemSlot();
     }
 
     /**
@@ -0,0 +1,144 @@
+package kr.minex.pvplorestat.domain.model;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 전투 계수 Value Object (불변)
+ * <p>
+ * 스탯 총합을 데미지 계산 설정의 나눗수로 미리 나눠 둔 값입니다.
+ * 타격마다 나눗셈을 반복하지 않도록 {@link PlayerStats}마다 한 번만 만들어 둡니다.
+ * </p>
+ * <p>
+ * 확률(치명타, 회피)은 % 단위 그대로 둡니다.
+ * 난수와의 비교를 기존 계산({@code nextDouble() * 100 < 확률})과 같게 유지해야 결과가 비트 단위로 같기 때문입니다.
+ * </p>
+ *
+ * @author Minex
+ * @since 1.0.0
+ */
+public final class CombatProfile {
+
+    /**
+     * 플레이어가 아닌 스탯으로 만든 계수의 소유자
+     */
+    public static final UUID ANONYMOUS = new UUID(0L, 0L);
+
+    private final UUID owner;
+    private final double damageDivisor;
+    private final double defenseDivisor;
+    private final double critDamageDivisor;
+
+    private final double flatBonus;
+    private final double critChance;
+    private final double critBonus;
+    private final double defenseReduction;
+    private final double dodgeChance;
+    private final double lifestealFraction;
+
+    private CombatProfile(UUID owner, ItemStats stats, double damageDivisor, double defenseDivisor,
+                          double critDamageDivisor) {
+        this.owner = owner;
+        this.damageDivisor = damageDivisor;
+        this.defenseDivisor = defenseDivisor;
+        this.critDamageDivisor = critDamageDivisor;
+
+        this.flatBonus = stats.getDamage() / damageDivisor;
+        this.critChance = stats.getCritChance();
+        this.critBonus = stats.getCritDamage() / critDamageDivisor;
+        this.defenseReduction = stats.getDefense() / defenseDivisor;
+        this.dodgeChance = stats.getDodge();
+        double lifesteal = stats.getLifesteal();
+        this.lifestealFraction = lifesteal <= 0 ? 0 : lifesteal / 100.0;
+    }
+
+    /**
+     * 스탯과 나눗수로 전투 계수를 만듭니다.
+     *
+     * @param stats             스탯 총합
+     * @param damageDivisor     공격력 나눗수
+     * @param defenseDivisor    방어력 나눗수
+     * @param critDamageDivisor 치명타 데미지 나눗수
+     * @return 전투 계수
+     */
+    public static CombatProfile of(ItemStats stats, double damageDivisor, double defenseDivisor,
+                                   double critDamageDivisor) {
+        return new CombatProfile(ANONYMOUS, stats, damageDivisor, defenseDivisor, critDamageDivisor);
+    }
+
+    /**
+     * 플레이어의 스탯과 나눗수로 전투 계수를 만듭니다.
+     *
+     * @param owner             플레이어 UUID (쌍별 난수열의 키)
+     * @param stats             스탯 총합
+     * @param damageDivisor     공격력 나눗수
+     * @param defenseDivisor    방어력 나눗수
+     * @param critDamageDivisor 치명타 데미지 나눗수
+     * @return 전투 계수
+     */
+    public static CombatProfile of(UUID owner, ItemStats stats, double damageDivisor, double defenseDivisor,
+                                   double critDamageDivisor) {
+        return new CombatProfile(Objects.requireNonNull(owner, "owner"), stats,
+                damageDivisor, defenseDivisor, critDamageDivisor);
+    }
+
+    /**
+     * 같은 나눗수로 만든 계수인지 확인합니다.
+     *
+     * @return 세 나눗수가 모두 같으면 true
+     */
+    public boolean isFor(double damageDivisor, double defenseDivisor, double critDamageDivisor) {
+        return this.damageDivisor == damageDivisor
+                && this.defenseDivisor == defenseDivisor
+                && this.critDamageDivisor == critDamageDivisor;
+    }
+
+    /**
+     * 계수의 소유자 (플레이어가 아니면 {@link #ANONYMOUS})
+     */
+    public UUID getOwner() {
+        return owner;
+    }
+
+    /**
+     * 공격 시 추가 데미지 (공격력 / 나눗수)
+     */
+    public double getFlatBonus() {
+        return flatBonus;
+    }
+
+    /**
+     * 치명타 확률 (0-100)
+     */
+    public double getCritChance() {
+        return critChance;
+    }
+
+    /**
+     * 치명타 추가 데미지 (치명타 데미지 / 나눗수)
+     */
+    public double getCritBonus() {
+        return critBonus;
+    }
+
+    /**
+     * 피격 시 데미지 감소량 (방어력 / 나눗수)
+     */
+    public double getDefenseReduction() {
+        return defenseReduction;
+    }
+
+    /**
+     * 회피율 (0-100)
+     */
+    public double getDodgeChance() {
+        return dodgeChance;
+    }
+
+    /**
+     * 피흡수 비율 (0-1, 피흡수율이 0 이하면 0)
+     */
+    public double getLifestealFraction() {
+        return lifestealFraction;
+    }
+}
@@ -102,6 +102,24 @@ public final class ItemStats {
         return builder.build();
     }
 
+    /**
+     * StatType 순서의 값 배열에서 스탯을 생성합니다.
+     *
+     * @param values {@link StatType#ordinal()} 순서의 값
+     * @return 생성된 ItemStats (모두 0이면 빈 스탯)
+     */
+    static ItemStats fromArray(double[] values) {
+        ItemStats stats = new ItemStats(
+                values[StatType.DAMAGE.ordinal()],
+                values[StatType.DEFENSE.ordinal()],
+                values[StatType.HEALTH.ordinal()],
+                values[StatType.LIFESTEAL.ordinal()],
+                values[StatType.CRIT_CHANCE.ordinal()],
+                values[StatType.CRIT_DAMAGE.ordinal()],
+                values[StatType.DODGE.ordinal()]);
+        return stats.isEmpty() ? EMPTY : stats;
+    }
+
     // ===== Getters =====
 
     public double getDamage() {
@@ -302,7 +320,16 @@ public final class ItemStats {
 
     @Override
     public int hashCode() {
-        return Objects.hash(damage, defense, health, lifesteal, critChance, critDamage, dodge);
+        // Objects.hash와 같은 값이지만 박싱 없이 계산 (인터닝 조회 경로)
+        int result = 1;
+        result = 31 * result + Double.hashCode(damage);
+        result = 31 * result + Double.hashCode(defense);
+        result = 31 * result + Double.hashCode(health);
+        result = 31 * result + Double.hashCode(lifesteal);
+        result = 31 * result + Double.hashCode(critChance);
+        result = 31 * result + Double.hashCode(critDamage);
+        result = 31 * result + Double.hashCode(dodge);
+        return result;
     }
 
     @Override
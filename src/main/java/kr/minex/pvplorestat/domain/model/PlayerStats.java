@@ -18,6 +18,11 @@ public final class PlayerStats {
     private final Map<EquipmentSlot, ItemStats> equipmentStats;
     private final ItemStats totalStats;
 
+    /**
+     * 총합으로 만든 전투 계수 (처음 조회할 때 만들고, 나눗수가 바뀌면 다시 만듦)
+     */
+    private volatile CombatProfile combatProfile;
+
     private PlayerStats(UUID playerId, Map<EquipmentSlot, ItemStats> equipmentStats) {
         this.playerId = Objects.requireNonNull(playerId, "playerId는 null일 수 없습니다");
         // EnumMap 복사 생성자는 빈 맵을 허용하지 않으므로 새로 생성 후 putAll 사용
@@ -27,6 +32,32 @@ public final class PlayerStats {
         this.totalStats = calculateTotalStats(equipmentStats);
     }
 
+    private PlayerStats(UUID playerId, EnumMap<EquipmentSlot, ItemStats> equipmentStats, ItemStats totalStats) {
+        this.playerId = Objects.requireNonNull(playerId, "playerId는 null일 수 없습니다");
+        this.equipmentStats = Collections.unmodifiableMap(equipmentStats);
+        this.totalStats = totalStats;
+    }
+
+    /**
+     * 이미 계산된 총합으로 플레이어 스탯을 생성합니다. ({@link PlayerStatsAccumulator} 전용)
+     *
+     * @param playerId   플레이어 UUID
+     * @param slotStats  슬롯 순서의 스탯 배열 (null 또는 빈 스탯은 제외)
+     * @param totalStats 총합
+     * @return 생성된 플레이어 스탯
+     */
+    static PlayerStats fromSlots(UUID playerId, ItemStats[] slotStats, ItemStats totalStats) {
+        EquipmentSlot[] slots = EquipmentSlot.values();
+        EnumMap<EquipmentSlot, ItemStats> equipmentStats = new EnumMap<>(EquipmentSlot.class);
+        for (int i = 0; i < slotStats.length; i++) {
+            ItemStats stats = slotStats[i];
+            if (stats != null && !stats.isEmpty()) {
+                equipmentStats.put(slots[i], stats);
+            }
+        }
+        return new PlayerStats(playerId, equipmentStats, totalStats);
+    }
+
     /**
      * 장비 스탯들을 합산하여 총 스탯을 계산합니다.
      */
@@ -100,6 +131,46 @@ public final class PlayerStats {
         return totalStats;
     }
 
+    /**
+     * 공격할 때 결과를 바꾸는 스탯(공격력, 치명타 확률, 피흡수)이 있는지 확인합니다.
+     * 치명타 확률이 있으면 치명타 데미지가 0이어도 치명타 판정과 메시지가 생기므로 포함합니다.
+     *
+     * @return 하나라도 있으면 true
+     */
+    public boolean hasOffensiveStats() {
+        return totalStats.getDamage() != 0 || totalStats.getCritChance() > 0 || totalStats.getLifesteal() > 0;
+    }
+
+    /**
+     * 맞을 때 결과를 바꾸는 스탯(방어력, 회피율)이 있는지 확인합니다.
+     *
+     * @return 하나라도 있으면 true
+     */
+    public boolean hasDefensiveStats() {
+        return totalStats.getDefense() != 0 || totalStats.getDodge() > 0;
+    }
+
+    /**
+     * 총 스탯으로 만든 전투 계수를 반환합니다.
+     * <p>
+     * 같은 나눗수로 다시 조회하면 만들어 둔 계수를 그대로 돌려줍니다.
+     * 여러 스레드가 동시에 처음 조회하면 계수를 한 번 더 만들 수 있지만, 결과는 같습니다.
+     * </p>
+     *
+     * @param damageDivisor     공격력 나눗수
+     * @param defenseDivisor    방어력 나눗수
+     * @param critDamageDivisor 치명타 데미지 나눗수
+     * @return 전투 계수
+     */
+    public CombatProfile getCombatProfile(double damageDivisor, double defenseDivisor, double critDamageDivisor) {
+        CombatProfile profile = combatProfile;
+        if (profile == null || !profile.isFor(damageDivisor, defenseDivisor, critDamageDivisor)) {
+            profile = CombatProfile.of(playerId, totalStats, damageDivisor, defenseDivisor, critDamageDivisor);
+            combatProfile = profile;
+        }
+        return profile;
+    }
+
     /**
      * 특정 장비 슬롯의 스탯을 반환합니다.
      *
@@ -0,0 +1,132 @@
+package kr.minex.pvplorestat.domain.model;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 플레이어 스탯 누산기 (가변)
+ * <p>
+ * 슬롯별 스탯을 {@code double[슬롯][스탯]} 배열로, 총합을 {@code double[스탯]} 배열로 유지합니다.
+ * 슬롯 하나가 바뀌면 값이 바뀐 스탯의 열만 슬롯 값에서 다시 더하므로, 맵 복사나 ItemStats 합산 없이 갱신됩니다.
+ * </p>
+ * <p>
+ * 이전 값을 빼고 새 값을 더하면 부동소수점 오차가 남습니다(0.1과 0.2를 장착했다 벗으면 0이 아닌 값).
+ * 그래서 열을 {@link PlayerStats}의 합산과 같은 슬롯 순서로 처음부터 다시 더해, 총합이 항상 비트 단위로 같게 유지합니다.
+ * </p>
+ * <p>
+ * 한 스레드(플레이어를 소유한 스레드)에서만 수정해야 합니다. 다른 스레드에는 {@link #snapshot()}의 불변 스탯을 넘깁니다.
+ * </p>
+ *
+ * @author Minex
+ * @since 1.0.0
+ */
+public final class PlayerStatsAccumulator {
+
+    private static final EquipmentSlot[] SLOTS = EquipmentSlot.values();
+    private static final StatType[] STATS = StatType.values();
+
+    private final UUID playerId;
+    private final double[][] slotValues = new double[SLOTS.length][STATS.length];
+    private final double[] totals = new double[STATS.length];
+    private final ItemStats[] slotStats = new ItemStats[SLOTS.length];
+
+    private int nonEmptySlots;
+
+    /**
+     * 마지막 스냅샷 (이후 바뀌었으면 null)
+     */
+    private PlayerStats snapshot;
+
+    /**
+     * 빈 누산기를 생성합니다.
+     *
+     * @param playerId 플레이어 UUID
+     */
+    public PlayerStatsAccumulator(UUID playerId) {
+        this.playerId = Objects.requireNonNull(playerId, "playerId");
+    }
+
+    /**
+     * 슬롯의 스탯을 설정하고 총합을 갱신합니다.
+     *
+     * @param slot  장비 슬롯
+     * @param stats 새 스탯 (null이면 빈 스탯)
+     */
+    public void set(EquipmentSlot slot, ItemStats stats) {
+        ItemStats next = (stats == null || stats.isEmpty()) ? null : stats;
+        int index = slot.ordinal();
+        ItemStats previous = slotStats[index];
+        if (previous == next) {
+            return;
+        }
+
+        slotStats[index] = next;
+        snapshot = null;
+
+        if (previous == null) {
+            nonEmptySlots++;
+        } else if (next == null) {
+            nonEmptySlots--;
+        }
+
+        double[] row = slotValues[index];
+        for (int s = 0; s < STATS.length; s++) {
+            double value = next == null ? 0.0 : next.getStat(STATS[s]);
+            if (Double.doubleToRawLongBits(value) != Double.doubleToRawLongBits(row[s])) {
+                row[s] = value;
+                totals[s] = sumColumn(s);
+            }
+        }
+    }
+
+    /**
+     * 스탯 하나의 총합을 슬롯 값에서 다시 더합니다. ({@link PlayerStats}의 합산과 같은 슬롯 순서)
+     */
+    private double sumColumn(int stat) {
+        if (nonEmptySlots == 0) {
+            return 0.0;
+        }
+        double total = 0.0;
+        for (int index = 0; index < SLOTS.length; index++) {
+            if (slotStats[index] != null) {
+                total += slotValues[index][stat];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 슬롯의 스탯을 반환합니다.
+     *
+     * @param slot 장비 슬롯
+     * @return 슬롯의 스탯 (없으면 빈 스탯)
+     */
+    public ItemStats get(EquipmentSlot slot) {
+        ItemStats stats = slotStats[slot.ordinal()];
+        return stats == null ? ItemStats.empty() : stats;
+    }
+
+    /**
+     * 현재 총합을 반환합니다.
+     *
+     * @param type 스탯 타입
+     * @return 총합
+     */
+    public double getTotal(StatType type) {
+        return totals[type.ordinal()];
+    }
+
+    /**
+     * 현재 상태의 불변 스냅샷을 반환합니다. 바뀌지 않았으면 같은 인스턴스를 반환합니다.
+     *
+     * @return 플레이어 스탯
+     */
+    public PlayerStats snapshot() {
+        PlayerStats current = snapshot;
+        if (current == null) {
+            current = PlayerStats.fromSlots(playerId, slotStats, ItemStats.fromArray(totals));
+            snapshot = current;
+        }
+        return current;
+    }
+}
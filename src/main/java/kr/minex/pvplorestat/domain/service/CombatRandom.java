@@ -0,0 +1,67 @@
+package kr.minex.pvplorestat.domain.service;
+
+import java.util.Objects;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 전투 난수 전략
+ * <p>
+ * 회피와 치명타 판정에 쓰는 [0, 1) 난수를 공급합니다.
+ * 공격자와 피해자를 함께 받으므로, 쌍마다 독립된 난수열을 두는 전략도 만들 수 있습니다.
+ * </p>
+ * <ul>
+ *     <li>{@link #threadLocal()}: 호출한 스레드의 {@link ThreadLocalRandom} (기본, 어느 스레드에서나 안전)</li>
+ *     <li>{@link #seeded(long)}: 시드와 공격자/피해자 쌍으로 정해지는 재현 가능한 난수열 (테스트, 벤치마크용)</li>
+ * </ul>
+ *
+ * @author Minex
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface CombatRandom {
+
+    /**
+     * [0, 1) 범위의 난수를 뽑습니다.
+     *
+     * @param attackerId 공격자 UUID (플레이어가 아니면 {@link kr.minex.pvplorestat.domain.model.CombatProfile#ANONYMOUS})
+     * @param victimId   피해자 UUID (플레이어가 아니면 {@link kr.minex.pvplorestat.domain.model.CombatProfile#ANONYMOUS})
+     * @return 난수
+     */
+    double nextDouble(UUID attackerId, UUID victimId);
+
+    /**
+     * 호출한 스레드의 {@link ThreadLocalRandom}을 매번 꺼내 쓰는 전략입니다.
+     * 인스턴스를 생성 시점에 붙잡아 두지 않으므로 어느 스레드에서 계산해도 안전합니다.
+     *
+     * @return 스레드별 난수 전략
+     */
+    static CombatRandom threadLocal() {
+        return (attackerId, victimId) -> ThreadLocalRandom.current().nextDouble();
+    }
+
+    /**
+     * 공격자/피해자 쌍마다 시드로 정해지는 난수열을 쓰는 전략입니다.
+     * <p>
+     * 같은 시드라면 다른 쌍의 타격이 사이에 끼어도 각 쌍의 판정 순서가 그대로 재현됩니다.
+     * </p>
+     *
+     * @param seed 시드
+     * @return 재현 가능한 난수 전략
+     */
+    static CombatRandom seeded(long seed) {
+        return new SeededCombatRandom(seed);
+    }
+
+    /**
+     * 주어진 {@link Random} 하나를 모든 쌍이 함께 쓰는 전략입니다. (테스트용)
+     *
+     * @param random 랜덤 생성기
+     * @return 난수 전략
+     */
+    static CombatRandom of(Random random) {
+        Objects.requireNonNull(random, "random");
+        return (attackerId, victimId) -> random.nextDouble();
+    }
+}
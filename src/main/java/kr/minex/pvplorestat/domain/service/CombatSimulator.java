@@ -0,0 +1,478 @@
+package kr.minex.pvplorestat.domain.service;
+
+import kr.minex.pvplorestat.domain.model.CombatProfile;
+import kr.minex.pvplorestat.domain.model.ItemStats;
+
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 몬테카를로 전투 시뮬레이터
+ * <p>
+ * 두 스탯 구성으로 "공격자가 피해자를 쓰러뜨릴 때까지 때리는" 전투를 여러 번 반복해
+ * DPS, 처치 시간(TTK) 분위수, 치명타/회피 비율, 피흡수 회복량을 집계합니다.
+ * 타격마다 {@link DamageCalculator}로 계산하므로 실제 전투와 같은 공식을 씁니다.
+ * </p>
+ * <p>
+ * 전투는 {@link #BATCH_FIGHTS}판 단위로 나누어 Fork/Join 풀에서 병렬로 실행합니다.
+ * 묶음마다 {@link SplittableRandom}을 나누어 주므로, 같은 시드라면 풀의 크기나 실행 순서와 상관없이 결과가 같습니다.
+ * Bukkit 의존성이 없어 어느 스레드에서나 실행할 수 있습니다.
+ * </p>
+ * <p>
+ * 바닐라 방어구, 인챈트, 공격 쿨다운은 반영하지 않습니다. 플러그인 스탯만으로 비교하는 용도입니다.
+ * </p>
+ *
+ * @author Minex
+ * @since 1.0.0
+ */
+public final class CombatSimulator {
+
+    /**
+     * 한 판의 최대 타격 수 (넘으면 처치하지 못한 것으로 집계)
+     */
+    public static final int MAX_HITS_PER_FIGHT = 1_000;
+
+    /**
+     * 한 작업이 나누지 않고 처리하는 전투 수
+     */
+    static final int BATCH_FIGHTS = 4_096;
+
+    private final DamageCalculator.Config config;
+    private final ForkJoinPool pool;
+
+    /**
+     * @param config 데미지 계산 설정
+     * @param pool   전투를 실행할 Fork/Join 풀
+     */
+    public CombatSimulator(DamageCalculator.Config config, ForkJoinPool pool) {
+        this.config = Objects.requireNonNull(config, "config");
+        this.pool = Objects.requireNonNull(pool, "pool");
+    }
+
+    /**
+     * 시뮬레이션을 풀에서 비동기로 실행합니다.
+     *
+     * @param scenario 시뮬레이션 조건
+     * @return 풀 스레드에서 완료되는 결과
+     */
+    public CompletableFuture<Report> simulate(Scenario scenario) {
+        Objects.requireNonNull(scenario, "scenario");
+        return CompletableFuture.supplyAsync(() -> run(scenario), pool);
+    }
+
+    /**
+     * 시뮬레이션을 실행하고 끝날 때까지 기다립니다. 나뉜 작업은 풀에서 실행됩니다.
+     *
+     * @param scenario 시뮬레이션 조건
+     * @return 결과
+     */
+    public Report run(Scenario scenario) {
+        long start = System.nanoTime();
+        // 전투 계수는 불변이므로 모든 작업이 공유
+        DamageCalculator prototype = new DamageCalculator(config);
+        CombatProfile attacker = prototype.profile(scenario.getAttacker());
+        CombatProfile victim = prototype.profile(scenario.getVictim());
+
+        Batch root = new Batch(scenario, attacker, victim, 0, scenario.getFights(),
+                new SplittableRandom(scenario.getSeed()));
+        // 풀 스레드라면 그 자리에서 나누고, 아니면 풀에 넘기고 기다림
+        Tally tally = Thread.currentThread() instanceof ForkJoinWorkerThread worker && worker.getPool() == pool
+                ? root.invoke()
+                : pool.invoke(root);
+        return new Report(scenario, tally, System.nanoTime() - start);
+    }
+
+    /**
+     * 전투 범위 [from, to)를 처리하는 작업
+     * <p>
+     * 범위를 나눌 때 오른쪽 절반에 {@link SplittableRandom#split()}으로 새 난수열을 줍니다.
+     * 나누는 방식이 전투 수로만 정해지므로 어느 스레드가 실행하든 같은 난수열을 받습니다.
+     * </p>
+     */
+    private final class Batch extends RecursiveTask<Tally> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Scenario scenario;
+        private final CombatProfile attacker;
+        private final CombatProfile victim;
+        private final int from;
+        private final int to;
+        private final SplittableRandom random;
+
+        private Batch(Scenario scenario, CombatProfile attacker, CombatProfile victim, int from, int to,
+                      SplittableRandom random) {
+            this.scenario = scenario;
+            this.attacker = attacker;
+            this.victim = victim;
+            this.from = from;
+            this.to = to;
+            this.random = random;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (to - from <= BATCH_FIGHTS) {
+                return fight();
+            }
+            int mid = (from + to) >>> 1;
+            Batch right = new Batch(scenario, attacker, victim, mid, to, random.split());
+            Batch left = new Batch(scenario, attacker, victim, from, mid, random);
+            right.fork();
+            Tally tally = left.compute();
+            tally.add(right.join());
+            return tally;
+        }
+
+        private Tally fight() {
+            SplittableRandom stream = random;
+            DamageCalculator calculator = new DamageCalculator(config, (attackerId, victimId) -> stream.nextDouble());
+            DamageCalculator.Outcome out = new DamageCalculator.Outcome();
+            double baseDamage = scenario.getBaseDamage();
+            Tally tally = new Tally();
+
+            for (int i = from; i < to; i++) {
+                double health = scenario.getVictimHealth();
+                int hits = 0;
+                while (health > 0 && hits < MAX_HITS_PER_FIGHT) {
+                    calculator.resolve(baseDamage, attacker, victim, out);
+                    hits++;
+                    if (out.isDodged()) {
+                        tally.dodges++;
+                        continue;
+                    }
+                    if (out.isCritical()) {
+                        tally.criticals++;
+                    }
+                    health -= out.getFinalDamage();
+                    tally.damage += out.getFinalDamage();
+                    tally.lifesteal += out.getLifestealAmount();
+                }
+                tally.hits += hits;
+                if (health <= 0) {
+                    tally.hitsToKill[hits]++;
+                }
+            }
+            return tally;
+        }
+    }
+
+    /**
+     * 작업별 집계 (작업 안에서만 쓰고 합칠 때 한 번 더함)
+     */
+    private static final class Tally {
+        private long hits;
+        private long dodges;
+        private long criticals;
+        private double damage;
+        private double lifesteal;
+        private final long[] hitsToKill = new long[MAX_HITS_PER_FIGHT + 1];
+
+        private void add(Tally other) {
+            hits += other.hits;
+            dodges += other.dodges;
+            criticals += other.criticals;
+            damage += other.damage;
+            lifesteal += other.lifesteal;
+            for (int i = 0; i < hitsToKill.length; i++) {
+                hitsToKill[i] += other.hitsToKill[i];
+            }
+        }
+    }
+
+    /**
+     * 시뮬레이션 조건 (불변)
+     */
+    public static final class Scenario {
+
+        /**
+         * 기본 무기 데미지 (다이아몬드 검)
+         */
+        public static final double DEFAULT_BASE_DAMAGE = 7.0;
+
+        /**
+         * 기본 초당 타격 수 (검의 공격 속도)
+         */
+        public static final double DEFAULT_HITS_PER_SECOND = 1.6;
+
+        /**
+         * 기본 전투 수
+         */
+        public static final int DEFAULT_FIGHTS = 100_000;
+
+        /**
+         * 최대 전투 수
+         */
+        public static final int MAX_FIGHTS = 10_000_000;
+
+        private final ItemStats attacker;
+        private final ItemStats victim;
+        private final double baseDamage;
+        private final double victimHealth;
+        private final double hitsPerSecond;
+        private final int fights;
+        private final long seed;
+
+        private Scenario(Builder builder) {
+            this.attacker = builder.attacker;
+            this.victim = builder.victim;
+            this.baseDamage = builder.baseDamage;
+            this.victimHealth = builder.victimHealth;
+            this.hitsPerSecond = builder.hitsPerSecond;
+            this.fights = builder.fights;
+            this.seed = builder.seed;
+        }
+
+        /**
+         * 빌더를 생성합니다.
+         *
+         * @param attacker 공격자 스탯 총합
+         * @param victim   피해자 스탯 총합
+         * @return 빌더
+         */
+        public static Builder builder(ItemStats attacker, ItemStats victim) {
+            return new Builder(attacker, victim);
+        }
+
+        public ItemStats getAttacker() {
+            return attacker;
+        }
+
+        public ItemStats getVictim() {
+            return victim;
+        }
+
+        public double getBaseDamage() {
+            return baseDamage;
+        }
+
+        public double getVictimHealth() {
+            return victimHealth;
+        }
+
+        public double getHitsPerSecond() {
+            return hitsPerSecond;
+        }
+
+        public int getFights() {
+            return fights;
+        }
+
+        public long getSeed() {
+            return seed;
+        }
+
+        /**
+         * Scenario 빌더
+         */
+        public static final class Builder {
+            private final ItemStats attacker;
+            private final ItemStats victim;
+            private double baseDamage = DEFAULT_BASE_DAMAGE;
+            private double victimHealth;
+            private double hitsPerSecond = DEFAULT_HITS_PER_SECOND;
+            private int fights = DEFAULT_FIGHTS;
+            private long seed = System.nanoTime();
+
+            private Builder(ItemStats attacker, ItemStats victim) {
+                this.attacker = Objects.requireNonNull(attacker, "attacker");
+                this.victim = Objects.requireNonNull(victim, "victim");
+                this.victimHealth = 20.0 + victim.getHealth();
+            }
+
+            /**
+             * 타격당 기본 데미지 (무기 데미지)
+             */
+            public Builder baseDamage(double baseDamage) {
+                this.baseDamage = baseDamage;
+                return this;
+            }
+
+            /**
+             * 피해자의 최대 체력 (기본값: 20 + 피해자 체력 스탯)
+             */
+            public Builder victimHealth(double victimHealth) {
+                this.victimHealth = victimHealth;
+                return this;
+            }
+
+            /**
+             * 초당 타격 수
+             */
+            public Builder hitsPerSecond(double hitsPerSecond) {
+                this.hitsPerSecond = hitsPerSecond;
+                return this;
+            }
+
+            /**
+             * 반복할 전투 수
+             */
+            public Builder fights(int fights) {
+                this.fights = fights;
+                return this;
+            }
+
+            /**
+             * 난수 시드 (같은 시드와 조건이면 같은 결과)
+             */
+            public Builder seed(long seed) {
+                this.seed = seed;
+                return this;
+            }
+
+            /**
+             * @throws IllegalArgumentException 값이 범위를 벗어났을 때
+             */
+            public Scenario build() {
+                if (!(baseDamage >= 0) || Double.isInfinite(baseDamage)) {
+                    throw new IllegalArgumentException("baseDamage는 0 이상의 유한한 값이어야 합니다: " + baseDamage);
+                }
+                if (!(victimHealth > 0) || Double.isInfinite(victimHealth)) {
+                    throw new IllegalArgumentException("victimHealth는 0보다 큰 유한한 값이어야 합니다: " + victimHealth);
+                }
+                if (!(hitsPerSecond > 0) || Double.isInfinite(hitsPerSecond)) {
+                    throw new IllegalArgumentException("hitsPerSecond는 0보다 큰 유한한 값이어야 합니다: " + hitsPerSecond);
+                }
+                if (fights <= 0 || fights > MAX_FIGHTS) {
+                    throw new IllegalArgumentException("fights는 1 이상 " + MAX_FIGHTS + " 이하여야 합니다: " + fights);
+                }
+                return new Scenario(this);
+            }
+        }
+    }
+
+    /**
+     * 시뮬레이션 결과 (불변)
+     */
+    public static final class Report {
+        private final Scenario scenario;
+        private final long hits;
+        private final long dodges;
+        private final long criticals;
+        private final double damage;
+        private final double lifesteal;
+        private final long[] hitsToKill;
+        private final long kills;
+        private final long elapsedNanos;
+
+        private Report(Scenario scenario, Tally tally, long elapsedNanos) {
+            this.scenario = scenario;
+            this.hits = tally.hits;
+            this.dodges = tally.dodges;
+            this.criticals = tally.criticals;
+            this.damage = tally.damage;
+            this.lifesteal = tally.lifesteal;
+            this.hitsToKill = tally.hitsToKill.clone();
+            long total = 0;
+            for (long count : hitsToKill) {
+                total += count;
+            }
+            this.kills = total;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public Scenario getScenario() {
+            return scenario;
+        }
+
+        /**
+         * 전체 타격 수 ({@link DamageCalculator} 호출 수)
+         */
+        public long getHits() {
+            return hits;
+        }
+
+        /**
+         * {@link CombatSimulator#MAX_HITS_PER_FIGHT 최대 타격 수} 안에 처치한 전투 수
+         */
+        public long getKills() {
+            return kills;
+        }
+
+        /**
+         * 처치한 전투의 비율 (0-1)
+         */
+        public double getKillRate() {
+            return (double) kills / scenario.getFights();
+        }
+
+        /**
+         * 회피된 타격의 비율 (0-1)
+         */
+        public double getDodgeRate() {
+            return hits == 0 ? 0 : (double) dodges / hits;
+        }
+
+        /**
+         * 회피되지 않은 타격 중 치명타의 비율 (0-1)
+         */
+        public double getCriticalRate() {
+            long landed = hits - dodges;
+            return landed == 0 ? 0 : (double) criticals / landed;
+        }
+
+        /**
+         * 타격당 평균 데미지 (회피 포함)
+         */
+        public double getDamagePerHit() {
+            return hits == 0 ? 0 : damage / hits;
+        }
+
+        /**
+         * 초당 데미지
+         */
+        public double getDps() {
+            return getDamagePerHit() * scenario.getHitsPerSecond();
+        }
+
+        /**
+         * 피흡수로 초당 회복하는 체력 (최대 체력 제한 미적용)
+         */
+        public double getLifestealPerSecond() {
+            return hits == 0 ? 0 : lifesteal / hits * scenario.getHitsPerSecond();
+        }
+
+        /**
+         * 처치까지 필요한 타격 수의 분위수입니다.
+         *
+         * @param percentile 분위 (0-100)
+         * @return 타격 수, 해당 분위의 전투가 처치되지 않았으면 -1
+         */
+        public int getHitsToKill(double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("percentile은 0 이상 100 이하여야 합니다: " + percentile);
+            }
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * scenario.getFights()));
+            long seen = 0;
+            for (int i = 0; i < hitsToKill.length; i++) {
+                seen += hitsToKill[i];
+                if (seen >= rank) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * 처치 시간(첫 타격부터 마지막 타격까지)의 분위수입니다.
+         *
+         * @param percentile 분위 (0-100)
+         * @return 초, 해당 분위의 전투가 처치되지 않았으면 {@link Double#NaN}
+         */
+        public double getTimeToKill(double percentile) {
+            int hitCount = getHitsToKill(percentile);
+            return hitCount < 0 ? Double.NaN : (hitCount - 1) / scenario.getHitsPerSecond();
+        }
+
+        /**
+         * 시뮬레이션에 걸린 시간 (나노초)
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+    }
+}
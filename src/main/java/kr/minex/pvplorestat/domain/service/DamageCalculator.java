@@ -1,9 +1,12 @@
 package kr.minex.pvplorestat.domain.service;
 
+import kr.minex.pvplorestat.domain.model.CombatProfile;
 import kr.minex.pvplorestat.domain.model.ItemStats;
+import kr.minex.pvplorestat.domain.model.PlayerStats;
 
+import java.util.Objects;
 import java.util.Random;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.UUID;
 
 /**
  * 데미지 계산 도메인 서비스
@@ -18,15 +21,16 @@ import java.util.concurrent.ThreadLocalRandom;
 public class DamageCalculator {
 
     private final Config config;
-    private final Random random;
+    private final CombatRandom random;
 
     /**
-     * 기본 Random으로 DamageCalculator를 생성합니다.
+     * 스레드별 난수({@link CombatRandom#threadLocal()})로 DamageCalculator를 생성합니다.
+     * 어느 스레드에서 계산해도 안전합니다.
      *
      * @param config 계산 설정
      */
     public DamageCalculator(Config config) {
-        this(config, ThreadLocalRandom.current());
+        this(config, CombatRandom.threadLocal());
     }
 
     /**
@@ -36,8 +40,19 @@ public class DamageCalculator {
      * @param random 랜덤 생성기
      */
     public DamageCalculator(Config config, Random random) {
+        this(config, CombatRandom.of(random));
+    }
+
+    /**
+     * 지정된 난수 전략으로 DamageCalculator를 생성합니다.
+     * {@link CombatRandom#seeded(long)}를 쓰면 전투를 같은 순서로 다시 재현할 수 있습니다.
+     *
+     * @param config 계산 설정
+     * @param random 난수 전략
+     */
+    public DamageCalculator(Config config, CombatRandom random) {
         this.config = config;
-        this.random = random;
+        this.random = Objects.requireNonNull(random, "random");
     }
 
     /**
@@ -49,80 +64,105 @@ public class DamageCalculator {
      * @return 계산 결과
      */
     public Result calculate(double baseDamage, ItemStats attackerStats, ItemStats victimStats) {
+        return calculate(baseDamage, profile(attackerStats), profile(victimStats));
+    }
+
+    /**
+     * 미리 만든 전투 계수로 데미지를 계산합니다.
+     * <p>
+     * 나눗셈은 계수를 만들 때 끝났으므로 타격마다 덧셈 몇 번과 난수 두 번(회피, 치명타)만 남습니다.
+     * 결과는 스탯으로 계산할 때와 비트 단위로 같습니다.
+     * </p>
+     *
+     * @param baseDamage 기본 데미지
+     * @param attacker   공격자 전투 계수
+     * @param victim     피해자 전투 계수
+     * @return 계산 결과
+     */
+    public Result calculate(double baseDamage, CombatProfile attacker, CombatProfile victim) {
+        return resolve(baseDamage, attacker, victim, new Outcome()).toResult();
+    }
+
+    /**
+     * 미리 만든 전투 계수로 데미지를 계산해 재사용 객체에 담습니다. 객체를 새로 만들지 않습니다.
+     * <p>
+     * 전투 리스너처럼 타격마다 호출되는 경로용입니다. {@link #calculate(double, CombatProfile, CombatProfile)}와
+     * 같은 계산이며 결과도 같습니다.
+     * </p>
+     *
+     * @param baseDamage 기본 데미지
+     * @param attacker   공격자 전투 계수
+     * @param victim     피해자 전투 계수
+     * @param out        결과를 덮어쓸 객체
+     * @return {@code out}
+     */
+    public Outcome resolve(double baseDamage, CombatProfile attacker, CombatProfile victim, Outcome out) {
         // 1. 회피 체크 (가장 먼저)
-        boolean dodged = checkDodge(victimStats.getDodge());
-        if (dodged) {
-            return Result.dodged();
+        UUID attackerId = attacker.getOwner();
+        UUID victimId = victim.getOwner();
+        if (roll(victim.getDodgeChance(), attackerId, victimId)) {
+            return out.set(0, false, 0, 0, true);
         }
 
         // 2. 공격력 적용
-        double damage = baseDamage + (attackerStats.getDamage() / config.damageDivisor);
+        double damage = baseDamage + attacker.getFlatBonus();
 
         // 3. 치명타 체크 및 적용
-        boolean critical = checkCritical(attackerStats.getCritChance());
+        boolean critical = roll(attacker.getCritChance(), attackerId, victimId);
         double criticalBonus = 0;
         if (critical) {
-            criticalBonus = attackerStats.getCritDamage() / config.critDamageDivisor;
+            criticalBonus = attacker.getCritBonus();
             damage += criticalBonus;
         }
 
         // 4. 방어력 적용
-        double defenseReduction = victimStats.getDefense() / config.defenseDivisor;
-        damage -= defenseReduction;
+        damage -= victim.getDefenseReduction();
 
         // 5. 최소 데미지 0 보장
         damage = Math.max(0, damage);
 
         // 6. 피흡수 계산
-        double lifesteal = calculateLifesteal(damage, attackerStats.getLifesteal());
+        double lifesteal = damage > 0 ? damage * attacker.getLifestealFraction() : 0;
 
-        return new Result(damage, critical, criticalBonus, lifesteal, false);
+        return out.set(damage, critical, criticalBonus, lifesteal, false);
     }
 
     /**
-     * 회피 발동 여부를 체크합니다.
+     * 스탯으로 이 계산기의 설정에 맞는 전투 계수를 만듭니다.
      *
-     * @param dodgeChance 회피율 (0-100)
-     * @return 회피 성공 시 true
+     * @param stats 스탯 총합
+     * @return 전투 계수
      */
-    private boolean checkDodge(double dodgeChance) {
-        if (dodgeChance <= 0) {
-            return false;
-        }
-        if (dodgeChance >= 100) {
-            return true;
-        }
-        return random.nextDouble() * 100 < dodgeChance;
+    public CombatProfile profile(ItemStats stats) {
+        return CombatProfile.of(stats, config.damageDivisor, config.defenseDivisor, config.critDamageDivisor);
     }
 
     /**
-     * 치명타 발동 여부를 체크합니다.
+     * 플레이어 스탯에 만들어 둔 전투 계수를 가져옵니다. 없거나 설정이 바뀌었으면 새로 만듭니다.
      *
-     * @param critChance 치명타 확률 (0-100)
-     * @return 치명타 발동 시 true
+     * @param stats 플레이어 스탯
+     * @return 전투 계수
      */
-    private boolean checkCritical(double critChance) {
-        if (critChance <= 0) {
-            return false;
-        }
-        if (critChance >= 100) {
-            return true;
-        }
-        return random.nextDouble() * 100 < critChance;
+    public CombatProfile profile(PlayerStats stats) {
+        return stats.getCombatProfile(config.damageDivisor, config.defenseDivisor, config.critDamageDivisor);
     }
 
     /**
-     * 피흡수 회복량을 계산합니다.
+     * 확률(%)로 발동 여부를 정합니다. 0 이하면 항상 실패, 100 이상이면 항상 성공이며 이때는 난수를 뽑지 않습니다.
      *
-     * @param damage          최종 데미지
-     * @param lifestealPercent 피흡수율 (0-100)
-     * @return 회복량
+     * @param chance     확률 (0-100)
+     * @param attackerId 공격자 UUID
+     * @param victimId   피해자 UUID
+     * @return 발동 시 true
      */
-    private double calculateLifesteal(double damage, double lifestealPercent) {
-        if (lifestealPercent <= 0 || damage <= 0) {
-            return 0;
+    private boolean roll(double chance, UUID attackerId, UUID victimId) {
+        if (chance <= 0) {
+            return false;
         }
-        return damage * (lifestealPercent / 100.0);
+        if (chance >= 100) {
+            return true;
+        }
+        return random.nextDouble(attackerId, victimId) * 100 < chance;
     }
 
     /**
@@ -168,10 +208,82 @@ public class DamageCalculator {
         }
     }
 
+    /**
+     * 재사용하는 데미지 계산 결과 (가변)
+     * <p>
+     * 타격마다 {@link Result}를 만들지 않도록 스레드마다 하나를 두고 덮어씁니다.
+     * 같은 객체로 다음 계산을 하기 전까지만 유효하며, 다른 스레드와 공유하면 안 됩니다.
+     * </p>
+     */
+    public static final class Outcome {
+        private double finalDamage;
+        private boolean critical;
+        private double criticalBonusDamage;
+        private double lifestealAmount;
+        private boolean dodged;
+
+        private Outcome set(double finalDamage, boolean critical, double criticalBonusDamage,
+                            double lifestealAmount, boolean dodged) {
+            this.finalDamage = finalDamage;
+            this.critical = critical;
+            this.criticalBonusDamage = criticalBonusDamage;
+            this.lifestealAmount = lifestealAmount;
+            this.dodged = dodged;
+            return this;
+        }
+
+        /**
+         * 최종 데미지 (0 이상)
+         */
+        public double getFinalDamage() {
+            return finalDamage;
+        }
+
+        /**
+         * 치명타 발동 여부
+         */
+        public boolean isCritical() {
+            return critical;
+        }
+
+        /**
+         * 치명타 보너스 데미지
+         */
+        public double getCriticalBonusDamage() {
+            return criticalBonusDamage;
+        }
+
+        /**
+         * 피흡수 회복량
+         */
+        public double getLifestealAmount() {
+            return lifestealAmount;
+        }
+
+        /**
+         * 회피 여부
+         */
+        public boolean isDodged() {
+            return dodged;
+        }
+
+        /**
+         * 현재 값을 불변 {@link Result}로 복사합니다.
+         *
+         * @return 계산 결과
+         */
+        public Result toResult() {
+            return dodged ? Result.dodged() : new Result(finalDamage, critical, criticalBonusDamage, lifestealAmount, false);
+        }
+    }
+
     /**
      * 데미지 계산 결과
      */
     public static class Result {
+
+        private static final Result DODGED = new Result(0, false, 0, 0, true);
+
         private final double finalDamage;
         private final boolean critical;
         private final double criticalBonusDamage;
@@ -193,7 +305,7 @@ public class DamageCalculator {
          * @return 회피 결과
          */
         public static Result dodged() {
-            return new Result(0, false, 0, 0, true);
+            return DODGED;
         }
 
         /**
@@ -0,0 +1,63 @@
+package kr.minex.pvplorestat.domain.service;
+
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 공격자/피해자 쌍마다 시드 고정 난수열을 두는 전투 난수 전략
+ * <p>
+ * 쌍의 난수열은 처음 마주칠 때 (시드, 공격자, 피해자)로 정해지는 {@link SplittableRandom}으로 만듭니다.
+ * 마주친 순서와 상관없이 같은 쌍은 항상 같은 난수열을 받습니다.
+ * </p>
+ * <p>
+ * 공격자 → 피해자 2단계 맵이라 조회할 때 키 객체를 만들지 않습니다.
+ * 한 쌍의 난수열은 동시에 여러 스레드에서 뽑을 수 있도록 잠금으로 보호합니다.
+ * </p>
+ *
+ * @author Minex
+ * @since 1.0.0
+ */
+final class SeededCombatRandom implements CombatRandom {
+
+    private final long seed;
+    private final ConcurrentMap<UUID, ConcurrentMap<UUID, SplittableRandom>> streams = new ConcurrentHashMap<>();
+
+    SeededCombatRandom(long seed) {
+        this.seed = seed;
+    }
+
+    @Override
+    public double nextDouble(UUID attackerId, UUID victimId) {
+        ConcurrentMap<UUID, SplittableRandom> byVictim = streams.computeIfAbsent(attackerId,
+                id -> new ConcurrentHashMap<>());
+        SplittableRandom stream = byVictim.get(victimId);
+        if (stream == null) {
+            stream = byVictim.computeIfAbsent(victimId, id -> new SplittableRandom(pairSeed(attackerId, id)));
+        }
+        synchronized (stream) {
+            return stream.nextDouble();
+        }
+    }
+
+    /**
+     * 시드와 쌍의 UUID를 섞어 쌍의 시드를 만듭니다. (공격자와 피해자를 바꾸면 다른 값)
+     */
+    private long pairSeed(UUID attackerId, UUID victimId) {
+        long hash = mix(seed ^ attackerId.getMostSignificantBits());
+        hash = mix(hash ^ attackerId.getLeastSignificantBits());
+        hash = mix(hash ^ victimId.getMostSignificantBits());
+        return mix(hash ^ victimId.getLeastSignificantBits());
+    }
+
+    /**
+     * SplitMix64의 마무리 단계
+     */
+    private static long mix(long z) {
+        z += 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,115 @@
+package kr.minex.pvplorestat.infrastructure.cache;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BooleanSupplier;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * 스탯 재계산 대상(더티) 플레이어 추적기
+ * <p>
+ * 장비가 바뀔 수 있는 이벤트가 발생한 플레이어를 기록해 두고,
+ * 주기 태스크가 이 플레이어들만 다시 계산하도록 합니다.
+ * 먼저 표시된 플레이어가 먼저 처리되며, 스레드 안전하게 설계되었습니다.
+ * </p>
+ *
+ * @author Minex
+ * @since 1.0.0
+ */
+public class DirtyPlayerTracker {
+
+    /**
+     * 플레이어별 처음 표시된 시각 (System.nanoTime)
+     */
+    private final Map<UUID, Long> markedAt = new ConcurrentHashMap<>();
+    private final Queue<UUID> queue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 플레이어를 재계산 대상으로 표시합니다.
+     * 이미 표시된 플레이어는 처음 표시된 시각과 순서를 유지합니다.
+     *
+     * @param playerId 플레이어 UUID
+     */
+    public void markDirty(UUID playerId) {
+        if (playerId != null && markedAt.putIfAbsent(playerId, System.nanoTime()) == null) {
+            queue.add(playerId);
+        }
+    }
+
+    /**
+     * 재계산 대상을 표시된 순서대로 모두 꺼내 처리합니다.
+     *
+     * @param action 플레이어 UUID와 표시된 시각(System.nanoTime)을 받는 처리 함수
+     * @return 처리한 플레이어 수
+     */
+    public int drain(ObjLongConsumer<UUID> action) {
+        return drain(action, () -> true);
+    }
+
+    /**
+     * 재계산 대상을 표시된 순서대로 꺼내 처리합니다.
+     * <p>
+     * 매 플레이어를 꺼내기 전에 {@code canContinue}를 확인하고, false면 나머지는 남겨 둡니다.
+     * 꺼낸 플레이어는 목록에서 제거되며, 처리 중 다시 표시된 플레이어는 늦어도 다음 번에 처리됩니다.
+     * </p>
+     *
+     * @param action      플레이어 UUID와 표시된 시각(System.nanoTime)을 받는 처리 함수
+     * @param canContinue 다음 플레이어를 처리할지 여부
+     * @return 처리한 플레이어 수
+     */
+    public int drain(ObjLongConsumer<UUID> action, BooleanSupplier canContinue) {
+        int count = 0;
+        // 시작 시점의 대상 수만큼만 처리 (처리 중 다시 표시된 플레이어로 끝나지 않는 것을 방지)
+        int remaining = markedAt.size();
+        while (remaining > 0 && canContinue.getAsBoolean()) {
+            UUID playerId = queue.poll();
+            if (playerId == null) {
+                break;
+            }
+            Long marked = markedAt.remove(playerId);
+            if (marked == null) {
+                continue; // 이미 제거된 플레이어
+            }
+            action.accept(playerId, marked);
+            count++;
+            remaining--;
+        }
+        return count;
+    }
+
+    /**
+     * 플레이어를 재계산 대상에서 제거합니다. (퇴장 시)
+     * 대기열에 남은 항목은 꺼낼 때 건너뜁니다.
+     *
+     * @param playerId 플레이어 UUID
+     */
+    public void remove(UUID playerId) {
+        markedAt.remove(playerId);
+    }
+
+    /**
+     * 모든 재계산 대상을 제거합니다.
+     * <p>
+     * 대기열에서 꺼낸 플레이어만 시각 기록에서 지우므로, 동시에 표시된 플레이어가
+     * 시각 기록에만 남고 대기열에서 빠지는 일이 없습니다.
+     * </p>
+     */
+    public void clear() {
+        UUID playerId;
+        while ((playerId = queue.poll()) != null) {
+            markedAt.remove(playerId);
+        }
+    }
+
+    /**
+     * 재계산 대상 수를 반환합니다.
+     *
+     * @return 재계산 대상 수
+     */
+    public int size() {
+        return markedAt.size();
+    }
+}
@@ -0,0 +1,95 @@
+package kr.minex.pvplorestat.infrastructure.cache;
+
+import kr.minex.pvplorestat.domain.model.ItemStats;
+import kr.minex.pvplorestat.infrastructure.monitoring.PluginMetrics;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ItemStats 인터닝 테이블
+ * <p>
+ * 값이 같은 {@link ItemStats}를 하나의 인스턴스로 통일합니다.
+ * 서버의 스탯 조합은 많지 않으므로, 같은 장비는 같은 인스턴스를 공유하고 비교도 참조 비교로 끝납니다.
+ * </p>
+ * <p>
+ * 항목 수가 최대치에 도달하면 테이블을 비우고 다시 채웁니다.
+ * 이미 사용 중인 인스턴스는 그대로 유효하며, 이후 같은 값은 새 대표 인스턴스로 통일됩니다.
+ * 스레드 안전하게 설계되었습니다.
+ * </p>
+ *
+ * @author Minex
+ * @since 1.0.0
+ */
+public final class ItemStatsInterner {
+
+    private final int maxSize;
+    private final PluginMetrics metrics;
+    private final Map<ItemStats, ItemStats> table = new ConcurrentHashMap<>();
+
+    /**
+     * 인터닝 테이블을 생성합니다.
+     *
+     * @param maxSize 최대 항목 수 (1 이상)
+     * @param metrics 적중/실패를 기록할 메트릭 (보관 인스턴스 수는 사용하기 시작할 때
+     *                {@link PluginMetrics#bindStatsInternRetained}로 {@link #size()}를 연결)
+     */
+    public ItemStatsInterner(int maxSize, PluginMetrics metrics) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize는 1 이상이어야 합니다: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+    }
+
+    /**
+     * 값이 같은 대표 인스턴스를 반환합니다. 없으면 이 인스턴스를 대표로 등록합니다.
+     *
+     * @param stats 스탯
+     * @return 대표 인스턴스 (빈 스탯은 {@link ItemStats#empty()})
+     */
+    public ItemStats intern(ItemStats stats) {
+        if (stats == null || stats.isEmpty()) {
+            return ItemStats.empty();
+        }
+
+        ItemStats canonical = table.get(stats);
+        if (canonical != null) {
+            metrics.recordStatsInternHit();
+            return canonical;
+        }
+
+        metrics.recordStatsInternMiss();
+        if (table.size() >= maxSize) {
+            table.clear();
+        }
+        canonical = table.putIfAbsent(stats, stats);
+        return canonical != null ? canonical : stats;
+    }
+
+    /**
+     * 테이블을 비웁니다.
+     */
+    public void clear() {
+        table.clear();
+    }
+
+    /**
+     * 보관 중인 대표 인스턴스 수를 반환합니다.
+     *
+     * @return 항목 수
+     */
+    public int size() {
+        return table.size();
+    }
+
+    /**
+     * 최대 항목 수를 반환합니다.
+     *
+     * @return 최대 항목 수
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+}
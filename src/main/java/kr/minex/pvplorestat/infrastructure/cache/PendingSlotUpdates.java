@@ -0,0 +1,85 @@
+package kr.minex.pvplorestat.infrastructure.cache;
+
+import kr.minex.pvplorestat.domain.model.EquipmentSlot;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 플레이어별 대기 중인 장비 슬롯 갱신 비트마스크
+ * <p>
+ * 같은 틱에 여러 번 발생한 장비 이벤트를 슬롯 비트({@code 1 << slot.ordinal()})로 모아,
+ * 틱마다 슬롯당 한 번만 다시 파싱하도록 합니다.
+ * 플레이어의 첫 표시에서만 처리 작업을 예약하고, 이후 이벤트는 비트만 더합니다.
+ * 스레드 안전하게 설계되었습니다.
+ * </p>
+ *
+ * @author Minex
+ * @since 1.0.0
+ */
+public class PendingSlotUpdates {
+
+    // 마스크 값은 6비트 이하라 Integer 캐시 범위 안이므로 박싱해도 할당되지 않음
+    private final Map<UUID, Integer> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 슬롯의 비트를 반환합니다.
+     *
+     * @param slot 장비 슬롯
+     * @return 비트 ({@code 1 << slot.ordinal()})
+     */
+    public static int bit(EquipmentSlot slot) {
+        return 1 << slot.ordinal();
+    }
+
+    /**
+     * 슬롯 갱신을 대기 목록에 더합니다.
+     *
+     * @param playerId 플레이어 UUID
+     * @param slotMask 갱신할 슬롯 비트
+     * @return 대기 중인 갱신이 없었으면 true (호출자가 처리 작업을 예약해야 함), 기존 갱신에 합쳐졌으면 false
+     */
+    public boolean mark(UUID playerId, int slotMask) {
+        while (true) {
+            Integer previous = pending.putIfAbsent(playerId, slotMask);
+            if (previous == null) {
+                return true;
+            }
+            int merged = previous | slotMask;
+            if (merged == previous || pending.replace(playerId, previous, merged)) {
+                return false;
+            }
+            // 그 사이 처리 작업이 꺼내 갔거나 다른 비트가 더해졌으면 다시 시도
+        }
+    }
+
+    /**
+     * 플레이어의 대기 중인 슬롯 비트를 꺼냅니다.
+     *
+     * @param playerId 플레이어 UUID
+     * @return 슬롯 비트, 없으면 0
+     */
+    public int take(UUID playerId) {
+        Integer mask = pending.remove(playerId);
+        return mask != null ? mask : 0;
+    }
+
+    /**
+     * 플레이어의 대기 중인 갱신을 버립니다.
+     *
+     * @param playerId 플레이어 UUID
+     */
+    public void remove(UUID playerId) {
+        pending.remove(playerId);
+    }
+
+    /**
+     * 갱신을 기다리는 플레이어 수를 반환합니다.
+     *
+     * @return 플레이어 수
+     */
+    public int size() {
+        return pending.size();
+    }
+}
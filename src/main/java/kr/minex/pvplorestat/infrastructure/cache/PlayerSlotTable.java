@@ -0,0 +1,259 @@
+package kr.minex.pvplorestat.infrastructure.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
+
+/**
+ * 정수 인덱스 플레이어 슬롯 테이블
+ * <p>
+ * 플레이어마다 작은 정수 슬롯을 배정하고, 값을 고정 크기 배열에 보관합니다.
+ * 슬롯을 아는 호출자는 UUID 해시/비교 없이 배열의 volatile 읽기 한 번으로 값을 얻습니다.
+ * 퇴장으로 해제된 슬롯은 다음 플레이어에게 다시 배정됩니다.
+ * </p>
+ * <p>
+ * UUID로 접근하는 기존 호출자를 위해 UUID → 슬롯 보조 맵을 유지합니다.
+ * 용량을 넘는 플레이어는 슬롯 없이({@link #NO_SLOT}) 보조 값 맵에 보관됩니다.
+ * </p>
+ * <p>
+ * 슬롯에는 (주인, 값) 항목을 통째로 보관하므로, 읽는 쪽은 항목 하나로 주인 확인까지 끝냅니다.
+ * 읽기와 이미 슬롯이 있는 플레이어의 쓰기는 잠금 없이(CAS) 동작하고,
+ * 슬롯 배정/해제(접속, 퇴장)만 잠금 안에서 동작합니다.
+ * </p>
+ *
+ * @param <T> 보관할 값 타입
+ * @author Minex
+ * @since 1.0.0
+ */
+public final class PlayerSlotTable<T> {
+
+    /**
+     * 슬롯이 없음을 나타내는 값
+     */
+    public static final int NO_SLOT = -1;
+
+    private final AtomicReferenceArray<Entry<T>> entries;
+    private final Map<UUID, Integer> slots = new ConcurrentHashMap<>();
+    private final Map<UUID, T> overflow = new ConcurrentHashMap<>();
+
+    // 슬롯 배정 상태 (lock으로 보호)
+    private final Object lock = new Object();
+    private final int[] freeSlots;
+    private int freeCount;
+    private int nextUnused;
+
+    /**
+     * 슬롯 테이블을 생성합니다.
+     *
+     * @param capacity 슬롯 수 (1 이상)
+     */
+    public PlayerSlotTable(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity는 1 이상이어야 합니다: " + capacity);
+        }
+        this.entries = new AtomicReferenceArray<>(capacity);
+        this.freeSlots = new int[capacity];
+    }
+
+    /**
+     * 플레이어의 슬롯을 반환합니다.
+     *
+     * @param playerId 플레이어 UUID
+     * @return 슬롯, 배정되지 않았으면 {@link #NO_SLOT}
+     */
+    public int slotOf(UUID playerId) {
+        Integer slot = slots.get(playerId);
+        return slot != null ? slot : NO_SLOT;
+    }
+
+    /**
+     * 슬롯의 값을 반환합니다.
+     * <p>
+     * 슬롯은 해제 후 다른 플레이어에게 재배정될 수 있으므로,
+     * 호출자는 플레이어가 아직 접속해 있는 동안 얻은 슬롯만 사용해야 합니다.
+     * </p>
+     *
+     * @param slot 슬롯
+     * @return 값, 없으면 null
+     */
+    public T get(int slot) {
+        Entry<T> entry = entries.get(slot);
+        return entry != null ? entry.value : null;
+    }
+
+    /**
+     * 슬롯의 값이 주어진 플레이어의 것일 때만 반환합니다.
+     *
+     * @param slot     슬롯
+     * @param playerId 플레이어 UUID
+     * @return 값, 없거나 다른 플레이어의 슬롯이면 null
+     */
+    public T get(int slot, UUID playerId) {
+        Entry<T> entry = entries.get(slot);
+        return entry != null && entry.owner.equals(playerId) ? entry.value : null;
+    }
+
+    /**
+     * 플레이어의 값을 반환합니다.
+     *
+     * @param playerId 플레이어 UUID
+     * @return 값, 없으면 null
+     */
+    public T get(UUID playerId) {
+        Integer slot = slots.get(playerId);
+        if (slot == null) {
+            return overflow.get(playerId);
+        }
+        // 읽는 사이 슬롯이 해제되어 다른 플레이어에게 재배정되었으면 없는 것으로 처리
+        return get(slot, playerId);
+    }
+
+    /**
+     * 플레이어의 값을 저장합니다. 슬롯이 없으면 새로 배정합니다.
+     *
+     * @param playerId 플레이어 UUID
+     * @param value    값 (null 불가)
+     * @return 배정된 슬롯, 용량이 가득 찼으면 {@link #NO_SLOT}
+     */
+    public int put(UUID playerId, T value) {
+        Objects.requireNonNull(value, "value");
+        Entry<T> next = new Entry<>(playerId, value);
+
+        // 이미 슬롯이 있으면 잠금 없이 교체. 그 사이 해제/재배정되었으면 CAS가 실패하므로 잠금 경로로
+        Integer existing = slots.get(playerId);
+        if (existing != null) {
+            Entry<T> current = entries.get(existing);
+            if (current != null && current.owner.equals(playerId) && entries.compareAndSet(existing, current, next)) {
+                return existing;
+            }
+        }
+
+        synchronized (lock) {
+            int slot = acquire(playerId);
+            if (slot == NO_SLOT) {
+                overflow.put(playerId, value);
+                return NO_SLOT;
+            }
+            entries.set(slot, next);
+            return slot;
+        }
+    }
+
+    /**
+     * 플레이어의 값을 제거하고 슬롯을 해제합니다.
+     *
+     * @param playerId 플레이어 UUID
+     * @return 제거된 값, 없었으면 null
+     */
+    public T remove(UUID playerId) {
+        synchronized (lock) {
+            Integer slot = slots.remove(playerId);
+            if (slot == null) {
+                return overflow.remove(playerId);
+            }
+            Entry<T> previous = entries.getAndSet(slot, null);
+            freeSlots[freeCount++] = slot;
+            return previous != null ? previous.value : null;
+        }
+    }
+
+    /**
+     * 플레이어에게 값이 있는지 확인합니다.
+     *
+     * @param playerId 플레이어 UUID
+     * @return 있으면 true
+     */
+    public boolean contains(UUID playerId) {
+        return get(playerId) != null;
+    }
+
+    /**
+     * 모든 값을 제거하고 슬롯을 초기화합니다.
+     */
+    public void clear() {
+        synchronized (lock) {
+            for (int slot = 0; slot < nextUnused; slot++) {
+                entries.set(slot, null);
+            }
+            slots.clear();
+            overflow.clear();
+            freeCount = 0;
+            nextUnused = 0;
+        }
+    }
+
+    /**
+     * 값이 있는 플레이어 수를 반환합니다.
+     *
+     * @return 플레이어 수
+     */
+    public int size() {
+        return slots.size() + overflow.size();
+    }
+
+    /**
+     * 슬롯 수를 반환합니다.
+     *
+     * @return 슬롯 수
+     */
+    public int capacity() {
+        return entries.length();
+    }
+
+    /**
+     * 모든 값을 순회합니다.
+     *
+     * @param action 플레이어 UUID와 값을 받는 함수
+     */
+    public void forEach(BiConsumer<UUID, T> action) {
+        slots.forEach((playerId, slot) -> {
+            T value = get(slot, playerId);
+            if (value != null) {
+                action.accept(playerId, value);
+            }
+        });
+        overflow.forEach(action);
+    }
+
+    /**
+     * 모든 값을 복사한 맵을 반환합니다.
+     *
+     * @return UUID와 값의 맵
+     */
+    public Map<UUID, T> toMap() {
+        Map<UUID, T> result = new HashMap<>();
+        forEach(result::put);
+        return result;
+    }
+
+    /**
+     * 슬롯을 반환하거나 새로 배정합니다. 해제된 슬롯을 먼저 재사용합니다. (lock 안에서 호출)
+     */
+    private int acquire(UUID playerId) {
+        Integer existing = slots.get(playerId);
+        if (existing != null) {
+            return existing;
+        }
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else if (nextUnused < entries.length()) {
+            slot = nextUnused++;
+        } else {
+            return NO_SLOT;
+        }
+        slots.put(playerId, slot);
+        overflow.remove(playerId); // 용량 초과로 보조 맵에 있던 플레이어
+        return slot;
+    }
+
+    /**
+     * 슬롯 항목 (주인과 값을 한 번에 교체)
+     */
+    private record Entry<T>(UUID owner, T value) {
+    }
+}
@@ -1,11 +1,15 @@
 package kr.minex.pvplorestat.infrastructure.cache;
 
 import kr.minex.pvplorestat.domain.model.PlayerStats;
+import kr.minex.pvplorestat.infrastructure.monitoring.PluginMetrics;
 
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * 플레이어 스탯 캐시
@@ -13,24 +17,146 @@ import java.util.concurrent.ConcurrentHashMap;
  * 플레이어의 계산된 스탯을 메모리에 캐싱하여 빠른 접근을 제공합니다.
  * 스레드 안전하게 설계되었습니다.
  * </p>
+ * <p>
+ * 조회는 할당 없이 동작합니다. 캐시에 없는 플레이어는 공유된 빈 스탯 {@link #MISSING}을 반환하며,
+ * 적중/실패/저장/제거 횟수와 항목 수를 {@link PluginMetrics}에 기록합니다.
+ * </p>
+ * <p>
+ * 스탯은 {@link PlayerSlotTable}에 보관됩니다. 처음 저장할 때(접속 시) 플레이어에게 슬롯이 배정되고
+ * 제거할 때(퇴장 시) 해제됩니다. 저장할 때 받은 슬롯을 기억해 둔 호출자는 {@link #getBySlot(int, UUID)}로
+ * UUID 조회 없이 읽을 수 있습니다.
+ * </p>
+ * <p>
+ * 저장할 때 슬롯마다 전투 플래그(공격/방어 스탯 유무)를 함께 기록합니다.
+ * 전투 리스너는 {@link #getCombatFlags(UUID)}로 스탯을 꺼내지 않고도 결과가 바뀌지 않는 타격을 걸러낼 수 있습니다.
+ * </p>
  *
  * @author Minex
  * @since 1.0.0
  */
 public class PlayerStatsCache {
 
-    private final Map<UUID, PlayerStats> cache = new ConcurrentHashMap<>();
+    /**
+     * 캐시에 없는 플레이어에게 반환하는 공유 빈 스탯 (플레이어 UUID는 nil UUID)
+     */
+    public static final PlayerStats MISSING = PlayerStats.empty(new UUID(0L, 0L));
+
+    /**
+     * 기본 슬롯 수
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * 전투 플래그: 스탯이 저장되어 있어 플래그가 유효함 (없으면 플래그를 믿지 말고 스탯을 조회)
+     */
+    public static final int COMBAT_KNOWN = 1;
+
+    /**
+     * 전투 플래그: 공격 스탯이 있음 ({@link PlayerStats#hasOffensiveStats()})
+     */
+    public static final int COMBAT_OFFENSIVE = 1 << 1;
+
+    /**
+     * 전투 플래그: 방어 스탯이 있음 ({@link PlayerStats#hasDefensiveStats()})
+     */
+    public static final int COMBAT_DEFENSIVE = 1 << 2;
+
+    private final PlayerSlotTable<PlayerStats> cache;
+    private final AtomicIntegerArray combatFlags;
+    private final PluginMetrics metrics;
+
+    /**
+     * 자체 메트릭으로 캐시를 생성합니다.
+     */
+    public PlayerStatsCache() {
+        this(new PluginMetrics());
+    }
+
+    /**
+     * 기본 슬롯 수로 캐시를 생성합니다.
+     *
+     * @param metrics 적중/실패/저장/제거 횟수와 항목 수를 기록할 메트릭
+     */
+    public PlayerStatsCache(PluginMetrics metrics) {
+        this(metrics, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * 캐시를 생성합니다.
+     *
+     * @param metrics  적중/실패/저장/제거 횟수와 항목 수를 기록할 메트릭
+     * @param capacity 슬롯 수 (넘는 플레이어는 슬롯 없이 보관)
+     */
+    public PlayerStatsCache(PluginMetrics metrics, int capacity) {
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+        this.cache = new PlayerSlotTable<>(capacity);
+        this.combatFlags = new AtomicIntegerArray(cache.capacity());
+        metrics.bindPlayerStatsCacheSize(cache::size);
+    }
 
     /**
      * 플레이어 스탯을 캐시에 저장합니다.
      *
      * @param stats 저장할 스탯
+     * @return 플레이어의 슬롯, 슬롯 없이 저장했거나 저장하지 않았으면 {@link PlayerSlotTable#NO_SLOT}
+     */
+    public int put(PlayerStats stats) {
+        if (stats == null || stats == MISSING) {
+            return PlayerSlotTable.NO_SLOT;
+        }
+        int slot = cache.put(stats.getPlayerId(), stats);
+        if (slot != PlayerSlotTable.NO_SLOT) {
+            combatFlags.set(slot, combatFlagsOf(stats));
+        }
+        metrics.recordPlayerStatsCachePut();
+        return slot;
+    }
+
+    private static int combatFlagsOf(PlayerStats stats) {
+        int flags = COMBAT_KNOWN;
+        if (stats.hasOffensiveStats()) {
+            flags |= COMBAT_OFFENSIVE;
+        }
+        if (stats.hasDefensiveStats()) {
+            flags |= COMBAT_DEFENSIVE;
+        }
+        return flags;
+    }
+
+    /**
+     * 플레이어의 전투 플래그를 조회합니다. 스탯을 꺼내지 않으며 적중/실패 횟수도 기록하지 않습니다.
+     *
+     * @param playerId 플레이어 UUID
+     * @return {@link #COMBAT_KNOWN}, {@link #COMBAT_OFFENSIVE}, {@link #COMBAT_DEFENSIVE}의 조합
+     *         (슬롯이 없거나 무효화되었으면 0)
+     */
+    public int getCombatFlags(UUID playerId) {
+        int slot = cache.slotOf(playerId);
+        return slot == PlayerSlotTable.NO_SLOT ? 0 : combatFlags.get(slot);
+    }
+
+    /**
+     * 슬롯으로 플레이어의 전투 플래그를 조회합니다. UUID 조회 없이 배열에서 바로 읽습니다.
+     *
+     * @param slot     {@link #put(PlayerStats)}가 반환한 슬롯
+     * @param playerId 슬롯의 주인이어야 할 플레이어 UUID
+     * @return 전투 플래그 (슬롯이 없거나 다른 플레이어에게 넘어갔으면 0)
+     */
+    public int getCombatFlags(int slot, UUID playerId) {
+        if (slot < 0 || cache.get(slot, playerId) == null) {
+            return 0;
+        }
+        return combatFlags.get(slot);
+    }
+
+    /**
+     * 모든 전투 플래그를 무효화합니다. 스탯은 그대로 두며, 다음에 저장할 때 플래그가 다시 기록됩니다.
+     * 저장된 스탯이 곧 다시 계산될 때(스탯에 영향을 주는 설정 리로드) 호출합니다.
      */
-    public void put(PlayerStats stats) {
-        if (stats == null) {
-            return;
+    public void invalidateCombatFlags() {
+        for (int i = 0; i < combatFlags.length(); i++) {
+            combatFlags.set(i, 0);
         }
-        cache.put(stats.getPlayerId(), stats);
     }
 
     /**
@@ -40,17 +166,109 @@ public class PlayerStatsCache {
      * @return 스탯, 없으면 빈 Optional
      */
     public Optional<PlayerStats> get(UUID playerId) {
-        return Optional.ofNullable(cache.get(playerId));
+        return Optional.ofNullable(getOrNull(playerId));
+    }
+
+    /**
+     * 플레이어 스탯을 할당 없이 조회합니다.
+     *
+     * @param playerId 플레이어 UUID
+     * @return 스탯, 없으면 null
+     */
+    public PlayerStats getOrNull(UUID playerId) {
+        PlayerStats stats = cache.get(playerId);
+        if (stats != null) {
+            metrics.recordPlayerStatsCacheHit();
+        } else {
+            metrics.recordPlayerStatsCacheMiss();
+        }
+        return stats;
+    }
+
+    /**
+     * 플레이어의 슬롯을 반환합니다.
+     *
+     * @param playerId 플레이어 UUID
+     * @return 슬롯, 없으면 {@link PlayerSlotTable#NO_SLOT}
+     */
+    public int slotOf(UUID playerId) {
+        return cache.slotOf(playerId);
+    }
+
+    /**
+     * 슬롯으로 플레이어 스탯을 조회합니다. UUID 해시/비교 없이 배열에서 바로 읽습니다.
+     * 슬롯은 플레이어가 접속해 있는 동안 {@link #slotOf(UUID)}로 얻은 값이어야 합니다.
+     *
+     * @param slot 슬롯
+     * @return 스탯 (없으면 공유 빈 스탯 {@link #MISSING})
+     */
+    public PlayerStats getBySlot(int slot) {
+        PlayerStats stats = slot >= 0 ? cache.get(slot) : null;
+        if (stats != null) {
+            metrics.recordPlayerStatsCacheHit();
+            return stats;
+        }
+        metrics.recordPlayerStatsCacheMiss();
+        return MISSING;
+    }
+
+    /**
+     * 슬롯으로 플레이어 스탯을 조회하되, 슬롯이 그 플레이어의 것일 때만 반환합니다.
+     * 슬롯은 {@link #put(PlayerStats)}가 반환한 값입니다. 플레이어가 퇴장해 슬롯이 다른 플레이어에게 넘어갔으면 null입니다.
+     * 적중했을 때만 횟수를 기록하므로, null이면 호출자가 UUID 경로로 다시 조회하면 됩니다.
+     *
+     * @param slot     슬롯
+     * @param playerId 플레이어 UUID
+     * @return 스탯, 없으면 null
+     */
+    public PlayerStats getBySlot(int slot, UUID playerId) {
+        PlayerStats stats = slot >= 0 ? cache.get(slot, playerId) : null;
+        if (stats != null) {
+            metrics.recordPlayerStatsCacheHit();
+        }
+        return stats;
     }
 
     /**
      * 플레이어 스탯을 조회하거나 빈 스탯을 반환합니다.
      *
      * @param playerId 플레이어 UUID
-     * @return 스탯 (없으면 빈 스탯)
+     * @return 스탯 (없으면 공유 빈 스탯 {@link #MISSING})
      */
     public PlayerStats getOrEmpty(UUID playerId) {
-        return cache.getOrDefault(playerId, PlayerStats.empty(playerId));
+        PlayerStats stats = getOrNull(playerId);
+        return stats != null ? stats : MISSING;
+    }
+
+    /**
+     * 캐시된 스탯이 없거나 오래되었으면 다시 불러와 저장한 뒤 반환합니다.
+     * <p>
+     * 적중하면 할당 없이 캐시된 스탯을 반환합니다.
+     * 호출마다 새 람다가 생기지 않도록 {@code isStale}과 {@code loader}는 필드에 보관해 재사용하는 것이 좋습니다.
+     * </p>
+     *
+     * @param playerId 플레이어 UUID
+     * @param isStale  캐시된 스탯이 오래되었는지 판단하는 함수
+     * @param loader   스탯을 다시 불러오는 함수 (null을 반환하면 저장하지 않음)
+     * @return 스탯 (불러오지 못하면 공유 빈 스탯 {@link #MISSING})
+     */
+    public PlayerStats computeIfStale(UUID playerId, Predicate<PlayerStats> isStale,
+                                      Function<UUID, PlayerStats> loader) {
+        PlayerStats cached = cache.get(playerId);
+        if (cached != null && !isStale.test(cached)) {
+            metrics.recordPlayerStatsCacheHit();
+            return cached;
+        }
+
+        metrics.recordPlayerStatsCacheMiss();
+        PlayerStats loaded = loader.apply(playerId);
+        if (loaded == null || loaded == MISSING) {
+            return cached != null ? cached : MISSING;
+        }
+        if (cache.get(playerId) != loaded) {
+            put(loaded); // loader가 이미 저장했으면 생략
+        }
+        return loaded;
     }
 
     /**
@@ -60,7 +278,19 @@ public class PlayerStatsCache {
      * @return 제거된 스탯, 없었으면 빈 Optional
      */
     public Optional<PlayerStats> remove(UUID playerId) {
-        return Optional.ofNullable(cache.remove(playerId));
+        // 해제 전후로 지움: 해제된 슬롯을 받은 다른 플레이어가 이전 플래그를 읽지 않도록
+        int slot = cache.slotOf(playerId);
+        if (slot != PlayerSlotTable.NO_SLOT) {
+            combatFlags.set(slot, 0);
+        }
+        PlayerStats removed = cache.remove(playerId);
+        if (slot != PlayerSlotTable.NO_SLOT) {
+            combatFlags.set(slot, 0);
+        }
+        if (removed != null) {
+            metrics.recordPlayerStatsCacheRemove();
+        }
+        return Optional.ofNullable(removed);
     }
 
     /**
@@ -70,13 +300,14 @@ public class PlayerStatsCache {
      * @return 캐시에 있으면 true
      */
     public boolean contains(UUID playerId) {
-        return cache.containsKey(playerId);
+        return cache.contains(playerId);
     }
 
     /**
      * 캐시를 비웁니다.
      */
     public void clear() {
+        invalidateCombatFlags();
         cache.clear();
     }
 
@@ -95,6 +326,6 @@ public class PlayerStatsCache {
      * @return UUID와 스탯의 맵 (읽기 전용)
      */
     public Map<UUID, PlayerStats> getAll() {
-        return Map.copyOf(cache);
+        return Map.copyOf(cache.toMap());
     }
 }
@@ -0,0 +1,107 @@
+package kr.minex.pvplorestat.infrastructure.config;
+
+/**
+ * 리로드 시 바뀐 설정 항목
+ * <p>
+ * {@link ConfigSnapshot#diff(ConfigSnapshot)}가 이전 스냅샷과 비교해 돌려주며,
+ * 리로드는 바뀐 항목에 의존하는 구성 요소만 다시 만듭니다.
+ * 스탯에 영향을 주는 항목이 바뀌었을 때만 접속 중인 플레이어의 스탯을 다시 계산합니다.
+ * </p>
+ *
+ * @author Minex
+ * @since 1.0.0
+ */
+public enum ConfigChange {
+
+    /**
+     * lore.* (형식, 순서, 구분선)
+     */
+    LORE_TEMPLATE("로어 템플릿", true),
+
+    /**
+     * settings.lore-cache-size
+     */
+    LORE_CACHE("로어 파싱 캐시", false),
+
+    /**
+     * settings.stats-intern-size
+     */
+    STATS_INTERN("스탯 인터닝", false),
+
+    /**
+     * storage.*
+     */
+    STORAGE("저장 방식", true),
+
+    /**
+     * stats.*.max
+     */
+    CLAMP("최대값 제한", true),
+
+    /**
+     * weapons
+     */
+    WEAPONS("무기 목록", true),
+
+    /**
+     * stats.health.base
+     */
+    BASE_HEALTH("기본 체력", true),
+
+    /**
+     * stats.*.divisor
+     */
+    DAMAGE("데미지 계수", false),
+
+    /**
+     * settings.async-parse, settings.async-parse-threads
+     */
+    ASYNC_PARSE("비동기 파싱", false),
+
+    /**
+     * settings.update-interval, settings.reconcile-interval, settings.tick-budget-us
+     */
+    UPDATE_TASK("스탯 업데이트 주기", false),
+
+    /**
+     * settings.watch-config
+     */
+    FILE_WATCH("설정 파일 감시", false),
+
+    /**
+     * settings.pvp-only
+     */
+    PVP_ONLY("PVP 전용", false),
+
+    /**
+     * settings.debug
+     */
+    DEBUG("디버그", false),
+
+    /**
+     * messages.yml
+     */
+    MESSAGES("메시지", false);
+
+    private final String displayName;
+    private final boolean statAffecting;
+
+    ConfigChange(String displayName, boolean statAffecting) {
+        this.displayName = displayName;
+        this.statAffecting = statAffecting;
+    }
+
+    /**
+     * 로그에 표시할 이름
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * 바뀌면 플레이어 스탯을 다시 계산해야 하는지 여부
+     */
+    public boolean isStatAffecting() {
+        return statAffecting;
+    }
+}
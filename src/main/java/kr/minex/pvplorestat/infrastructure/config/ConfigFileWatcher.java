@@ -0,0 +1,159 @@
+package kr.minex.pvplorestat.infrastructure.config;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+
+/**
+ * 설정 파일 감시자
+ * <p>
+ * 데이터 폴더의 config.yml과 messages.yml이 바뀌면 콜백을 호출합니다.
+ * 편집기는 저장 한 번에 쓰기 이벤트를 여러 번 내므로, 마지막 이벤트 뒤 디바운스 시간 동안
+ * 조용해졌을 때 한 번만 호출합니다.
+ * </p>
+ * <p>
+ * 감시와 콜백은 전용 데몬 스레드에서 실행됩니다. 콜백은 오래 걸리는 일을 직접 하지 말고
+ * 리로드를 요청만 해야 합니다.
+ * </p>
+ *
+ * @author Minex
+ * @since 1.0.0
+ */
+public final class ConfigFileWatcher implements AutoCloseable {
+
+    /**
+     * 기본 디바운스 시간 (밀리초)
+     */
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 500;
+
+    private static final Set<String> WATCHED_FILES = Set.of("config.yml", "messages.yml");
+
+    private final WatchService watchService;
+    private final long debounceNanos;
+    private final Runnable onChange;
+    private final Logger logger;
+    private final LongSupplier nanoClock;
+    private final Thread thread;
+
+    private ConfigFileWatcher(WatchService watchService, long debounceMillis, Runnable onChange, Logger logger,
+                              LongSupplier nanoClock) {
+        this.watchService = watchService;
+        this.debounceNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, debounceMillis));
+        this.onChange = Objects.requireNonNull(onChange, "onChange");
+        this.logger = Objects.requireNonNull(logger, "logger");
+        this.nanoClock = Objects.requireNonNull(nanoClock, "nanoClock");
+        this.thread = new Thread(this::run, "PVPLoreStat-ConfigWatcher");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * 폴더 감시를 시작합니다.
+     *
+     * @param directory      감시할 폴더 (플러그인 데이터 폴더)
+     * @param debounceMillis 마지막 이벤트 뒤 기다릴 시간 (밀리초)
+     * @param onChange       설정 파일이 바뀌었을 때 감시 스레드에서 호출할 콜백
+     * @param logger         로거
+     * @return 시작된 감시자
+     * @throws IOException 폴더를 감시할 수 없을 때
+     */
+    public static ConfigFileWatcher start(Path directory, long debounceMillis, Runnable onChange, Logger logger)
+            throws IOException {
+        Objects.requireNonNull(directory, "directory");
+        WatchService watchService = FileSystems.getDefault().newWatchService();
+        try {
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+            return start(watchService, debounceMillis, onChange, logger, System::nanoTime);
+        } catch (IOException | RuntimeException e) {
+            watchService.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 이미 등록을 마친 감시 서비스로 감시를 시작합니다. 테스트에서 감시 서비스와 시계를 바꿔 끼울 때 사용합니다.
+     *
+     * @param watchService   감시 서비스 (감시자가 닫음)
+     * @param debounceMillis 마지막 이벤트 뒤 기다릴 시간 (밀리초)
+     * @param onChange       설정 파일이 바뀌었을 때 감시 스레드에서 호출할 콜백
+     * @param logger         로거
+     * @param nanoClock      디바운스 마감을 판단할 시계 (나노초)
+     * @return 시작된 감시자
+     */
+    static ConfigFileWatcher start(WatchService watchService, long debounceMillis, Runnable onChange, Logger logger,
+                                   LongSupplier nanoClock) {
+        ConfigFileWatcher watcher = new ConfigFileWatcher(Objects.requireNonNull(watchService, "watchService"),
+                debounceMillis, onChange, logger, nanoClock);
+        watcher.thread.start();
+        return watcher;
+    }
+
+    private void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                if (!drain(watchService.take())) {
+                    continue;
+                }
+
+                // 디바운스: 마지막 관련 이벤트 뒤 디바운스 시간이 지날 때까지 모음
+                long deadline = nanoClock.getAsLong() + debounceNanos;
+                long remaining;
+                while ((remaining = deadline - nanoClock.getAsLong()) > 0) {
+                    WatchKey next = watchService.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next != null && drain(next)) {
+                        deadline = nanoClock.getAsLong() + debounceNanos;
+                    }
+                }
+
+                try {
+                    onChange.run();
+                } catch (RuntimeException e) {
+                    logger.warning("설정 파일 변경을 처리하지 못했습니다: " + e.getMessage());
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // 종료
+        }
+    }
+
+    /**
+     * 키에 쌓인 이벤트를 모두 꺼내고 키를 다시 감시 상태로 돌립니다.
+     *
+     * @return 감시 대상 파일의 이벤트가 있었으면 true (이벤트가 넘쳐 유실되었으면 true)
+     */
+    private static boolean drain(WatchKey key) {
+        boolean relevant = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                relevant = true;
+            } else if (event.context() instanceof Path path && WATCHED_FILES.contains(path.getFileName().toString())) {
+                relevant = true;
+            }
+        }
+        key.reset();
+        return relevant;
+    }
+
+    /**
+     * 감시를 멈춥니다. 디바운스 중인 변경은 버려집니다.
+     */
+    @Override
+    public void close() {
+        thread.interrupt();
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.warning("설정 파일 감시를 종료하지 못했습니다: " + e.getMessage());
+        }
+    }
+}
@@ -3,18 +3,31 @@ package kr.minex.pvplorestat.infrastructure.config;
 import kr.minex.pvplorestat.domain.model.StatType;
 import kr.minex.pvplorestat.domain.service.DamageCalculator;
 import kr.minex.pvplorestat.infrastructure.lore.LoreTemplate;
+import org.bukkit.Bukkit;
 import org.bukkit.Material;
-import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Tag;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.plugin.java.JavaPlugin;
 
-import java.util.*;
-import java.util.regex.Pattern;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.Objects;
 
 /**
  * 설정 관리자
  * <p>
  * config.yml을 로드하고 캐싱하여 빠른 접근을 제공합니다.
  * </p>
+ * <p>
+ * 로드한 값은 불변 {@link ConfigSnapshot}에 담겨 volatile 참조 하나로 게시됩니다.
+ * 리로드는 새 스냅샷을 따로 다 만든 뒤 참조만 바꾸므로, 다른 스레드가 반쯤 로드된 설정을 보지 않습니다.
+ * </p>
  *
  * @author Minex
  * @since 1.0.0
@@ -23,21 +36,7 @@ public class ConfigManager {
 
     private final JavaPlugin plugin;
 
-    // 캐시된 설정값
-    private int updateInterval;
-    private boolean pvpOnly;
-    private boolean debug;
-
-    // 스탯 설정
-    private DamageCalculator.Config damageConfig;
-    private double baseHealth;
-    private final Map<StatType, Double> maxStats = new EnumMap<>(StatType.class);
-
-    // 무기 패턴
-    private final List<Pattern> weaponPatterns = new ArrayList<>();
-
-    // 로어 템플릿
-    private LoreTemplate loreTemplate;
+    private volatile ConfigSnapshot snapshot;
 
     public ConfigManager(JavaPlugin plugin) {
         this.plugin = plugin;
@@ -51,162 +50,182 @@ public class ConfigManager {
         plugin.saveDefaultConfig();
         plugin.reloadConfig();
 
-        FileConfiguration config = plugin.getConfig();
+        apply(ConfigSnapshot.load(plugin.getConfig(), plugin.getLogger()));
+    }
 
-        // 일반 설정
-        updateInterval = Math.max(1, config.getInt("settings.update-interval", 10));
-        pvpOnly = config.getBoolean("settings.pvp-only", true);
-        debug = config.getBoolean("settings.debug", false);
+    /**
+     * 디스크에서 config.yml을 읽어 새 스냅샷을 만듭니다. 현재 스냅샷은 바꾸지 않습니다.
+     * <p>
+     * 파일 읽기, YAML 파싱, 무기 표와 로어 템플릿 생성까지 모두 하므로 워커 스레드에서 호출합니다.
+     * 서버 상태를 읽는 무기 태그 항목만은 {@link #apply(ConfigSnapshot)}에서 메인 스레드로 풉니다.
+     * {@link #reload()}와 달리 YAML 문법 오류를 빈 설정으로 넘기지 않고 예외로 알립니다.
+     * </p>
+     *
+     * @return 새 스냅샷
+     * @throws IOException                   파일을 읽을 수 없을 때
+     * @throws InvalidConfigurationException YAML 문법이 잘못되었을 때
+     */
+    public ConfigSnapshot loadSnapshot() throws IOException, InvalidConfigurationException {
+        File file = new File(plugin.getDataFolder(), "config.yml");
+        if (!file.exists()) {
+            plugin.saveResource("config.yml", false);
+        }
 
-        // 스탯 계산 설정
-        double damageDivisor = config.getDouble("stats.damage.divisor", 2.0);
-        double defenseDivisor = config.getDouble("stats.defense.divisor", 2.0);
-        double critDamageDivisor = config.getDouble("stats.critdamage.divisor", 2.0);
-        damageConfig = new DamageCalculator.Config(damageDivisor, defenseDivisor, critDamageDivisor);
+        YamlConfiguration config = new YamlConfiguration();
+        config.load(file);
 
-        baseHealth = config.getDouble("stats.health.base", 20.0);
-        if (baseHealth < 1.0) {
-            baseHealth = 20.0;
+        // 기본값 병합 (빠진 항목은 jar의 기본 설정으로)
+        InputStream defaultStream = plugin.getResource("config.yml");
+        if (defaultStream != null) {
+            config.setDefaults(YamlConfiguration.loadConfiguration(
+                    new InputStreamReader(defaultStream, StandardCharsets.UTF_8)));
         }
 
-        // 최대값 설정
-        maxStats.clear();
-        maxStats.put(StatType.DAMAGE, config.getDouble("stats.damage.max", 0));
-        maxStats.put(StatType.DEFENSE, config.getDouble("stats.defense.max", 0));
-        maxStats.put(StatType.HEALTH, config.getDouble("stats.health.max", 0));
-        maxStats.put(StatType.LIFESTEAL, config.getDouble("stats.lifesteal.max", 100));
-        maxStats.put(StatType.CRIT_CHANCE, config.getDouble("stats.critchance.max", 100));
-        maxStats.put(StatType.CRIT_DAMAGE, config.getDouble("stats.critdamage.max", 0));
-        maxStats.put(StatType.DODGE, config.getDouble("stats.dodge.max", 80));
+        return ConfigSnapshot.load(config, plugin.getLogger());
+    }
 
-        // 무기 패턴 로드
-        loadWeaponPatterns(config.getStringList("weapons"));
+    /**
+     * 무기 태그 항목을 서버의 태그 값으로 풀어 게시할 수 있는 스냅샷을 만듭니다. 메인 스레드에서 호출합니다.
+     * 현재 스냅샷은 바꾸지 않으므로, 게시 전에 바뀐 항목을 미리 비교할 때 사용합니다.
+     *
+     * @param loaded 새 스냅샷
+     * @return 태그를 모두 푼 스냅샷 (풀 태그가 없으면 그대로)
+     */
+    public ConfigSnapshot resolve(ConfigSnapshot loaded) {
+        return Objects.requireNonNull(loaded, "loaded")
+                .withResolvedWeaponTags(ConfigManager::findItemTag, plugin.getLogger());
+    }
 
-        // 로어 템플릿 로드
-        loadLoreTemplate(config);
+    /**
+     * 미리 만든 스냅샷을 게시합니다. 메인 스레드에서 호출합니다.
+     * 무기 태그 항목을 풀고 참조 하나만 바꾸므로 메인 스레드를 거의 쓰지 않습니다.
+     *
+     * @param loaded 새 스냅샷 ({@link #resolve(ConfigSnapshot)}의 결과도 가능)
+     * @return 이전 스냅샷과 비교해 바뀐 항목 (처음 로드면 설정 파일의 모든 항목)
+     */
+    public EnumSet<ConfigChange> apply(ConfigSnapshot loaded) {
+        ConfigSnapshot resolved = resolve(loaded);
+        EnumSet<ConfigChange> changes = resolved.diff(snapshot);
+        snapshot = resolved;
+        if (changes.contains(ConfigChange.WEAPONS)) {
+            plugin.getLogger().info("무기로 인식할 아이템 " + resolved.getWeaponCount() + "종을 불러왔습니다.");
+        }
 
-        if (debug) {
+        if (resolved.isDebug()) {
             plugin.getLogger().info("[Debug] 설정 로드 완료");
         }
+        return changes;
     }
 
+    private static Tag<Material> findItemTag(NamespacedKey key) {
+        return Bukkit.getTag(Tag.REGISTRY_ITEMS, key, Material.class);
+    }
+
+    // ===== Getters =====
+
     /**
-     * 무기 패턴을 로드합니다.
+     * 현재 설정 스냅샷. 한 작업에서 여러 값을 읽을 때는 한 번만 꺼내 씁니다.
      */
-    private void loadWeaponPatterns(List<String> weaponList) {
-        weaponPatterns.clear();
-
-        if (weaponList == null || weaponList.isEmpty()) {
-            return;
-        }
+    public ConfigSnapshot getSnapshot() {
+        return snapshot;
+    }
 
-        for (String weapon : weaponList) {
-            if (weapon == null || weapon.isBlank()) {
-                continue;
-            }
-            try {
-                weaponPatterns.add(compileGlobPattern(weapon));
-            } catch (Exception e) {
-                plugin.getLogger().warning("무기 패턴을 로드할 수 없습니다: " + weapon + " (" + e.getMessage() + ")");
-            }
-        }
+    /**
+     * 스탯 업데이트 간격 (틱)
+     */
+    public int getUpdateInterval() {
+        return snapshot.getUpdateInterval();
     }
 
     /**
-     * config.yml의 glob 패턴(*, ?)을 안전한 정규식으로 컴파일합니다.
-     * <p>
-     * 운영자가 실수로 정규식 메타 문자를 넣더라도 리로드가 깨지지 않도록 방어합니다.
-     * </p>
+     * 전체 플레이어 재확인 간격 (틱, 0이면 사용 안 함)
      */
-    private static Pattern compileGlobPattern(String glob) {
-        String upper = glob.toUpperCase(Locale.ROOT);
-        StringBuilder regex = new StringBuilder("^");
-
-        for (int i = 0; i < upper.length(); i++) {
-            char c = upper.charAt(i);
-            switch (c) {
-                case '*' -> regex.append(".*");
-                case '?' -> regex.append('.');
-                default -> {
-                    if ("\\.[]{}()+-^$|".indexOf(c) >= 0) {
-                        regex.append('\\');
-                    }
-                    regex.append(c);
-                }
-            }
-        }
+    public int getReconcileInterval() {
+        return snapshot.getReconcileInterval();
+    }
 
-        regex.append('$');
-        return Pattern.compile(regex.toString());
+    /**
+     * 스탯 업데이트 틱당 시간 예산 (마이크로초, 0이면 사용 안 함)
+     */
+    public int getTickBudgetMicros() {
+        return snapshot.getTickBudgetMicros();
     }
 
     /**
-     * 로어 템플릿을 로드합니다.
+     * PVP만 적용 여부
      */
-    private void loadLoreTemplate(FileConfiguration config) {
-        LoreTemplate.Builder builder = LoreTemplate.builder();
+    public boolean isPvpOnly() {
+        return snapshot.isPvpOnly();
+    }
 
-        // 구분선 설정
-        builder.separatorEnabled(config.getBoolean("lore.separator.enabled", true));
-        builder.separatorTop(config.getString("lore.separator.top", "&8&m─────&r &6✦ 스탯 &8&m─────"));
-        builder.separatorBottom(config.getString("lore.separator.bottom", "&8&m──────────────────"));
+    /**
+     * 디버그 모드 여부
+     */
+    public boolean isDebug() {
+        return snapshot.isDebug();
+    }
 
-        // 스탯 형식 로드
-        for (StatType type : StatType.values()) {
-            String format = config.getString("lore.format." + type.getConfigKey());
-            if (format != null) {
-                builder.format(type, format);
-            }
-        }
+    /**
+     * 로어 파싱 캐시 최대 항목 수 (0이면 사용 안 함)
+     */
+    public int getLoreCacheSize() {
+        return snapshot.getLoreCacheSize();
+    }
 
-        // 순서 로드
-        List<String> orderConfig = config.getStringList("lore.order");
-        if (!orderConfig.isEmpty()) {
-            List<StatType> order = new ArrayList<>();
-            for (String key : orderConfig) {
-                StatType.findByKeyword(key).ifPresent(order::add);
-            }
-            builder.order(order);
-        }
+    /**
+     * ItemStats 인터닝 테이블 최대 항목 수 (0이면 사용 안 함)
+     */
+    public int getStatsInternSize() {
+        return snapshot.getStatsInternSize();
+    }
 
-        loreTemplate = builder.build();
+    /**
+     * 로어 파싱을 워커 스레드에서 할지 여부
+     */
+    public boolean isAsyncParse() {
+        return snapshot.isAsyncParse();
     }
 
-    // ===== Getters =====
+    /**
+     * 로어 파싱 워커 스레드 수
+     */
+    public int getAsyncParseThreads() {
+        return snapshot.getAsyncParseThreads();
+    }
 
     /**
-     * 스탯 업데이트 간격 (틱)
+     * 설정 파일이 바뀌면 자동으로 리로드할지 여부
      */
-    public int getUpdateInterval() {
-        return updateInterval;
+    public boolean isWatchConfig() {
+        return snapshot.isWatchConfig();
     }
 
     /**
-     * PVP만 적용 여부
+     * 스탯을 아이템 PDC에도 저장하고 먼저 읽는지 여부 (storage.mode: pdc)
      */
-    public boolean isPvpOnly() {
-        return pvpOnly;
+    public boolean isPdcStorage() {
+        return snapshot.isPdcStorage();
     }
 
     /**
-     * 디버그 모드 여부
+     * PDC 기록이 없는 기존 아이템을 읽을 때 기록을 만들어 두는지 여부
      */
-    public boolean isDebug() {
-        return debug;
+    public boolean isMigrateLegacyItems() {
+        return snapshot.isMigrateLegacyItems();
     }
 
     /**
      * 데미지 계산 설정
      */
     public DamageCalculator.Config getDamageConfig() {
-        return damageConfig;
+        return snapshot.getDamageConfig();
     }
 
     /**
      * 기본 최대 체력
      */
     public double getBaseHealth() {
-        return baseHealth;
+        return snapshot.getBaseHealth();
     }
 
     /**
@@ -216,7 +235,7 @@ public class ConfigManager {
      * @return 최대값 (0이면 무제한)
      */
     public double getMaxStat(StatType type) {
-        return maxStats.getOrDefault(type, 0.0);
+        return snapshot.getMaxStat(type);
     }
 
     /**
@@ -226,30 +245,20 @@ public class ConfigManager {
      * @return 무기이면 true
      */
     public boolean isWeapon(Material material) {
-        if (material == null) {
-            return false;
-        }
-
-        String name = material.name();
-        for (Pattern pattern : weaponPatterns) {
-            if (pattern.matcher(name).matches()) {
-                return true;
-            }
-        }
-        return false;
+        return snapshot.isWeapon(material);
     }
 
     /**
-     * 로어 템플릿
+     * 무기로 인식하는 아이템 종류 수
      */
-    public LoreTemplate getLoreTemplate() {
-        return loreTemplate;
+    public int getWeaponCount() {
+        return snapshot.getWeaponCount();
     }
 
     /**
-     * 원본 설정 파일
+     * 로어 템플릿
      */
-    public FileConfiguration getConfig() {
-        return plugin.getConfig();
+    public LoreTemplate getLoreTemplate() {
+        return snapshot.getLoreTemplate();
     }
 }
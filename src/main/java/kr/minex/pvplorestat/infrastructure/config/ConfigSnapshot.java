@@ -0,0 +1,548 @@
+package kr.minex.pvplorestat.infrastructure.config;
+
+import kr.minex.pvplorestat.domain.model.StatType;
+import kr.minex.pvplorestat.domain.service.DamageCalculator;
+import kr.minex.pvplorestat.infrastructure.lore.LoreTemplate;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Tag;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * 불변 설정 스냅샷
+ * <p>
+ * config.yml 한 번 로드의 결과를 모두 담습니다. 생성이 끝난 뒤에는 바뀌지 않으므로
+ * 어느 스레드에서나 잠금 없이 읽을 수 있습니다.
+ * {@link ConfigManager}는 새 스냅샷을 따로 만든 뒤 volatile 참조 하나로 교체합니다.
+ * </p>
+ * <p>
+ * 한 번의 작업(전투 한 번, 장비 갱신 한 번)에서 여러 값을 읽을 때는
+ * {@link ConfigManager#getSnapshot()}으로 한 번만 꺼내 쓰면 도중에 리로드되어도 값이 섞이지 않습니다.
+ * </p>
+ * <p>
+ * 무기 목록의 아이템 태그는 서버 상태이므로 워커 스레드에서 만들 때는 풀지 않고,
+ * {@link ConfigManager}가 메인 스레드에서 게시하기 직전에 {@link #withResolvedWeaponTags(Function, Logger)}로
+ * 태그를 푼 새 스냅샷을 만들어 게시합니다.
+ * </p>
+ *
+ * @author Minex
+ * @since 1.0.0
+ */
+public final class ConfigSnapshot {
+
+    /**
+     * 아이템 태그 항목의 접두사 (예: #minecraft:swords)
+     */
+    private static final String TAG_PREFIX = "#";
+
+    /**
+     * 레거시 재질 이름의 접두사 (무기 표에서 제외)
+     */
+    private static final String LEGACY_PREFIX = "LEGACY_";
+
+    private static final StatType[] STAT_TYPES = StatType.values();
+
+    // 일반 설정
+    private final int updateInterval;
+    private final int reconcileInterval;
+    private final int tickBudgetMicros;
+    private final boolean pvpOnly;
+    private final boolean debug;
+    private final int loreCacheSize;
+    private final int statsInternSize;
+    private final boolean asyncParse;
+    private final int asyncParseThreads;
+    private final boolean watchConfig;
+
+    // 스탯 저장 방식
+    private final boolean pdcStorage;
+    private final boolean migrateLegacyItems;
+
+    // 스탯 설정
+    private final DamageCalculator.Config damageConfig;
+    private final double baseHealth;
+
+    /**
+     * 스탯 최대값 (StatType.ordinal()로 색인, 0이면 무제한)
+     */
+    private final double[] maxStats;
+
+    /**
+     * 무기 표 (Material.ordinal()로 색인, 태그 항목은 게시 전에 채움)
+     */
+    private final boolean[] weaponTable;
+    private final int weaponCount;
+
+    /**
+     * 아직 풀지 않은 무기 태그 항목 (예: #minecraft:swords, 모두 풀었으면 비어 있음)
+     */
+    private final List<String> weaponTags;
+
+    private final LoreTemplate loreTemplate;
+
+    private ConfigSnapshot(FileConfiguration config, Logger logger) {
+        // 일반 설정
+        updateInterval = Math.max(1, config.getInt("settings.update-interval", 10));
+        reconcileInterval = Math.max(0, config.getInt("settings.reconcile-interval", 600));
+        tickBudgetMicros = Math.max(0, config.getInt("settings.tick-budget-us", 0));
+        pvpOnly = config.getBoolean("settings.pvp-only", true);
+        debug = config.getBoolean("settings.debug", false);
+        loreCacheSize = Math.max(0, config.getInt("settings.lore-cache-size", 512));
+        statsInternSize = Math.max(0, config.getInt("settings.stats-intern-size", 4096));
+        asyncParse = config.getBoolean("settings.async-parse", false);
+        asyncParseThreads = Math.max(1, config.getInt("settings.async-parse-threads", 2));
+        watchConfig = config.getBoolean("settings.watch-config", false);
+
+        // 스탯 저장 방식
+        String storageMode = config.getString("storage.mode", "lore");
+        pdcStorage = "pdc".equalsIgnoreCase(storageMode);
+        if (!pdcStorage && !"lore".equalsIgnoreCase(storageMode)) {
+            logger.warning("알 수 없는 storage.mode 입니다. lore 방식을 사용합니다: " + storageMode);
+        }
+        migrateLegacyItems = config.getBoolean("storage.migrate-legacy", true);
+
+        // 스탯 계산 설정
+        double damageDivisor = config.getDouble("stats.damage.divisor", 2.0);
+        double defenseDivisor = config.getDouble("stats.defense.divisor", 2.0);
+        double critDamageDivisor = config.getDouble("stats.critdamage.divisor", 2.0);
+        damageConfig = new DamageCalculator.Config(damageDivisor, defenseDivisor, critDamageDivisor);
+
+        double health = config.getDouble("stats.health.base", 20.0);
+        baseHealth = health < 1.0 ? 20.0 : health;
+
+        // 최대값 설정
+        maxStats = new double[STAT_TYPES.length];
+        maxStats[StatType.DAMAGE.ordinal()] = config.getDouble("stats.damage.max", 0);
+        maxStats[StatType.DEFENSE.ordinal()] = config.getDouble("stats.defense.max", 0);
+        maxStats[StatType.HEALTH.ordinal()] = config.getDouble("stats.health.max", 0);
+        maxStats[StatType.LIFESTEAL.ordinal()] = config.getDouble("stats.lifesteal.max", 100);
+        maxStats[StatType.CRIT_CHANCE.ordinal()] = config.getDouble("stats.critchance.max", 100);
+        maxStats[StatType.CRIT_DAMAGE.ordinal()] = config.getDouble("stats.critdamage.max", 0);
+        maxStats[StatType.DODGE.ordinal()] = config.getDouble("stats.dodge.max", 80);
+
+        // 무기 표 (태그 항목은 메인 스레드에서)
+        List<String> tags = new ArrayList<>();
+        weaponTable = loadWeapons(config.getStringList("weapons"), tags, logger);
+        weaponCount = countWeapons(weaponTable);
+        weaponTags = List.copyOf(tags);
+
+        // 로어 템플릿
+        loreTemplate = loadLoreTemplate(config);
+    }
+
+    /**
+     * 무기 표만 바꾼 사본을 만듭니다. 태그를 모두 푼 표를 받습니다.
+     */
+    private ConfigSnapshot(ConfigSnapshot base, boolean[] weaponTable) {
+        updateInterval = base.updateInterval;
+        reconcileInterval = base.reconcileInterval;
+        tickBudgetMicros = base.tickBudgetMicros;
+        pvpOnly = base.pvpOnly;
+        debug = base.debug;
+        loreCacheSize = base.loreCacheSize;
+        statsInternSize = base.statsInternSize;
+        asyncParse = base.asyncParse;
+        asyncParseThreads = base.asyncParseThreads;
+        watchConfig = base.watchConfig;
+        pdcStorage = base.pdcStorage;
+        migrateLegacyItems = base.migrateLegacyItems;
+        damageConfig = base.damageConfig;
+        baseHealth = base.baseHealth;
+        maxStats = base.maxStats;
+        this.weaponTable = weaponTable;
+        weaponCount = countWeapons(weaponTable);
+        weaponTags = List.of();
+        loreTemplate = base.loreTemplate;
+    }
+
+    /**
+     * 설정 파일 내용으로 스냅샷을 만듭니다.
+     *
+     * @param config 읽어 둔 설정 파일
+     * @param logger 잘못된 항목을 알릴 로거
+     * @return 스냅샷
+     */
+    public static ConfigSnapshot load(FileConfiguration config, Logger logger) {
+        return new ConfigSnapshot(Objects.requireNonNull(config, "config"), Objects.requireNonNull(logger, "logger"));
+    }
+
+    /**
+     * 이전 스냅샷과 비교해 바뀐 설정 항목을 구합니다.
+     *
+     * @param previous 이전 스냅샷 (처음 로드면 null)
+     * @return 바뀐 항목 (처음 로드면 설정 파일의 모든 항목)
+     */
+    public EnumSet<ConfigChange> diff(ConfigSnapshot previous) {
+        if (previous == null) {
+            EnumSet<ConfigChange> all = EnumSet.allOf(ConfigChange.class);
+            all.remove(ConfigChange.MESSAGES); // messages.yml은 MessageManager가 비교
+            return all;
+        }
+
+        EnumSet<ConfigChange> changes = EnumSet.noneOf(ConfigChange.class);
+        if (loreTemplate.getVersion() != previous.loreTemplate.getVersion()) {
+            changes.add(ConfigChange.LORE_TEMPLATE);
+        }
+        if (loreCacheSize != previous.loreCacheSize) {
+            changes.add(ConfigChange.LORE_CACHE);
+        }
+        if (statsInternSize != previous.statsInternSize) {
+            changes.add(ConfigChange.STATS_INTERN);
+        }
+        if (pdcStorage != previous.pdcStorage || migrateLegacyItems != previous.migrateLegacyItems) {
+            changes.add(ConfigChange.STORAGE);
+        }
+        if (!Arrays.equals(maxStats, previous.maxStats)) {
+            changes.add(ConfigChange.CLAMP);
+        }
+        if (!Arrays.equals(weaponTable, previous.weaponTable)) {
+            changes.add(ConfigChange.WEAPONS);
+        }
+        if (Double.compare(baseHealth, previous.baseHealth) != 0) {
+            changes.add(ConfigChange.BASE_HEALTH);
+        }
+        if (Double.compare(damageConfig.getDamageDivisor(), previous.damageConfig.getDamageDivisor()) != 0
+                || Double.compare(damageConfig.getDefenseDivisor(), previous.damageConfig.getDefenseDivisor()) != 0
+                || Double.compare(damageConfig.getCritDamageDivisor(), previous.damageConfig.getCritDamageDivisor()) != 0) {
+            changes.add(ConfigChange.DAMAGE);
+        }
+        if (asyncParse != previous.asyncParse || asyncParseThreads != previous.asyncParseThreads) {
+            changes.add(ConfigChange.ASYNC_PARSE);
+        }
+        if (updateInterval != previous.updateInterval || reconcileInterval != previous.reconcileInterval
+                || tickBudgetMicros != previous.tickBudgetMicros) {
+            changes.add(ConfigChange.UPDATE_TASK);
+        }
+        if (watchConfig != previous.watchConfig) {
+            changes.add(ConfigChange.FILE_WATCH);
+        }
+        if (pvpOnly != previous.pvpOnly) {
+            changes.add(ConfigChange.PVP_ONLY);
+        }
+        if (debug != previous.debug) {
+            changes.add(ConfigChange.DEBUG);
+        }
+        return changes;
+    }
+
+    /**
+     * 무기 목록의 아이템 태그를 서버의 태그 값으로 풀어 무기 표에 더한 스냅샷을 반환합니다.
+     * <p>
+     * 태그 조회는 서버 상태를 읽으므로 메인 스레드에서, 스냅샷을 게시하기 전에 호출합니다.
+     * 이 스냅샷은 바꾸지 않습니다. 풀 태그가 없으면(이미 풀었으면) 이 스냅샷을 그대로 반환합니다.
+     * </p>
+     *
+     * @param lookup 태그 키로 아이템 태그를 찾는 함수 (없으면 null 반환)
+     * @param logger 찾지 못한 태그를 알릴 로거
+     * @return 태그를 모두 푼 스냅샷
+     */
+    ConfigSnapshot withResolvedWeaponTags(Function<NamespacedKey, Tag<Material>> lookup, Logger logger) {
+        if (weaponTags.isEmpty()) {
+            return this;
+        }
+        boolean[] table = weaponTable.clone();
+        for (String entry : weaponTags) {
+            try {
+                addWeaponTag(table, entry, lookup, logger);
+            } catch (Exception e) {
+                logger.warning("무기 패턴을 로드할 수 없습니다: " + entry + " (" + e.getMessage() + ")");
+            }
+        }
+        return new ConfigSnapshot(this, table);
+    }
+
+    private static int countWeapons(boolean[] table) {
+        int count = 0;
+        for (boolean weapon : table) {
+            if (weapon) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 무기 목록을 Material 색인 표로 풀어 둡니다.
+     * <p>
+     * glob 패턴(*, ?)은 모든 재질 이름에 한 번씩 맞춰 봅니다.
+     * {@code #minecraft:swords} 같은 아이템 태그는 {@code tags}에 모아 두고 나중에 메인 스레드에서 풉니다.
+     * 이후 {@link #isWeapon(Material)}은 배열 읽기 한 번으로 끝납니다.
+     * </p>
+     */
+    private static boolean[] loadWeapons(List<String> weaponList, List<String> tags, Logger logger) {
+        Material[] materials = Material.values();
+        boolean[] table = new boolean[materials.length];
+
+        if (weaponList == null) {
+            return table;
+        }
+        for (String weapon : weaponList) {
+            if (weapon == null || weapon.isBlank()) {
+                continue;
+            }
+            try {
+                if (weapon.startsWith(TAG_PREFIX)) {
+                    tags.add(weapon);
+                } else {
+                    addWeaponPattern(table, materials, weapon);
+                }
+            } catch (Exception e) {
+                logger.warning("무기 패턴을 로드할 수 없습니다: " + weapon + " (" + e.getMessage() + ")");
+            }
+        }
+        return table;
+    }
+
+    private static void addWeaponPattern(boolean[] table, Material[] materials, String glob) {
+        Pattern pattern = compileGlobPattern(glob);
+        for (Material material : materials) {
+            String name = material.name();
+            if (!name.startsWith(LEGACY_PREFIX) && pattern.matcher(name).matches()) {
+                table[material.ordinal()] = true;
+            }
+        }
+    }
+
+    private static void addWeaponTag(boolean[] table, String entry, Function<NamespacedKey, Tag<Material>> lookup,
+                                     Logger logger) {
+        NamespacedKey key = NamespacedKey.fromString(entry.substring(TAG_PREFIX.length()).toLowerCase(Locale.ROOT));
+        Tag<Material> tag = key != null ? lookup.apply(key) : null;
+        if (tag == null) {
+            logger.warning("아이템 태그를 찾을 수 없습니다: " + entry);
+            return;
+        }
+        for (Material material : tag.getValues()) {
+            table[material.ordinal()] = true;
+        }
+    }
+
+    /**
+     * config.yml의 glob 패턴(*, ?)을 안전한 정규식으로 컴파일합니다.
+     * <p>
+     * 운영자가 실수로 정규식 메타 문자를 넣더라도 리로드가 깨지지 않도록 방어합니다.
+     * </p>
+     */
+    private static Pattern compileGlobPattern(String glob) {
+        String upper = glob.toUpperCase(Locale.ROOT);
+        StringBuilder regex = new StringBuilder("^");
+
+        for (int i = 0; i < upper.length(); i++) {
+            char c = upper.charAt(i);
+            switch (c) {
+                case '*' -> regex.append(".*");
+                case '?' -> regex.append('.');
+                default -> {
+                    if ("\\.[]{}()+-^$|".indexOf(c) >= 0) {
+                        regex.append('\\');
+                    }
+                    regex.append(c);
+                }
+            }
+        }
+
+        regex.append('$');
+        return Pattern.compile(regex.toString());
+    }
+
+    /**
+     * 로어 템플릿을 로드합니다.
+     */
+    private static LoreTemplate loadLoreTemplate(FileConfiguration config) {
+        LoreTemplate.Builder builder = LoreTemplate.builder();
+
+        // 구분선 설정
+        builder.separatorEnabled(config.getBoolean("lore.separator.enabled", true));
+        builder.separatorTop(config.getString("lore.separator.top", "&8&m─────&r &6✦ 스탯 &8&m─────"));
+        builder.separatorBottom(config.getString("lore.separator.bottom", "&8&m──────────────────"));
+
+        // 스탯 형식 로드
+        for (StatType type : STAT_TYPES) {
+            String format = config.getString("lore.format." + type.getConfigKey());
+            if (format != null) {
+                builder.format(type, format);
+            }
+        }
+
+        // 순서 로드
+        List<String> orderConfig = config.getStringList("lore.order");
+        if (!orderConfig.isEmpty()) {
+            List<StatType> order = new ArrayList<>();
+            for (String key : orderConfig) {
+                StatType.findByKeyword(key).ifPresent(order::add);
+            }
+            builder.order(order);
+        }
+
+        return builder.build();
+    }
+
+    // ===== Getters =====
+
+    /**
+     * 스탯 업데이트 간격 (틱)
+     */
+    public int getUpdateInterval() {
+        return updateInterval;
+    }
+
+    /**
+     * 전체 플레이어 재확인 간격 (틱, 0이면 사용 안 함)
+     */
+    public int getReconcileInterval() {
+        return reconcileInterval;
+    }
+
+    /**
+     * 스탯 업데이트 틱당 시간 예산 (마이크로초, 0이면 사용 안 함)
+     */
+    public int getTickBudgetMicros() {
+        return tickBudgetMicros;
+    }
+
+    /**
+     * PVP만 적용 여부
+     */
+    public boolean isPvpOnly() {
+        return pvpOnly;
+    }
+
+    /**
+     * 디버그 모드 여부
+     */
+    public boolean isDebug() {
+        return debug;
+    }
+
+    /**
+     * 로어 파싱 캐시 최대 항목 수 (0이면 사용 안 함)
+     */
+    public int getLoreCacheSize() {
+        return loreCacheSize;
+    }
+
+    /**
+     * ItemStats 인터닝 테이블 최대 항목 수 (0이면 사용 안 함)
+     */
+    public int getStatsInternSize() {
+        return statsInternSize;
+    }
+
+    /**
+     * 로어 파싱을 워커 스레드에서 할지 여부
+     */
+    public boolean isAsyncParse() {
+        return asyncParse;
+    }
+
+    /**
+     * 로어 파싱 워커 스레드 수
+     */
+    public int getAsyncParseThreads() {
+        return asyncParseThreads;
+    }
+
+    /**
+     * 설정 파일이 바뀌면 자동으로 리로드할지 여부
+     */
+    public boolean isWatchConfig() {
+        return watchConfig;
+    }
+
+    /**
+     * 스탯을 아이템 PDC에도 저장하고 먼저 읽는지 여부 (storage.mode: pdc)
+     */
+    public boolean isPdcStorage() {
+        return pdcStorage;
+    }
+
+    /**
+     * PDC 기록이 없는 기존 아이템을 읽을 때 기록을 만들어 두는지 여부
+     */
+    public boolean isMigrateLegacyItems() {
+        return migrateLegacyItems;
+    }
+
+    /**
+     * 데미지 계산 설정
+     */
+    public DamageCalculator.Config getDamageConfig() {
+        return damageConfig;
+    }
+
+    /**
+     * 기본 최대 체력
+     */
+    public double getBaseHealth() {
+        return baseHealth;
+    }
+
+    /**
+     * 스탯 최대값 조회
+     *
+     * @param type 스탯 타입
+     * @return 최대값 (0이면 무제한)
+     */
+    public double getMaxStat(StatType type) {
+        return maxStats[type.ordinal()];
+    }
+
+    /**
+     * 값을 0 이상, 최대값 이하로 보정합니다.
+     *
+     * @param type  스탯 타입 (null이면 음수만 보정)
+     * @param value 값
+     * @return 보정된 값
+     */
+    public double clamp(StatType type, double value) {
+        // 음수 방지
+        double clamped = Math.max(0, value);
+        if (type == null) {
+            return clamped;
+        }
+
+        // 최대값 제한
+        double maxValue = maxStats[type.ordinal()];
+        if (maxValue > 0 && clamped > maxValue) {
+            clamped = maxValue;
+        }
+        return clamped;
+    }
+
+    /**
+     * 해당 재료가 무기인지 확인합니다.
+     *
+     * @param material 아이템 재료
+     * @return 무기이면 true
+     */
+    public boolean isWeapon(Material material) {
+        if (material == null) {
+            return false;
+        }
+        int ordinal = material.ordinal();
+        return ordinal < weaponTable.length && weaponTable[ordinal];
+    }
+
+    /**
+     * 무기로 인식하는 아이템 종류 수
+     */
+    public int getWeaponCount() {
+        return weaponCount;
+    }
+
+    /**
+     * 로어 템플릿
+     */
+    public LoreTemplate getLoreTemplate() {
+        return loreTemplate;
+    }
+}
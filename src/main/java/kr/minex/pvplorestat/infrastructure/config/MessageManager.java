@@ -2,16 +2,19 @@ package kr.minex.pvplorestat.infrastructure.config;
 
 import org.bukkit.ChatColor;
 import org.bukkit.command.CommandSender;
+import org.bukkit.configuration.InvalidConfigurationException;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.text.NumberFormat;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * 메시지 관리자
@@ -25,8 +28,8 @@ import java.util.List;
 public class MessageManager {
 
     private final JavaPlugin plugin;
-    private FileConfiguration messages;
-    private String prefix;
+    private volatile FileConfiguration messages;
+    private volatile String prefix;
 
     public MessageManager(JavaPlugin plugin) {
         this.plugin = plugin;
@@ -43,17 +46,53 @@ public class MessageManager {
             plugin.saveResource("messages.yml", false);
         }
 
-        messages = YamlConfiguration.loadConfiguration(file);
+        YamlConfiguration loaded = YamlConfiguration.loadConfiguration(file);
+        mergeDefaults(loaded);
+        apply(loaded);
+    }
+
+    /**
+     * 디스크에서 messages.yml을 읽습니다. 현재 메시지는 바꾸지 않으므로 워커 스레드에서 호출합니다.
+     * {@link #reload()}와 달리 YAML 문법 오류를 예외로 알립니다.
+     *
+     * @return 읽은 메시지 설정 (기본값 병합됨)
+     * @throws IOException                   파일을 읽을 수 없을 때
+     * @throws InvalidConfigurationException YAML 문법이 잘못되었을 때
+     */
+    public FileConfiguration loadMessages() throws IOException, InvalidConfigurationException {
+        File file = new File(plugin.getDataFolder(), "messages.yml");
+
+        if (!file.exists()) {
+            plugin.saveResource("messages.yml", false);
+        }
+
+        YamlConfiguration loaded = new YamlConfiguration();
+        loaded.load(file);
+        mergeDefaults(loaded);
+        return loaded;
+    }
 
-        // 기본값 병합
+    /**
+     * 미리 읽어 둔 메시지 설정으로 교체합니다.
+     *
+     * @param loaded 메시지 설정
+     * @return 내용이 이전과 달랐으면 true (처음 로드면 true)
+     */
+    public boolean apply(FileConfiguration loaded) {
+        FileConfiguration previous = messages;
+        boolean changed = previous == null || !Objects.equals(previous.saveToString(), loaded.saveToString());
+        prefix = translateColor(loaded.getString("prefix", "&6[PLS] &f"));
+        messages = loaded;
+        return changed;
+    }
+
+    private void mergeDefaults(FileConfiguration loaded) {
         InputStream defaultStream = plugin.getResource("messages.yml");
         if (defaultStream != null) {
             YamlConfiguration defaults = YamlConfiguration.loadConfiguration(
                     new InputStreamReader(defaultStream, StandardCharsets.UTF_8));
-            messages.setDefaults(defaults);
+            loaded.setDefaults(defaults);
         }
-
-        prefix = translateColor(messages.getString("prefix", "&6[PLS] &f"));
     }
 
     /**
@@ -0,0 +1,396 @@
+package kr.minex.pvplorestat.infrastructure.lore;
+
+import kr.minex.pvplorestat.domain.model.StatType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 템플릿 컴파일 로어 매처
+ * <p>
+ * lore.format의 각 형식을 "리터럴 + {value} + 리터럴" 조각으로 컴파일하고,
+ * {value} 앞의 리터럴(접두사)은 트라이로 묶어 한 번의 좌→우 스캔으로
+ * 라인을 분류하고 숫자를 추출합니다. 정규식 Matcher나 부분 문자열을 만들지 않습니다.
+ * </p>
+ * <p>
+ * 결과는 기존 정규식 파서와 동일합니다.
+ * 각 형식은 {@code 접두사([0-9.]+)%?접미사}(퍼센트 스탯) 또는 {@code 접두사([0-9.]+)접미사}를
+ * {@code find()}로 찾는 것과 같고, 여러 스탯이 일치하면 StatType 선언 순서가 앞선 스탯이 우선합니다.
+ * 숫자 구간의 탐욕적 매칭과 백트래킹도 그대로 재현합니다.
+ * </p>
+ *
+ * @author Minex
+ * @since 1.0.0
+ */
+final class CompiledLoreMatcher {
+
+    private static final String PLACEHOLDER = "{value}";
+
+    /**
+     * 10의 거듭제곱 (double로 정확히 표현 가능한 범위)
+     */
+    private static final double[] POW10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private static final StatType[] TYPES = StatType.values();
+
+    private final TrieNode root;
+    private final Format[] formats;
+    private final int firstOrdinal;
+
+    private CompiledLoreMatcher(TrieNode root, Format[] formats) {
+        this.root = root;
+        this.formats = formats;
+        int first = TYPES.length;
+        for (int i = 0; i < formats.length; i++) {
+            if (formats[i] != null) {
+                first = i;
+                break;
+            }
+        }
+        this.firstOrdinal = first;
+    }
+
+    /**
+     * 템플릿을 매처로 컴파일합니다.
+     *
+     * @param template 로어 템플릿
+     * @return 컴파일된 매처
+     */
+    static CompiledLoreMatcher compile(LoreTemplate template) {
+        Format[] formats = new Format[TYPES.length];
+        TrieBuilder trie = new TrieBuilder();
+
+        for (StatType type : TYPES) {
+            String format = template.getFormat(type);
+            if (format == null || format.isEmpty()) {
+                continue;
+            }
+
+            // 색상 코드 제거 후 {value} 위치 확인
+            String stripped = LoreManager.stripColor(format);
+            int first = stripped.indexOf(PLACEHOLDER);
+            if (first < 0) {
+                continue;
+            }
+
+            // {value} 이후를 (숫자, 리터럴) 조각으로 분리
+            List<char[]> literals = new ArrayList<>();
+            int from = first + PLACEHOLDER.length();
+            int next;
+            while ((next = stripped.indexOf(PLACEHOLDER, from)) >= 0) {
+                literals.add(stripped.substring(from, next).toCharArray());
+                from = next + PLACEHOLDER.length();
+            }
+            literals.add(stripped.substring(from).toCharArray());
+
+            formats[type.ordinal()] = new Format(type, type.isPercent(), literals.toArray(new char[0][]));
+            trie.add(stripped.substring(0, first), type.ordinal());
+        }
+
+        return new CompiledLoreMatcher(trie.build(), formats);
+    }
+
+    /**
+     * 컴파일된 형식이 하나도 없는지 확인합니다.
+     *
+     * @return 형식이 없으면 true
+     */
+    boolean isEmpty() {
+        return firstOrdinal == TYPES.length;
+    }
+
+    /**
+     * 색상 코드가 제거된 라인을 분류하고 값을 추출합니다.
+     *
+     * @param line   색상 코드가 제거된 라인
+     * @param result 결과를 기록할 객체 (재사용 가능)
+     * @return 스탯 형식과 일치하면 true
+     */
+    boolean match(CharSequence line, Result result) {
+        result.reset();
+        if (isEmpty()) {
+            return false;
+        }
+
+        int length = line.length();
+        int best = TYPES.length;
+        int bestStart = -1;
+        int bestEnd = -1;
+
+        for (int start = 0; start < length; start++) {
+            TrieNode node = root;
+            int pos = start;
+            while (node != null) {
+                // 이 노드에서 끝나는 접두사를 가진 형식들 (선언 순서 오름차순)
+                int[] terminals = node.terminals;
+                for (int t = 0; t < terminals.length; t++) {
+                    int ordinal = terminals[t];
+                    if (ordinal >= best) {
+                        break;
+                    }
+                    Format format = formats[ordinal];
+                    long span = format.matchRest(line, pos, length);
+                    if (span >= 0) {
+                        best = ordinal;
+                        bestStart = (int) (span >>> 32);
+                        bestEnd = (int) span;
+                        break;
+                    }
+                }
+                if (best == firstOrdinal || pos >= length) {
+                    break;
+                }
+                node = node.child(line.charAt(pos));
+                pos++;
+            }
+            if (best == firstOrdinal) {
+                break;
+            }
+        }
+
+        if (best == TYPES.length) {
+            return false;
+        }
+
+        result.type = TYPES[best];
+        double value = parseNumber(line, bestStart, bestEnd);
+        if (!Double.isNaN(value) && value >= 0) {
+            result.value = value;
+            result.hasValue = true;
+        }
+        return true;
+    }
+
+    /**
+     * [0-9.]+ 구간을 Double.parseDouble과 같은 값으로 변환합니다.
+     *
+     * @return 변환된 값, 숫자 형식이 아니면 NaN
+     */
+    static double parseNumber(CharSequence s, int from, int to) {
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean dot = false;
+
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (c == '.') {
+                if (dot) {
+                    return Double.NaN; // 소수점이 두 개 이상
+                }
+                dot = true;
+                continue;
+            }
+            if (digits < 18) {
+                mantissa = mantissa * 10 + (c - '0');
+            }
+            digits++;
+            if (dot) {
+                fractionDigits++;
+            }
+        }
+
+        if (digits == 0) {
+            return Double.NaN; // "." 만 있는 경우
+        }
+
+        // 가수가 2^53 미만이고 10^k가 정확히 표현되면 한 번의 나눗셈으로 정확히 반올림됩니다.
+        if (digits <= 15 && fractionDigits < POW10.length) {
+            return fractionDigits == 0 ? (double) mantissa : mantissa / POW10[fractionDigits];
+        }
+        return Double.parseDouble(s.subSequence(from, to).toString());
+    }
+
+    /**
+     * 매칭 결과 (재사용 가능한 가변 객체)
+     */
+    static final class Result {
+        private StatType type;
+        private double value;
+        private boolean hasValue;
+
+        void reset() {
+            type = null;
+            value = 0;
+            hasValue = false;
+        }
+
+        /**
+         * 일치한 스탯 타입 (없으면 null)
+         */
+        StatType type() {
+            return type;
+        }
+
+        /**
+         * 추출된 값 ({@link #hasValue()}가 false면 의미 없음)
+         */
+        double value() {
+            return value;
+        }
+
+        /**
+         * 형식은 일치했지만 숫자가 잘못된 경우 false
+         */
+        boolean hasValue() {
+            return hasValue;
+        }
+    }
+
+    /**
+     * 컴파일된 단일 형식 ({value} 이후 부분)
+     */
+    private static final class Format {
+        private final StatType type;
+        private final boolean percent;
+        /**
+         * literals[i]는 i번째 {value} 바로 뒤의 리터럴
+         */
+        private final char[][] literals;
+
+        private Format(StatType type, boolean percent, char[][] literals) {
+            this.type = type;
+            this.percent = percent;
+            this.literals = literals;
+        }
+
+        /**
+         * 접두사 직후 위치부터 나머지 조각을 매칭합니다.
+         *
+         * @return 첫 번째 숫자 구간 (시작 << 32 | 끝), 실패 시 -1
+         */
+        long matchRest(CharSequence line, int pos, int length) {
+            int end = maxNumberEnd(line, pos, length);
+            // 탐욕적 매칭: 가장 긴 숫자부터 줄여가며 시도
+            for (int e = end; e > pos; e--) {
+                if (matchAfterNumber(line, e, length, 0)) {
+                    return ((long) pos << 32) | e;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * 숫자 구간 직후(선택적 %)부터 index번째 리터럴과 그 이후를 매칭합니다.
+         */
+        private boolean matchAfterNumber(CharSequence line, int pos, int length, int index) {
+            if (percent && pos < length && line.charAt(pos) == '%'
+                    && matchLiteralAndRest(line, pos + 1, length, index)) {
+                return true;
+            }
+            return matchLiteralAndRest(line, pos, length, index);
+        }
+
+        private boolean matchLiteralAndRest(CharSequence line, int pos, int length, int index) {
+            char[] literal = literals[index];
+            if (pos + literal.length > length) {
+                return false;
+            }
+            for (int i = 0; i < literal.length; i++) {
+                if (line.charAt(pos + i) != literal[i]) {
+                    return false;
+                }
+            }
+            int next = pos + literal.length;
+            if (index == literals.length - 1) {
+                return true;
+            }
+
+            // 다음 {value}
+            int end = maxNumberEnd(line, next, length);
+            for (int e = end; e > next; e--) {
+                if (matchAfterNumber(line, e, length, index + 1)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static int maxNumberEnd(CharSequence line, int pos, int length) {
+            int e = pos;
+            while (e < length) {
+                char c = line.charAt(e);
+                if ((c < '0' || c > '9') && c != '.') {
+                    break;
+                }
+                e++;
+            }
+            return e;
+        }
+
+        @Override
+        public String toString() {
+            return "Format{" + type + '}';
+        }
+    }
+
+    /**
+     * 접두사 트라이 노드
+     */
+    private static final class TrieNode {
+        private static final int[] NO_TERMINALS = new int[0];
+
+        private final char[] keys;
+        private final TrieNode[] children;
+        private final int[] terminals;
+
+        private TrieNode(char[] keys, TrieNode[] children, int[] terminals) {
+            this.keys = keys;
+            this.children = children;
+            this.terminals = terminals.length == 0 ? NO_TERMINALS : terminals;
+        }
+
+        private TrieNode child(char c) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 트라이 빌더 (컴파일 시에만 사용)
+     */
+    private static final class TrieBuilder {
+        private final List<Character> keys = new ArrayList<>();
+        private final List<TrieBuilder> children = new ArrayList<>();
+        private final List<Integer> terminals = new ArrayList<>();
+
+        void add(String prefix, int ordinal) {
+            TrieBuilder node = this;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.childFor(prefix.charAt(i));
+            }
+            node.terminals.add(ordinal);
+        }
+
+        private TrieBuilder childFor(char c) {
+            int index = keys.indexOf(c);
+            if (index >= 0) {
+                return children.get(index);
+            }
+            TrieBuilder child = new TrieBuilder();
+            keys.add(c);
+            children.add(child);
+            return child;
+        }
+
+        TrieNode build() {
+            char[] keyArray = new char[keys.size()];
+            TrieNode[] childArray = new TrieNode[children.size()];
+            for (int i = 0; i < keyArray.length; i++) {
+                keyArray[i] = keys.get(i);
+                childArray[i] = children.get(i).build();
+            }
+            int[] terminalArray = terminals.stream().mapToInt(Integer::intValue).toArray();
+            Arrays.sort(terminalArray);
+            return new TrieNode(keyArray, childArray, terminalArray);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package kr.minex.pvplorestat.infrastructure.lore;
+
+import kr.minex.pvplorestat.domain.model.StatType;
+
+/**
+ * 색상 코드 인식 로어 라인 스캐너
+ * <p>
+ * 원본 라인(§ 코드, & 코드, §x RGB, &#RRGGBB)을 스레드별로 재사용하는 버퍼에 옮기면서
+ * 색상 코드를 건너뛰고, 그 버퍼 위에서 바로 스탯 / 구분선 / 기타로 분류하고 값을 추출합니다.
+ * 버퍼가 충분히 커진 뒤에는 라인마다 문자열이나 배열을 새로 만들지 않습니다.
+ * </p>
+ * <p>
+ * 버퍼에 남는 내용은 {@link LoreManager#stripColor(String)}의 결과와 항상 같으므로,
+ * 분류 결과도 색상 코드를 제거한 문자열로 판정하던 기존 방식과 같습니다.
+ * </p>
+ *
+ * @author Minex
+ * @since 1.0.0
+ */
+final class LoreLineScanner {
+
+    /**
+     * 라인 분류
+     */
+    enum Kind {
+        /** lore.format과 일치하는 스탯 라인 */
+        STAT,
+        /** 구분선 */
+        SEPARATOR,
+        /** 그 밖의 라인 */
+        OTHER
+    }
+
+    private final CompiledLoreMatcher matcher;
+    private final char[] separatorTop;
+    private final char[] separatorBottom;
+    private final ThreadLocal<Scan> scans = ThreadLocal.withInitial(Scan::new);
+
+    /**
+     * 스캐너를 생성합니다.
+     *
+     * @param matcher         컴파일된 로어 매처
+     * @param separatorTop    상단 구분선 (색상 코드 포함 가능)
+     * @param separatorBottom 하단 구분선 (색상 코드 포함 가능)
+     */
+    LoreLineScanner(CompiledLoreMatcher matcher, String separatorTop, String separatorBottom) {
+        this.matcher = matcher;
+        this.separatorTop = strippedChars(separatorTop);
+        this.separatorBottom = strippedChars(separatorBottom);
+    }
+
+    private static char[] strippedChars(String text) {
+        String stripped = LoreManager.stripColor(text);
+        return stripped == null ? null : stripped.toCharArray();
+    }
+
+    /**
+     * 라인을 분류하고 스탯 값을 추출합니다.
+     * <p>
+     * 반환되는 객체는 현재 스레드에서 재사용되므로, 같은 스레드에서 다음 스캔을 하기 전까지만 유효합니다.
+     * 스탯 형식과 일치하면 구분선 여부와 관계없이 {@link Kind#STAT}입니다.
+     * </p>
+     *
+     * @param line 원본 라인
+     * @return 스캔 결과
+     */
+    Scan scan(String line) {
+        Scan scan = scans.get();
+        scan.kind = Kind.OTHER;
+        scan.result.reset();
+        if (line == null || line.isEmpty()) {
+            return scan;
+        }
+
+        LineBuffer buffer = scan.buffer;
+        buffer.load(line);
+        if (matcher.match(buffer, scan.result)) {
+            scan.kind = Kind.STAT;
+        } else if (isSeparator(buffer)) {
+            scan.kind = Kind.SEPARATOR;
+        }
+        return scan;
+    }
+
+    /**
+     * 라인을 분류만 합니다.
+     *
+     * @param line 원본 라인
+     * @return 라인 분류
+     */
+    Kind classify(String line) {
+        return scan(line).kind;
+    }
+
+    /**
+     * 스탯 형식과 관계없이 구분선인지 확인합니다.
+     *
+     * @param line 원본 라인
+     * @return 구분선이면 true
+     */
+    boolean isSeparator(String line) {
+        if (line == null || line.isEmpty()) {
+            return false;
+        }
+        LineBuffer buffer = scans.get().buffer;
+        buffer.load(line);
+        return isSeparator(buffer);
+    }
+
+    private boolean isSeparator(LineBuffer buffer) {
+        // 템플릿의 구분선과 비교
+        if (buffer.contentEquals(separatorTop) || buffer.contentEquals(separatorBottom)) {
+            return true;
+        }
+
+        // 일반적인 구분선 패턴 (구분선 문자로만 이루어졌거나 대시 연속)
+        return buffer.isAllSeparatorChars()
+                || buffer.containsRun('─', 4)
+                || buffer.containsRun('-', 4);
+    }
+
+    /**
+     * 스캔 결과 (스레드별로 재사용되는 가변 객체)
+     */
+    static final class Scan {
+        private final LineBuffer buffer = new LineBuffer();
+        private final CompiledLoreMatcher.Result result = new CompiledLoreMatcher.Result();
+        private Kind kind = Kind.OTHER;
+
+        /**
+         * 라인 분류
+         */
+        Kind kind() {
+            return kind;
+        }
+
+        /**
+         * 일치한 스탯 타입 (스탯 라인이 아니면 null)
+         */
+        StatType type() {
+            return result.type();
+        }
+
+        /**
+         * 추출된 값 ({@link #hasValue()}가 false면 의미 없음)
+         */
+        double value() {
+            return result.value();
+        }
+
+        /**
+         * 스탯 라인이고 숫자가 올바르면 true
+         */
+        boolean hasValue() {
+            return result.hasValue();
+        }
+    }
+
+    /**
+     * 색상 코드를 제거한 라인을 담는 재사용 버퍼
+     */
+    static final class LineBuffer implements CharSequence {
+        private static final int INITIAL_CAPACITY = 64;
+
+        private char[] chars = new char[INITIAL_CAPACITY];
+        private int length;
+
+        /**
+         * 원본 라인을 복사하고 그 자리에서 색상 코드를 제거합니다.
+         */
+        void load(String line) {
+            int size = line.length();
+            if (chars.length < size) {
+                chars = new char[Math.max(size, chars.length * 2)];
+            }
+            line.getChars(0, size, chars, 0);
+            length = LoreManager.stripColor(chars, size);
+        }
+
+        boolean contentEquals(char[] other) {
+            if (other == null || other.length != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (chars[i] != other[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean isAllSeparatorChars() {
+            if (length == 0) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                char c = chars[i];
+                if (c != '─' && c != '-' && c != '━' && c != '═') {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean containsRun(char c, int count) {
+            int run = 0;
+            for (int i = 0; i < length; i++) {
+                if (chars[i] == c) {
+                    if (++run >= count) {
+                        return true;
+                    }
+                } else {
+                    run = 0;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return chars[index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new String(chars, start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(chars, 0, length);
+        }
+    }
+}
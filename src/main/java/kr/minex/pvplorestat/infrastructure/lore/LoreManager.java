@@ -2,10 +2,10 @@ package kr.minex.pvplorestat.infrastructure.lore;
 
 import kr.minex.pvplorestat.domain.model.ItemStats;
 import kr.minex.pvplorestat.domain.model.StatType;
+import kr.minex.pvplorestat.infrastructure.cache.ItemStatsInterner;
 
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.function.Function;
 
 /**
  * 로어 관리자
@@ -20,100 +20,50 @@ import java.util.regex.Pattern;
 public class LoreManager {
 
     private final LoreTemplate template;
-    private final Map<StatType, Pattern> parsePatterns;
-    private final String separatorTopStripped;
-    private final String separatorBottomStripped;
-
-    private static final Pattern RGB_COLOR_PATTERN = Pattern.compile("§x(§[0-9a-fA-F]){6}");
-    private static final Pattern SECTION_COLOR_PATTERN = Pattern.compile("§[0-9a-fA-Fk-oK-OrRxX]");
-    private static final Pattern AMPERSAND_COLOR_PATTERN = Pattern.compile("&[0-9a-fA-Fk-oK-OrRxX]");
-    private static final Pattern SEPARATOR_LINE_PATTERN = Pattern.compile("^[─\\-━═]+$");
-
-    // {value} 플레이스홀더 패턴
-    private static final Pattern VALUE_PLACEHOLDER = Pattern.compile("\\{value}");
+    private final LoreLineScanner scanner;
+    private final ParsedLoreCache parseCache;
+    private final ItemStatsInterner interner;
+    private final Function<List<String>, ItemStats> uncachedParser = this::parseLoreUncached;
 
     /**
-     * LoreManager를 생성합니다.
+     * 파싱 캐시 없이 LoreManager를 생성합니다.
      *
      * @param template 로어 템플릿
      */
     public LoreManager(LoreTemplate template) {
-        this.template = template;
-        this.parsePatterns = buildParsePatternsFromTemplate();
-        this.separatorTopStripped = stripColor(template.getSeparatorTop());
-        this.separatorBottomStripped = stripColor(template.getSeparatorBottom());
+        this(template, null);
     }
 
     /**
-     * 템플릿의 format 설정을 기반으로 파싱 패턴을 생성합니다.
-     * <p>
-     * 예: "&c⚔ 공격력 &f+{value}" -> "⚔ 공격력 \+([0-9.]+)"
-     * </p>
+     * LoreManager를 생성합니다.
+     *
+     * @param template   로어 템플릿
+     * @param parseCache 파싱 결과 캐시 (null이면 캐시하지 않음)
      */
-    private Map<StatType, Pattern> buildParsePatternsFromTemplate() {
-        Map<StatType, Pattern> patterns = new EnumMap<>(StatType.class);
-
-        for (StatType type : StatType.values()) {
-            String format = template.getFormat(type);
-            if (format == null || format.isEmpty()) {
-                continue;
-            }
-
-            // 색상 코드 제거
-            String stripped = stripColor(format);
-
-            // {value} 위치 확인
-            if (!stripped.contains("{value}")) {
-                continue;
-            }
-
-            // 정규식 특수문자 이스케이프 (단, {value}는 나중에 처리)
-            String escaped = escapeRegexExceptValue(stripped);
-
-            // {value}를 숫자 캡처 그룹으로 치환
-            // 퍼센트 스탯이면 %도 선택적으로 매칭
-            String valuePattern = type.isPercent() ? "([0-9.]+)%?" : "([0-9.]+)";
-            String regex = escaped.replace("\\{value\\}", valuePattern);
-
-            try {
-                patterns.put(type, Pattern.compile(regex));
-            } catch (Exception e) {
-                // 패턴 컴파일 실패 시 무시 (잘못된 설정)
-            }
-        }
-
-        return patterns;
+    public LoreManager(LoreTemplate template, ParsedLoreCache parseCache) {
+        this(template, parseCache, null);
     }
 
     /**
-     * 정규식 특수문자를 이스케이프합니다. ({value}는 보존)
+     * LoreManager를 생성합니다.
+     *
+     * @param template   로어 템플릿
+     * @param parseCache 파싱 결과 캐시 (null이면 캐시하지 않음)
+     * @param interner   파싱 결과 인터닝 테이블 (null이면 인터닝하지 않음)
      */
-    private String escapeRegexExceptValue(String text) {
-        StringBuilder sb = new StringBuilder();
-        int i = 0;
-        while (i < text.length()) {
-            // {value} 패턴 확인
-            if (i + 7 <= text.length() && text.substring(i, i + 7).equals("{value}")) {
-                sb.append("\\{value\\}");
-                i += 7;
-                continue;
-            }
-
-            char c = text.charAt(i);
-            // 정규식 메타문자 이스케이프
-            if ("\\[]{}()^$.|*+?".indexOf(c) >= 0) {
-                sb.append('\\');
-            }
-            sb.append(c);
-            i++;
-        }
-        return sb.toString();
+    public LoreManager(LoreTemplate template, ParsedLoreCache parseCache, ItemStatsInterner interner) {
+        this.template = template;
+        this.parseCache = parseCache;
+        this.interner = interner;
+        this.scanner = new LoreLineScanner(CompiledLoreMatcher.compile(template),
+                template.getSeparatorTop(), template.getSeparatorBottom());
     }
 
     /**
      * 로어에서 스탯을 파싱합니다.
      * <p>
      * config.yml의 lore.format과 정확히 일치하는 라인만 파싱합니다.
+     * 파싱 캐시가 있으면 같은 로어는 다시 파싱하지 않습니다.
      * </p>
      *
      * @param lore 로어 라인 목록
@@ -123,34 +73,35 @@ public class LoreManager {
         if (lore == null || lore.isEmpty()) {
             return ItemStats.empty();
         }
+        if (parseCache != null) {
+            return parseCache.get(template.getVersion(), lore, uncachedParser);
+        }
+        return parseLoreUncached(lore);
+    }
 
-        ItemStats.Builder builder = ItemStats.builder();
-        Map<StatType, Double> foundStats = new EnumMap<>(StatType.class);
+    /**
+     * 캐시를 거치지 않고 로어를 파싱합니다.
+     * 인터닝 테이블이 있으면 같은 값의 대표 인스턴스를 반환합니다.
+     */
+    private ItemStats parseLoreUncached(List<String> lore) {
+        // StatType 순서대로 마지막으로 찾은 값 (NaN = 없음)
+        double[] found = new double[StatType.values().length];
+        Arrays.fill(found, Double.NaN);
 
         for (String line : lore) {
-            String stripped = stripColor(line);
-
-            for (Map.Entry<StatType, Pattern> entry : parsePatterns.entrySet()) {
-                StatType type = entry.getKey();
-                Pattern pattern = entry.getValue();
-
-                Matcher matcher = pattern.matcher(stripped);
-                if (matcher.find()) {
-                    try {
-                        double value = Double.parseDouble(matcher.group(1));
-                        if (value >= 0) {
-                            foundStats.put(type, value);
-                        }
-                    } catch (NumberFormatException ignored) {
-                        // 숫자 파싱 실패 시 무시
-                    }
-                    break; // 이 라인에서 스탯을 찾았으면 다음 라인으로
-                }
+            LoreLineScanner.Scan scan = scanner.scan(line);
+            if (scan.kind() == LoreLineScanner.Kind.STAT && scan.hasValue()) {
+                found[scan.type().ordinal()] = scan.value();
             }
         }
 
         // 찾은 스탯을 빌더에 적용
-        foundStats.forEach((type, value) -> {
+        ItemStats.Builder builder = ItemStats.builder();
+        for (StatType type : StatType.values()) {
+            double value = found[type.ordinal()];
+            if (Double.isNaN(value)) {
+                continue;
+            }
             switch (type) {
                 case DAMAGE -> builder.damage(value);
                 case DEFENSE -> builder.defense(value);
@@ -160,9 +111,10 @@ public class LoreManager {
                 case CRIT_DAMAGE -> builder.critDamage(value);
                 case DODGE -> builder.dodge(value);
             }
-        });
+        }
 
-        return builder.build();
+        ItemStats stats = builder.build();
+        return interner != null ? interner.intern(stats) : stats;
     }
 
     /**
@@ -229,7 +181,7 @@ public class LoreManager {
 
         for (int i = 0; i < existingLore.size(); i++) {
             String line = existingLore.get(i);
-            boolean isStatOrSeparator = isStatLine(line) || isSeparatorLine(line);
+            boolean isStatOrSeparator = scanner.classify(line) != LoreLineScanner.Kind.OTHER;
 
             if (isStatOrSeparator) {
                 if (firstStatIndex == -1) {
@@ -311,7 +263,7 @@ public class LoreManager {
 
         List<String> result = new ArrayList<>();
         for (String line : existingLore) {
-            if (!isStatLine(line) && !isSeparatorLine(line)) {
+            if (scanner.classify(line) == LoreLineScanner.Kind.OTHER) {
                 result.add(line);
             }
         }
@@ -325,18 +277,7 @@ public class LoreManager {
      * @return 스탯 라인이면 true
      */
     public boolean isStatLine(String line) {
-        if (line == null || line.isEmpty()) {
-            return false;
-        }
-
-        String stripped = stripColor(line);
-
-        for (Pattern pattern : parsePatterns.values()) {
-            if (pattern.matcher(stripped).find()) {
-                return true;
-            }
-        }
-        return false;
+        return scanner.classify(line) == LoreLineScanner.Kind.STAT;
     }
 
     /**
@@ -346,25 +287,14 @@ public class LoreManager {
      * @return 구분선이면 true
      */
     public boolean isSeparatorLine(String line) {
-        if (line == null || line.isEmpty()) {
-            return false;
-        }
-
-        String stripped = stripColor(line);
-
-        // 템플릿의 구분선과 비교
-        if (stripped.equals(separatorTopStripped) || stripped.equals(separatorBottomStripped)) {
-            return true;
-        }
-
-        // 일반적인 구분선 패턴 (대시 연속)
-        return SEPARATOR_LINE_PATTERN.matcher(stripped).matches() ||
-                stripped.contains("────") ||
-                stripped.contains("----");
+        return scanner.isSeparator(line);
     }
 
     /**
      * 문자열에서 색상 코드를 제거합니다.
+     * <p>
+     * §x§r§r§g§g§b§b RGB, § 코드, &#RRGGBB, & 코드 순서로 제거합니다.
+     * </p>
      *
      * @param text 원본 텍스트
      * @return 색상 코드가 제거된 텍스트
@@ -379,20 +309,128 @@ public class LoreManager {
             return text;
         }
 
-        String result = text;
+        char[] chars = text.toCharArray();
+        int length = stripColor(chars, chars.length);
+        return length == chars.length ? text : new String(chars, 0, length);
+    }
+
+    /**
+     * 문자 배열에서 그 자리에서 색상 코드를 제거합니다.
+     * <p>
+     * 단계마다 앞에서부터 한 번씩 당겨 쓰므로, 앞 단계에서 코드가 제거되어 새로 붙은 문자도
+     * 다음 단계에서 다시 검사됩니다. (예: "§§x§1§2§3§4§5§6a" → "§a" → "")
+     * </p>
+     *
+     * @param chars  문자 배열 (앞부분이 덮어써짐)
+     * @param length 유효한 길이
+     * @return 색상 코드 제거 후 길이
+     */
+    static int stripColor(char[] chars, int length) {
+        boolean section = false;
+        boolean rgb = false;
+        boolean ampersand = false;
+        for (int i = 0; i < length; i++) {
+            char c = chars[i];
+            if (c == '§') {
+                section = true;
+                if (i + 1 < length && chars[i + 1] == 'x') {
+                    rgb = true;
+                }
+            } else if (c == '&') {
+                ampersand = true;
+            }
+        }
 
         // §x§r§r§g§g§b§b RGB 형식 제거 (먼저 처리)
-        if (result.contains("§x")) {
-            result = RGB_COLOR_PATTERN.matcher(result).replaceAll("");
+        if (rgb) {
+            length = removeSectionRgb(chars, length);
         }
-        if (result.indexOf('§') >= 0) {
-            result = SECTION_COLOR_PATTERN.matcher(result).replaceAll("");
+        if (section) {
+            length = removeColorCodes(chars, length, '§');
         }
-        if (result.indexOf('&') >= 0) {
-            result = AMPERSAND_COLOR_PATTERN.matcher(result).replaceAll("");
+        if (ampersand) {
+            length = removeAmpersandHex(chars, length);
+            length = removeColorCodes(chars, length, '&');
         }
+        return length;
+    }
 
-        return result;
+    private static int removeSectionRgb(char[] chars, int length) {
+        int write = 0;
+        int i = 0;
+        while (i < length) {
+            if (chars[i] == '§' && i + 14 <= length && chars[i + 1] == 'x' && isSectionHexRun(chars, i + 2)) {
+                i += 14;
+            } else {
+                chars[write++] = chars[i++];
+            }
+        }
+        return write;
+    }
+
+    private static boolean isSectionHexRun(char[] chars, int from) {
+        for (int k = 0; k < 6; k++) {
+            if (chars[from + k * 2] != '§' || !isHexDigit(chars[from + k * 2 + 1])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int removeAmpersandHex(char[] chars, int length) {
+        int write = 0;
+        int i = 0;
+        while (i < length) {
+            if (chars[i] == '&' && i + 8 <= length && chars[i + 1] == '#' && isHexRun(chars, i + 2)) {
+                i += 8;
+            } else {
+                chars[write++] = chars[i++];
+            }
+        }
+        return write;
+    }
+
+    private static boolean isHexRun(char[] chars, int from) {
+        for (int k = 0; k < 6; k++) {
+            if (!isHexDigit(chars[from + k])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int removeColorCodes(char[] chars, int length, char marker) {
+        int write = 0;
+        int i = 0;
+        while (i < length) {
+            if (chars[i] == marker && i + 1 < length && isColorCode(chars[i + 1])) {
+                i += 2;
+            } else {
+                chars[write++] = chars[i++];
+            }
+        }
+        return write;
+    }
+
+    private static boolean isHexDigit(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    /**
+     * [0-9a-fA-Fk-oK-OrRxX]
+     */
+    private static boolean isColorCode(char c) {
+        return isHexDigit(c) || (c >= 'k' && c <= 'o') || (c >= 'K' && c <= 'O')
+                || c == 'r' || c == 'R' || c == 'x' || c == 'X';
+    }
+
+    /**
+     * 파싱 결과 캐시를 반환합니다.
+     *
+     * @return 파싱 캐시, 사용하지 않으면 null
+     */
+    public ParsedLoreCache getParseCache() {
+        return parseCache;
     }
 
     /**
@@ -20,6 +20,7 @@ public class LoreTemplate {
     private final String separatorTop;
     private final String separatorBottom;
     private final boolean separatorEnabled;
+    private final long version;
 
     private LoreTemplate(Map<StatType, String> formats, List<StatType> order,
                          String separatorTop, String separatorBottom, boolean separatorEnabled) {
@@ -28,6 +29,28 @@ public class LoreTemplate {
         this.separatorTop = separatorTop;
         this.separatorBottom = separatorBottom;
         this.separatorEnabled = separatorEnabled;
+        this.version = computeVersion();
+    }
+
+    /**
+     * 템플릿 내용으로 64비트 버전 값을 계산합니다.
+     * 내용이 같으면 항상 같은 값이 나옵니다.
+     */
+    private long computeVersion() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<StatType, String> entry : formats.entrySet()) {
+            sb.append(entry.getKey().name()).append('=').append(entry.getValue()).append('\n');
+        }
+        sb.append(order).append('\n')
+                .append(separatorTop).append('\n')
+                .append(separatorBottom).append('\n')
+                .append(separatorEnabled);
+
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < sb.length(); i++) {
+            hash = (hash ^ sb.charAt(i)) * 0x100000001B3L;
+        }
+        return hash;
     }
 
     /**
@@ -95,6 +118,18 @@ public class LoreTemplate {
         return translateColorCodes(format.replace("{value}", valueStr));
     }
 
+    /**
+     * 템플릿 버전을 반환합니다.
+     * <p>
+     * 템플릿 내용에서 계산한 지문으로, 파싱 결과 캐시의 키에 사용됩니다.
+     * </p>
+     *
+     * @return 템플릿 버전
+     */
+    public long getVersion() {
+        return version;
+    }
+
     /**
      * 스탯 표시 순서를 반환합니다.
      *
@@ -133,6 +168,9 @@ public class LoreTemplate {
 
     /**
      * & 색상 코드를 § 로 변환합니다.
+     * <p>
+     * &#RRGGBB 형식의 HEX 색상은 §x§r§r§g§g§b§b 형식으로 변환합니다.
+     * </p>
      *
      * @param text 변환할 텍스트
      * @return 변환된 텍스트
@@ -141,7 +179,7 @@ public class LoreTemplate {
         if (text == null) {
             return null;
         }
-        char[] chars = text.toCharArray();
+        char[] chars = text.contains("&#") ? expandHexColors(text) : text.toCharArray();
         for (int i = 0; i < chars.length - 1; i++) {
             if (chars[i] == '&' && "0123456789AaBbCcDdEeFfKkLlMmNnOoRrXx".indexOf(chars[i + 1]) > -1) {
                 chars[i] = '§';
@@ -151,6 +189,38 @@ public class LoreTemplate {
         return new String(chars);
     }
 
+    /**
+     * &#RRGGBB를 §x§r§r§g§g§b§b로 펼칩니다.
+     */
+    private static char[] expandHexColors(String text) {
+        StringBuilder sb = new StringBuilder(text.length() + 8);
+        int i = 0;
+        while (i < text.length()) {
+            if (text.charAt(i) == '&' && i + 8 <= text.length() && text.charAt(i + 1) == '#'
+                    && isHexColor(text, i + 2)) {
+                sb.append("§x");
+                for (int k = i + 2; k < i + 8; k++) {
+                    sb.append('§').append(Character.toLowerCase(text.charAt(k)));
+                }
+                i += 8;
+            } else {
+                sb.append(text.charAt(i++));
+            }
+        }
+        char[] chars = new char[sb.length()];
+        sb.getChars(0, sb.length(), chars, 0);
+        return chars;
+    }
+
+    private static boolean isHexColor(String text, int from) {
+        for (int k = from; k < from + 6; k++) {
+            if ("0123456789AaBbCcDdEeFf".indexOf(text.charAt(k)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * 빌더를 생성합니다.
      *
@@ -0,0 +1,312 @@
+package kr.minex.pvplorestat.infrastructure.lore;
+
+import kr.minex.pvplorestat.domain.model.ItemStats;
+import kr.minex.pvplorestat.infrastructure.monitoring.PluginMetrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 파싱된 로어 캐시
+ * <p>
+ * 로어 원문 라인과 템플릿 버전으로 만든 지문을 키로 파싱 결과({@link ItemStats})를 보관합니다.
+ * 수백 명이 같은 장비를 착용하더라도 동일한 로어는 한 번만 파싱됩니다.
+ * </p>
+ * <p>
+ * 항목은 지문(long)을 그대로 키로 쓰는 선형 탐사 배열에 보관하므로 조회할 때 키를 박싱하지 않습니다.
+ * 조회는 잠금 없이, 추가와 제거는 잠금 안에서 동작합니다.
+ * 제거 중인 칸을 지나는 조회는 항목을 놓칠 수 있지만, 그때는 다시 파싱할 뿐 잘못된 결과를 반환하지 않습니다.
+ * </p>
+ * <p>
+ * 용량을 초과하면 임의 위치부터 {@link #EVICTION_SAMPLES}개 항목을 살펴 접근 빈도가 가장 낮은 항목을 제거합니다.
+ * 빈도는 주기적으로 절반으로 줄여 오래전에 인기 있던 항목이 계속 남지 않도록 합니다.
+ * 지문이 충돌하더라도 원문 비교로 검증하므로 잘못된 결과를 반환하지 않습니다.
+ * </p>
+ *
+ * @author Minex
+ * @since 1.0.0
+ */
+public final class ParsedLoreCache {
+
+    /**
+     * 제거할 항목을 고를 때 살펴보는 항목 수
+     */
+    static final int EVICTION_SAMPLES = 8;
+
+    private static final int MAX_TABLE_SIZE = 1 << 30;
+
+    private final int maxSize;
+    private final int agingThreshold;
+    private final PluginMetrics metrics;
+
+    /**
+     * 선형 탐사 배열 (크기는 2의 거듭제곱, 최대 항목 수의 2배 이상)
+     */
+    private final AtomicReferenceArray<Entry> table;
+    private final int mask;
+    private final AtomicInteger accessesSinceAging = new AtomicInteger();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /**
+     * 항목 수 (잠금 안에서만 변경)
+     */
+    private volatile int size;
+
+    /**
+     * 캐시를 생성합니다.
+     *
+     * @param maxSize 최대 항목 수 (1 이상)
+     * @param metrics 적중/실패/제거 횟수를 기록할 메트릭
+     */
+    public ParsedLoreCache(int maxSize, PluginMetrics metrics) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize는 1 이상이어야 합니다: " + maxSize);
+        }
+        this.maxSize = Math.min(maxSize, MAX_TABLE_SIZE / 2);
+        this.agingThreshold = (int) Math.min(Integer.MAX_VALUE, this.maxSize * 10L);
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+        int tableSize = Integer.highestOneBit(this.maxSize * 2 - 1) << 1;
+        this.table = new AtomicReferenceArray<>(tableSize);
+        this.mask = tableSize - 1;
+    }
+
+    /**
+     * 캐시된 파싱 결과를 반환하거나, 없으면 파싱 후 저장합니다.
+     *
+     * @param templateVersion 로어 템플릿 버전
+     * @param lore            로어 원문 라인
+     * @param parser          캐시 미스 시 사용할 파서
+     * @return 파싱된 스탯
+     */
+    public ItemStats get(long templateVersion, List<String> lore, Function<List<String>, ItemStats> parser) {
+        long key = fingerprint(templateVersion, lore);
+
+        Entry entry = find(key, templateVersion, lore);
+        if (entry != null) {
+            entry.frequency.incrementAndGet();
+            metrics.recordLoreCacheHit();
+            onAccess();
+            return entry.stats;
+        }
+
+        metrics.recordLoreCacheMiss();
+        ItemStats stats = parser.apply(lore);
+
+        List<String> snapshot = snapshotOf(lore);
+        if (snapshot != null) {
+            insert(new Entry(key, templateVersion, snapshot, stats));
+        }
+        onAccess();
+        return stats;
+    }
+
+    /**
+     * 캐시를 비웁니다.
+     */
+    public void clear() {
+        writeLock.lock();
+        try {
+            for (int i = 0; i < table.length(); i++) {
+                table.set(i, null);
+            }
+            size = 0;
+            accessesSinceAging.set(0);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 현재 캐시된 항목 수를 반환합니다.
+     *
+     * @return 항목 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 최대 항목 수를 반환합니다.
+     *
+     * @return 최대 항목 수
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    private int indexOf(long key) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+
+    /**
+     * 지문으로 항목을 찾습니다. (잠금 없음)
+     */
+    private Entry find(long key, long templateVersion, List<String> lore) {
+        for (int i = indexOf(key), probes = 0; probes <= mask; i = (i + 1) & mask, probes++) {
+            Entry entry = table.get(i);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.key == key && entry.matches(templateVersion, lore)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 항목을 추가하고 용량을 넘으면 하나를 제거합니다.
+     * 같은 지문의 항목이 있으면(동시 추가 또는 지문 충돌) 최신 로어로 교체합니다.
+     */
+    private void insert(Entry added) {
+        writeLock.lock();
+        try {
+            int i = indexOf(added.key);
+            while (true) {
+                Entry entry = table.get(i);
+                if (entry == null) {
+                    table.set(i, added);
+                    size++;
+                    break;
+                }
+                if (entry.key == added.key) {
+                    table.set(i, added);
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+            if (size > maxSize) {
+                evictOne(added);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 임의 위치부터 항목을 몇 개 살펴 빈도가 가장 낮은 항목을 제거합니다. (잠금 안)
+     * 방금 추가한 항목은 제거 대상에서 제외합니다.
+     */
+    private void evictOne(Entry justAdded) {
+        int victim = -1;
+        int victimFrequency = Integer.MAX_VALUE;
+        int sampled = 0;
+        int i = ThreadLocalRandom.current().nextInt(table.length());
+        for (int probes = 0; probes <= mask && sampled < EVICTION_SAMPLES; i = (i + 1) & mask, probes++) {
+            Entry entry = table.get(i);
+            if (entry == null || entry == justAdded) {
+                continue;
+            }
+            sampled++;
+            int frequency = entry.frequency.get();
+            if (frequency < victimFrequency) {
+                victim = i;
+                victimFrequency = frequency;
+            }
+        }
+        if (victim >= 0) {
+            removeAt(victim);
+            size--;
+            metrics.recordLoreCacheEviction();
+        }
+    }
+
+    /**
+     * 칸을 비우고, 뒤따르는 탐사열의 항목을 당겨 빈칸 없이 유지합니다. (잠금 안)
+     */
+    private void removeAt(int index) {
+        int hole = index;
+        for (int i = (index + 1) & mask; ; i = (i + 1) & mask) {
+            Entry entry = table.get(i);
+            if (entry == null) {
+                break;
+            }
+            // 원래 위치가 (hole, i] 구간 밖이면 빈칸으로 당겨도 탐사열이 끊기지 않음
+            int home = indexOf(entry.key);
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                table.set(hole, entry);
+                hole = i;
+            }
+        }
+        table.set(hole, null);
+    }
+
+    /**
+     * 템플릿 버전과 로어 라인으로 64비트 지문을 계산합니다.
+     */
+    static long fingerprint(long templateVersion, List<String> lore) {
+        long hash = templateVersion ^ 0x9E3779B97F4A7C15L;
+        for (int i = 0, size = lore.size(); i < size; i++) {
+            String line = lore.get(i);
+            hash = (hash ^ (line == null ? 0 : line.hashCode())) * 0x100000001B3L;
+            hash ^= hash >>> 29;
+        }
+        return hash ^ lore.size();
+    }
+
+    /**
+     * 캐시에 보관할 불변 사본을 만듭니다. null 라인이 있으면 캐시하지 않습니다.
+     */
+    private static List<String> snapshotOf(List<String> lore) {
+        List<String> copy = new ArrayList<>(lore.size());
+        for (String line : lore) {
+            if (line == null) {
+                return null;
+            }
+            copy.add(line);
+        }
+        return Collections.unmodifiableList(copy);
+    }
+
+    /**
+     * 접근 횟수가 임계값에 도달하면 모든 빈도를 절반으로 줄입니다.
+     */
+    private void onAccess() {
+        if (accessesSinceAging.incrementAndGet() < agingThreshold) {
+            return;
+        }
+        if (!writeLock.tryLock()) {
+            return;
+        }
+        try {
+            accessesSinceAging.set(0);
+            for (int i = 0; i < table.length(); i++) {
+                Entry entry = table.get(i);
+                if (entry != null) {
+                    entry.frequency.updateAndGet(f -> f >>> 1);
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 캐시 항목
+     */
+    private static final class Entry {
+        private final long key;
+        private final long templateVersion;
+        private final List<String> lore;
+        private final ItemStats stats;
+        private final AtomicInteger frequency = new AtomicInteger(1);
+
+        private Entry(long key, long templateVersion, List<String> lore, ItemStats stats) {
+            this.key = key;
+            this.templateVersion = templateVersion;
+            this.lore = lore;
+            this.stats = stats;
+        }
+
+        private boolean matches(long templateVersion, List<String> other) {
+            return this.templateVersion == templateVersion && lore.equals(other);
+        }
+    }
+}
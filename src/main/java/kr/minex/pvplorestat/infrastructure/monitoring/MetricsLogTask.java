@@ -1,7 +1,5 @@
 package kr.minex.pvplorestat.infrastructure.monitoring;
 
-import org.bukkit.scheduler.BukkitRunnable;
-
 import java.util.Objects;
 import java.util.logging.Logger;
 
@@ -11,7 +9,7 @@ import java.util.logging.Logger;
  * 디버그 모드에서만 활성화하는 것을 권장합니다.
  * </p>
  */
-public final class MetricsLogTask extends BukkitRunnable {
+public final class MetricsLogTask implements Runnable {
 
     private final PluginMetrics metrics;
     private final Logger logger;
@@ -1,6 +1,10 @@
 package kr.minex.pvplorestat.infrastructure.monitoring;
 
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
 
 /**
  * 플러그인 메트릭(경량)
@@ -13,48 +17,444 @@ public final class PluginMetrics {
     private final LongAdder loreParseCount = new LongAdder();
     private final LongAdder loreParseNanos = new LongAdder();
 
+    private final LongAdder loreCacheHits = new LongAdder();
+    private final LongAdder loreCacheMisses = new LongAdder();
+    private final LongAdder loreCacheEvictions = new LongAdder();
+
+    private final LongAdder statRecordHits = new LongAdder();
+    private final LongAdder statRecordMigrations = new LongAdder();
+
     private final LongAdder playerStatCalcCount = new LongAdder();
     private final LongAdder playerStatCalcNanos = new LongAdder();
 
+    private final LongAdder equipmentSlotsSkipped = new LongAdder();
+    private final LongAdder equipmentSlotsParsed = new LongAdder();
+    private final LongAdder playerStatSkips = new LongAdder();
+
     private final LongAdder combatCalcCount = new LongAdder();
     private final LongAdder combatCalcNanos = new LongAdder();
+    private final LongAdder combatFastRejects = new LongAdder();
 
     private final LongAdder statUpdateTaskRuns = new LongAdder();
     private final LongAdder statUpdateTaskNanos = new LongAdder();
+    private final LongAdder dirtyPlayerRefreshes = new LongAdder();
+    private final LongAdder reconcileSweeps = new LongAdder();
+    private final LongAdder statBudgetOverruns = new LongAdder();
+    private final LongAdder statStalenessCount = new LongAdder();
+    private final LongAdder statStalenessNanos = new LongAdder();
+    private final LongAccumulator statStalenessMaxNanos = new LongAccumulator(Math::max, 0);
+    private final AtomicLong statQueueDepth = new AtomicLong();
+    private final LongAccumulator statQueueDepthMax = new LongAccumulator(Math::max, 0);
+
+    private final LongAdder playerStatsCacheHits = new LongAdder();
+    private final LongAdder playerStatsCacheMisses = new LongAdder();
+    private final LongAdder playerStatsCachePuts = new LongAdder();
+    private final LongAdder playerStatsCacheRemoves = new LongAdder();
+    // 크기 게이지는 여러 스레드가 동시에 쓰더라도 순서가 뒤섞이지 않도록 읽을 때 원본에서 셉니다
+    private volatile IntSupplier playerStatsCacheSize = () -> 0;
+
+    private final LongAdder statsInternHits = new LongAdder();
+    private final LongAdder statsInternMisses = new LongAdder();
+    private volatile IntSupplier statsInternRetained = () -> 0;
+
+    private final LongAdder asyncStatSubmits = new LongAdder();
+    private final LongAdder asyncStatApplies = new LongAdder();
+    private final LongAdder asyncStatDiscards = new LongAdder();
+    private final LongAdder asyncStatFallbacks = new LongAdder();
+
+    private final LongAdder equipmentEventsCoalesced = new LongAdder();
+    private final LongAdder equipmentUpdates = new LongAdder();
+    private final LongAdder equipmentUpdateSlots = new LongAdder();
+
+    private final LongAdder hotbarIndexHits = new LongAdder();
+    private final LongAdder hotbarIndexMisses = new LongAdder();
+
+    private final LongAdder reloadSuccesses = new LongAdder();
+    private final LongAdder reloadFailures = new LongAdder();
+    private volatile long lastReloadNanos;
+    private volatile boolean lastReloadSucceeded;
 
     public void recordLoreParse(long nanos) {
         loreParseCount.increment();
         loreParseNanos.add(nanos);
     }
 
+    public void recordLoreCacheHit() {
+        loreCacheHits.increment();
+    }
+
+    public void recordLoreCacheMiss() {
+        loreCacheMisses.increment();
+    }
+
+    public void recordLoreCacheEviction() {
+        loreCacheEvictions.increment();
+    }
+
+    public long getLoreCacheHits() {
+        return loreCacheHits.sum();
+    }
+
+    public long getLoreCacheMisses() {
+        return loreCacheMisses.sum();
+    }
+
+    public long getLoreCacheEvictions() {
+        return loreCacheEvictions.sum();
+    }
+
+    public void recordStatRecordHit() {
+        statRecordHits.increment();
+    }
+
+    public void recordStatRecordMigration() {
+        statRecordMigrations.increment();
+    }
+
+    public long getStatRecordHits() {
+        return statRecordHits.sum();
+    }
+
+    public long getStatRecordMigrations() {
+        return statRecordMigrations.sum();
+    }
+
     public void recordPlayerStatCalc(long nanos) {
         playerStatCalcCount.increment();
         playerStatCalcNanos.add(nanos);
     }
 
+    public void recordEquipmentSlots(int skipped, int parsed) {
+        equipmentSlotsSkipped.add(skipped);
+        equipmentSlotsParsed.add(parsed);
+    }
+
+    public void recordPlayerStatSkip() {
+        playerStatSkips.increment();
+    }
+
+    public long getEquipmentSlotsSkipped() {
+        return equipmentSlotsSkipped.sum();
+    }
+
+    public long getEquipmentSlotsParsed() {
+        return equipmentSlotsParsed.sum();
+    }
+
+    public long getPlayerStatSkips() {
+        return playerStatSkips.sum();
+    }
+
     public void recordCombatCalc(long nanos) {
         combatCalcCount.increment();
         combatCalcNanos.add(nanos);
     }
 
+    /**
+     * 양쪽 모두 결과를 바꾸는 스탯이 없어 계산 없이 넘긴 타격을 기록합니다.
+     */
+    public void recordCombatFastReject() {
+        combatFastRejects.increment();
+    }
+
+    public long getCombatFastRejects() {
+        return combatFastRejects.sum();
+    }
+
     public void recordStatUpdateTaskRun(long nanos) {
         statUpdateTaskRuns.increment();
         statUpdateTaskNanos.add(nanos);
     }
 
+    public void recordDirtyPlayerRefreshes(int players) {
+        dirtyPlayerRefreshes.add(players);
+    }
+
+    public void recordReconcileSweep() {
+        reconcileSweeps.increment();
+    }
+
+    public long getDirtyPlayerRefreshes() {
+        return dirtyPlayerRefreshes.sum();
+    }
+
+    public long getReconcileSweeps() {
+        return reconcileSweeps.sum();
+    }
+
+    public void recordStatBudgetOverrun() {
+        statBudgetOverruns.increment();
+    }
+
+    /**
+     * 장비 변경 표시부터 스탯 반영까지 걸린 시간을 기록합니다.
+     */
+    public void recordStatStaleness(long nanos) {
+        statStalenessCount.increment();
+        statStalenessNanos.add(nanos);
+        statStalenessMaxNanos.accumulate(nanos);
+    }
+
+    /**
+     * 스탯 업데이트 태스크 실행 후 남은 대기 플레이어 수를 기록합니다.
+     */
+    public void recordStatQueueDepth(int depth) {
+        statQueueDepth.set(depth);
+        statQueueDepthMax.accumulate(depth);
+    }
+
+    public long getStatBudgetOverruns() {
+        return statBudgetOverruns.sum();
+    }
+
+    public long getStatStalenessMaxNanos() {
+        return statStalenessMaxNanos.get();
+    }
+
+    public long getStatQueueDepth() {
+        return statQueueDepth.get();
+    }
+
+    public long getStatQueueDepthMax() {
+        return statQueueDepthMax.get();
+    }
+
+    public void recordPlayerStatsCacheHit() {
+        playerStatsCacheHits.increment();
+    }
+
+    public void recordPlayerStatsCacheMiss() {
+        playerStatsCacheMisses.increment();
+    }
+
+    public void recordPlayerStatsCachePut() {
+        playerStatsCachePuts.increment();
+    }
+
+    public void recordPlayerStatsCacheRemove() {
+        playerStatsCacheRemoves.increment();
+    }
+
+    /**
+     * 플레이어 스탯 캐시 항목 수를 읽을 함수를 연결합니다.
+     */
+    public void bindPlayerStatsCacheSize(IntSupplier size) {
+        playerStatsCacheSize = Objects.requireNonNull(size, "size");
+    }
+
+    public long getPlayerStatsCacheHits() {
+        return playerStatsCacheHits.sum();
+    }
+
+    public long getPlayerStatsCacheMisses() {
+        return playerStatsCacheMisses.sum();
+    }
+
+    public long getPlayerStatsCachePuts() {
+        return playerStatsCachePuts.sum();
+    }
+
+    public long getPlayerStatsCacheRemoves() {
+        return playerStatsCacheRemoves.sum();
+    }
+
+    public long getPlayerStatsCacheSize() {
+        return playerStatsCacheSize.getAsInt();
+    }
+
+    public void recordStatsInternHit() {
+        statsInternHits.increment();
+    }
+
+    public void recordStatsInternMiss() {
+        statsInternMisses.increment();
+    }
+
+    /**
+     * 인터닝 테이블이 보관 중인 인스턴스 수를 읽을 함수를 연결합니다.
+     */
+    public void bindStatsInternRetained(IntSupplier retained) {
+        statsInternRetained = Objects.requireNonNull(retained, "retained");
+    }
+
+    public long getStatsInternHits() {
+        return statsInternHits.sum();
+    }
+
+    public long getStatsInternMisses() {
+        return statsInternMisses.sum();
+    }
+
+    public long getStatsInternRetained() {
+        return statsInternRetained.getAsInt();
+    }
+
+    public void recordAsyncStatSubmit() {
+        asyncStatSubmits.increment();
+    }
+
+    public void recordAsyncStatApply() {
+        asyncStatApplies.increment();
+    }
+
+    /**
+     * 더 새로운 갱신이 있어 버린 비동기 결과를 기록합니다.
+     */
+    public void recordAsyncStatDiscard() {
+        asyncStatDiscards.increment();
+    }
+
+    /**
+     * 비동기 파이프라인 대신 동기 경로로 계산한 경우를 기록합니다.
+     */
+    public void recordAsyncStatFallback() {
+        asyncStatFallbacks.increment();
+    }
+
+    public long getAsyncStatSubmits() {
+        return asyncStatSubmits.sum();
+    }
+
+    public long getAsyncStatApplies() {
+        return asyncStatApplies.sum();
+    }
+
+    public long getAsyncStatDiscards() {
+        return asyncStatDiscards.sum();
+    }
+
+    public long getAsyncStatFallbacks() {
+        return asyncStatFallbacks.sum();
+    }
+
+    /**
+     * 이미 대기 중인 장비 갱신에 합쳐진 이벤트를 기록합니다.
+     */
+    public void recordEquipmentEventCoalesced() {
+        equipmentEventsCoalesced.increment();
+    }
+
+    /**
+     * 실행된 장비 갱신과 다시 파싱한 슬롯 수를 기록합니다.
+     */
+    public void recordEquipmentUpdate(int slots) {
+        equipmentUpdates.increment();
+        equipmentUpdateSlots.add(slots);
+    }
+
+    public long getEquipmentEventsCoalesced() {
+        return equipmentEventsCoalesced.sum();
+    }
+
+    public long getEquipmentUpdates() {
+        return equipmentUpdates.sum();
+    }
+
+    public long getEquipmentUpdateSlots() {
+        return equipmentUpdateSlots.sum();
+    }
+
+    public void recordHotbarIndexHit() {
+        hotbarIndexHits.increment();
+    }
+
+    public void recordHotbarIndexMiss() {
+        hotbarIndexMisses.increment();
+    }
+
+    public long getHotbarIndexHits() {
+        return hotbarIndexHits.sum();
+    }
+
+    public long getHotbarIndexMisses() {
+        return hotbarIndexMisses.sum();
+    }
+
+    /**
+     * 끝난 리로드의 소요 시간(요청부터 교체까지)과 결과를 기록합니다.
+     */
+    public void recordReload(long nanos, boolean success) {
+        (success ? reloadSuccesses : reloadFailures).increment();
+        lastReloadNanos = nanos;
+        lastReloadSucceeded = success;
+    }
+
+    public long getReloadSuccesses() {
+        return reloadSuccesses.sum();
+    }
+
+    public long getReloadFailures() {
+        return reloadFailures.sum();
+    }
+
+    public long getLastReloadNanos() {
+        return lastReloadNanos;
+    }
+
+    public boolean isLastReloadSucceeded() {
+        return lastReloadSucceeded;
+    }
+
     public String snapshot() {
         return "PluginMetrics{" +
                 "loreParseCount=" + loreParseCount.sum() +
                 ", loreParseAvgMs=" + avgMillis(loreParseNanos.sum(), loreParseCount.sum()) +
+                ", loreCacheHits=" + loreCacheHits.sum() +
+                ", loreCacheMisses=" + loreCacheMisses.sum() +
+                ", loreCacheEvictions=" + loreCacheEvictions.sum() +
+                ", loreCacheHitRate=" + ratio(loreCacheHits.sum(), loreCacheHits.sum() + loreCacheMisses.sum()) +
+                ", statRecordHits=" + statRecordHits.sum() +
+                ", statRecordMigrations=" + statRecordMigrations.sum() +
                 ", playerStatCalcCount=" + playerStatCalcCount.sum() +
                 ", playerStatCalcAvgMs=" + avgMillis(playerStatCalcNanos.sum(), playerStatCalcCount.sum()) +
+                ", equipmentSlotsSkipped=" + equipmentSlotsSkipped.sum() +
+                ", equipmentSlotsParsed=" + equipmentSlotsParsed.sum() +
+                ", playerStatSkips=" + playerStatSkips.sum() +
                 ", combatCalcCount=" + combatCalcCount.sum() +
                 ", combatCalcAvgMs=" + avgMillis(combatCalcNanos.sum(), combatCalcCount.sum()) +
+                ", combatFastRejects=" + combatFastRejects.sum() +
                 ", statUpdateTaskRuns=" + statUpdateTaskRuns.sum() +
                 ", statUpdateTaskAvgMs=" + avgMillis(statUpdateTaskNanos.sum(), statUpdateTaskRuns.sum()) +
+                ", dirtyPlayerRefreshes=" + dirtyPlayerRefreshes.sum() +
+                ", reconcileSweeps=" + reconcileSweeps.sum() +
+                ", statBudgetOverruns=" + statBudgetOverruns.sum() +
+                ", statStalenessAvgMs=" + avgMillis(statStalenessNanos.sum(), statStalenessCount.sum()) +
+                ", statStalenessMaxMs=" + (statStalenessMaxNanos.get() / 1_000_000.0) +
+                ", statQueueDepth=" + statQueueDepth.get() +
+                ", statQueueDepthMax=" + statQueueDepthMax.get() +
+                ", playerStatsCacheHits=" + playerStatsCacheHits.sum() +
+                ", playerStatsCacheMisses=" + playerStatsCacheMisses.sum() +
+                ", playerStatsCachePuts=" + playerStatsCachePuts.sum() +
+                ", playerStatsCacheRemoves=" + playerStatsCacheRemoves.sum() +
+                ", playerStatsCacheSize=" + getPlayerStatsCacheSize() +
+                ", statsInternHits=" + statsInternHits.sum() +
+                ", statsInternMisses=" + statsInternMisses.sum() +
+                ", statsInternHitRate=" + ratio(statsInternHits.sum(), statsInternHits.sum() + statsInternMisses.sum()) +
+                ", statsInternRetained=" + getStatsInternRetained() +
+                ", asyncStatSubmits=" + asyncStatSubmits.sum() +
+                ", asyncStatApplies=" + asyncStatApplies.sum() +
+                ", asyncStatDiscards=" + asyncStatDiscards.sum() +
+                ", asyncStatFallbacks=" + asyncStatFallbacks.sum() +
+                ", equipmentEventsCoalesced=" + equipmentEventsCoalesced.sum() +
+                ", equipmentUpdates=" + equipmentUpdates.sum() +
+                ", equipmentUpdateSlots=" + equipmentUpdateSlots.sum() +
+                ", hotbarIndexHits=" + hotbarIndexHits.sum() +
+                ", hotbarIndexMisses=" + hotbarIndexMisses.sum() +
+                ", hotbarIndexHitRate=" + ratio(hotbarIndexHits.sum(), hotbarIndexHits.sum() + hotbarIndexMisses.sum()) +
+                ", reloadSuccesses=" + reloadSuccesses.sum() +
+                ", reloadFailures=" + reloadFailures.sum() +
+                ", lastReloadMs=" + (lastReloadNanos / 1_000_000.0) +
+                ", lastReloadSucceeded=" + lastReloadSucceeded +
                 '}';
     }
 
+    private static double ratio(long part, long total) {
+        if (total <= 0) {
+            return 0.0;
+        }
+        return (double) part / total;
+    }
+
     private static double avgMillis(long nanos, long count) {
         if (count <= 0) {
             return 0.0;
@@ -0,0 +1,51 @@
+package kr.minex.pvplorestat.infrastructure.scheduler;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Objects;
+
+/**
+ * Bukkit 스케줄러 구현
+ * <p>
+ * 모든 작업을 메인 스레드에서 실행합니다.
+ * </p>
+ *
+ * @author Minex
+ * @since 1.0.0
+ */
+public final class BukkitPluginScheduler implements PluginScheduler {
+
+    private final Plugin plugin;
+
+    public BukkitPluginScheduler(Plugin plugin) {
+        this.plugin = Objects.requireNonNull(plugin, "plugin");
+    }
+
+    @Override
+    public TaskHandle runGlobalTimer(Runnable task, long delayTicks, long periodTicks) {
+        return Bukkit.getScheduler().runTaskTimer(plugin, task, delayTicks, periodTicks)::cancel;
+    }
+
+    @Override
+    public void runGlobal(Runnable task) {
+        Bukkit.getScheduler().runTask(plugin, task);
+    }
+
+    @Override
+    public boolean runForPlayer(Player player, Runnable task) {
+        Bukkit.getScheduler().runTask(plugin, task);
+        return true;
+    }
+
+    @Override
+    public boolean isOwnedByCurrentThread(Player player) {
+        return Bukkit.isPrimaryThread();
+    }
+
+    @Override
+    public boolean isRegionized() {
+        return false;
+    }
+}
@@ -0,0 +1,119 @@
+package kr.minex.pvplorestat.infrastructure.scheduler;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Folia 스케줄러 구현
+ * <p>
+ * 전역 주기 작업은 GlobalRegionScheduler에서, 플레이어 작업은 플레이어의 EntityScheduler에서 실행합니다.
+ * EntityScheduler는 플레이어가 리전을 옮겨 다녀도 플레이어를 소유한 리전 스레드에서 작업을 실행합니다.
+ * </p>
+ * <p>
+ * 빌드는 Spigot API로 하므로 Folia API는 리플렉션으로 호출합니다. 메서드는 생성 시 한 번만 찾습니다.
+ * </p>
+ *
+ * @author Minex
+ * @since 1.0.0
+ */
+public final class FoliaPluginScheduler implements PluginScheduler {
+
+    private static final String REGIONIZED_SERVER = "io.papermc.paper.threadedregions.RegionizedServer";
+    private static final String SCHEDULER_PACKAGE = "io.papermc.paper.threadedregions.scheduler.";
+
+    private final Plugin plugin;
+    private final Object globalScheduler;
+    private final Method runAtFixedRate;
+    private final Method globalExecute;
+    private final Method getEntityScheduler;
+    private final Method entityExecute;
+    private final Method cancelTask;
+    private final Method isOwnedByCurrentRegion;
+
+    public FoliaPluginScheduler(Plugin plugin) {
+        this.plugin = Objects.requireNonNull(plugin, "plugin");
+        try {
+            Class<?> globalType = Class.forName(SCHEDULER_PACKAGE + "GlobalRegionScheduler");
+            Class<?> entityType = Class.forName(SCHEDULER_PACKAGE + "EntityScheduler");
+            Class<?> taskType = Class.forName(SCHEDULER_PACKAGE + "ScheduledTask");
+
+            this.globalScheduler = Bukkit.class.getMethod("getGlobalRegionScheduler").invoke(null);
+            this.runAtFixedRate = globalType.getMethod("runAtFixedRate",
+                    Plugin.class, Consumer.class, long.class, long.class);
+            this.globalExecute = globalType.getMethod("execute", Plugin.class, Runnable.class);
+            this.getEntityScheduler = Entity.class.getMethod("getScheduler");
+            this.entityExecute = entityType.getMethod("execute",
+                    Plugin.class, Runnable.class, Runnable.class, long.class);
+            this.cancelTask = taskType.getMethod("cancel");
+            this.isOwnedByCurrentRegion = Bukkit.class.getMethod("isOwnedByCurrentRegion", Entity.class);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Folia 스케줄러 API를 찾을 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 현재 서버가 Folia인지 확인합니다.
+     *
+     * @return Folia면 true
+     */
+    public static boolean isSupported() {
+        try {
+            Class.forName(REGIONIZED_SERVER);
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public TaskHandle runGlobalTimer(Runnable task, long delayTicks, long periodTicks) {
+        Consumer<Object> consumer = scheduledTask -> task.run();
+        // Folia는 첫 지연과 주기가 1틱 이상이어야 함
+        Object scheduledTask = invoke(runAtFixedRate, globalScheduler,
+                plugin, consumer, Math.max(1L, delayTicks), Math.max(1L, periodTicks));
+        return () -> invoke(cancelTask, scheduledTask);
+    }
+
+    @Override
+    public void runGlobal(Runnable task) {
+        invoke(globalExecute, globalScheduler, plugin, task);
+    }
+
+    @Override
+    public boolean runForPlayer(Player player, Runnable task) {
+        Object scheduler = invoke(getEntityScheduler, player);
+        // 플레이어가 이미 제거되었으면 false (retired 콜백 없음)
+        return (Boolean) invoke(entityExecute, scheduler, plugin, task, null, 1L);
+    }
+
+    @Override
+    public boolean isOwnedByCurrentThread(Player player) {
+        return (Boolean) invoke(isOwnedByCurrentRegion, null, player);
+    }
+
+    @Override
+    public boolean isRegionized() {
+        return true;
+    }
+
+    private static Object invoke(Method method, Object target, Object... args) {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(cause);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package kr.minex.pvplorestat.infrastructure.scheduler;
+
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * 플러그인 스케줄러
+ * <p>
+ * Bukkit(Spigot/Paper)의 단일 메인 스레드와 Folia의 리전 스레드를 같은 방식으로 다루기 위한 추상화입니다.
+ * 전역 주기 작업은 전역 스케줄러에서, 플레이어를 건드리는 작업은 그 플레이어를 소유한 스레드에서 실행합니다.
+ * Bukkit에서는 둘 다 메인 스레드입니다.
+ * </p>
+ *
+ * @author Minex
+ * @since 1.0.0
+ */
+public interface PluginScheduler {
+
+    /**
+     * 서버에 맞는 스케줄러를 생성합니다. Folia면 {@link FoliaPluginScheduler}, 아니면 {@link BukkitPluginScheduler}입니다.
+     *
+     * @param plugin 플러그인
+     * @return 스케줄러
+     */
+    static PluginScheduler create(Plugin plugin) {
+        return FoliaPluginScheduler.isSupported() ? new FoliaPluginScheduler(plugin) : new BukkitPluginScheduler(plugin);
+    }
+
+    /**
+     * 전역 주기 작업을 시작합니다. 이 작업에서는 플레이어 상태를 직접 바꾸지 말고
+     * {@link #runForPlayer(Player, Runnable)}로 넘겨야 합니다.
+     *
+     * @param task         작업
+     * @param delayTicks   첫 실행까지의 지연 (틱)
+     * @param periodTicks  실행 주기 (틱)
+     * @return 취소 핸들
+     */
+    TaskHandle runGlobalTimer(Runnable task, long delayTicks, long periodTicks);
+
+    /**
+     * 전역 스케줄러에서 다음 틱에 작업을 한 번 실행합니다.
+     * 다른 스레드(워커)의 결과를 메인 스레드에 반영할 때 사용합니다.
+     *
+     * @param task 작업
+     */
+    void runGlobal(Runnable task);
+
+    /**
+     * 플레이어를 소유한 스레드에서 다음 틱에 작업을 실행합니다.
+     *
+     * @param player 플레이어
+     * @param task   작업
+     * @return 예약되었으면 true, 플레이어가 이미 제거되어 예약하지 못했으면 false
+     */
+    boolean runForPlayer(Player player, Runnable task);
+
+    /**
+     * 현재 스레드가 플레이어를 소유하면 즉시, 아니면 소유한 스레드에서 다음 틱에 작업을 실행합니다.
+     *
+     * @param player 플레이어
+     * @param task   작업
+     */
+    default void executeForPlayer(Player player, Runnable task) {
+        if (isOwnedByCurrentThread(player)) {
+            task.run();
+        } else {
+            runForPlayer(player, task);
+        }
+    }
+
+    /**
+     * 현재 스레드가 플레이어를 소유하는지 확인합니다.
+     *
+     * @param player 플레이어
+     * @return Bukkit이면 메인 스레드 여부, Folia면 플레이어가 속한 리전의 스레드 여부
+     */
+    boolean isOwnedByCurrentThread(Player player);
+
+    /**
+     * 리전 스레드 서버(Folia)인지 확인합니다.
+     *
+     * @return Folia면 true
+     */
+    boolean isRegionized();
+
+    /**
+     * 예약된 주기 작업의 취소 핸들
+     */
+    interface TaskHandle {
+
+        /**
+         * 작업을 취소합니다.
+         */
+        void cancel();
+    }
+}
@@ -0,0 +1,106 @@
+package kr.minex.pvplorestat.infrastructure.storage;
+
+import kr.minex.pvplorestat.domain.model.ItemStats;
+import kr.minex.pvplorestat.domain.model.StatType;
+
+import java.nio.ByteBuffer;
+
+/**
+ * ItemStats 바이너리 코덱
+ * <p>
+ * 아이템 PersistentDataContainer에 저장할 수 있도록 스탯을 작은 바이트 배열로 변환합니다.
+ * </p>
+ * <pre>
+ * [0]    버전 (현재 1)
+ * [1]    스탯 비트마스크 (비트 i = StatType ordinal i, 0보다 큰 값만 기록)
+ * [2..]  비트마스크에 켜진 스탯 값 (ordinal 순서, 빅엔디언 double)
+ * </pre>
+ * <p>
+ * 형식이 바뀌면 버전을 올리고 {@link #decode(byte[])}에서 이전 버전도 읽도록 합니다.
+ * </p>
+ *
+ * @author Minex
+ * @since 1.0.0
+ */
+public final class ItemStatsCodec {
+
+    /**
+     * 현재 기록 형식 버전
+     */
+    public static final byte VERSION = 1;
+
+    private static final int HEADER_SIZE = 2;
+    private static final StatType[] TYPES = StatType.values();
+    private static final int VALID_MASK = (1 << TYPES.length) - 1;
+
+    private ItemStatsCodec() {
+    }
+
+    /**
+     * 스탯을 바이트 배열로 변환합니다.
+     *
+     * @param stats 스탯
+     * @return 인코딩된 기록
+     */
+    public static byte[] encode(ItemStats stats) {
+        int mask = 0;
+        for (StatType type : TYPES) {
+            if (stats.getStat(type) > 0) {
+                mask |= 1 << type.ordinal();
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + Integer.bitCount(mask) * Double.BYTES);
+        buffer.put(VERSION);
+        buffer.put((byte) mask);
+        for (StatType type : TYPES) {
+            if ((mask & (1 << type.ordinal())) != 0) {
+                buffer.putDouble(stats.getStat(type));
+            }
+        }
+        return buffer.array();
+    }
+
+    /**
+     * 바이트 배열을 스탯으로 변환합니다.
+     *
+     * @param data 인코딩된 기록
+     * @return 스탯, 알 수 없는 버전이거나 손상된 기록이면 null
+     */
+    public static ItemStats decode(byte[] data) {
+        if (data == null || data.length < HEADER_SIZE || data[0] != VERSION) {
+            return null;
+        }
+
+        int mask = data[1] & 0xFF;
+        if ((mask & ~VALID_MASK) != 0
+                || data.length != HEADER_SIZE + Integer.bitCount(mask) * Double.BYTES) {
+            return null;
+        }
+        if (mask == 0) {
+            return ItemStats.empty();
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(data, HEADER_SIZE, data.length - HEADER_SIZE);
+        ItemStats.Builder builder = ItemStats.builder();
+        for (StatType type : TYPES) {
+            if ((mask & (1 << type.ordinal())) == 0) {
+                continue;
+            }
+            double value = buffer.getDouble();
+            if (Double.isNaN(value) || Double.isInfinite(value) || value < 0) {
+                return null;
+            }
+            switch (type) {
+                case DAMAGE -> builder.damage(value);
+                case DEFENSE -> builder.defense(value);
+                case HEALTH -> builder.health(value);
+                case LIFESTEAL -> builder.lifesteal(value);
+                case CRIT_CHANCE -> builder.critChance(value);
+                case CRIT_DAMAGE -> builder.critDamage(value);
+                case DODGE -> builder.dodge(value);
+            }
+        }
+        return builder.build();
+    }
+}
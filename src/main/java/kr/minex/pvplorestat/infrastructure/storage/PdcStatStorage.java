@@ -0,0 +1,90 @@
+package kr.minex.pvplorestat.infrastructure.storage;
+
+import kr.minex.pvplorestat.domain.model.ItemStats;
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Objects;
+
+/**
+ * PersistentDataContainer 스탯 저장소
+ * <p>
+ * 아이템 메타의 PDC에 {@link ItemStatsCodec} 형식의 스탯 기록을 읽고 씁니다.
+ * 이 저장소를 사용하면 로어는 표시용이고, 스탯은 이 기록에서 읽습니다.
+ * </p>
+ *
+ * @author Minex
+ * @since 1.0.0
+ */
+public class PdcStatStorage {
+
+    private final NamespacedKey key;
+
+    /**
+     * 저장소를 생성합니다.
+     *
+     * @param plugin 키 네임스페이스로 사용할 플러그인
+     */
+    public PdcStatStorage(Plugin plugin) {
+        this.key = new NamespacedKey(Objects.requireNonNull(plugin, "plugin"), "stats");
+    }
+
+    /**
+     * 스탯 기록을 읽습니다.
+     *
+     * @param meta 아이템 메타
+     * @return 저장된 스탯, 기록이 없거나 읽을 수 없으면 null
+     */
+    public ItemStats read(ItemMeta meta) {
+        byte[] data = readRaw(meta);
+        return data == null ? null : ItemStatsCodec.decode(data);
+    }
+
+    /**
+     * 디코딩하지 않은 스탯 기록을 읽습니다.
+     *
+     * @param meta 아이템 메타
+     * @return 인코딩된 기록, 없으면 null
+     */
+    public byte[] readRaw(ItemMeta meta) {
+        return meta.getPersistentDataContainer().get(key, PersistentDataType.BYTE_ARRAY);
+    }
+
+    /**
+     * 스탯 기록을 씁니다. 스탯이 비어 있으면 기록을 제거합니다.
+     *
+     * @param meta  아이템 메타 (호출자가 ItemStack에 다시 적용해야 함)
+     * @param stats 저장할 스탯
+     */
+    public void write(ItemMeta meta, ItemStats stats) {
+        if (stats == null || stats.isEmpty()) {
+            remove(meta);
+            return;
+        }
+        meta.getPersistentDataContainer().set(key, PersistentDataType.BYTE_ARRAY, ItemStatsCodec.encode(stats));
+    }
+
+    /**
+     * 스탯 기록을 제거합니다.
+     *
+     * @param meta 아이템 메타 (호출자가 ItemStack에 다시 적용해야 함)
+     */
+    public void remove(ItemMeta meta) {
+        PersistentDataContainer container = meta.getPersistentDataContainer();
+        if (container.has(key, PersistentDataType.BYTE_ARRAY)) {
+            container.remove(key);
+        }
+    }
+
+    /**
+     * 스탯 기록 키를 반환합니다.
+     *
+     * @return PDC 키
+     */
+    public NamespacedKey getKey() {
+        return key;
+    }
+}
@@ -1,13 +1,17 @@
 package kr.minex.pvplorestat.presentation.command;
 
 import kr.minex.pvplorestat.PVPLoreStat;
+import kr.minex.pvplorestat.application.CombatSimulationService;
 import kr.minex.pvplorestat.application.ItemLoreService;
 import kr.minex.pvplorestat.application.PlayerStatsService;
 import kr.minex.pvplorestat.domain.model.ItemStats;
 import kr.minex.pvplorestat.domain.model.PlayerStats;
 import kr.minex.pvplorestat.domain.model.StatType;
+import kr.minex.pvplorestat.domain.service.CombatSimulator;
 import kr.minex.pvplorestat.infrastructure.config.MessageManager;
+import kr.minex.pvplorestat.infrastructure.scheduler.PluginScheduler;
 import kr.minex.pvplorestat.presentation.gui.LoreEditGui;
+import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
@@ -20,6 +24,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -37,9 +42,11 @@ public class PlsCommand implements CommandExecutor, TabCompleter {
     private final MessageManager messageManager;
     private final ItemLoreService itemLoreService;
     private final PlayerStatsService playerStatsService;
+    private final CombatSimulationService simulationService;
+    private final PluginScheduler scheduler;
 
     private static final List<String> SUBCOMMANDS = Arrays.asList(
-            "set", "remove", "clear", "edit", "info", "check", "reload", "help"
+            "set", "remove", "clear", "edit", "info", "check", "simulate", "reload", "help"
     );
 
     private static final List<String> STAT_TYPES = Arrays.stream(StatType.values())
@@ -47,11 +54,14 @@ public class PlsCommand implements CommandExecutor, TabCompleter {
             .collect(Collectors.toList());
 
     public PlsCommand(PVPLoreStat plugin, MessageManager messageManager,
-                      ItemLoreService itemLoreService, PlayerStatsService playerStatsService) {
+                      ItemLoreService itemLoreService, PlayerStatsService playerStatsService,
+                      CombatSimulationService simulationService, PluginScheduler scheduler) {
         this.plugin = plugin;
         this.messageManager = messageManager;
         this.itemLoreService = itemLoreService;
         this.playerStatsService = playerStatsService;
+        this.simulationService = simulationService;
+        this.scheduler = scheduler;
     }
 
     @Override
@@ -81,6 +91,9 @@ public class PlsCommand implements CommandExecutor, TabCompleter {
             case "check" -> {
                 return handleCheck(sender);
             }
+            case "simulate" -> {
+                return handleSimulate(sender, args);
+            }
             case "reload" -> {
                 return handleReload(sender);
             }
@@ -144,6 +157,7 @@ public class PlsCommand implements CommandExecutor, TabCompleter {
             return true;
         }
         double applied = applyResult.appliedValue();
+        invalidateHeldItem(player);
 
         // 메시지
         if (oldValue > 0) {
@@ -196,6 +210,7 @@ public class PlsCommand implements CommandExecutor, TabCompleter {
         }
 
         itemLoreService.removeStat(item, statType);
+        invalidateHeldItem(player);
         messageManager.send(sender, "commands.remove.success",
                 "stat", statType.getDisplayName());
 
@@ -224,6 +239,7 @@ public class PlsCommand implements CommandExecutor, TabCompleter {
         }
 
         itemLoreService.clearStats(item);
+        invalidateHeldItem(player);
         messageManager.send(sender, "commands.clear.success");
 
         return true;
@@ -318,6 +334,113 @@ public class PlsCommand implements CommandExecutor, TabCompleter {
         return true;
     }
 
+    /**
+     * /pls simulate <공격자> <피해자> [기본데미지] [전투수]
+     */
+    private boolean handleSimulate(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("pvplorestat.simulate")) {
+            messageManager.send(sender, "common.no-permission");
+            return true;
+        }
+
+        if (args.length < 3) {
+            messageManager.send(sender, "commands.simulate.usage");
+            return true;
+        }
+
+        Player attacker = Bukkit.getPlayerExact(args[1]);
+        Player victim = Bukkit.getPlayerExact(args[2]);
+        if (attacker == null || victim == null) {
+            messageManager.send(sender, "commands.simulate.player-not-found",
+                    "player", attacker == null ? args[1] : args[2]);
+            return true;
+        }
+
+        double baseDamage = CombatSimulator.Scenario.DEFAULT_BASE_DAMAGE;
+        int fights = CombatSimulator.Scenario.DEFAULT_FIGHTS;
+        try {
+            if (args.length >= 4) {
+                baseDamage = Double.parseDouble(args[3]);
+            }
+            if (args.length >= 5) {
+                fights = Integer.parseInt(args[4]);
+            }
+        } catch (NumberFormatException e) {
+            messageManager.send(sender, "common.invalid-number");
+            return true;
+        }
+
+        // 캐시된 스탯만 읽고, 계산은 시뮬레이션 풀에서 진행 (실행 자리는 서비스가 원자적으로 차지)
+        String attackerName = attacker.getName();
+        String victimName = victim.getName();
+        CompletableFuture<CombatSimulator.Report> future;
+        try {
+            future = simulationService.simulate(attacker.getUniqueId(), victim.getUniqueId(), baseDamage, fights);
+        } catch (IllegalArgumentException e) {
+            messageManager.send(sender, "commands.simulate.invalid", "reason", e.getMessage());
+            return true;
+        } catch (IllegalStateException e) {
+            messageManager.send(sender, "commands.simulate.in-progress");
+            return true;
+        }
+
+        messageManager.send(sender, "commands.simulate.started", "fights", fights);
+        future.whenComplete((report, error) -> runForSender(sender, () -> {
+            if (error != null) {
+                messageManager.send(sender, "commands.simulate.failed");
+                plugin.getLogger().warning("전투 시뮬레이션에 실패했습니다: " + error);
+            } else {
+                sendSimulationReport(sender, attackerName, victimName, report);
+            }
+        }));
+
+        return true;
+    }
+
+    /**
+     * 시뮬레이션 결과를 출력합니다.
+     */
+    private void sendSimulationReport(CommandSender sender, String attackerName, String victimName,
+                                      CombatSimulator.Report report) {
+        messageManager.sendRaw(sender, "commands.simulate.header", "attacker", attackerName, "victim", victimName);
+        messageManager.sendRaw(sender, "commands.simulate.trials",
+                "fights", report.getScenario().getFights(),
+                "hits", String.valueOf(report.getHits()),
+                "millis", report.getElapsedNanos() / 1_000_000);
+        messageManager.sendRaw(sender, "commands.simulate.dps",
+                "dps", report.getDps(),
+                "per-hit", report.getDamagePerHit());
+        messageManager.sendRaw(sender, "commands.simulate.ttk",
+                "p50", formatSeconds(report.getTimeToKill(50)),
+                "p90", formatSeconds(report.getTimeToKill(90)),
+                "p99", formatSeconds(report.getTimeToKill(99)),
+                "kill-rate", report.getKillRate() * 100);
+        messageManager.sendRaw(sender, "commands.simulate.rates",
+                "crit", report.getCriticalRate() * 100,
+                "dodge", report.getDodgeRate() * 100);
+        messageManager.sendRaw(sender, "commands.simulate.lifesteal",
+                "lifesteal", report.getLifestealPerSecond());
+        messageManager.sendRaw(sender, "commands.simulate.footer");
+    }
+
+    /**
+     * 처치 시간을 표시용으로 바꿉니다. 처치하지 못한 분위는 "-"로 표시합니다.
+     */
+    private static Object formatSeconds(double seconds) {
+        return Double.isNaN(seconds) ? "-" : seconds;
+    }
+
+    /**
+     * 명령어를 보낸 쪽을 소유한 스레드에서 작업을 실행합니다. (플레이어는 리전 스레드, 콘솔은 글로벌 스레드)
+     */
+    private void runForSender(CommandSender sender, Runnable task) {
+        if (sender instanceof Player player) {
+            scheduler.runForPlayer(player, task);
+        } else {
+            scheduler.runGlobal(task);
+        }
+    }
+
     /**
      * /pls reload
      */
@@ -327,8 +450,15 @@ public class PlsCommand implements CommandExecutor, TabCompleter {
             return true;
         }
 
-        plugin.reload();
-        messageManager.send(sender, "commands.reload.success");
+        if (plugin.isReloading()) {
+            messageManager.send(sender, "commands.reload.in-progress");
+            return true;
+        }
+
+        // 파일 읽기는 워커에서 하고, 결과는 교체가 끝난 뒤 메인 스레드에서 알림
+        messageManager.send(sender, "commands.reload.started");
+        plugin.reload().thenAccept(success ->
+                messageManager.send(sender, success ? "commands.reload.success" : "commands.reload.failed"));
 
         return true;
     }
@@ -345,6 +475,15 @@ public class PlsCommand implements CommandExecutor, TabCompleter {
         return true;
     }
 
+    /**
+     * 손에 든 아이템의 로어를 바꾼 뒤, 그 칸의 핫바 스탯 색인을 무효화하고 재계산 대상으로 표시합니다.
+     * (인벤토리 이벤트 없이 바뀌므로 직접 처리)
+     */
+    private void invalidateHeldItem(Player player) {
+        playerStatsService.invalidateHotbarSlot(player, player.getInventory().getHeldItemSlot());
+        plugin.getDirtyTracker().markDirty(player.getUniqueId());
+    }
+
     /**
      * 플레이어 및 권한 체크
      */
@@ -379,6 +518,8 @@ public class PlsCommand implements CommandExecutor, TabCompleter {
                 completions.addAll(STAT_TYPES.stream()
                         .filter(s -> s.startsWith(input))
                         .toList());
+            } else if (subCommand.equals("simulate")) {
+                completions.addAll(onlinePlayerNames(input));
             }
         } else if (args.length == 3) {
             String subCommand = args[0].toLowerCase();
@@ -386,9 +527,18 @@ public class PlsCommand implements CommandExecutor, TabCompleter {
             if (subCommand.equals("set")) {
                 // 숫자 제안
                 completions.addAll(Arrays.asList("10", "50", "100"));
+            } else if (subCommand.equals("simulate")) {
+                completions.addAll(onlinePlayerNames(args[2].toLowerCase()));
             }
         }
 
         return completions;
     }
+
+    private List<String> onlinePlayerNames(String input) {
+        return Bukkit.getOnlinePlayers().stream()
+                .map(Player::getName)
+                .filter(name -> name.toLowerCase().startsWith(input))
+                .toList();
+    }
 }
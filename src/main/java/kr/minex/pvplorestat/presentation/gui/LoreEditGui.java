@@ -294,6 +294,9 @@ public class LoreEditGui implements Listener {
 
         close();
         if (ok) {
+            // 손에 든 아이템이 이벤트 없이 바뀌었으므로 그 칸의 핫바 스탯 색인을 무효화하고 재계산 대상으로 표시
+            plugin.getPlayerStatsService().invalidateHotbarSlot(player, player.getInventory().getHeldItemSlot());
+            plugin.getDirtyTracker().markDirty(player.getUniqueId());
             messageManager.send(player, "gui.saved");
         } else {
             messageManager.send(player, "gui.save-failed");
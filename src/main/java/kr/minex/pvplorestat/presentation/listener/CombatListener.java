@@ -1,7 +1,9 @@
 package kr.minex.pvplorestat.presentation.listener;
 
 import kr.minex.pvplorestat.application.CombatService;
+import kr.minex.pvplorestat.domain.service.DamageCalculator;
 import kr.minex.pvplorestat.infrastructure.config.ConfigManager;
+import kr.minex.pvplorestat.infrastructure.config.ConfigSnapshot;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.Projectile;
@@ -36,7 +38,6 @@ public class CombatListener implements Listener {
 
     @EventHandler(priority = EventPriority.NORMAL, ignoreCancelled = true)
     public void onEntityDamageByEntity(EntityDamageByEntityEvent event) {
-        long start = System.nanoTime();
         Entity victim = event.getEntity();
         Entity damager = event.getDamager();
 
@@ -52,38 +53,46 @@ public class CombatListener implements Listener {
             return;
         }
 
-        // PVP 모드 확인
+        // PVP 모드 확인 (이번 이벤트 동안 같은 설정을 읽도록 한 번만 꺼냄)
+        ConfigSnapshot config = configManager.getSnapshot();
         boolean isPvP = victim instanceof Player;
-        if (!isPvP && configManager.isPvpOnly()) {
+        if (!isPvP && config.isPvpOnly()) {
             return;
         }
 
+        // 양쪽 모두 결과를 바꿀 스탯이 없으면 이벤트를 그대로 둠 (계산, 할당, 시간 측정 없음)
+        if (isPvP && combatService.rejectNeutralHit(attacker, (Player) victim)) {
+            return;
+        }
+
+        long start = config.isDebug() ? System.nanoTime() : 0L;
+
         // 피해자가 플레이어인 경우에만 방어 스탯 적용
         if (isPvP) {
             Player victimPlayer = (Player) victim;
 
             double baseDamage = event.getDamage();
-            CombatService.CombatResult result = combatService.calculateDamage(
-                    attacker, victimPlayer, baseDamage);
+            // 할당 없는 경로: 결과는 이 스레드의 재사용 객체이며 이 이벤트 안에서만 씀
+            DamageCalculator.Outcome outcome = combatService.resolveDamage(attacker, victimPlayer, baseDamage);
 
             // 회피 시 데미지 0
-            if (result.isDodged()) {
+            if (outcome.isDodged()) {
                 event.setDamage(0);
-                combatService.applyResult(attacker, victimPlayer, result);
+                combatService.applyOutcome(attacker, victimPlayer, outcome);
                 return;
             }
 
             // 데미지 적용
-            event.setDamage(result.getFinalDamage());
+            event.setDamage(outcome.getFinalDamage());
 
             // 결과 적용 (피흡수, 메시지 등)
-            combatService.applyResult(attacker, victimPlayer, result);
+            combatService.applyOutcome(attacker, victimPlayer, outcome);
         } else {
             // PVE: 공격자의 공격력만 적용 (방어력/회피 없음)
             // 추후 구현 가능
         }
 
-        if (configManager.isDebug()) {
+        if (config.isDebug()) {
             long nanos = System.nanoTime() - start;
             if (nanos > 1_000_000) {
                 logger.info("[Debug] combat.listener took " + (nanos / 1_000_000.0) + "ms");
@@ -0,0 +1,220 @@
+package kr.minex.pvplorestat.presentation.listener;
+
+import kr.minex.pvplorestat.application.PlayerStatsService;
+import kr.minex.pvplorestat.infrastructure.cache.DirtyPlayerTracker;
+import org.bukkit.Material;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.block.BlockDispenseArmorEvent;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerItemBreakEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.PlayerInventory;
+
+import java.util.Objects;
+
+/**
+ * 장비 변경 감지 리스너
+ * <p>
+ * 장비가 바뀔 수 있는 이벤트가 발생하면 플레이어를 재계산 대상으로 표시합니다.
+ * 실제 재계산은 다음 스탯 업데이트 태스크 실행 시 (변경이 적용된 뒤) 이루어집니다.
+ * </p>
+ * <p>
+ * 핫바/오프핸드 칸이 바뀔 수 있으면 그 칸의 핫바 스탯 색인을 무효화합니다.
+ * 어느 칸인지 알 수 있는 클릭은 해당 칸만, 그 외에는 전체를 무효화하며 다음 조회 때 다시 파싱됩니다.
+ * </p>
+ *
+ * @author Minex
+ * @since 1.0.0
+ */
+public class EquipmentChangeListener implements Listener {
+
+    /**
+     * PlayerInventory의 오프핸드 슬롯 번호
+     */
+    private static final int OFF_HAND_SLOT = 40;
+
+    private final DirtyPlayerTracker dirtyTracker;
+    private final PlayerStatsService playerStatsService;
+
+    public EquipmentChangeListener(DirtyPlayerTracker dirtyTracker, PlayerStatsService playerStatsService) {
+        this.dirtyTracker = Objects.requireNonNull(dirtyTracker, "dirtyTracker");
+        this.playerStatsService = Objects.requireNonNull(playerStatsService, "playerStatsService");
+    }
+
+    /**
+     * 방어구/손 슬롯에 영향을 주는 인벤토리 클릭
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryClick(InventoryClickEvent event) {
+        if (event.getWhoClicked() instanceof Player player) {
+            invalidateHotbar(player, event);
+        }
+        if (isEquipmentClick(event)) {
+            markDirty(event.getWhoClicked());
+        }
+    }
+
+    /**
+     * 인벤토리 드래그 (방어구/손 슬롯 포함 가능)
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryDrag(InventoryDragEvent event) {
+        markChanged(event.getWhoClicked());
+    }
+
+    /**
+     * 장비 파괴
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onItemBreak(PlayerItemBreakEvent event) {
+        markChanged(event.getPlayer());
+    }
+
+    /**
+     * 손에 든 아이템 버리기
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDropItem(PlayerDropItemEvent event) {
+        markChanged(event.getPlayer());
+    }
+
+    /**
+     * 아이템 줍기 (빈 손/핫바 슬롯으로 들어올 수 있음)
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPickupItem(EntityPickupItemEvent event) {
+        markChanged(event.getEntity());
+    }
+
+    /**
+     * 리스폰 (사망 시 장비 초기화 반영)
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRespawn(PlayerRespawnEvent event) {
+        markChanged(event.getPlayer());
+    }
+
+    /**
+     * 사망
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onDeath(PlayerDeathEvent event) {
+        markChanged(event.getEntity());
+    }
+
+    /**
+     * 손에 든 방어구를 우클릭으로 장착
+     * <p>
+     * 허공 우클릭은 취소된 상태로 전달되므로 취소 여부 대신 아이템 사용이 거부되었는지를 봅니다.
+     * </p>
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInteract(PlayerInteractEvent event) {
+        Action action = event.getAction();
+        if (action != Action.RIGHT_CLICK_AIR && action != Action.RIGHT_CLICK_BLOCK) {
+            return;
+        }
+        if (event.useItemInHand() == Event.Result.DENY || !isWearable(event.getMaterial())) {
+            return;
+        }
+        markChanged(event.getPlayer());
+    }
+
+    /**
+     * 디스펜서로 방어구 장착
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDispenseArmor(BlockDispenseArmorEvent event) {
+        markDirty(event.getTargetEntity());
+    }
+
+    /**
+     * 퇴장 (남은 재계산 표시 제거)
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        dirtyTracker.remove(event.getPlayer().getUniqueId());
+    }
+
+    private static boolean isEquipmentClick(InventoryClickEvent event) {
+        if (event.getSlotType() == InventoryType.SlotType.ARMOR) {
+            return true;
+        }
+
+        // 쉬프트 클릭(방어구 자동 장착, 핫바 이동), 더블 클릭(같은 아이템 모으기), 숫자 키, 오프핸드 교체
+        ClickType click = event.getClick();
+        if (event.isShiftClick() || click == ClickType.DOUBLE_CLICK
+                || click == ClickType.NUMBER_KEY || click == ClickType.SWAP_OFFHAND) {
+            return true;
+        }
+
+        // 들고 있는 슬롯 또는 오프핸드 슬롯 클릭
+        Inventory clicked = event.getClickedInventory();
+        if (clicked instanceof PlayerInventory inventory) {
+            int slot = event.getSlot();
+            return slot == inventory.getHeldItemSlot() || slot == OFF_HAND_SLOT;
+        }
+        return false;
+    }
+
+    private static boolean isWearable(Material material) {
+        if (material == null || material == Material.AIR) {
+            return false;
+        }
+        return switch (material.getEquipmentSlot()) {
+            case HEAD, CHEST, LEGS, FEET -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * 클릭으로 바뀔 수 있는 핫바/오프핸드 칸의 색인을 무효화합니다.
+     */
+    private void invalidateHotbar(Player player, InventoryClickEvent event) {
+        ClickType click = event.getClick();
+        if (event.isShiftClick() || click == ClickType.DOUBLE_CLICK) {
+            // 여러 칸에 걸쳐 옮겨질 수 있음
+            playerStatsService.invalidateHotbar(player);
+            return;
+        }
+        if (click == ClickType.NUMBER_KEY) {
+            playerStatsService.invalidateHotbarSlot(player, event.getHotbarButton());
+        } else if (click == ClickType.SWAP_OFFHAND) {
+            playerStatsService.invalidateHotbarSlot(player, OFF_HAND_SLOT);
+        }
+        if (event.getClickedInventory() instanceof PlayerInventory) {
+            playerStatsService.invalidateHotbarSlot(player, event.getSlot());
+        }
+    }
+
+    /**
+     * 핫바 색인 전체를 무효화하고 재계산 대상으로 표시합니다.
+     */
+    private void markChanged(LivingEntity entity) {
+        if (entity instanceof Player player) {
+            playerStatsService.invalidateHotbar(player);
+            dirtyTracker.markDirty(player.getUniqueId());
+        }
+    }
+
+    private void markDirty(LivingEntity entity) {
+        if (entity instanceof Player player) {
+            dirtyTracker.markDirty(player.getUniqueId());
+        }
+    }
+}
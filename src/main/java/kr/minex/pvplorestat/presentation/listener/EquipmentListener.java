@@ -1,8 +1,10 @@
 package kr.minex.pvplorestat.presentation.listener;
 
-import kr.minex.pvplorestat.PVPLoreStat;
 import kr.minex.pvplorestat.application.PlayerStatsService;
 import kr.minex.pvplorestat.domain.model.EquipmentSlot;
+import kr.minex.pvplorestat.infrastructure.cache.PendingSlotUpdates;
+import kr.minex.pvplorestat.infrastructure.monitoring.PluginMetrics;
+import kr.minex.pvplorestat.infrastructure.scheduler.PluginScheduler;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -13,6 +15,7 @@ import org.bukkit.event.player.PlayerSwapHandItemsEvent;
 import org.bukkit.event.player.PlayerItemHeldEvent;
 
 import java.util.Objects;
+import java.util.UUID;
 import java.util.logging.Logger;
 
 /**
@@ -20,29 +23,42 @@ import java.util.logging.Logger;
  * <p>
  * 플레이어 접속/퇴장, 장비 변경 시 스탯을 갱신합니다.
  * </p>
+ * <p>
+ * 손 아이템 변경은 플레이어별 슬롯 비트마스크로 모아 다음 틱에 한 번만 처리합니다.
+ * 핫바를 빠르게 넘겨도 틱마다 슬롯당 한 번만 다시 파싱하고 최대 체력도 한 번만 갱신합니다.
+ * </p>
  *
  * @author Minex
  * @since 1.0.0
  */
 public class EquipmentListener implements Listener {
 
+    private static final int MAIN_HAND_SLOT = PendingSlotUpdates.bit(EquipmentSlot.MAIN_HAND);
+    private static final int HAND_SLOTS = MAIN_HAND_SLOT | PendingSlotUpdates.bit(EquipmentSlot.OFF_HAND);
+
     private final PlayerStatsService playerStatsService;
-    private final PVPLoreStat plugin;
+    private final PluginScheduler scheduler;
+    private final PluginMetrics metrics;
     private final Logger logger;
+    private final PendingSlotUpdates pendingUpdates = new PendingSlotUpdates();
+    private volatile boolean closed;
 
-    public EquipmentListener(PlayerStatsService playerStatsService, PVPLoreStat plugin, Logger logger) {
+    public EquipmentListener(PlayerStatsService playerStatsService, PluginScheduler scheduler,
+                             PluginMetrics metrics, Logger logger) {
         this.playerStatsService = Objects.requireNonNull(playerStatsService, "playerStatsService");
-        this.plugin = Objects.requireNonNull(plugin, "plugin");
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler");
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
         this.logger = Objects.requireNonNull(logger, "logger");
     }
 
     /**
-     * 플레이어 접속 시 스탯 계산
+     * 플레이어 접속 시 스탯 계산과 핫바 스탯 색인 생성
      */
     @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerJoin(PlayerJoinEvent event) {
         Player player = event.getPlayer();
         playerStatsService.calculateAndCache(player);
+        playerStatsService.indexHotbar(player);
     }
 
     /**
@@ -51,6 +67,7 @@ public class EquipmentListener implements Listener {
     @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerQuit(PlayerQuitEvent event) {
         Player player = event.getPlayer();
+        pendingUpdates.remove(player.getUniqueId());
         playerStatsService.removeStats(player.getUniqueId());
         playerStatsService.resetMaxHealth(player);
     }
@@ -60,16 +77,7 @@ public class EquipmentListener implements Listener {
      */
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onPlayerSwapHand(PlayerSwapHandItemsEvent event) {
-        Player player = event.getPlayer();
-        // 다음 틱에 갱신 (아이템 변경 적용 후)
-        player.getServer().getScheduler().runTask(plugin, () -> {
-            try {
-                playerStatsService.updateEquipmentSlot(player, EquipmentSlot.MAIN_HAND, player.getInventory().getItemInMainHand());
-                playerStatsService.updateEquipmentSlot(player, EquipmentSlot.OFF_HAND, player.getInventory().getItemInOffHand());
-            } catch (Exception e) {
-                logger.warning("손 아이템 스탯 갱신 중 오류가 발생했습니다: " + e.getMessage());
-            }
-        });
+        requestUpdate(event.getPlayer(), HAND_SLOTS);
     }
 
     /**
@@ -77,14 +85,45 @@ public class EquipmentListener implements Listener {
      */
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onPlayerItemHeld(PlayerItemHeldEvent event) {
-        Player player = event.getPlayer();
-        // 다음 틱에 갱신 (아이템 변경 적용 후)
-        player.getServer().getScheduler().runTask(plugin, () -> {
-            try {
-                playerStatsService.updateEquipmentSlot(player, EquipmentSlot.MAIN_HAND, player.getInventory().getItemInMainHand());
-            } catch (Exception e) {
-                logger.warning("손 아이템 스탯 갱신 중 오류가 발생했습니다: " + e.getMessage());
-            }
-        });
+        requestUpdate(event.getPlayer(), MAIN_HAND_SLOT);
+    }
+
+    /**
+     * 슬롯 갱신을 대기 목록에 더합니다. 플레이어의 첫 요청에서만 다음 틱 처리 작업을 예약하고,
+     * 같은 틱의 이후 요청은 비트만 더해 한 번의 처리로 합쳐집니다.
+     */
+    private void requestUpdate(Player player, int slotMask) {
+        UUID playerId = player.getUniqueId();
+        if (!pendingUpdates.mark(playerId, slotMask)) {
+            metrics.recordEquipmentEventCoalesced();
+            return;
+        }
+        // 다음 틱에 플레이어 스레드에서 갱신 (아이템 변경 적용 후)
+        if (!scheduler.runForPlayer(player, () -> applyPending(player))) {
+            pendingUpdates.remove(playerId);
+        }
+    }
+
+    /**
+     * 리스너를 닫습니다. 리로드로 교체할 때 등록 해제와 함께 호출하며,
+     * 이미 예약된 대기 갱신은 이전 서비스로 실행되지 않고 버려집니다.
+     */
+    public void close() {
+        closed = true;
+    }
+
+    /**
+     * 대기 중인 슬롯을 한 번에 갱신합니다.
+     */
+    private void applyPending(Player player) {
+        int slotMask = pendingUpdates.take(player.getUniqueId());
+        if (slotMask == 0 || closed || !player.isOnline()) {
+            return;
+        }
+        try {
+            metrics.recordEquipmentUpdate(playerStatsService.updateEquipmentSlots(player, slotMask));
+        } catch (Exception e) {
+            logger.warning("손 아이템 스탯 갱신 중 오류가 발생했습니다: " + e.getMessage());
+        }
     }
 }
@@ -0,0 +1,96 @@
+package kr.minex.pvplorestat.presentation.task;
+
+import kr.minex.pvplorestat.application.PlayerStatsService;
+import kr.minex.pvplorestat.infrastructure.scheduler.PluginScheduler;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 리로드 후 스탯 재계산 태스크
+ * <p>
+ * 리로드 직후 접속 중인 모든 플레이어를 한 틱에 다시 계산하지 않고, 지정한 틱 수에 걸쳐 나누어 처리합니다.
+ * 처리 전까지는 이전 설정으로 계산된 스탯이 그대로 쓰입니다.
+ * 장비 지문이 같아도 모든 장비를 다시 파싱합니다.
+ * 대기열이 비면 스스로 취소됩니다.
+ * </p>
+ * <p>
+ * 전역 스케줄러에서 실행되며, 플레이어 계산은 그 플레이어를 소유한 스레드에서 실행합니다.
+ * </p>
+ *
+ * @author Minex
+ * @since 1.0.0
+ */
+public class StatRederiveTask implements Runnable {
+
+    private final PlayerStatsService playerStatsService;
+    private final PluginScheduler scheduler;
+    private final ArrayDeque<UUID> pending = new ArrayDeque<>();
+    private final int perTick;
+
+    private PluginScheduler.TaskHandle handle;
+
+    private StatRederiveTask(PlayerStatsService playerStatsService, PluginScheduler scheduler,
+                             Collection<? extends Player> players, int spreadTicks) {
+        this.playerStatsService = Objects.requireNonNull(playerStatsService, "playerStatsService");
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler");
+        for (Player player : players) {
+            pending.addLast(player.getUniqueId());
+        }
+        // 올림 나눗셈: spreadTicks 안에 모두 처리
+        int ticks = Math.max(1, spreadTicks);
+        this.perTick = Math.max(1, (pending.size() + ticks - 1) / ticks);
+    }
+
+    /**
+     * 재계산을 시작합니다. 첫 처리는 다음 틱입니다.
+     *
+     * @param playerStatsService 새 설정으로 만든 스탯 서비스
+     * @param scheduler          스케줄러
+     * @param players            재계산할 플레이어
+     * @param spreadTicks        나누어 처리할 틱 수
+     * @return 시작된 태스크 (도중에 멈추려면 {@link #cancel()})
+     */
+    public static StatRederiveTask start(PlayerStatsService playerStatsService, PluginScheduler scheduler,
+                                         Collection<? extends Player> players, int spreadTicks) {
+        StatRederiveTask task = new StatRederiveTask(playerStatsService, scheduler, players, spreadTicks);
+        task.handle = scheduler.runGlobalTimer(task, 1L, 1L);
+        return task;
+    }
+
+    @Override
+    public void run() {
+        for (int i = 0; i < perTick && !pending.isEmpty(); i++) {
+            Player player = Bukkit.getPlayer(pending.pollFirst());
+            if (player != null && player.isOnline()) {
+                scheduler.executeForPlayer(player, () -> playerStatsService.recalculate(player));
+            }
+        }
+        if (pending.isEmpty()) {
+            cancel();
+        }
+    }
+
+    /**
+     * 남은 재계산을 취소합니다.
+     */
+    public void cancel() {
+        if (handle != null) {
+            handle.cancel();
+            handle = null;
+        }
+    }
+
+    /**
+     * 아직 처리하지 않은 플레이어 수
+     *
+     * @return 대기 중인 플레이어 수
+     */
+    public int getRemaining() {
+        return pending.size();
+    }
+}
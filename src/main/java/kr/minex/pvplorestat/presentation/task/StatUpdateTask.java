@@ -1,53 +1,262 @@
 package kr.minex.pvplorestat.presentation.task;
 
 import kr.minex.pvplorestat.application.PlayerStatsService;
+import kr.minex.pvplorestat.infrastructure.cache.DirtyPlayerTracker;
 import kr.minex.pvplorestat.infrastructure.config.ConfigManager;
 import kr.minex.pvplorestat.infrastructure.monitoring.PluginMetrics;
+import kr.minex.pvplorestat.infrastructure.scheduler.PluginScheduler;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
 
+import java.util.ArrayDeque;
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.LongSupplier;
 import java.util.logging.Logger;
 
 /**
  * 스탯 업데이트 태스크
  * <p>
- * 주기적으로 모든 플레이어의 장비 스탯을 갱신합니다.
+ * 장비 변경 이벤트로 표시된(더티) 플레이어의 장비 스탯만 주기적으로 갱신합니다.
+ * 이벤트로 잡히지 않는 변경에 대비해 settings.reconcile-interval마다 모든 플레이어를 한 번씩 갱신합니다.
+ * </p>
+ * <p>
+ * settings.tick-budget-us가 0보다 크면 매 틱 실행되며, 한 틱에 쓰는 시간이 예산을 넘지 않도록
+ * 플레이어를 여러 틱에 나누어 처리합니다. 플레이어당 비용은 지수 이동 평균으로 추정해,
+ * 다음 플레이어를 처리하면 예산을 넘을 것 같으면 그 틱의 처리를 멈춥니다.
+ * 전체 재확인은 접속/퇴장에도 유지되는 라운드 로빈 순서로 이어서 진행합니다.
+ * </p>
+ * <p>
+ * 태스크는 전역 스케줄러에서 실행되며, 플레이어 갱신은 그 플레이어를 소유한 스레드에서 실행합니다.
+ * Bukkit에서는 같은 메인 스레드이므로 바로 갱신하고, Folia에서는 플레이어의 리전 스레드로 넘깁니다.
  * </p>
  *
  * @author Minex
  * @since 1.0.0
  */
-public class StatUpdateTask extends BukkitRunnable {
+public class StatUpdateTask implements Runnable {
+
+    /**
+     * 플레이어당 비용 초기 추정치 (50μs)
+     */
+    private static final double INITIAL_COST_NANOS = 50_000;
+
+    /**
+     * 비용 추정 지수 이동 평균 가중치
+     */
+    private static final double COST_SMOOTHING = 0.2;
 
     private final PlayerStatsService playerStatsService;
+    private final DirtyPlayerTracker dirtyTracker;
     private final PluginMetrics metrics;
     private final Logger logger;
     private final ConfigManager configManager;
+    private final PluginScheduler scheduler;
+    private final LongSupplier nanoClock;
+
+    /**
+     * 틱 예산 (0이면 예산 없이 update-interval마다 한 번에 처리)
+     */
+    private final long budgetNanos;
+    private final int periodTicks;
 
-    public StatUpdateTask(PlayerStatsService playerStatsService, PluginMetrics metrics, Logger logger, ConfigManager configManager) {
+    private int ticksSinceReconcile;
+
+    // 라운드 로빈 재확인 (큐의 앞이 커서)
+    private final ArrayDeque<UUID> sweepRing = new ArrayDeque<>();
+    private final Set<UUID> sweepMembers = new HashSet<>();
+    private int sweepRemaining;
+
+    private double costEstimateNanos = INITIAL_COST_NANOS;
+    private long tickStart;
+    private int processedThisTick;
+
+    public StatUpdateTask(PlayerStatsService playerStatsService, DirtyPlayerTracker dirtyTracker,
+                          PluginMetrics metrics, Logger logger, ConfigManager configManager,
+                          PluginScheduler scheduler) {
+        this(playerStatsService, dirtyTracker, metrics, logger, configManager, scheduler, System::nanoTime);
+    }
+
+    /**
+     * 실행 시간 측정에 쓸 시계를 지정해 태스크를 만듭니다.
+     * 더티 표시 후 경과 시간은 DirtyPlayerTracker와 같은 System.nanoTime으로 잽니다.
+     */
+    StatUpdateTask(PlayerStatsService playerStatsService, DirtyPlayerTracker dirtyTracker,
+                   PluginMetrics metrics, Logger logger, ConfigManager configManager,
+                   PluginScheduler scheduler, LongSupplier nanoClock) {
         this.playerStatsService = Objects.requireNonNull(playerStatsService, "playerStatsService");
+        this.dirtyTracker = Objects.requireNonNull(dirtyTracker, "dirtyTracker");
         this.metrics = Objects.requireNonNull(metrics, "metrics");
         this.logger = Objects.requireNonNull(logger, "logger");
         this.configManager = Objects.requireNonNull(configManager, "configManager");
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler");
+        this.nanoClock = Objects.requireNonNull(nanoClock, "nanoClock");
+        this.budgetNanos = configManager.getTickBudgetMicros() * 1_000L;
+        this.periodTicks = budgetNanos > 0 ? 1 : configManager.getUpdateInterval();
+    }
+
+    /**
+     * 이 태스크의 실행 주기 (틱)
+     *
+     * @return 틱 예산을 쓰면 1, 아니면 update-interval
+     */
+    public int getPeriodTicks() {
+        return periodTicks;
     }
 
     @Override
     public void run() {
-        long start = System.nanoTime();
+        if (budgetNanos > 0) {
+            runSliced();
+            return;
+        }
+
+        long start = nanoClock.getAsLong();
         int players = 0;
         try {
-            for (Player player : Bukkit.getOnlinePlayers()) {
-                players++;
-                playerStatsService.calculateAndCache(player);
+            int reconcileInterval = configManager.getReconcileInterval();
+            ticksSinceReconcile += periodTicks;
+
+            if (reconcileInterval > 0 && ticksSinceReconcile >= reconcileInterval) {
+                // 안전망: 모든 플레이어 갱신 (지문이 같은 장비는 다시 파싱하지 않음)
+                ticksSinceReconcile = 0;
+                dirtyTracker.clear();
+                for (Player player : Bukkit.getOnlinePlayers()) {
+                    players++;
+                    refresh(player);
+                }
+                metrics.recordReconcileSweep();
+            } else {
+                players = dirtyTracker.drain(this::refreshDirty);
+                metrics.recordDirtyPlayerRefreshes(players);
             }
         } finally {
-            long nanos = System.nanoTime() - start;
+            long nanos = nanoClock.getAsLong() - start;
             metrics.recordStatUpdateTaskRun(nanos);
+            metrics.recordStatQueueDepth(dirtyTracker.size());
             if (configManager.isDebug() && nanos > 10_000_000) { // 10ms
                 logger.info("[Debug] statUpdateTask took " + (nanos / 1_000_000.0) + "ms for " + players + " players");
             }
         }
     }
+
+    /**
+     * 틱 예산 안에서 더티 플레이어를 먼저, 남은 예산으로 재확인을 이어서 처리합니다.
+     */
+    private void runSliced() {
+        tickStart = nanoClock.getAsLong();
+        processedThisTick = 0;
+        try {
+            int dirty = dirtyTracker.drain(this::refreshDirtyTimed, this::hasBudget);
+            if (dirty > 0) {
+                metrics.recordDirtyPlayerRefreshes(dirty);
+            }
+
+            int reconcileInterval = configManager.getReconcileInterval();
+            ticksSinceReconcile++;
+            if (sweepRemaining == 0 && reconcileInterval > 0 && ticksSinceReconcile >= reconcileInterval) {
+                startSweep();
+            }
+            while (sweepRemaining > 0 && hasBudget()) {
+                stepSweep();
+            }
+        } finally {
+            long nanos = nanoClock.getAsLong() - tickStart;
+            if (processedThisTick > 0) {
+                metrics.recordStatUpdateTaskRun(nanos);
+            }
+            if (nanos > budgetNanos) {
+                metrics.recordStatBudgetOverrun();
+            }
+            metrics.recordStatQueueDepth(dirtyTracker.size() + sweepRemaining);
+        }
+    }
+
+    /**
+     * 다음 플레이어를 처리해도 예산 안인지 확인합니다.
+     * 한 명의 추정 비용이 예산보다 크면, 진행이 멈추지 않도록 틱당 한 명만 처리합니다.
+     */
+    private boolean hasBudget() {
+        long elapsed = nanoClock.getAsLong() - tickStart;
+        if (processedThisTick == 0) {
+            return elapsed < budgetNanos;
+        }
+        return elapsed + costEstimateNanos <= budgetNanos;
+    }
+
+    /**
+     * 새 재확인 회차를 시작합니다. 새로 접속한 플레이어는 링의 끝에 추가됩니다.
+     */
+    private void startSweep() {
+        ticksSinceReconcile = 0;
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            UUID playerId = player.getUniqueId();
+            if (sweepMembers.add(playerId)) {
+                sweepRing.addLast(playerId);
+            }
+        }
+        sweepRemaining = sweepRing.size();
+        metrics.recordReconcileSweep();
+    }
+
+    /**
+     * 링의 앞에 있는 플레이어 한 명을 처리하고 끝으로 보냅니다. 퇴장한 플레이어는 링에서 제거됩니다.
+     */
+    private void stepSweep() {
+        sweepRemaining--;
+        UUID playerId = sweepRing.pollFirst();
+        if (playerId == null) {
+            sweepRemaining = 0;
+            return;
+        }
+
+        Player player = Bukkit.getPlayer(playerId);
+        if (player == null || !player.isOnline()) {
+            sweepMembers.remove(playerId);
+            return;
+        }
+
+        sweepRing.addLast(playerId);
+        timed(player);
+    }
+
+    private void refreshDirty(UUID playerId, long markedAt) {
+        Player player = Bukkit.getPlayer(playerId);
+        if (player != null && player.isOnline()) {
+            refresh(player);
+            metrics.recordStatStaleness(System.nanoTime() - markedAt);
+        }
+    }
+
+    private void refreshDirtyTimed(UUID playerId, long markedAt) {
+        Player player = Bukkit.getPlayer(playerId);
+        if (player != null && player.isOnline()) {
+            timed(player);
+            metrics.recordStatStaleness(System.nanoTime() - markedAt);
+        }
+    }
+
+    /**
+     * 플레이어 한 명을 갱신하고 비용 추정치를 갱신합니다.
+     */
+    private void timed(Player player) {
+        long start = nanoClock.getAsLong();
+        refresh(player);
+        long cost = nanoClock.getAsLong() - start;
+        costEstimateNanos += COST_SMOOTHING * (cost - costEstimateNanos);
+        processedThisTick++;
+    }
+
+    /**
+     * 플레이어를 소유한 스레드에서 갱신합니다. 다른 스레드면 다음 틱에 그 스레드로 넘깁니다.
+     */
+    private void refresh(Player player) {
+        if (scheduler.isOwnedByCurrentThread(player)) {
+            playerStatsService.refresh(player);
+        } else {
+            scheduler.runForPlayer(player, () -> playerStatsService.refresh(player));
+        }
+    }
 }
@@ -0,0 +1,58 @@
+package kr.minex.pvplorestat.application;
+
+import kr.minex.pvplorestat.domain.model.ItemStats;
+import org.bukkit.Material;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HotbarStatIndex 테스트
+ */
+@DisplayName("HotbarStatIndex 테스트")
+class HotbarStatIndexTest {
+
+    @Test
+    @DisplayName("기록한 칸은 같은 지문일 때만 그대로 쓸 수 있어야 한다")
+    void 칸_조회_테스트() {
+        HotbarStatIndex index = new HotbarStatIndex();
+        ItemStats sword = ItemStats.builder().damage(10).build();
+
+        assertFalse(index.matches(3, 42L));
+
+        index.put(3, 42L, sword);
+
+        assertTrue(index.matches(3, 42L));
+        assertFalse(index.matches(3, 43L)); // 이벤트 없이 바뀐 아이템
+        assertSame(sword, index.getStats(3));
+    }
+
+    @Test
+    @DisplayName("재질이 같아도 로어가 바뀌면 다시 파싱 대상이 되어야 한다")
+    void 로어_변경_테스트() {
+        HotbarStatIndex index = new HotbarStatIndex();
+        long before = PlayerEquipmentState.fingerprint(Material.DIAMOND_SWORD, null);
+        index.put(0, before, ItemStats.builder().damage(10).build());
+
+        assertTrue(index.matches(0, PlayerEquipmentState.fingerprint(Material.DIAMOND_SWORD, null)));
+        assertFalse(index.matches(0, PlayerEquipmentState.fingerprint(Material.IRON_SWORD, null)));
+        assertFalse(index.matches(0, before ^ 1L)); // 같은 재질, 다른 로어
+    }
+
+    @Test
+    @DisplayName("무효화한 칸만 다시 파싱 대상이 되어야 한다")
+    void 무효화_테스트() {
+        HotbarStatIndex index = new HotbarStatIndex();
+        index.put(0, 1L, ItemStats.empty());
+        index.put(HotbarStatIndex.OFF_HAND, 2L, ItemStats.empty());
+
+        index.invalidate(1);
+
+        assertFalse(index.matches(0, 1L));
+        assertTrue(index.matches(HotbarStatIndex.OFF_HAND, 2L));
+
+        index.invalidate(HotbarStatIndex.ALL);
+        assertEquals(0, index.getValidMask());
+    }
+}
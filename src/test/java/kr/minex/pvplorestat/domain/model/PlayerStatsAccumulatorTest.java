@@ -0,0 +1,110 @@
+package kr.minex.pvplorestat.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PlayerStatsAccumulator 테스트
+ */
+@DisplayName("PlayerStatsAccumulator 테스트")
+class PlayerStatsAccumulatorTest {
+
+    private static final UUID TEST_UUID = UUID.randomUUID();
+
+    @Test
+    @DisplayName("슬롯 갱신 후 총합이 PlayerStats 합산과 같아야 한다")
+    void 슬롯_갱신_총합_테스트() {
+        PlayerStatsAccumulator accumulator = new PlayerStatsAccumulator(TEST_UUID);
+        ItemStats helmet = ItemStats.builder().defense(20).health(50).build();
+        ItemStats weapon = ItemStats.builder().damage(100).critChance(25).build();
+
+        accumulator.set(EquipmentSlot.HELMET, helmet);
+        accumulator.set(EquipmentSlot.MAIN_HAND, weapon);
+        accumulator.set(EquipmentSlot.HELMET, ItemStats.builder().defense(30).build());
+
+        PlayerStats expected = PlayerStats.empty(TEST_UUID)
+                .withEquipmentStats(EquipmentSlot.HELMET, ItemStats.builder().defense(30).build())
+                .withEquipmentStats(EquipmentSlot.MAIN_HAND, weapon);
+        PlayerStats snapshot = accumulator.snapshot();
+
+        assertEquals(expected, snapshot);
+        assertEquals(expected.getTotalStats(), snapshot.getTotalStats());
+        assertEquals(30, accumulator.getTotal(StatType.DEFENSE));
+        assertEquals(0, accumulator.getTotal(StatType.HEALTH));
+    }
+
+    @Test
+    @DisplayName("스냅샷은 이후 갱신에 영향을 받지 않아야 한다")
+    void 스냅샷_불변_테스트() {
+        PlayerStatsAccumulator accumulator = new PlayerStatsAccumulator(TEST_UUID);
+        accumulator.set(EquipmentSlot.BOOTS, ItemStats.builder().dodge(10).build());
+        PlayerStats before = accumulator.snapshot();
+
+        assertSame(before, accumulator.snapshot());
+
+        accumulator.set(EquipmentSlot.BOOTS, ItemStats.builder().dodge(5).build());
+
+        assertEquals(10, before.getTotalStats().getDodge());
+        assertEquals(5, accumulator.snapshot().getTotalStats().getDodge());
+        assertThrows(UnsupportedOperationException.class,
+                () -> before.getAllEquipmentStats().remove(EquipmentSlot.BOOTS));
+    }
+
+    @Test
+    @DisplayName("모든 슬롯을 비우면 총합이 정확히 0이어야 한다")
+    void 전체_제거_테스트() {
+        PlayerStatsAccumulator accumulator = new PlayerStatsAccumulator(TEST_UUID);
+        accumulator.set(EquipmentSlot.HELMET, ItemStats.builder().defense(0.1).build());
+        accumulator.set(EquipmentSlot.CHESTPLATE, ItemStats.builder().defense(0.2).build());
+
+        accumulator.set(EquipmentSlot.HELMET, null);
+        accumulator.set(EquipmentSlot.CHESTPLATE, ItemStats.empty());
+
+        assertEquals(0.0, accumulator.getTotal(StatType.DEFENSE));
+        assertTrue(accumulator.snapshot().getTotalStats().isEmpty());
+        assertTrue(accumulator.snapshot().getAllEquipmentStats().isEmpty());
+    }
+
+    @Test
+    @DisplayName("갱신할 때마다 총합은 PlayerStats 합산과 비트 단위로 같아야 한다")
+    void 합산_정확도_테스트() {
+        PlayerStatsAccumulator accumulator = new PlayerStatsAccumulator(TEST_UUID);
+        PlayerStats expected = PlayerStats.empty(TEST_UUID);
+        EquipmentSlot[] slots = EquipmentSlot.values();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 200; i++) {
+            EquipmentSlot slot = slots[random.nextInt(slots.length)];
+            ItemStats stats = ItemStats.builder()
+                    .damage(random.nextDouble() * 100)
+                    .lifesteal(random.nextDouble() * 10)
+                    .build();
+            accumulator.set(slot, stats);
+            expected = expected.withEquipmentStats(slot, stats);
+            assertEquals(expected.getTotalStats(), accumulator.snapshot().getTotalStats());
+        }
+    }
+
+    @Test
+    @DisplayName("0.1과 0.2를 장착했다 벗으면 총합에 오차가 남지 않아야 한다")
+    void 장착_해제_오차_테스트() {
+        PlayerStatsAccumulator accumulator = new PlayerStatsAccumulator(TEST_UUID);
+        ItemStats boots = ItemStats.builder().dodge(5).build();
+        accumulator.set(EquipmentSlot.BOOTS, boots); // 남아 있는 슬롯이 있어도 정확해야 함
+
+        accumulator.set(EquipmentSlot.HELMET, ItemStats.builder().damage(0.2).lifesteal(0.1).build());
+        accumulator.set(EquipmentSlot.MAIN_HAND, ItemStats.builder().damage(0.1).lifesteal(0.2).build());
+        accumulator.set(EquipmentSlot.HELMET, null);
+        accumulator.set(EquipmentSlot.MAIN_HAND, null);
+
+        assertEquals(0.0, accumulator.getTotal(StatType.DAMAGE));
+        assertEquals(0.0, accumulator.getTotal(StatType.LIFESTEAL));
+        assertFalse(accumulator.snapshot().hasOffensiveStats());
+        assertEquals(boots, accumulator.snapshot().getTotalStats());
+    }
+}
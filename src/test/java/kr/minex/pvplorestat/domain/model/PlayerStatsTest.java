@@ -144,6 +144,34 @@ class PlayerStatsTest {
         }
     }
 
+    @Nested
+    @DisplayName("전투 스탯 유무 테스트")
+    class CombatRelevanceTest {
+
+        @Test
+        @DisplayName("체력과 치명타 데미지만으로는 전투 결과가 바뀌지 않아야 한다")
+        void 무관_스탯_테스트() {
+            PlayerStats playerStats = PlayerStats.of(TEST_UUID, ItemStats.builder().health(50).critDamage(30).build());
+
+            assertFalse(playerStats.hasOffensiveStats());
+            assertFalse(playerStats.hasDefensiveStats());
+            assertFalse(PlayerStats.empty(TEST_UUID).hasOffensiveStats());
+        }
+
+        @Test
+        @DisplayName("공격/방어 스탯을 구분해야 한다")
+        void 공격_방어_구분_테스트() {
+            assertTrue(PlayerStats.of(TEST_UUID, ItemStats.builder().damage(1).build()).hasOffensiveStats());
+            assertTrue(PlayerStats.of(TEST_UUID, ItemStats.builder().critChance(1).build()).hasOffensiveStats());
+            assertTrue(PlayerStats.of(TEST_UUID, ItemStats.builder().lifesteal(1).build()).hasOffensiveStats());
+            assertTrue(PlayerStats.of(TEST_UUID, ItemStats.builder().defense(1).build()).hasDefensiveStats());
+            assertTrue(PlayerStats.of(TEST_UUID, ItemStats.builder().dodge(1).build()).hasDefensiveStats());
+
+            PlayerStats attackerOnly = PlayerStats.of(TEST_UUID, ItemStats.builder().damage(5).build());
+            assertFalse(attackerOnly.hasDefensiveStats());
+        }
+    }
+
     @Nested
     @DisplayName("불변성 테스트")
     class ImmutabilityTest {
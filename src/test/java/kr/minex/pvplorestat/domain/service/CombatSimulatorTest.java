@@ -0,0 +1,142 @@
+package kr.minex.pvplorestat.domain.service;
+
+import kr.minex.pvplorestat.domain.model.ItemStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CombatSimulator 테스트
+ */
+@DisplayName("CombatSimulator 테스트")
+class CombatSimulatorTest {
+
+    private final DamageCalculator.Config config = new DamageCalculator.Config(2.0, 2.0, 2.0);
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("난수가 개입하지 않으면 처치 타격 수가 정확해야 한다")
+    void 고정_결과_테스트() {
+        // 타격당 7 + 6/2 - 4/2 = 8 → 체력 20은 3타
+        ItemStats attacker = ItemStats.builder().damage(6).lifesteal(25).build();
+        ItemStats victim = ItemStats.builder().defense(4).build();
+
+        CombatSimulator.Report report = new CombatSimulator(config, pool).run(
+                CombatSimulator.Scenario.builder(attacker, victim).victimHealth(20).fights(10_000).seed(1L).build());
+
+        assertEquals(30_000, report.getHits());
+        assertEquals(10_000, report.getKills());
+        assertEquals(1.0, report.getKillRate());
+        assertEquals(3, report.getHitsToKill(0));
+        assertEquals(3, report.getHitsToKill(99));
+        assertEquals(2 / 1.6, report.getTimeToKill(50), 1e-9);
+        assertEquals(8.0, report.getDamagePerHit(), 1e-9);
+        assertEquals(8.0 * 1.6, report.getDps(), 1e-9);
+        assertEquals(2.0 * 1.6, report.getLifestealPerSecond(), 1e-9);
+        assertEquals(0, report.getCriticalRate());
+        assertEquals(0, report.getDodgeRate());
+    }
+
+    @Test
+    @DisplayName("같은 시드는 풀 크기와 상관없이 같은 결과를 내야 한다")
+    void 시드_재현_테스트() {
+        CombatSimulator.Scenario scenario = CombatSimulator.Scenario.builder(
+                        ItemStats.builder().damage(10).critChance(30).critDamage(8).lifesteal(10).build(),
+                        ItemStats.builder().defense(6).dodge(15).health(10).build())
+                .fights(50_000)
+                .seed(42L)
+                .build();
+
+        ForkJoinPool single = new ForkJoinPool(1);
+        try {
+            CombatSimulator.Report parallel = new CombatSimulator(config, pool).run(scenario);
+            CombatSimulator.Report serial = new CombatSimulator(config, single).run(scenario);
+
+            assertEquals(parallel.getHits(), serial.getHits());
+            assertEquals(parallel.getKills(), serial.getKills());
+            assertEquals(parallel.getDps(), serial.getDps());
+            assertEquals(parallel.getCriticalRate(), serial.getCriticalRate());
+            assertEquals(parallel.getDodgeRate(), serial.getDodgeRate());
+            assertEquals(parallel.getLifestealPerSecond(), serial.getLifestealPerSecond());
+            for (int p = 0; p <= 100; p += 5) {
+                assertEquals(parallel.getHitsToKill(p), serial.getHitsToKill(p));
+            }
+        } finally {
+            single.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("치명타율과 회피율은 스탯에 수렴해야 한다")
+    void 확률_수렴_테스트() {
+        CombatSimulator.Report report = new CombatSimulator(config, pool).run(
+                CombatSimulator.Scenario.builder(
+                                ItemStats.builder().critChance(40).build(),
+                                ItemStats.builder().dodge(20).build())
+                        .fights(100_000)
+                        .seed(7L)
+                        .build());
+
+        assertEquals(0.40, report.getCriticalRate(), 0.01);
+        assertEquals(0.20, report.getDodgeRate(), 0.01);
+    }
+
+    @Test
+    @DisplayName("처치하지 못한 전투는 분위수에서 -1과 NaN으로 나와야 한다")
+    void 처치_불가_테스트() {
+        CombatSimulator.Report report = new CombatSimulator(config, pool).run(
+                CombatSimulator.Scenario.builder(ItemStats.empty(), ItemStats.builder().dodge(100).build())
+                        .fights(100)
+                        .seed(3L)
+                        .build());
+
+        assertEquals(0, report.getKills());
+        assertEquals(100L * CombatSimulator.MAX_HITS_PER_FIGHT, report.getHits());
+        assertEquals(1.0, report.getDodgeRate());
+        assertEquals(-1, report.getHitsToKill(50));
+        assertTrue(Double.isNaN(report.getTimeToKill(50)));
+    }
+
+    @Test
+    @DisplayName("비동기 실행은 풀 스레드에서 완료되어야 한다")
+    void 비동기_테스트() throws Exception {
+        CombatSimulator.Scenario scenario = CombatSimulator.Scenario.builder(
+                ItemStats.builder().damage(4).build(), ItemStats.empty()).fights(20_000).build();
+
+        Thread completedOn = new CombatSimulator(config, pool).simulate(scenario)
+                .thenApply(report -> Thread.currentThread())
+                .get(30, TimeUnit.SECONDS);
+
+        assertTrue(completedOn instanceof ForkJoinWorkerThread worker && worker.getPool() == pool);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 조건은 거부해야 한다")
+    void 조건_검증_테스트() {
+        CombatSimulator.Scenario.Builder builder = CombatSimulator.Scenario.builder(ItemStats.empty(), ItemStats.empty());
+
+        assertThrows(IllegalArgumentException.class, () -> builder.fights(0).build());
+        assertThrows(IllegalArgumentException.class,
+                () -> builder.fights(CombatSimulator.Scenario.MAX_FIGHTS + 1).build());
+        assertThrows(IllegalArgumentException.class, () -> builder.fights(1).baseDamage(-1).build());
+        assertThrows(IllegalArgumentException.class, () -> builder.baseDamage(1).victimHealth(0).build());
+        assertThrows(IllegalArgumentException.class, () -> builder.victimHealth(20).hitsPerSecond(Double.NaN).build());
+    }
+}
@@ -0,0 +1,76 @@
+package kr.minex.pvplorestat.domain.service;
+
+import kr.minex.pvplorestat.domain.model.ItemStats;
+import kr.minex.pvplorestat.domain.model.PlayerStats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * DamageCalculator 할당 회귀 테스트
+ * <p>
+ * 전투 리스너 경로(캐시된 전투 계수 조회 + 재사용 결과 객체)가 타격마다 객체를 만들지 않는지
+ * 현재 스레드의 누적 할당량으로 확인합니다.
+ * </p>
+ */
+@DisplayName("DamageCalculator 할당 회귀 테스트")
+class DamageCalculatorAllocationTest {
+
+    private static final int WARMUP_HITS = 200_000;
+    private static final int MEASURED_HITS = 100_000;
+
+    @Test
+    @DisplayName("정상 상태의 타격은 0바이트를 할당해야 한다")
+    void 타격당_할당_테스트() {
+        com.sun.management.ThreadMXBean threads = threadBean();
+        long threadId = Thread.currentThread().getId();
+
+        DamageCalculator calculator = new DamageCalculator(DamageCalculator.Config.defaults(), new Random(42));
+        PlayerStats attacker = PlayerStats.of(UUID.randomUUID(), ItemStats.builder()
+                .damage(40).critChance(35).critDamage(20).lifesteal(15).build());
+        PlayerStats victim = PlayerStats.of(UUID.randomUUID(), ItemStats.builder()
+                .defense(30).dodge(20).build());
+        DamageCalculator.Outcome out = new DamageCalculator.Outcome();
+
+        double sink = hits(calculator, attacker, victim, out, WARMUP_HITS);
+
+        // 측정 호출 자체의 할당을 빼기 위한 기준값
+        long overheadStart = threads.getThreadAllocatedBytes(threadId);
+        long overhead = threads.getThreadAllocatedBytes(threadId) - overheadStart;
+
+        long before = threads.getThreadAllocatedBytes(threadId);
+        sink += hits(calculator, attacker, victim, out, MEASURED_HITS);
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before - overhead;
+
+        assertTrue(sink > 0);
+        assertEquals(0, allocated, "타격 " + MEASURED_HITS + "번에 " + allocated + "바이트 할당");
+    }
+
+    /**
+     * 리스너와 같은 순서(계수 조회 → 계산)로 타격을 반복하고, 결과가 최적화로 사라지지 않도록 합계를 돌려줍니다.
+     */
+    private static double hits(DamageCalculator calculator, PlayerStats attacker, PlayerStats victim,
+                               DamageCalculator.Outcome out, int count) {
+        double sum = 0;
+        for (int i = 0; i < count; i++) {
+            calculator.resolve(10.0, calculator.profile(attacker), calculator.profile(victim), out);
+            sum += out.getFinalDamage() + out.getLifestealAmount();
+        }
+        return sum;
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        var bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "스레드별 할당량을 지원하지 않는 JVM");
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "스레드별 할당량을 지원하지 않는 JVM");
+        threads.setThreadAllocatedMemoryEnabled(true);
+        return threads;
+    }
+}
@@ -1,6 +1,8 @@
 package kr.minex.pvplorestat.domain.service;
 
+import kr.minex.pvplorestat.domain.model.CombatProfile;
 import kr.minex.pvplorestat.domain.model.ItemStats;
+import kr.minex.pvplorestat.domain.model.PlayerStats;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -8,6 +10,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.util.Random;
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -314,4 +319,155 @@ class DamageCalculatorTest {
             assertEquals(35.0, result.getFinalDamage());
         }
     }
+
+    @Nested
+    @DisplayName("전투 계수 테스트")
+    class ProfileTest {
+
+        @Test
+        @DisplayName("전투 계수로 계산한 결과는 스탯을 직접 나누던 계산과 비트 단위로 같아야 한다")
+        void 비트_동일성_테스트() {
+            Random statRandom = new Random(7);
+            for (int i = 0; i < 10_000; i++) {
+                ItemStats attacker = randomStats(statRandom);
+                ItemStats victim = randomStats(statRandom);
+                double baseDamage = statRandom.nextDouble() * 20;
+                long seed = statRandom.nextLong();
+
+                DamageCalculator profiled = new DamageCalculator(config, new Random(seed));
+                DamageCalculator.Result actual = profiled.calculate(baseDamage,
+                        profiled.profile(PlayerStats.of(UUID.randomUUID(), attacker)),
+                        profiled.profile(PlayerStats.of(UUID.randomUUID(), victim)));
+                Expected expected = divideEachHit(baseDamage, attacker, victim, new Random(seed));
+
+                assertEquals(expected.dodged(), actual.isDodged());
+                assertEquals(expected.critical(), actual.isCritical());
+                assertEquals(Double.doubleToRawLongBits(expected.finalDamage()),
+                        Double.doubleToRawLongBits(actual.getFinalDamage()));
+                assertEquals(Double.doubleToRawLongBits(expected.criticalBonus()),
+                        Double.doubleToRawLongBits(actual.getCriticalBonusDamage()));
+                assertEquals(Double.doubleToRawLongBits(expected.lifesteal()),
+                        Double.doubleToRawLongBits(actual.getLifestealAmount()));
+            }
+        }
+
+        @Test
+        @DisplayName("같은 설정이면 플레이어 스탯의 전투 계수를 다시 만들지 않아야 한다")
+        void 계수_재사용_테스트() {
+            PlayerStats stats = PlayerStats.of(UUID.randomUUID(), ItemStats.builder().damage(10).build());
+
+            CombatProfile first = calculator.profile(stats);
+            assertSame(first, calculator.profile(stats));
+
+            DamageCalculator other = new DamageCalculator(new DamageCalculator.Config(4.0, 2.0, 2.0));
+            CombatProfile rebuilt = other.profile(stats);
+            assertNotSame(first, rebuilt);
+            assertEquals(2.5, rebuilt.getFlatBonus());
+        }
+
+        private ItemStats randomStats(Random random) {
+            // 0과 100 경계(난수를 뽑지 않는 구간)도 섞이도록 범위를 넓게 잡음
+            return ItemStats.builder()
+                    .damage(random.nextDouble() * 200)
+                    .defense(random.nextDouble() * 200)
+                    .lifesteal(random.nextInt(4) == 0 ? 0 : random.nextDouble() * 120)
+                    .critChance(random.nextDouble() * 120)
+                    .critDamage(random.nextDouble() * 100)
+                    .dodge(random.nextInt(4) == 0 ? 0 : random.nextDouble() * 120)
+                    .build();
+        }
+
+        /**
+         * 전투 계수 도입 전의 계산 (타격마다 나눗셈)
+         */
+        private Expected divideEachHit(double baseDamage, ItemStats attacker, ItemStats victim, Random random) {
+            double dodge = victim.getDodge();
+            if (dodge > 0 && (dodge >= 100 || random.nextDouble() * 100 < dodge)) {
+                return new Expected(true, false, 0, 0, 0);
+            }
+            double damage = baseDamage + (attacker.getDamage() / config.getDamageDivisor());
+            double critChance = attacker.getCritChance();
+            boolean critical = critChance > 0 && (critChance >= 100 || random.nextDouble() * 100 < critChance);
+            double criticalBonus = 0;
+            if (critical) {
+                criticalBonus = attacker.getCritDamage() / config.getCritDamageDivisor();
+                damage += criticalBonus;
+            }
+            damage -= victim.getDefense() / config.getDefenseDivisor();
+            damage = Math.max(0, damage);
+            double lifestealPercent = attacker.getLifesteal();
+            double lifesteal = lifestealPercent <= 0 || damage <= 0 ? 0 : damage * (lifestealPercent / 100.0);
+            return new Expected(false, critical, damage, criticalBonus, lifesteal);
+        }
+
+        private record Expected(boolean dodged, boolean critical, double finalDamage, double criticalBonus,
+                                double lifesteal) {
+        }
+    }
+
+    @Nested
+    @DisplayName("난수 전략 테스트")
+    class CombatRandomTest {
+
+        private final ItemStats attackerStats = ItemStats.builder().damage(20).critChance(40).critDamage(10).build();
+        private final ItemStats victimStats = ItemStats.builder().defense(4).dodge(30).build();
+
+        @Test
+        @DisplayName("같은 시드는 같은 전투를 재현해야 한다")
+        void 시드_재현_테스트() {
+            PlayerStats attacker = PlayerStats.of(UUID.randomUUID(), attackerStats);
+            PlayerStats victim = PlayerStats.of(UUID.randomUUID(), victimStats);
+            DamageCalculator first = new DamageCalculator(config, CombatRandom.seeded(7L));
+            DamageCalculator second = new DamageCalculator(config, CombatRandom.seeded(7L));
+
+            for (int i = 0; i < 1_000; i++) {
+                DamageCalculator.Result a = first.calculate(10.0, first.profile(attacker), first.profile(victim));
+                DamageCalculator.Result b = second.calculate(10.0, second.profile(attacker), second.profile(victim));
+                assertEquals(a.isDodged(), b.isDodged());
+                assertEquals(a.isCritical(), b.isCritical());
+                assertEquals(a.getFinalDamage(), b.getFinalDamage());
+            }
+        }
+
+        @Test
+        @DisplayName("다른 쌍의 타격이 끼어도 쌍별 난수열은 그대로여야 한다")
+        void 쌍별_난수열_테스트() {
+            PlayerStats attacker = PlayerStats.of(UUID.randomUUID(), attackerStats);
+            PlayerStats victim = PlayerStats.of(UUID.randomUUID(), victimStats);
+            PlayerStats bystander = PlayerStats.of(UUID.randomUUID(), attackerStats);
+            DamageCalculator alone = new DamageCalculator(config, CombatRandom.seeded(7L));
+            DamageCalculator interleaved = new DamageCalculator(config, CombatRandom.seeded(7L));
+
+            for (int i = 0; i < 1_000; i++) {
+                interleaved.calculate(10.0, interleaved.profile(bystander), interleaved.profile(victim));
+                interleaved.calculate(10.0, interleaved.profile(victim), interleaved.profile(attacker));
+                DamageCalculator.Result expected = alone.calculate(10.0, alone.profile(attacker), alone.profile(victim));
+                DamageCalculator.Result actual = interleaved.calculate(10.0, interleaved.profile(attacker), interleaved.profile(victim));
+                assertEquals(expected.isDodged(), actual.isDodged());
+                assertEquals(expected.isCritical(), actual.isCritical());
+                assertEquals(expected.getFinalDamage(), actual.getFinalDamage());
+            }
+        }
+
+        @Test
+        @DisplayName("스레드별 난수는 생성하지 않은 스레드에서도 동작해야 한다")
+        void 스레드별_난수_테스트() throws Exception {
+            DamageCalculator shared = new DamageCalculator(config);
+            PlayerStats attacker = PlayerStats.of(UUID.randomUUID(), attackerStats);
+            PlayerStats victim = PlayerStats.of(UUID.randomUUID(), victimStats);
+            int[] outcomes = new int[2];
+
+            Thread worker = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    outcomes[shared.calculate(10.0, shared.profile(attacker), shared.profile(victim)).isDodged() ? 0 : 1]++;
+                }
+            });
+            worker.start();
+            worker.join();
+
+            // 회피율 30%: 양쪽 결과가 모두 나와야 함
+            assertTrue(outcomes[0] > 0);
+            assertTrue(outcomes[1] > 0);
+        }
+    }
 }
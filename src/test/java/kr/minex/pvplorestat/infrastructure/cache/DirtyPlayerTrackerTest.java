@@ -0,0 +1,107 @@
+package kr.minex.pvplorestat.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DirtyPlayerTracker 테스트
+ */
+@DisplayName("DirtyPlayerTracker 테스트")
+class DirtyPlayerTrackerTest {
+
+    @Test
+    @DisplayName("같은 플레이어를 여러 번 표시해도 한 번만 처리해야 한다")
+    void 중복_표시_테스트() {
+        DirtyPlayerTracker tracker = new DirtyPlayerTracker();
+        UUID playerId = UUID.randomUUID();
+
+        tracker.markDirty(playerId);
+        tracker.markDirty(playerId);
+        List<UUID> drained = new ArrayList<>();
+
+        assertEquals(1, tracker.drain((id, markedAt) -> drained.add(id)));
+        assertEquals(List.of(playerId), drained);
+        assertEquals(0, tracker.size());
+    }
+
+    @Test
+    @DisplayName("처리 중 다시 표시된 플레이어는 다음 번에 처리해야 한다")
+    void 처리_중_재표시_테스트() {
+        DirtyPlayerTracker tracker = new DirtyPlayerTracker();
+        UUID playerId = UUID.randomUUID();
+        tracker.markDirty(playerId);
+
+        tracker.drain((id, markedAt) -> tracker.markDirty(id));
+
+        assertEquals(1, tracker.size());
+        List<UUID> drained = new ArrayList<>();
+        tracker.drain((id, markedAt) -> drained.add(id));
+        assertEquals(List.of(playerId), drained);
+    }
+
+    @Test
+    @DisplayName("표시된 순서대로 처리하고, 중단하면 나머지는 남겨야 한다")
+    void 순서_및_중단_테스트() {
+        DirtyPlayerTracker tracker = new DirtyPlayerTracker();
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            tracker.markDirty(id);
+        }
+        List<UUID> drained = new ArrayList<>();
+
+        int processed = tracker.drain((id, markedAt) -> drained.add(id), () -> drained.size() < 3);
+
+        assertEquals(3, processed);
+        assertEquals(ids.subList(0, 3), drained);
+        assertEquals(2, tracker.size());
+
+        tracker.drain((id, markedAt) -> drained.add(id));
+        assertEquals(ids, drained);
+    }
+
+    @Test
+    @DisplayName("제거된 플레이어는 처리하지 않아야 한다")
+    void 제거된_플레이어_건너뛰기_테스트() {
+        DirtyPlayerTracker tracker = new DirtyPlayerTracker();
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        tracker.markDirty(a);
+        tracker.markDirty(b);
+        tracker.remove(a);
+        List<UUID> drained = new ArrayList<>();
+
+        tracker.drain((id, markedAt) -> drained.add(id));
+
+        assertEquals(List.of(b), drained);
+    }
+
+    @Test
+    @DisplayName("제거와 초기화가 동작해야 한다")
+    void 제거_테스트() {
+        DirtyPlayerTracker tracker = new DirtyPlayerTracker();
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        tracker.markDirty(a);
+        tracker.markDirty(b);
+        tracker.markDirty(null);
+
+        tracker.remove(a);
+        assertEquals(1, tracker.size());
+
+        tracker.clear();
+        assertEquals(0, tracker.size());
+        assertEquals(0, tracker.drain((id, markedAt) -> fail("처리할 플레이어가 없어야 합니다")));
+
+        // 초기화 후 다시 표시하면 처리되어야 함
+        tracker.markDirty(b);
+        assertEquals(1, tracker.drain((id, markedAt) -> assertEquals(b, id)));
+    }
+}
@@ -0,0 +1,65 @@
+package kr.minex.pvplorestat.infrastructure.cache;
+
+import kr.minex.pvplorestat.domain.model.ItemStats;
+import kr.minex.pvplorestat.infrastructure.monitoring.PluginMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ItemStatsInterner 테스트
+ */
+@DisplayName("ItemStatsInterner 테스트")
+class ItemStatsInternerTest {
+
+    @Test
+    @DisplayName("값이 같은 스탯은 같은 인스턴스를 반환해야 한다")
+    void 같은_값_공유_테스트() {
+        PluginMetrics metrics = new PluginMetrics();
+        ItemStatsInterner interner = new ItemStatsInterner(16, metrics);
+        metrics.bindStatsInternRetained(interner::size);
+        ItemStats first = ItemStats.builder().damage(10).defense(5).build();
+        ItemStats second = ItemStats.builder().damage(10).defense(5).build();
+
+        assertNotSame(first, second);
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertEquals(1, metrics.getStatsInternHits());
+        assertEquals(1, metrics.getStatsInternMisses());
+        assertEquals(1, metrics.getStatsInternRetained());
+    }
+
+    @Test
+    @DisplayName("빈 스탯은 테이블에 보관하지 않고 빈 스탯 싱글톤을 반환해야 한다")
+    void 빈_스탯_테스트() {
+        ItemStatsInterner interner = new ItemStatsInterner(16, new PluginMetrics());
+
+        assertSame(ItemStats.empty(), interner.intern(ItemStats.builder().build()));
+        assertSame(ItemStats.empty(), interner.intern(null));
+        assertEquals(0, interner.size());
+    }
+
+    @Test
+    @DisplayName("최대 항목 수를 넘지 않아야 한다")
+    void 용량_제한_테스트() {
+        ItemStatsInterner interner = new ItemStatsInterner(4, new PluginMetrics());
+
+        for (int i = 1; i <= 20; i++) {
+            interner.intern(ItemStats.builder().damage(i).build());
+            assertTrue(interner.size() <= 4);
+        }
+        ItemStats latest = ItemStats.builder().damage(20).build();
+        assertEquals(latest, interner.intern(latest));
+    }
+
+    @Test
+    @DisplayName("hashCode는 기존 계산 방식과 같아야 한다")
+    void hashCode_호환_테스트() {
+        ItemStats stats = ItemStats.builder().damage(1.5).critChance(20).dodge(3).build();
+
+        assertEquals(Objects.hash(1.5, 0.0, 0.0, 0.0, 20.0, 0.0, 3.0), stats.hashCode());
+    }
+}
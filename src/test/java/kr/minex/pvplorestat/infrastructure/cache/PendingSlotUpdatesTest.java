@@ -0,0 +1,57 @@
+package kr.minex.pvplorestat.infrastructure.cache;
+
+import kr.minex.pvplorestat.domain.model.EquipmentSlot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PendingSlotUpdates 테스트
+ */
+@DisplayName("PendingSlotUpdates 테스트")
+class PendingSlotUpdatesTest {
+
+    private static final UUID TEST_UUID = UUID.randomUUID();
+    private static final int MAIN_HAND = PendingSlotUpdates.bit(EquipmentSlot.MAIN_HAND);
+    private static final int OFF_HAND = PendingSlotUpdates.bit(EquipmentSlot.OFF_HAND);
+
+    @Test
+    @DisplayName("첫 요청만 예약 대상이고 이후 요청은 비트로 합쳐져야 한다")
+    void 요청_병합_테스트() {
+        PendingSlotUpdates updates = new PendingSlotUpdates();
+
+        assertTrue(updates.mark(TEST_UUID, MAIN_HAND));
+        assertFalse(updates.mark(TEST_UUID, MAIN_HAND));
+        assertFalse(updates.mark(TEST_UUID, OFF_HAND));
+        assertEquals(1, updates.size());
+
+        assertEquals(MAIN_HAND | OFF_HAND, updates.take(TEST_UUID));
+        assertEquals(0, updates.take(TEST_UUID));
+    }
+
+    @Test
+    @DisplayName("꺼낸 뒤의 요청은 다시 예약 대상이어야 한다")
+    void 재예약_테스트() {
+        PendingSlotUpdates updates = new PendingSlotUpdates();
+        updates.mark(TEST_UUID, MAIN_HAND);
+        updates.take(TEST_UUID);
+
+        assertTrue(updates.mark(TEST_UUID, OFF_HAND));
+        assertEquals(OFF_HAND, updates.take(TEST_UUID));
+    }
+
+    @Test
+    @DisplayName("제거된 플레이어의 갱신은 남지 않아야 한다")
+    void 제거_테스트() {
+        PendingSlotUpdates updates = new PendingSlotUpdates();
+        updates.mark(TEST_UUID, MAIN_HAND);
+
+        updates.remove(TEST_UUID);
+
+        assertEquals(0, updates.size());
+        assertEquals(0, updates.take(TEST_UUID));
+    }
+}
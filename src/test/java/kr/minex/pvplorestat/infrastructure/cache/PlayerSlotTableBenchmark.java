@@ -0,0 +1,79 @@
+package kr.minex.pvplorestat.infrastructure.cache;
+
+import kr.minex.pvplorestat.domain.model.ItemStats;
+import kr.minex.pvplorestat.domain.model.PlayerStats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * 플레이어 슬롯 테이블 벤치마크
+ * <p>
+ * 전투 한 번에 두 번 일어나는 스탯 조회를 흉내 내어,
+ * UUID 키 ConcurrentHashMap과 슬롯 테이블(UUID 조회 / 슬롯 조회)의 조회 시간을 비교합니다.
+ * 기본 테스트에서는 제외되며 {@code ./gradlew benchmark}로 실행합니다.
+ * </p>
+ */
+@Tag("benchmark")
+@DisplayName("플레이어 슬롯 테이블 벤치마크")
+class PlayerSlotTableBenchmark {
+
+    private static final int WARMUP_ROUNDS = 2_000_000;
+    private static final int MEASURE_ROUNDS = 20_000_000;
+
+    @ParameterizedTest(name = "플레이어 {0}명")
+    @ValueSource(ints = {500, 2000})
+    @DisplayName("UUID 맵 vs 슬롯 테이블")
+    void UUID_맵_대비_슬롯_테이블(int players) {
+        UUID[] ids = new UUID[players];
+        int[] slots = new int[players];
+        Map<UUID, PlayerStats> map = new ConcurrentHashMap<>();
+        PlayerSlotTable<PlayerStats> table = new PlayerSlotTable<>(players);
+        for (int i = 0; i < players; i++) {
+            // 조회 키는 저장 키와 다른 인스턴스 (이벤트마다 새로 얻는 UUID와 같음)
+            UUID id = UUID.randomUUID();
+            ids[i] = new UUID(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            PlayerStats stats = PlayerStats.of(id, ItemStats.builder().damage(i).build());
+            map.put(id, stats);
+            slots[i] = table.put(id, stats);
+        }
+        assertSame(map.get(ids[7]), table.get(slots[7]));
+
+        // 무작위 공격자/피해자 순서 (모든 방식이 같은 순서로 조회)
+        int[] order = new Random(42).ints(4096, 0, players).toArray();
+
+        double mapNs = measure(order, i -> map.get(ids[i]));
+        double tableUuidNs = measure(order, i -> table.get(ids[i]));
+        double tableSlotNs = measure(order, i -> table.get(slots[i]));
+
+        System.out.printf("[Benchmark] %d players, ConcurrentHashMap<UUID> : %.2f ns/lookup%n", players, mapNs);
+        System.out.printf("[Benchmark] %d players, slot table by UUID      : %.2f ns/lookup%n", players, tableUuidNs);
+        System.out.printf("[Benchmark] %d players, slot table by slot      : %.2f ns/lookup%n", players, tableSlotNs);
+        System.out.printf("[Benchmark] %d players, speedup (slot vs map)   : %.2fx%n", players, mapNs / tableSlotNs);
+    }
+
+    private static double measure(int[] order, IntFunction<PlayerStats> lookup) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += (long) lookup.apply(order[i & (order.length - 1)]).getTotalStats().getDamage();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            sink += (long) lookup.apply(order[i & (order.length - 1)]).getTotalStats().getDamage();
+        }
+        long nanos = System.nanoTime() - start;
+        if (sink == 42) {
+            System.out.println(); // 최적화로 루프가 제거되지 않도록
+        }
+        return (double) nanos / MEASURE_ROUNDS;
+    }
+}
@@ -0,0 +1,89 @@
+package kr.minex.pvplorestat.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PlayerSlotTable 테스트
+ */
+@DisplayName("PlayerSlotTable 테스트")
+class PlayerSlotTableTest {
+
+    @Test
+    @DisplayName("저장 시 슬롯을 배정하고 슬롯과 UUID로 같은 값을 읽어야 한다")
+    void 슬롯_배정_조회_테스트() {
+        PlayerSlotTable<String> table = new PlayerSlotTable<>(4);
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+
+        int slotA = table.put(a, "a");
+        int slotB = table.put(b, "b");
+
+        assertNotEquals(slotA, slotB);
+        assertEquals(slotA, table.put(a, "a2"));
+        assertEquals("a2", table.get(slotA));
+        assertEquals("a2", table.get(a));
+        assertEquals(slotB, table.slotOf(b));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    @DisplayName("해제된 슬롯은 다른 플레이어에게 재사용되어야 한다")
+    void 슬롯_재사용_테스트() {
+        PlayerSlotTable<String> table = new PlayerSlotTable<>(4);
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        int slotA = table.put(a, "a");
+
+        assertEquals("a", table.remove(a));
+        assertEquals(PlayerSlotTable.NO_SLOT, table.slotOf(a));
+        assertNull(table.get(a));
+
+        assertEquals(slotA, table.put(b, "b"));
+        assertNull(table.get(a));
+        assertEquals("b", table.get(b));
+
+        // 기억해 둔 슬롯으로 읽어도 이전 주인에게는 보이지 않아야 함
+        assertNull(table.get(slotA, a));
+        assertEquals("b", table.get(slotA, b));
+    }
+
+    @Test
+    @DisplayName("용량을 넘는 플레이어는 슬롯 없이 보관되어야 한다")
+    void 용량_초과_테스트() {
+        PlayerSlotTable<String> table = new PlayerSlotTable<>(1);
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        table.put(a, "a");
+
+        assertEquals(PlayerSlotTable.NO_SLOT, table.put(b, "b"));
+        assertEquals("b", table.get(b));
+        assertEquals(Map.of(a, "a", b, "b"), table.toMap());
+
+        // 슬롯이 비면 다음 저장 때 슬롯으로 옮겨짐
+        table.remove(a);
+        int slotB = table.put(b, "b2");
+        assertNotEquals(PlayerSlotTable.NO_SLOT, slotB);
+        assertEquals("b2", table.get(b));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    @DisplayName("초기화 후에는 모든 값이 없어야 한다")
+    void 초기화_테스트() {
+        PlayerSlotTable<String> table = new PlayerSlotTable<>(2);
+        UUID a = UUID.randomUUID();
+        int slot = table.put(a, "a");
+
+        table.clear();
+
+        assertNull(table.get(a));
+        assertNull(table.get(slot));
+        assertEquals(0, table.size());
+    }
+}
@@ -0,0 +1,195 @@
+package kr.minex.pvplorestat.infrastructure.cache;
+
+import kr.minex.pvplorestat.domain.model.ItemStats;
+import kr.minex.pvplorestat.domain.model.PlayerStats;
+import kr.minex.pvplorestat.domain.model.StatType;
+import kr.minex.pvplorestat.infrastructure.monitoring.PluginMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PlayerStatsCache 테스트
+ */
+@DisplayName("PlayerStatsCache 테스트")
+class PlayerStatsCacheTest {
+
+    private static final UUID TEST_UUID = UUID.randomUUID();
+
+    @Test
+    @DisplayName("캐시에 없으면 공유 빈 스탯을 반환해야 한다")
+    void 미스_공유_빈_스탯_테스트() {
+        PluginMetrics metrics = new PluginMetrics();
+        PlayerStatsCache cache = new PlayerStatsCache(metrics);
+
+        PlayerStats first = cache.getOrEmpty(TEST_UUID);
+        PlayerStats second = cache.getOrEmpty(UUID.randomUUID());
+
+        assertSame(PlayerStatsCache.MISSING, first);
+        assertSame(first, second);
+        assertTrue(first.getTotalStats().isEmpty());
+        assertEquals(2, metrics.getPlayerStatsCacheMisses());
+    }
+
+    @Test
+    @DisplayName("적중/저장/제거 횟수와 항목 수를 기록해야 한다")
+    void 메트릭_기록_테스트() {
+        PluginMetrics metrics = new PluginMetrics();
+        PlayerStatsCache cache = new PlayerStatsCache(metrics);
+        PlayerStats stats = PlayerStats.of(TEST_UUID, ItemStats.of(StatType.DAMAGE, 10));
+
+        cache.put(stats);
+        cache.put(PlayerStatsCache.MISSING);
+        assertSame(stats, cache.getOrEmpty(TEST_UUID));
+        assertSame(stats, cache.getOrNull(TEST_UUID));
+        assertEquals(1, metrics.getPlayerStatsCacheSize());
+
+        cache.remove(TEST_UUID);
+        cache.remove(TEST_UUID);
+
+        assertEquals(2, metrics.getPlayerStatsCacheHits());
+        assertEquals(1, metrics.getPlayerStatsCachePuts());
+        assertEquals(1, metrics.getPlayerStatsCacheRemoves());
+        assertEquals(0, metrics.getPlayerStatsCacheSize());
+    }
+
+    @Test
+    @DisplayName("computeIfStale은 없거나 오래된 경우에만 다시 불러와야 한다")
+    void computeIfStale_테스트() {
+        PlayerStatsCache cache = new PlayerStatsCache(new PluginMetrics());
+        AtomicInteger loads = new AtomicInteger();
+        PlayerStats loaded = PlayerStats.empty(TEST_UUID);
+
+        assertSame(loaded, cache.computeIfStale(TEST_UUID, s -> false, id -> {
+            loads.incrementAndGet();
+            return loaded;
+        }));
+        assertSame(loaded, cache.computeIfStale(TEST_UUID, s -> false, id -> fail("다시 불러오면 안 됩니다")));
+        assertEquals(1, loads.get());
+
+        PlayerStats refreshed = PlayerStats.of(TEST_UUID, ItemStats.builder().defense(5).build());
+        assertSame(refreshed, cache.computeIfStale(TEST_UUID, s -> true, id -> refreshed));
+        assertSame(refreshed, cache.getOrEmpty(TEST_UUID));
+    }
+
+    @Test
+    @DisplayName("불러오지 못하면 저장하지 않고 공유 빈 스탯을 반환해야 한다")
+    void computeIfStale_실패_테스트() {
+        PlayerStatsCache cache = new PlayerStatsCache(new PluginMetrics());
+
+        assertSame(PlayerStatsCache.MISSING, cache.computeIfStale(TEST_UUID, s -> false, id -> null));
+        assertFalse(cache.contains(TEST_UUID));
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 저장/제거해도 값과 메트릭이 어긋나지 않아야 한다")
+    void 동시_쓰기_테스트() throws Exception {
+        PluginMetrics metrics = new PluginMetrics();
+        PlayerStatsCache cache = new PlayerStatsCache(metrics, 8); // 일부는 슬롯 없이 보관
+        int threads = 4;
+        int playersPerThread = 16;
+        int rounds = 500;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            Future<?>[] futures = new Future<?>[threads];
+            for (int t = 0; t < threads; t++) {
+                futures[t] = pool.submit(() -> {
+                    // 리전 스레드마다 자기 플레이어만 쓰는 Folia 상황
+                    UUID[] ids = new UUID[playersPerThread];
+                    for (int i = 0; i < ids.length; i++) {
+                        ids[i] = UUID.randomUUID();
+                    }
+                    start.await();
+                    for (int r = 0; r < rounds; r++) {
+                        for (UUID id : ids) {
+                            PlayerStats stats = PlayerStats.of(id, ItemStats.builder().damage(r).build());
+                            cache.put(stats);
+                            assertSame(stats, cache.getOrNull(id));
+                            if ((r & 1) == 0) {
+                                cache.remove(id);
+                                assertNull(cache.getOrNull(id));
+                            }
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // 마지막 회차(홀수)는 제거하지 않으므로 모든 플레이어가 남음
+        assertEquals(threads * playersPerThread, cache.size());
+        assertEquals(cache.size(), metrics.getPlayerStatsCacheSize());
+        assertEquals((long) threads * playersPerThread * rounds, metrics.getPlayerStatsCachePuts());
+        assertEquals((long) threads * playersPerThread * rounds / 2, metrics.getPlayerStatsCacheRemoves());
+    }
+
+    @Test
+    @DisplayName("저장할 때 전투 플래그를 기록하고 제거/무효화하면 지워야 한다")
+    void 전투_플래그_테스트() {
+        PlayerStatsCache cache = new PlayerStatsCache(new PluginMetrics());
+        UUID bare = UUID.randomUUID();
+        UUID armored = UUID.randomUUID();
+
+        assertEquals(0, cache.getCombatFlags(TEST_UUID));
+
+        cache.put(PlayerStats.of(TEST_UUID, ItemStats.of(StatType.CRIT_CHANCE, 10)));
+        cache.put(PlayerStats.empty(bare));
+        cache.put(PlayerStats.of(armored, ItemStats.builder().health(10).dodge(5).build()));
+
+        assertEquals(PlayerStatsCache.COMBAT_KNOWN | PlayerStatsCache.COMBAT_OFFENSIVE, cache.getCombatFlags(TEST_UUID));
+        assertEquals(PlayerStatsCache.COMBAT_KNOWN, cache.getCombatFlags(bare));
+        assertEquals(PlayerStatsCache.COMBAT_KNOWN | PlayerStatsCache.COMBAT_DEFENSIVE, cache.getCombatFlags(armored));
+
+        // 해제된 슬롯을 다른 플레이어가 받아도 이전 플래그가 남지 않아야 함
+        cache.remove(TEST_UUID);
+        assertEquals(0, cache.getCombatFlags(TEST_UUID));
+        UUID next = UUID.randomUUID();
+        cache.put(PlayerStats.empty(next));
+        assertEquals(PlayerStatsCache.COMBAT_KNOWN, cache.getCombatFlags(next));
+
+        cache.invalidateCombatFlags();
+        assertEquals(0, cache.getCombatFlags(bare));
+        assertEquals(0, cache.getCombatFlags(armored));
+        assertNotNull(cache.getOrNull(armored));
+    }
+
+    @Test
+    @DisplayName("저장할 때 받은 슬롯으로 주인의 스탯과 전투 플래그만 읽어야 한다")
+    void 슬롯_조회_테스트() {
+        PlayerStatsCache cache = new PlayerStatsCache(new PluginMetrics());
+        PlayerStats stats = PlayerStats.of(TEST_UUID, ItemStats.of(StatType.DAMAGE, 3));
+
+        int slot = cache.put(stats);
+
+        assertNotEquals(PlayerSlotTable.NO_SLOT, slot);
+        assertSame(stats, cache.getBySlot(slot, TEST_UUID));
+        assertEquals(PlayerStatsCache.COMBAT_KNOWN | PlayerStatsCache.COMBAT_OFFENSIVE,
+                cache.getCombatFlags(slot, TEST_UUID));
+        assertEquals(PlayerSlotTable.NO_SLOT, cache.put(PlayerStatsCache.MISSING));
+        assertNull(cache.getBySlot(PlayerSlotTable.NO_SLOT, TEST_UUID));
+
+        // 퇴장 후 슬롯을 다른 플레이어가 받으면 이전 주인으로는 읽히지 않아야 함
+        cache.remove(TEST_UUID);
+        UUID next = UUID.randomUUID();
+        assertEquals(slot, cache.put(PlayerStats.empty(next)));
+        assertNull(cache.getBySlot(slot, TEST_UUID));
+        assertEquals(0, cache.getCombatFlags(slot, TEST_UUID));
+        assertEquals(PlayerStatsCache.COMBAT_KNOWN, cache.getCombatFlags(slot, next));
+    }
+}
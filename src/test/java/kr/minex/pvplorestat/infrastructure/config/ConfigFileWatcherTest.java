@@ -0,0 +1,261 @@
+package kr.minex.pvplorestat.infrastructure.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.Watchable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ConfigFileWatcher 테스트
+ */
+@DisplayName("ConfigFileWatcher 테스트")
+class ConfigFileWatcherTest {
+
+    private static final long DEBOUNCE_MILLIS = 500;
+    private static final long DEADLINE_SECONDS = 5;
+    private static final Logger LOGGER = Logger.getLogger("ConfigFileWatcherTest");
+
+    @TempDir
+    Path dataFolder;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final Semaphore changes = new Semaphore(0);
+    private FakeWatchService watchService;
+    private ConfigFileWatcher watcher;
+
+    @BeforeEach
+    void setUp() {
+        watchService = new FakeWatchService();
+        watcher = ConfigFileWatcher.start(watchService, DEBOUNCE_MILLIS, changes::release, LOGGER, clock::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        watcher.close();
+    }
+
+    @Test
+    @DisplayName("연달아 저장해도 조용해진 뒤 한 번만 알려야 한다")
+    void 디바운스_테스트() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            watchService.modify("config.yml");
+            watchService.awaitIdle();
+            advance(100);
+        }
+        assertEquals(0, changes.availablePermits());
+
+        // 마지막 저장 뒤 디바운스 시간이 지나야 알림
+        advance(DEBOUNCE_MILLIS - 100);
+        watchService.tick();
+        watchService.awaitIdle();
+        assertEquals(1, changes.availablePermits());
+
+        advance(DEBOUNCE_MILLIS * 3);
+        watchService.tick();
+        watchService.awaitIdle();
+        assertEquals(1, changes.availablePermits());
+    }
+
+    @Test
+    @DisplayName("디바운스 중 새 이벤트가 오면 마감이 뒤로 밀려야 한다")
+    void 마감_연장_테스트() throws Exception {
+        watchService.modify("config.yml");
+        watchService.awaitIdle();
+        advance(DEBOUNCE_MILLIS - 100);
+        watchService.modify("messages.yml");
+        watchService.awaitIdle();
+
+        // 첫 이벤트의 마감은 지났지만 두 번째 이벤트의 마감은 아직
+        advance(DEBOUNCE_MILLIS - 100);
+        watchService.tick();
+        watchService.awaitIdle();
+        assertEquals(0, changes.availablePermits());
+
+        advance(100);
+        watchService.tick();
+        assertTrue(changes.tryAcquire(DEADLINE_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("감시 대상이 아닌 파일은 무시해야 한다")
+    void 대상_외_파일_테스트() throws Exception {
+        watchService.modify("notes.txt");
+        advance(DEBOUNCE_MILLIS * 2);
+        watchService.tick();
+        watchService.awaitIdle();
+        assertEquals(0, changes.availablePermits());
+
+        watchService.modify("messages.yml");
+        watchService.awaitIdle();
+        advance(DEBOUNCE_MILLIS);
+        watchService.tick();
+        assertTrue(changes.tryAcquire(DEADLINE_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("실제 폴더의 설정 파일 변경도 감지해야 한다")
+    void 실제_폴더_테스트() throws Exception {
+        Semaphore saved = new Semaphore(0);
+        ConfigFileWatcher real = ConfigFileWatcher.start(dataFolder, 0, saved::release, LOGGER);
+        try {
+            Files.writeString(dataFolder.resolve("config.yml"), "settings:\n  debug: true\n");
+            assertTrue(saved.tryAcquire(DEADLINE_SECONDS, TimeUnit.SECONDS));
+        } finally {
+            real.close();
+        }
+    }
+
+    private void advance(long millis) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    /**
+     * 테스트가 넣어 준 키만 돌려주는 감시 서비스
+     * <p>
+     * 시간 제한이 있는 poll도 키가 올 때까지 기다리므로, 디바운스 마감은 주입한 시계로만 판단됩니다.
+     * </p>
+     */
+    private static final class FakeWatchService implements WatchService {
+
+        private final Queue<WatchKey> keys = new ArrayDeque<>();
+        private boolean waiting;
+        private boolean closed;
+
+        /**
+         * 파일 수정 이벤트 하나를 넣습니다.
+         */
+        synchronized void modify(String fileName) {
+            keys.add(new FakeWatchKey(List.of(new FakeWatchEvent(Path.of(fileName)))));
+            notifyAll();
+        }
+
+        /**
+         * 이벤트가 없는 키를 넣어 감시 스레드가 시계를 다시 확인하게 합니다.
+         */
+        synchronized void tick() {
+            keys.add(new FakeWatchKey(List.of()));
+            notifyAll();
+        }
+
+        /**
+         * 감시 스레드가 넣은 키를 모두 처리하고 다음 키를 기다릴 때까지 기다립니다.
+         */
+        synchronized void awaitIdle() throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(DEADLINE_SECONDS);
+            while (!waiting || !keys.isEmpty()) {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0) {
+                    fail("감시 스레드가 키를 처리하지 않았습니다");
+                }
+                wait(remaining);
+            }
+        }
+
+        private synchronized WatchKey next() throws InterruptedException {
+            waiting = true;
+            notifyAll();
+            try {
+                while (keys.isEmpty()) {
+                    if (closed) {
+                        throw new ClosedWatchServiceException();
+                    }
+                    wait();
+                }
+                return keys.poll();
+            } finally {
+                waiting = false;
+            }
+        }
+
+        @Override
+        public WatchKey poll() {
+            synchronized (this) {
+                return keys.poll();
+            }
+        }
+
+        @Override
+        public WatchKey poll(long timeout, TimeUnit unit) throws InterruptedException {
+            return next();
+        }
+
+        @Override
+        public WatchKey take() throws InterruptedException {
+            return next();
+        }
+
+        @Override
+        public synchronized void close() {
+            closed = true;
+            notifyAll();
+        }
+    }
+
+    private static final class FakeWatchKey implements WatchKey {
+
+        private final List<WatchEvent<?>> events;
+
+        private FakeWatchKey(List<WatchEvent<?>> events) {
+            this.events = new ArrayList<>(events);
+        }
+
+        @Override
+        public boolean isValid() {
+            return true;
+        }
+
+        @Override
+        public List<WatchEvent<?>> pollEvents() {
+            List<WatchEvent<?>> polled = new ArrayList<>(events);
+            events.clear();
+            return polled;
+        }
+
+        @Override
+        public boolean reset() {
+            return true;
+        }
+
+        @Override
+        public void cancel() {
+        }
+
+        @Override
+        public Watchable watchable() {
+            return null;
+        }
+    }
+
+    private record FakeWatchEvent(Path context) implements WatchEvent<Path> {
+
+        @Override
+        public Kind<Path> kind() {
+            return StandardWatchEventKinds.ENTRY_MODIFY;
+        }
+
+        @Override
+        public int count() {
+            return 1;
+        }
+    }
+}
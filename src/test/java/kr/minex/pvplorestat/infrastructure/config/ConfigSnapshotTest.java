@@ -0,0 +1,257 @@
+package kr.minex.pvplorestat.infrastructure.config;
+
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Tag;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ConfigSnapshot 테스트
+ */
+@DisplayName("ConfigSnapshot 테스트")
+class ConfigSnapshotTest {
+
+    private static final Logger LOGGER = Logger.getLogger("ConfigSnapshotTest");
+
+    /**
+     * 기본 설정에 변경을 더해 스냅샷을 만들고 태그 없이 게시 준비를 마칩니다.
+     */
+    private static ConfigSnapshot snapshot(Consumer<YamlConfiguration> setup) {
+        YamlConfiguration config = new YamlConfiguration();
+        config.set("weapons", List.of("BOW"));
+        setup.accept(config);
+        return ConfigSnapshot.load(config, LOGGER).withResolvedWeaponTags(key -> null, LOGGER);
+    }
+
+    private static void assertOnlyChange(ConfigChange expected, String path, Object value) {
+        ConfigSnapshot previous = snapshot(config -> { });
+        ConfigSnapshot loaded = snapshot(config -> config.set(path, value));
+
+        assertEquals(EnumSet.of(expected), loaded.diff(previous));
+    }
+
+    @Nested
+    @DisplayName("변경 항목 비교 테스트")
+    class DiffTest {
+
+        @Test
+        @DisplayName("처음 로드하면 메시지를 뺀 모든 항목이 바뀐 것으로 나와야 한다")
+        void 최초_로드_테스트() {
+            EnumSet<ConfigChange> expected = EnumSet.allOf(ConfigChange.class);
+            expected.remove(ConfigChange.MESSAGES);
+
+            assertEquals(expected, snapshot(config -> { }).diff(null));
+        }
+
+        @Test
+        @DisplayName("내용이 같으면 바뀐 항목이 없어야 한다")
+        void 변경_없음_테스트() {
+            assertTrue(snapshot(config -> { }).diff(snapshot(config -> { })).isEmpty());
+        }
+
+        @Test
+        @DisplayName("로어 형식이 바뀌면 LORE_TEMPLATE만 나와야 한다")
+        void 로어_템플릿_테스트() {
+            assertOnlyChange(ConfigChange.LORE_TEMPLATE, "lore.separator.enabled", false);
+        }
+
+        @Test
+        @DisplayName("파싱 캐시 크기가 바뀌면 LORE_CACHE만 나와야 한다")
+        void 파싱_캐시_테스트() {
+            assertOnlyChange(ConfigChange.LORE_CACHE, "settings.lore-cache-size", 128);
+        }
+
+        @Test
+        @DisplayName("인터닝 크기가 바뀌면 STATS_INTERN만 나와야 한다")
+        void 인터닝_테스트() {
+            assertOnlyChange(ConfigChange.STATS_INTERN, "settings.stats-intern-size", 0);
+        }
+
+        @Test
+        @DisplayName("저장 방식이 바뀌면 STORAGE만 나와야 한다")
+        void 저장_방식_테스트() {
+            assertOnlyChange(ConfigChange.STORAGE, "storage.mode", "pdc");
+            assertOnlyChange(ConfigChange.STORAGE, "storage.migrate-legacy", false);
+        }
+
+        @Test
+        @DisplayName("최대값이 바뀌면 CLAMP만 나와야 한다")
+        void 최대값_테스트() {
+            assertOnlyChange(ConfigChange.CLAMP, "stats.dodge.max", 50.0);
+        }
+
+        @Test
+        @DisplayName("무기 목록이 바뀌면 WEAPONS만 나와야 한다")
+        void 무기_목록_테스트() {
+            assertOnlyChange(ConfigChange.WEAPONS, "weapons", List.of("*_SWORD"));
+        }
+
+        @Test
+        @DisplayName("기본 체력이 바뀌면 BASE_HEALTH만 나와야 한다")
+        void 기본_체력_테스트() {
+            assertOnlyChange(ConfigChange.BASE_HEALTH, "stats.health.base", 40.0);
+        }
+
+        @Test
+        @DisplayName("데미지 계수가 바뀌면 DAMAGE만 나와야 한다")
+        void 데미지_계수_테스트() {
+            assertOnlyChange(ConfigChange.DAMAGE, "stats.damage.divisor", 4.0);
+            assertOnlyChange(ConfigChange.DAMAGE, "stats.defense.divisor", 4.0);
+            assertOnlyChange(ConfigChange.DAMAGE, "stats.critdamage.divisor", 4.0);
+        }
+
+        @Test
+        @DisplayName("비동기 파싱 설정이 바뀌면 ASYNC_PARSE만 나와야 한다")
+        void 비동기_파싱_테스트() {
+            assertOnlyChange(ConfigChange.ASYNC_PARSE, "settings.async-parse", true);
+            assertOnlyChange(ConfigChange.ASYNC_PARSE, "settings.async-parse-threads", 4);
+        }
+
+        @Test
+        @DisplayName("업데이트 주기가 바뀌면 UPDATE_TASK만 나와야 한다")
+        void 업데이트_주기_테스트() {
+            assertOnlyChange(ConfigChange.UPDATE_TASK, "settings.update-interval", 20);
+            assertOnlyChange(ConfigChange.UPDATE_TASK, "settings.reconcile-interval", 0);
+            assertOnlyChange(ConfigChange.UPDATE_TASK, "settings.tick-budget-us", 500);
+        }
+
+        @Test
+        @DisplayName("파일 감시 설정이 바뀌면 FILE_WATCH만 나와야 한다")
+        void 파일_감시_테스트() {
+            assertOnlyChange(ConfigChange.FILE_WATCH, "settings.watch-config", true);
+        }
+
+        @Test
+        @DisplayName("PVP 전용 설정이 바뀌면 PVP_ONLY만 나와야 한다")
+        void PVP_전용_테스트() {
+            assertOnlyChange(ConfigChange.PVP_ONLY, "settings.pvp-only", false);
+        }
+
+        @Test
+        @DisplayName("디버그 설정이 바뀌면 DEBUG만 나와야 한다")
+        void 디버그_테스트() {
+            assertOnlyChange(ConfigChange.DEBUG, "settings.debug", true);
+        }
+
+        @Test
+        @DisplayName("스탯 재계산이 필요한 항목은 로어 템플릿, 저장 방식, 최대값, 무기 목록, 기본 체력이어야 한다")
+        void 스탯_영향_항목_테스트() {
+            EnumSet<ConfigChange> statAffecting = EnumSet.noneOf(ConfigChange.class);
+            for (ConfigChange change : ConfigChange.values()) {
+                if (change.isStatAffecting()) {
+                    statAffecting.add(change);
+                }
+            }
+
+            assertEquals(EnumSet.of(ConfigChange.LORE_TEMPLATE, ConfigChange.STORAGE, ConfigChange.CLAMP,
+                    ConfigChange.WEAPONS, ConfigChange.BASE_HEALTH), statAffecting);
+        }
+    }
+
+    @Nested
+    @DisplayName("무기 표 테스트")
+    class WeaponTableTest {
+
+        private ConfigSnapshot weapons(String... entries) {
+            return snapshot(config -> config.set("weapons", List.of(entries)));
+        }
+
+        @Test
+        @DisplayName("glob 패턴은 대소문자 없이 재질 이름 전체에 맞춰야 한다")
+        void glob_패턴_테스트() {
+            ConfigSnapshot snapshot = weapons("*_sword", "IRON_AX?");
+
+            assertTrue(snapshot.isWeapon(Material.DIAMOND_SWORD));
+            assertTrue(snapshot.isWeapon(Material.IRON_SWORD));
+            assertTrue(snapshot.isWeapon(Material.IRON_AXE));
+            assertFalse(snapshot.isWeapon(Material.BOW));
+            assertFalse(snapshot.isWeapon(Material.STICK));
+            assertFalse(snapshot.isWeapon(null));
+        }
+
+        @Test
+        @DisplayName("정규식 메타 문자는 글자 그대로 취급해야 한다")
+        void 메타_문자_테스트() {
+            ConfigSnapshot snapshot = weapons("DIAMOND_SWORD(", ".*", "BOW");
+
+            assertFalse(snapshot.isWeapon(Material.DIAMOND_SWORD));
+            assertTrue(snapshot.isWeapon(Material.BOW));
+            assertEquals(1, snapshot.getWeaponCount());
+        }
+
+        @Test
+        @DisplayName("태그 항목은 게시 전에 풀어 무기 표에 더해야 한다")
+        void 태그_해석_테스트() {
+            YamlConfiguration config = new YamlConfiguration();
+            config.set("weapons", List.of("#minecraft:swords", "#minecraft:unknown", "BOW"));
+            ConfigSnapshot loaded = ConfigSnapshot.load(config, LOGGER);
+
+            // 워커 스레드에서 만든 직후에는 태그를 풀지 않음
+            assertFalse(loaded.isWeapon(Material.DIAMOND_SWORD));
+            assertEquals(1, loaded.getWeaponCount());
+
+            Tag<Material> swords = tag(NamespacedKey.minecraft("swords"), Material.DIAMOND_SWORD, Material.IRON_SWORD);
+            ConfigSnapshot snapshot = loaded.withResolvedWeaponTags(key -> key.equals(swords.getKey()) ? swords : null,
+                    LOGGER);
+
+            // 원래 스냅샷은 바뀌지 않음
+            assertFalse(loaded.isWeapon(Material.DIAMOND_SWORD));
+            assertEquals(1, loaded.getWeaponCount());
+
+            assertTrue(snapshot.isWeapon(Material.DIAMOND_SWORD));
+            assertTrue(snapshot.isWeapon(Material.IRON_SWORD));
+            assertTrue(snapshot.isWeapon(Material.BOW));
+            assertFalse(snapshot.isWeapon(Material.IRON_AXE));
+            assertEquals(3, snapshot.getWeaponCount());
+
+            // 이미 푼 스냅샷은 태그를 다시 조회하지 않고 그대로 반환
+            assertSame(snapshot, snapshot.withResolvedWeaponTags(key -> fail("이미 푼 태그를 다시 조회하면 안 됩니다"),
+                    LOGGER));
+        }
+
+        @Test
+        @DisplayName("태그 값이 바뀌면 무기 목록 변경으로 나와야 한다")
+        void 태그_변경_테스트() {
+            Tag<Material> before = tag(NamespacedKey.minecraft("swords"), Material.DIAMOND_SWORD);
+            Tag<Material> after = tag(NamespacedKey.minecraft("swords"), Material.DIAMOND_SWORD, Material.IRON_SWORD);
+            YamlConfiguration config = new YamlConfiguration();
+            config.set("weapons", List.of("#minecraft:swords"));
+
+            ConfigSnapshot previous = ConfigSnapshot.load(config, LOGGER).withResolvedWeaponTags(key -> before, LOGGER);
+            ConfigSnapshot loaded = ConfigSnapshot.load(config, LOGGER).withResolvedWeaponTags(key -> after, LOGGER);
+
+            assertEquals(EnumSet.of(ConfigChange.WEAPONS), loaded.diff(previous));
+        }
+
+        private Tag<Material> tag(NamespacedKey key, Material... values) {
+            Set<Material> set = Set.of(values);
+            return new Tag<>() {
+                @Override
+                public boolean isTagged(Material item) {
+                    return set.contains(item);
+                }
+
+                @Override
+                public Set<Material> getValues() {
+                    return set;
+                }
+
+                @Override
+                public NamespacedKey getKey() {
+                    return key;
+                }
+            };
+        }
+    }
+}
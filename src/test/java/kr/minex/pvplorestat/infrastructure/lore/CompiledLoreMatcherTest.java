@@ -0,0 +1,170 @@
+package kr.minex.pvplorestat.infrastructure.lore;
+
+import kr.minex.pvplorestat.domain.model.StatType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CompiledLoreMatcher 테스트
+ * <p>
+ * 컴파일 매처를 사용하는 LoreManager와 기존 정규식 파서({@link RegexLoreParser})의
+ * 결과를 나란히 비교합니다.
+ * </p>
+ */
+@DisplayName("CompiledLoreMatcher 테스트")
+class CompiledLoreMatcherTest {
+
+    private static final String[] FRAGMENTS = {
+            "⚔ 공격력 +", "🛡 방어력 +", "❤ 체력 +", "🩸 피흡수 ", "⚡ 치명타 확률 ",
+            "💥 치명타 데미지 +", "💨 회피율 ", "공격력: ", "방어력: ", "[ATK] (", ")",
+            "0", "1", "5", "9", "12", "3.5", ".", "..", "%", "+", "-", " ", "x",
+            "§c", "§f", "&e", "§l", "§x§1§2§3§4§5§6", "─", "----"
+    };
+
+    private static void assertSameAsRegex(LoreTemplate template, List<String> lines) {
+        LoreManager manager = new LoreManager(template);
+        RegexLoreParser reference = new RegexLoreParser(template);
+
+        for (String line : lines) {
+            assertEquals(reference.parseLore(List.of(line)), manager.parseLore(List.of(line)),
+                    () -> "parseLore 불일치: '" + line + "'");
+            assertEquals(reference.isStatLine(line), manager.isStatLine(line),
+                    () -> "isStatLine 불일치: '" + line + "'");
+        }
+        assertEquals(reference.parseLore(lines), manager.parseLore(lines), "전체 로어 parseLore 불일치");
+    }
+
+    private static List<String> randomLines(long seed, int count) {
+        Random random = new Random(seed);
+        List<String> lines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder sb = new StringBuilder();
+            int parts = 1 + random.nextInt(6);
+            for (int p = 0; p < parts; p++) {
+                sb.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+            }
+            lines.add(sb.toString());
+        }
+        return lines;
+    }
+
+    @Nested
+    @DisplayName("정규식 파서와 결과 비교")
+    class SideBySideTest {
+
+        @Test
+        @DisplayName("기본 템플릿에서 대표 라인의 결과가 같아야 한다")
+        void 기본_템플릿_대표_라인_비교() {
+            assertSameAsRegex(LoreTemplate.defaultTemplate(), List.of(
+                    "⚔ 공격력 +50",
+                    "§c⚔ 공격력 §f+10.5",
+                    "🩸 피흡수 10%",
+                    "🩸 피흡수 10",
+                    "⚡ 치명타 확률 25.%",
+                    "💨 회피율 .5%",
+                    "⚔ 공격력 +1.2.3",
+                    "⚔ 공격력 +.",
+                    "⚔ 공격력 +-50",
+                    "설명 ⚔ 공격력 +7 그리고 🛡 방어력 +3",
+                    "🛡 방어력 +3 ⚔ 공격력 +7",
+                    "⚔ 공격력 +000000000000000000123.4500",
+                    "⚔ 공격력 +12345678901234567890",
+                    "§8─────────────",
+                    "일반 설명"
+            ));
+        }
+
+        @Test
+        @DisplayName("기본 템플릿에서 무작위 라인의 결과가 같아야 한다")
+        void 기본_템플릿_무작위_비교() {
+            assertSameAsRegex(LoreTemplate.defaultTemplate(), randomLines(42L, 20_000));
+        }
+
+        @Test
+        @DisplayName("까다로운 커스텀 템플릿에서도 결과가 같아야 한다")
+        void 커스텀_템플릿_무작위_비교() {
+            LoreTemplate template = LoreTemplate.builder()
+                    // 접두사가 같은 두 형식
+                    .format(StatType.DAMAGE, "공격력: {value}")
+                    .format(StatType.LIFESTEAL, "공격력: {value}%")
+                    // 접미사가 숫자로 시작 (백트래킹 필요)
+                    .format(StatType.DEFENSE, "방어력: {value}5")
+                    // 접두사 없음
+                    .format(StatType.HEALTH, "{value} 체력")
+                    // {value}가 두 번 등장
+                    .format(StatType.CRIT_CHANCE, "[ATK] ({value}-{value})")
+                    // 정규식 메타 문자
+                    .format(StatType.CRIT_DAMAGE, "&c(+{value}) *crit*")
+                    // {value}가 없는 형식은 무시
+                    .format(StatType.DODGE, "회피율 고정")
+                    .build();
+
+            List<String> lines = new ArrayList<>(randomLines(7L, 20_000));
+            lines.addAll(List.of(
+                    "방어력: 125", "방어력: 5", "방어력: 555", "12 체력", "체력",
+                    "[ATK] (3-4)", "[ATK] (3%-4%)", "[ATK] (3-)", "(+5) *crit*",
+                    "공격력: 30%", "공격력: 30", "회피율 고정"
+            ));
+            assertSameAsRegex(template, lines);
+        }
+    }
+
+    @Nested
+    @DisplayName("숫자 변환 테스트")
+    class ParseNumberTest {
+
+        @ParameterizedTest
+        @DisplayName("Double.parseDouble과 같은 값을 반환해야 한다")
+        @ValueSource(strings = {
+                "0", "5", "50", "10.5", "0.1", "0.3", ".5", "5.", "123456789012345",
+                "1234567890123456", "0.000000000000000000001", "3.14159265358979323846",
+                "99999999999999999999999"
+        })
+        void parseDouble_동일_테스트(String number) {
+            assertEquals(Double.parseDouble(number),
+                    CompiledLoreMatcher.parseNumber(number, 0, number.length()));
+        }
+
+        @ParameterizedTest
+        @DisplayName("숫자가 아닌 구간은 NaN을 반환해야 한다")
+        @ValueSource(strings = {".", "..", "1.2.3"})
+        void 잘못된_숫자_테스트(String number) {
+            assertTrue(Double.isNaN(CompiledLoreMatcher.parseNumber(number, 0, number.length())));
+        }
+
+        @Test
+        @DisplayName("무작위 소수도 Double.parseDouble과 같아야 한다")
+        void 무작위_소수_테스트() {
+            Random random = new Random(1L);
+            for (int i = 0; i < 50_000; i++) {
+                int intDigits = random.nextInt(10);
+                int fracDigits = random.nextInt(12);
+                StringBuilder sb = new StringBuilder();
+                for (int d = 0; d < intDigits; d++) {
+                    sb.append((char) ('0' + random.nextInt(10)));
+                }
+                if (fracDigits > 0 || intDigits == 0) {
+                    sb.append('.');
+                }
+                for (int d = 0; d < fracDigits; d++) {
+                    sb.append((char) ('0' + random.nextInt(10)));
+                }
+                String number = sb.toString();
+                if (number.equals(".")) {
+                    continue;
+                }
+                assertEquals(Double.parseDouble(number),
+                        CompiledLoreMatcher.parseNumber(number, 0, number.length()), number);
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package kr.minex.pvplorestat.infrastructure.lore;
+
+import kr.minex.pvplorestat.domain.model.ItemStats;
+import kr.minex.pvplorestat.domain.model.StatType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LoreLineScanner 테스트
+ */
+@DisplayName("LoreLineScanner 테스트")
+class LoreLineScannerTest {
+
+    private static final String[] FRAGMENTS = {
+            "§", "&", "x", "#", "§x", "&#", "a", "F", "0", "9", "g", "k", "R", "X",
+            "§x§1§2§3§4§5§6", "&#FFAA00", "&#12345", "§c", "&e", "─", "-", "━", "═", "----", "────",
+            "⚔ 공격력 +", "5", " ", "설명"
+    };
+
+    private static final Pattern RGB = Pattern.compile("§x(§[0-9a-fA-F]){6}");
+    private static final Pattern SECTION = Pattern.compile("§[0-9a-fA-Fk-oK-OrRxX]");
+    private static final Pattern AMPERSAND_HEX = Pattern.compile("&#[0-9a-fA-F]{6}");
+    private static final Pattern AMPERSAND = Pattern.compile("&[0-9a-fA-Fk-oK-OrRxX]");
+    private static final Pattern SEPARATOR = Pattern.compile("^[─\\-━═]+$");
+
+    /**
+     * 정규식 replaceAll을 단계별로 적용하는 기준 구현
+     */
+    private static String referenceStrip(String text) {
+        String result = RGB.matcher(text).replaceAll("");
+        result = SECTION.matcher(result).replaceAll("");
+        result = AMPERSAND_HEX.matcher(result).replaceAll("");
+        return AMPERSAND.matcher(result).replaceAll("");
+    }
+
+    private static boolean referenceIsSeparator(LoreTemplate template, String line) {
+        if (line == null || line.isEmpty()) {
+            return false;
+        }
+        String stripped = referenceStrip(line);
+        if (stripped.equals(referenceStrip(template.getSeparatorTop()))
+                || stripped.equals(referenceStrip(template.getSeparatorBottom()))) {
+            return true;
+        }
+        return SEPARATOR.matcher(stripped).matches() || stripped.contains("────") || stripped.contains("----");
+    }
+
+    private static String randomLine(Random random) {
+        StringBuilder sb = new StringBuilder();
+        int parts = 1 + random.nextInt(8);
+        for (int p = 0; p < parts; p++) {
+            sb.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+        }
+        return sb.toString();
+    }
+
+    @Nested
+    @DisplayName("색상 코드 제거")
+    class StripColorTest {
+
+        @Test
+        @DisplayName("정규식 단계별 제거와 결과가 같아야 한다")
+        void 정규식_기준_비교_테스트() {
+            Random random = new Random(3L);
+            for (int i = 0; i < 50_000; i++) {
+                String line = randomLine(random);
+                assertEquals(referenceStrip(line), LoreManager.stripColor(line), line);
+            }
+        }
+
+        @Test
+        @DisplayName("앞 단계 제거로 새로 붙은 코드도 제거해야 한다")
+        void 연쇄_제거_테스트() {
+            assertEquals("", LoreManager.stripColor("§§x§1§2§3§4§5§6a"));
+            assertEquals("텍스트", LoreManager.stripColor("&&#FFFFFFc텍스트"));
+        }
+
+        @Test
+        @DisplayName("&#RRGGBB 색상을 제거해야 한다")
+        void HEX_색상_제거_테스트() {
+            assertEquals("공격력", LoreManager.stripColor("&#FFAA00공격력"));
+            assertEquals("공격력", LoreManager.stripColor("&#ffaa00&l공격력"));
+            assertEquals("&#GG0000값", LoreManager.stripColor("&#GG0000값"));
+        }
+    }
+
+    @Nested
+    @DisplayName("색상 코드 변환")
+    class TranslateColorCodesTest {
+
+        @Test
+        @DisplayName("&#RRGGBB를 §x RGB 형식으로 변환해야 한다")
+        void HEX_색상_변환_테스트() {
+            assertEquals("§x§f§f§a§a§0§0공격력", LoreTemplate.translateColorCodes("&#FFAA00공격력"));
+            assertEquals("§x§1§2§3§4§5§6§l굵게", LoreTemplate.translateColorCodes("&#123456&l굵게"));
+        }
+
+        @Test
+        @DisplayName("올바르지 않은 HEX는 그대로 두어야 한다")
+        void 잘못된_HEX_테스트() {
+            assertEquals("&#12345", LoreTemplate.translateColorCodes("&#12345"));
+            assertEquals("&#GG0000", LoreTemplate.translateColorCodes("&#GG0000"));
+        }
+
+        @Test
+        @DisplayName("HEX 색상을 쓴 형식도 생성 후 다시 파싱되어야 한다")
+        void HEX_템플릿_왕복_테스트() {
+            LoreTemplate template = LoreTemplate.builder()
+                    .format(StatType.DAMAGE, "&#FF5555⚔ 공격력 &#FFFFFF+{value}")
+                    .format(StatType.LIFESTEAL, "&#AA0000🩸 피흡수 &f{value}%")
+                    .order(List.of(StatType.DAMAGE, StatType.LIFESTEAL))
+                    .separatorTop("&#555555──────────")
+                    .build();
+            LoreManager manager = new LoreManager(template);
+            ItemStats stats = ItemStats.builder().damage(42).lifesteal(7.5).build();
+
+            List<String> lore = manager.generateLore(stats);
+
+            assertEquals(stats, manager.parseLore(lore));
+            assertTrue(manager.isSeparatorLine(lore.get(0)));
+            assertTrue(manager.removeAllStats(lore).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("라인 분류")
+    class ClassifyTest {
+
+        private final LoreTemplate template = LoreTemplate.defaultTemplate();
+        private final LoreLineScanner scanner = new LoreLineScanner(
+                CompiledLoreMatcher.compile(template), template.getSeparatorTop(), template.getSeparatorBottom());
+
+        @Test
+        @DisplayName("스탯, 구분선, 기타 라인을 구분해야 한다")
+        void 분류_테스트() {
+            LoreLineScanner.Scan scan = scanner.scan("§c⚔ 공격력 §f+12.5");
+            assertEquals(LoreLineScanner.Kind.STAT, scan.kind());
+            assertEquals(StatType.DAMAGE, scan.type());
+            assertTrue(scan.hasValue());
+            assertEquals(12.5, scan.value());
+
+            assertEquals(LoreLineScanner.Kind.SEPARATOR, scanner.classify(template.getSeparatorTop()));
+            assertEquals(LoreLineScanner.Kind.SEPARATOR, scanner.classify("§x§1§2§3§4§5§6━━━"));
+            assertEquals(LoreLineScanner.Kind.OTHER, scanner.classify("§7평범한 설명"));
+            assertEquals(LoreLineScanner.Kind.OTHER, scanner.classify(""));
+            assertEquals(LoreLineScanner.Kind.OTHER, scanner.classify(null));
+        }
+
+        @Test
+        @DisplayName("같은 스레드에서는 결과 객체를 재사용해야 한다")
+        void 결과_재사용_테스트() {
+            assertSame(scanner.scan("⚔ 공격력 +1"), scanner.scan("설명"));
+        }
+
+        @Test
+        @DisplayName("구분선 판정이 기존 방식과 같아야 한다")
+        void 구분선_기준_비교_테스트() {
+            Random random = new Random(11L);
+            for (int i = 0; i < 50_000; i++) {
+                String line = randomLine(random);
+                assertEquals(referenceIsSeparator(template, line), scanner.isSeparator(line), line);
+            }
+        }
+
+        @Test
+        @DisplayName("긴 라인도 버퍼를 늘려 처리해야 한다")
+        void 긴_라인_테스트() {
+            String line = "§7" + "설명".repeat(200) + " ⚔ 공격력 +3";
+            LoreLineScanner.Scan scan = scanner.scan(line);
+            assertEquals(LoreLineScanner.Kind.STAT, scan.kind());
+            assertEquals(3.0, scan.value());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package kr.minex.pvplorestat.infrastructure.lore;
+
+import kr.minex.pvplorestat.domain.model.ItemStats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 로어 파싱 벤치마크
+ * <p>
+ * 기존 정규식 파서와 컴파일 매처의 라인당 파싱 시간을 비교합니다.
+ * 기본 테스트에서는 제외되며 {@code ./gradlew benchmark}로 실행합니다.
+ * </p>
+ */
+@Tag("benchmark")
+@DisplayName("로어 파싱 벤치마크")
+class LoreParseBenchmark {
+
+    private static final int WARMUP_ROUNDS = 20_000;
+    private static final int MEASURE_ROUNDS = 200_000;
+
+    private static final List<String> LORE = List.of(
+            "§7전설 등급 장비",
+            "§8&m─────§r §6✦ 스탯 §8&m─────",
+            "§c⚔ 공격력 §f+120",
+            "§9🛡 방어력 §f+45.5",
+            "§6❤ 체력 §f+30",
+            "§4🩸 피흡수 §f12%",
+            "§e⚡ 치명타 확률 §f25%",
+            "§5💥 치명타 데미지 §f+80",
+            "§b💨 회피율 §f7.5%",
+            "§8&m──────────────────",
+            "§6세트 효과: 드래곤"
+    );
+
+    @Test
+    @DisplayName("정규식 파서 vs 컴파일 매처")
+    void 정규식_대비_컴파일_매처() {
+        LoreTemplate template = LoreTemplate.defaultTemplate();
+        RegexLoreParser regex = new RegexLoreParser(template);
+        LoreManager compiled = new LoreManager(template);
+
+        assertEquals(regex.parseLore(LORE), compiled.parseLore(LORE));
+
+        double regexNs = measure(regex::parseLore);
+        double compiledNs = measure(compiled::parseLore);
+
+        System.out.printf("[Benchmark] regex    : %.1f ns/line%n", regexNs);
+        System.out.printf("[Benchmark] compiled : %.1f ns/line%n", compiledNs);
+        System.out.printf("[Benchmark] speedup  : %.2fx%n", regexNs / compiledNs);
+    }
+
+    private static double measure(Function<List<String>, ItemStats> parser) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += parser.apply(LORE).hashCode();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            sink += parser.apply(LORE).hashCode();
+        }
+        long nanos = System.nanoTime() - start;
+        if (sink == 42) {
+            System.out.println(); // 최적화로 루프가 제거되지 않도록
+        }
+        return (double) nanos / MEASURE_ROUNDS / LORE.size();
+    }
+}
@@ -0,0 +1,158 @@
+package kr.minex.pvplorestat.infrastructure.lore;
+
+import kr.minex.pvplorestat.domain.model.ItemStats;
+import kr.minex.pvplorestat.domain.model.StatType;
+import kr.minex.pvplorestat.infrastructure.monitoring.PluginMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ParsedLoreCache 테스트
+ */
+@DisplayName("ParsedLoreCache 테스트")
+class ParsedLoreCacheTest {
+
+    private PluginMetrics metrics;
+    private AtomicInteger parseCount;
+    private Function<List<String>, ItemStats> parser;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new PluginMetrics();
+        parseCount = new AtomicInteger();
+        parser = lore -> {
+            parseCount.incrementAndGet();
+            return ItemStats.builder().damage(lore.size()).build();
+        };
+    }
+
+    @Test
+    @DisplayName("같은 로어는 한 번만 파싱해야 한다")
+    void 동일_로어_캐시_적중_테스트() {
+        ParsedLoreCache cache = new ParsedLoreCache(16, metrics);
+        List<String> lore = List.of("§c⚔ 공격력 §f+50", "§7설명");
+
+        ItemStats first = cache.get(1L, lore, parser);
+        // 내용이 같은 새 리스트 (ItemMeta.getLore()는 매번 새 리스트를 반환)
+        ItemStats second = cache.get(1L, new ArrayList<>(lore), parser);
+
+        assertSame(first, second);
+        assertEquals(1, parseCount.get());
+        assertEquals(1, metrics.getLoreCacheHits());
+        assertEquals(1, metrics.getLoreCacheMisses());
+    }
+
+    @Test
+    @DisplayName("템플릿 버전이 다르면 다시 파싱해야 한다")
+    void 템플릿_버전_구분_테스트() {
+        ParsedLoreCache cache = new ParsedLoreCache(16, metrics);
+        List<String> lore = List.of("§c⚔ 공격력 §f+50");
+
+        cache.get(1L, lore, parser);
+        cache.get(2L, lore, parser);
+
+        assertEquals(2, parseCount.get());
+        assertEquals(0, metrics.getLoreCacheHits());
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 자주 쓰이지 않는 항목을 제거해야 한다")
+    void 빈도_기반_제거_테스트() {
+        ParsedLoreCache cache = new ParsedLoreCache(2, metrics);
+        List<String> hot = List.of("hot");
+        List<String> cold = List.of("cold");
+
+        cache.get(1L, hot, parser);
+        cache.get(1L, hot, parser);
+        cache.get(1L, hot, parser);
+        cache.get(1L, cold, parser);
+        cache.get(1L, List.of("new"), parser);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, metrics.getLoreCacheEvictions());
+
+        // 자주 쓰인 항목은 남아 있어야 함
+        int before = parseCount.get();
+        cache.get(1L, hot, parser);
+        assertEquals(before, parseCount.get());
+    }
+
+    @Test
+    @DisplayName("가득 찬 뒤 계속 넣어도 최대 크기를 지키고 자주 쓰인 항목은 남아야 한다")
+    void 표본_제거_테스트() {
+        ParsedLoreCache cache = new ParsedLoreCache(64, metrics);
+        List<String> hot = List.of("hot");
+        for (int i = 0; i < 100; i++) {
+            cache.get(1L, hot, parser);
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            cache.get(1L, List.of("cold-" + i), parser);
+        }
+
+        assertEquals(64, cache.size());
+        assertEquals(1_001 - 64, metrics.getLoreCacheEvictions());
+
+        int before = parseCount.get();
+        cache.get(1L, hot, parser);
+        assertEquals(before, parseCount.get());
+
+        // 제거로 당겨진 항목도 모두 찾을 수 있어야 함 (남은 항목은 다시 파싱하지 않음)
+        int hits = 0;
+        for (int i = 0; i < 1_000; i++) {
+            int parsed = parseCount.get();
+            cache.get(2L, List.of("probe-" + i), parser);
+            cache.get(2L, List.of("probe-" + i), parser);
+            hits += parseCount.get() - parsed == 1 ? 1 : 0;
+        }
+        assertEquals(1_000, hits);
+    }
+
+    @Test
+    @DisplayName("clear 후에는 다시 파싱해야 한다")
+    void 캐시_비우기_테스트() {
+        ParsedLoreCache cache = new ParsedLoreCache(16, metrics);
+        List<String> lore = List.of("§c⚔ 공격력 §f+50");
+
+        cache.get(1L, lore, parser);
+        cache.clear();
+        cache.get(1L, lore, parser);
+
+        assertEquals(1, cache.size());
+        assertEquals(2, parseCount.get());
+    }
+
+    @Test
+    @DisplayName("LoreManager는 캐시를 거쳐도 같은 결과를 반환해야 한다")
+    void LoreManager_캐시_연동_테스트() {
+        LoreTemplate template = LoreTemplate.defaultTemplate();
+        LoreManager cached = new LoreManager(template, new ParsedLoreCache(16, metrics));
+        LoreManager uncached = new LoreManager(template);
+        List<String> lore = List.of("§c⚔ 공격력 §f+100", "§9🛡 방어력 §f+50", "§4🩸 피흡수 §f10%");
+
+        assertEquals(uncached.parseLore(lore), cached.parseLore(lore));
+        assertEquals(uncached.parseLore(lore), cached.parseLore(lore));
+        assertEquals(1, metrics.getLoreCacheHits());
+    }
+
+    @Test
+    @DisplayName("템플릿 내용이 같으면 버전도 같아야 한다")
+    void 템플릿_버전_테스트() {
+        LoreTemplate a = LoreTemplate.defaultTemplate();
+        LoreTemplate b = LoreTemplate.defaultTemplate();
+        LoreTemplate custom = LoreTemplate.builder()
+                .format(StatType.DAMAGE, "공격력: {value}")
+                .build();
+
+        assertEquals(a.getVersion(), b.getVersion());
+        assertNotEquals(a.getVersion(), custom.getVersion());
+    }
+}
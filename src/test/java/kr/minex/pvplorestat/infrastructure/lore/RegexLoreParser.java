@@ -0,0 +1,114 @@
+package kr.minex.pvplorestat.infrastructure.lore;
+
+import kr.minex.pvplorestat.domain.model.ItemStats;
+import kr.minex.pvplorestat.domain.model.StatType;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 정규식 기반 기준 파서 (테스트 전용)
+ * <p>
+ * CompiledLoreMatcher 도입 이전 LoreManager의 파싱 로직을 그대로 옮긴 것으로,
+ * 컴파일 매처의 결과가 기존과 동일한지 비교하는 기준으로 사용합니다.
+ * </p>
+ */
+final class RegexLoreParser {
+
+    private final Map<StatType, Pattern> parsePatterns;
+
+    RegexLoreParser(LoreTemplate template) {
+        this.parsePatterns = buildParsePatterns(template);
+    }
+
+    private static Map<StatType, Pattern> buildParsePatterns(LoreTemplate template) {
+        Map<StatType, Pattern> patterns = new EnumMap<>(StatType.class);
+
+        for (StatType type : StatType.values()) {
+            String format = template.getFormat(type);
+            if (format == null || format.isEmpty()) {
+                continue;
+            }
+
+            String stripped = LoreManager.stripColor(format);
+            if (!stripped.contains("{value}")) {
+                continue;
+            }
+
+            String escaped = escapeRegexExceptValue(stripped);
+            String valuePattern = type.isPercent() ? "([0-9.]+)%?" : "([0-9.]+)";
+            String regex = escaped.replace("\\{value\\}", valuePattern);
+
+            try {
+                patterns.put(type, Pattern.compile(regex));
+            } catch (Exception e) {
+                // 패턴 컴파일 실패 시 무시
+            }
+        }
+
+        return patterns;
+    }
+
+    private static String escapeRegexExceptValue(String text) {
+        StringBuilder sb = new StringBuilder();
+        int i = 0;
+        while (i < text.length()) {
+            if (i + 7 <= text.length() && text.substring(i, i + 7).equals("{value}")) {
+                sb.append("\\{value\\}");
+                i += 7;
+                continue;
+            }
+
+            char c = text.charAt(i);
+            if ("\\[]{}()^$.|*+?".indexOf(c) >= 0) {
+                sb.append('\\');
+            }
+            sb.append(c);
+            i++;
+        }
+        return sb.toString();
+    }
+
+    ItemStats parseLore(List<String> lore) {
+        if (lore == null || lore.isEmpty()) {
+            return ItemStats.empty();
+        }
+
+        Map<StatType, Double> foundStats = new EnumMap<>(StatType.class);
+        for (String line : lore) {
+            String stripped = LoreManager.stripColor(line);
+
+            for (Map.Entry<StatType, Pattern> entry : parsePatterns.entrySet()) {
+                Matcher matcher = entry.getValue().matcher(stripped);
+                if (matcher.find()) {
+                    try {
+                        double value = Double.parseDouble(matcher.group(1));
+                        if (value >= 0) {
+                            foundStats.put(entry.getKey(), value);
+                        }
+                    } catch (NumberFormatException ignored) {
+                        // 숫자 파싱 실패 시 무시
+                    }
+                    break;
+                }
+            }
+        }
+        return ItemStats.fromMap(foundStats);
+    }
+
+    boolean isStatLine(String line) {
+        if (line == null || line.isEmpty()) {
+            return false;
+        }
+        String stripped = LoreManager.stripColor(line);
+        for (Pattern pattern : parsePatterns.values()) {
+            if (pattern.matcher(stripped).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
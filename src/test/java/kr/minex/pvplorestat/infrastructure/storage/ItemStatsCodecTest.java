@@ -0,0 +1,71 @@
+package kr.minex.pvplorestat.infrastructure.storage;
+
+import kr.minex.pvplorestat.domain.model.ItemStats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ItemStatsCodec 테스트
+ */
+@DisplayName("ItemStatsCodec 테스트")
+class ItemStatsCodecTest {
+
+    @Test
+    @DisplayName("인코딩 후 디코딩하면 같은 스탯이어야 한다")
+    void 왕복_테스트() {
+        ItemStats stats = ItemStats.builder()
+                .damage(100)
+                .defense(12.5)
+                .lifesteal(0.1)
+                .dodge(80)
+                .build();
+
+        assertEquals(stats, ItemStatsCodec.decode(ItemStatsCodec.encode(stats)));
+    }
+
+    @Test
+    @DisplayName("0인 스탯은 기록하지 않아야 한다")
+    void 압축_테스트() {
+        byte[] data = ItemStatsCodec.encode(ItemStats.builder().damage(50).build());
+
+        assertEquals(2 + Double.BYTES, data.length);
+        assertEquals(ItemStatsCodec.VERSION, data[0]);
+        assertEquals(1, data[1]);
+    }
+
+    @Test
+    @DisplayName("빈 스탯은 헤더만 기록해야 한다")
+    void 빈_스탯_테스트() {
+        byte[] data = ItemStatsCodec.encode(ItemStats.empty());
+
+        assertEquals(2, data.length);
+        assertSame(ItemStats.empty(), ItemStatsCodec.decode(data));
+    }
+
+    @Test
+    @DisplayName("알 수 없는 버전이나 손상된 기록은 null을 반환해야 한다")
+    void 손상된_기록_테스트() {
+        byte[] valid = ItemStatsCodec.encode(ItemStats.builder().damage(50).build());
+
+        byte[] wrongVersion = valid.clone();
+        wrongVersion[0] = 99;
+        byte[] truncated = new byte[valid.length - 1];
+        System.arraycopy(valid, 0, truncated, 0, truncated.length);
+        byte[] unknownBit = valid.clone();
+        unknownBit[1] = (byte) 0x80;
+        byte[] negative = ByteBuffer.allocate(10).put(ItemStatsCodec.VERSION).put((byte) 1).putDouble(-1).array();
+        byte[] nan = ByteBuffer.allocate(10).put(ItemStatsCodec.VERSION).put((byte) 1).putDouble(Double.NaN).array();
+
+        assertNull(ItemStatsCodec.decode(null));
+        assertNull(ItemStatsCodec.decode(new byte[0]));
+        assertNull(ItemStatsCodec.decode(wrongVersion));
+        assertNull(ItemStatsCodec.decode(truncated));
+        assertNull(ItemStatsCodec.decode(unknownBit));
+        assertNull(ItemStatsCodec.decode(negative));
+        assertNull(ItemStatsCodec.decode(nan));
+    }
+}
@@ -0,0 +1,146 @@
+package kr.minex.pvplorestat.integration;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import kr.minex.pvplorestat.PVPLoreStat;
+import kr.minex.pvplorestat.application.PlayerStatsService;
+import kr.minex.pvplorestat.domain.model.EquipmentSlot;
+import kr.minex.pvplorestat.domain.model.ItemStats;
+import kr.minex.pvplorestat.infrastructure.cache.PendingSlotUpdates;
+import kr.minex.pvplorestat.infrastructure.cache.PlayerStatsCache;
+import kr.minex.pvplorestat.infrastructure.monitoring.PluginMetrics;
+import kr.minex.pvplorestat.infrastructure.scheduler.PluginScheduler;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("비동기 스탯 파이프라인 통합 테스트")
+class AsyncStatPipelineIntegrationTest {
+
+    private ServerMock server;
+    private PVPLoreStat plugin;
+    private PluginMetrics metrics;
+    private PlayerStatsCache cache;
+    private PlayerStatsService service;
+    private PlayerMock player;
+
+    /**
+     * 워커 대신 테스트가 원하는 때에 실행하는 작업 대기열
+     */
+    private final Queue<Runnable> workers = new ArrayDeque<>();
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        plugin = MockBukkit.load(PVPLoreStat.class);
+        metrics = new PluginMetrics();
+        cache = new PlayerStatsCache(metrics);
+        service = new PlayerStatsService(plugin.getItemLoreService(), cache, plugin.getConfigManager(), metrics,
+                plugin.getLogger());
+        player = server.addPlayer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("워커에서 파싱한 결과를 다음 틱에 반영한다")
+    void appliesParsedResultOnNextTick() {
+        service.enableAsync(workers::add, PluginScheduler.create(plugin));
+        player.getInventory().setHelmet(itemWith(Material.DIAMOND_HELMET, 3));
+
+        service.refresh(player);
+        assertFalse(cache.contains(player.getUniqueId()));
+
+        runWorkersAndTick();
+
+        assertEquals(1, metrics.getAsyncStatSubmits());
+        assertEquals(1, metrics.getAsyncStatApplies());
+        assertEquals(3, cache.getOrEmpty(player.getUniqueId()).getTotalStats().getDamage());
+    }
+
+    @Test
+    @DisplayName("더 새로운 작업이 들어오면 이전 작업의 결과는 버린다")
+    void discardsStaleJob() {
+        service.enableAsync(workers::add, PluginScheduler.create(plugin));
+        player.getInventory().setHelmet(itemWith(Material.DIAMOND_HELMET, 3));
+        service.refresh(player);
+
+        player.getInventory().setHelmet(itemWith(Material.DIAMOND_HELMET, 5));
+        service.refresh(player);
+        runWorkersAndTick();
+
+        assertEquals(2, metrics.getAsyncStatSubmits());
+        assertEquals(1, metrics.getAsyncStatDiscards());
+        assertEquals(1, metrics.getAsyncStatApplies());
+        assertEquals(5, cache.getOrEmpty(player.getUniqueId()).getTotalStats().getDamage());
+    }
+
+    @Test
+    @DisplayName("동기 계산이 작업을 무효화하면 반영되지 않은 슬롯으로 다시 제출한다")
+    void resubmitsAfterSyncUpdate() {
+        service.enableAsync(workers::add, PluginScheduler.create(plugin));
+        player.getInventory().setHelmet(itemWith(Material.DIAMOND_HELMET, 3));
+        service.refresh(player);
+
+        // 손 슬롯만 동기로 갱신 → 투구를 맡은 작업은 무효화되지만 투구는 아직 반영되지 않음
+        player.getInventory().setItemInMainHand(new ItemStack(Material.DIAMOND_SWORD));
+        service.updateEquipmentSlots(player, PendingSlotUpdates.bit(EquipmentSlot.MAIN_HAND));
+        runWorkersAndTick();
+
+        assertEquals(1, metrics.getAsyncStatDiscards());
+        assertEquals(2, metrics.getAsyncStatSubmits());
+
+        runWorkersAndTick();
+
+        assertEquals(1, metrics.getAsyncStatApplies());
+        assertEquals(3, cache.getOrEmpty(player.getUniqueId()).getTotalStats().getDamage());
+    }
+
+    @Test
+    @DisplayName("워커가 작업을 거절하면 즉시 동기로 계산한다")
+    void fallsBackWhenRejected() {
+        service.enableAsync(task -> {
+            throw new RejectedExecutionException("full");
+        }, PluginScheduler.create(plugin));
+        player.getInventory().setHelmet(itemWith(Material.DIAMOND_HELMET, 3));
+
+        service.refresh(player);
+
+        assertEquals(1, metrics.getAsyncStatFallbacks());
+        assertEquals(0, metrics.getAsyncStatSubmits());
+        assertTrue(cache.contains(player.getUniqueId()));
+        assertEquals(3, cache.getOrEmpty(player.getUniqueId()).getTotalStats().getDamage());
+    }
+
+    private ItemStack itemWith(Material type, double damage) {
+        ItemStack item = new ItemStack(type);
+        plugin.getItemLoreService().setStats(item, ItemStats.builder().damage(damage).build());
+        return item;
+    }
+
+    /**
+     * 대기 중인 파싱 작업을 모두 실행한 뒤, 결과 반영 작업이 돌도록 한 틱 진행합니다.
+     */
+    private void runWorkersAndTick() {
+        Runnable task;
+        while ((task = workers.poll()) != null) {
+            task.run();
+        }
+        server.getScheduler().performOneTick();
+    }
+}
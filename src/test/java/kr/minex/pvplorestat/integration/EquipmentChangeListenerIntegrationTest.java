@@ -0,0 +1,67 @@
+package kr.minex.pvplorestat.integration;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import kr.minex.pvplorestat.PVPLoreStat;
+import kr.minex.pvplorestat.infrastructure.cache.DirtyPlayerTracker;
+import kr.minex.pvplorestat.presentation.listener.EquipmentChangeListener;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.InventoryAction;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("장비 변경 리스너 통합 테스트")
+class EquipmentChangeListenerIntegrationTest {
+
+    /**
+     * 들고 있는 칸도 오프핸드 칸도 아닌 플레이어 인벤토리 칸
+     */
+    private static final int STORAGE_RAW_SLOT = 20;
+
+    private PlayerMock player;
+    private DirtyPlayerTracker dirtyTracker;
+    private EquipmentChangeListener listener;
+
+    @BeforeEach
+    void setUp() {
+        ServerMock server = MockBukkit.mock();
+        PVPLoreStat plugin = MockBukkit.load(PVPLoreStat.class);
+        // 플러그인 태스크와 섞이지 않도록 별도 추적기로 리스너를 만듦
+        dirtyTracker = new DirtyPlayerTracker();
+        listener = new EquipmentChangeListener(dirtyTracker, plugin.getPlayerStatsService());
+        player = server.addPlayer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("더블 클릭은 들고 있는 칸의 아이템도 모아 갈 수 있으므로 재계산 대상으로 표시한다")
+    void doubleClickMarksDirty() {
+        listener.onInventoryClick(click(ClickType.DOUBLE_CLICK, InventoryAction.COLLECT_TO_CURSOR));
+
+        assertEquals(1, dirtyTracker.size());
+    }
+
+    @Test
+    @DisplayName("장비와 무관한 칸의 일반 클릭은 재계산 대상으로 표시하지 않는다")
+    void plainClickOnStorageSlotIsIgnored() {
+        listener.onInventoryClick(click(ClickType.LEFT, InventoryAction.PICKUP_ALL));
+
+        assertEquals(0, dirtyTracker.size());
+    }
+
+    private InventoryClickEvent click(ClickType click, InventoryAction action) {
+        return new InventoryClickEvent(player.getOpenInventory(), InventoryType.SlotType.CONTAINER,
+                STORAGE_RAW_SLOT, click, action);
+    }
+}
@@ -0,0 +1,117 @@
+package kr.minex.pvplorestat.integration;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import kr.minex.pvplorestat.PVPLoreStat;
+import kr.minex.pvplorestat.application.PlayerStatsService;
+import kr.minex.pvplorestat.domain.model.EquipmentSlot;
+import kr.minex.pvplorestat.domain.model.ItemStats;
+import kr.minex.pvplorestat.domain.model.PlayerStats;
+import kr.minex.pvplorestat.infrastructure.cache.PlayerStatsCache;
+import kr.minex.pvplorestat.infrastructure.monitoring.PluginMetrics;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@DisplayName("장비 지문 비교 통합 테스트")
+class EquipmentFingerprintIntegrationTest {
+
+    private static final int SLOT_COUNT = EquipmentSlot.values().length;
+
+    private ServerMock server;
+    private PVPLoreStat plugin;
+    private PluginMetrics metrics;
+    private PlayerStatsService service;
+    private PlayerMock player;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        plugin = MockBukkit.load(PVPLoreStat.class);
+        // 플러그인 서비스와 섞이지 않도록 별도 캐시와 메트릭으로 서비스를 만듦
+        metrics = new PluginMetrics();
+        service = new PlayerStatsService(plugin.getItemLoreService(), new PlayerStatsCache(metrics),
+                plugin.getConfigManager(), metrics, plugin.getLogger());
+        player = server.addPlayer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("처음에는 모든 슬롯을, 이후에는 지문이 바뀐 슬롯만 다시 파싱한다")
+    void reparsesOnlyChangedSlots() {
+        player.getInventory().setHelmet(itemWith(Material.DIAMOND_HELMET, ItemStats.builder().damage(3).build()));
+
+        service.calculateAndCache(player);
+        assertParsed(SLOT_COUNT, 0);
+
+        player.getInventory().setChestplate(itemWith(Material.DIAMOND_CHESTPLATE, ItemStats.builder().defense(2).build()));
+        PlayerStats stats = service.calculateAndCache(player);
+
+        assertParsed(SLOT_COUNT + 1, SLOT_COUNT - 1);
+        assertEquals(3, stats.getTotalStats().getDamage());
+        assertEquals(2, stats.getTotalStats().getDefense());
+    }
+
+    @Test
+    @DisplayName("로어가 같은 다른 아이템으로 바꾸면 다시 파싱하지 않는다")
+    void sameLoreIsNotReparsed() {
+        ItemStack helmet = itemWith(Material.DIAMOND_HELMET, ItemStats.builder().damage(3).build());
+        player.getInventory().setHelmet(helmet);
+        service.calculateAndCache(player);
+
+        player.getInventory().setHelmet(helmet.clone());
+        service.calculateAndCache(player);
+
+        assertParsed(SLOT_COUNT, SLOT_COUNT);
+    }
+
+    @Test
+    @DisplayName("로어가 바뀐 슬롯은 다시 파싱해 총합에 반영한다")
+    void changedLoreIsReparsed() {
+        player.getInventory().setHelmet(itemWith(Material.DIAMOND_HELMET, ItemStats.builder().damage(3).build()));
+        service.calculateAndCache(player);
+
+        player.getInventory().setHelmet(itemWith(Material.DIAMOND_HELMET, ItemStats.builder().damage(5).build()));
+        PlayerStats stats = service.calculateAndCache(player);
+
+        assertParsed(SLOT_COUNT + 1, SLOT_COUNT - 1);
+        assertEquals(5, stats.getTotalStats().getDamage());
+    }
+
+    @Test
+    @DisplayName("바뀐 슬롯이 없으면 캐시된 스탯을 그대로 반환하고 캐시에 다시 쓰지 않는다")
+    void unchangedEquipmentSkipsPublish() {
+        player.getInventory().setHelmet(itemWith(Material.DIAMOND_HELMET, ItemStats.builder().damage(3).build()));
+        PlayerStats first = service.calculateAndCache(player);
+        long puts = metrics.getPlayerStatsCachePuts();
+
+        PlayerStats second = service.calculateAndCache(player);
+
+        assertSame(first, second);
+        assertEquals(1, metrics.getPlayerStatSkips());
+        assertEquals(puts, metrics.getPlayerStatsCachePuts());
+        assertParsed(SLOT_COUNT, SLOT_COUNT);
+    }
+
+    private ItemStack itemWith(Material type, ItemStats stats) {
+        ItemStack item = new ItemStack(type);
+        plugin.getItemLoreService().setStats(item, stats);
+        return item;
+    }
+
+    private void assertParsed(long parsed, long skipped) {
+        assertEquals(parsed, metrics.getEquipmentSlotsParsed());
+        assertEquals(skipped, metrics.getEquipmentSlotsSkipped());
+    }
+}
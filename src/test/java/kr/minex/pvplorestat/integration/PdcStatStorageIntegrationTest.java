@@ -0,0 +1,150 @@
+package kr.minex.pvplorestat.integration;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import kr.minex.pvplorestat.PVPLoreStat;
+import kr.minex.pvplorestat.application.ItemLoreService;
+import kr.minex.pvplorestat.domain.model.ItemStats;
+import kr.minex.pvplorestat.domain.model.StatType;
+import kr.minex.pvplorestat.infrastructure.monitoring.PluginMetrics;
+import kr.minex.pvplorestat.infrastructure.storage.PdcStatStorage;
+import org.bukkit.Material;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("PDC 스탯 저장소 통합 테스트")
+class PdcStatStorageIntegrationTest {
+
+    private PVPLoreStat plugin;
+    private PluginMetrics metrics;
+    private PdcStatStorage storage;
+    private ItemLoreService pdcService;
+    private ItemLoreService loreService;
+
+    @BeforeEach
+    void setUp() {
+        MockBukkit.mock();
+        plugin = MockBukkit.load(PVPLoreStat.class);
+        metrics = new PluginMetrics();
+        storage = new PdcStatStorage(plugin);
+        pdcService = new ItemLoreService(plugin.getLoreManager(), plugin.getConfigManager(), metrics,
+                plugin.getLogger(), storage);
+        // 기록 없이 로어만 가진 기존 아이템을 만들 때 사용
+        loreService = new ItemLoreService(plugin.getLoreManager(), plugin.getConfigManager(), new PluginMetrics(),
+                plugin.getLogger());
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("기록이 있으면 로어보다 기록을 먼저 읽는다")
+    void readsRecordBeforeLore() {
+        ItemStack item = legacyItem(ItemStats.builder().damage(3).build());
+        ItemMeta meta = item.getItemMeta();
+        storage.write(meta, ItemStats.builder().damage(7).build());
+        item.setItemMeta(meta);
+
+        assertEquals(7, pdcService.parseStats(item).getDamage());
+        assertEquals(1, metrics.getStatRecordHits());
+        assertEquals(0, metrics.getStatRecordMigrations());
+    }
+
+    @Test
+    @DisplayName("기록이 없는 기존 아이템은 처음 읽을 때 한 번만 기록을 만든다")
+    void migratesLegacyItemOnce() {
+        ItemStack item = legacyItem(ItemStats.builder().damage(5).defense(2).build());
+
+        ItemStats parsed = pdcService.parseStats(item);
+
+        assertEquals(5, parsed.getDamage());
+        assertEquals(1, metrics.getStatRecordMigrations());
+        assertEquals(parsed, storage.read(item.getItemMeta()));
+
+        // 이미 옮긴 아이템은 기록에서 읽고 다시 쓰지 않음
+        assertEquals(parsed, pdcService.parseStats(item));
+        assertEquals(1, metrics.getStatRecordHits());
+        assertEquals(1, metrics.getStatRecordMigrations());
+    }
+
+    @Test
+    @DisplayName("migrate-legacy를 끄면 기존 아이템에 기록을 만들지 않는다")
+    void doesNotMigrateWhenDisabled() throws Exception {
+        File file = new File(plugin.getDataFolder(), "config.yml");
+        YamlConfiguration config = YamlConfiguration.loadConfiguration(file);
+        config.set("storage.migrate-legacy", false);
+        config.save(file);
+        plugin.getConfigManager().reload();
+        ItemStack item = legacyItem(ItemStats.builder().damage(5).build());
+
+        assertEquals(5, pdcService.parseStats(item).getDamage());
+        assertNull(storage.readRaw(item.getItemMeta()));
+        assertEquals(0, metrics.getStatRecordMigrations());
+    }
+
+    @Test
+    @DisplayName("스탯이 없는 로어는 기록을 만들지 않는다")
+    void doesNotMigrateEmptyStats() {
+        ItemStack item = new ItemStack(Material.DIAMOND_SWORD);
+        ItemMeta meta = item.getItemMeta();
+        meta.setLore(List.of("평범한 검"));
+        item.setItemMeta(meta);
+
+        assertTrue(pdcService.parseStats(item).isEmpty());
+        assertNull(storage.readRaw(item.getItemMeta()));
+        assertEquals(0, metrics.getStatRecordMigrations());
+    }
+
+    @Test
+    @DisplayName("스탯을 설정하고 제거하면 기록도 함께 바뀐다")
+    void editsWriteRecord() {
+        ItemStack item = new ItemStack(Material.DIAMOND_SWORD);
+
+        assertTrue(pdcService.setStat(item, StatType.DAMAGE, 4).success());
+        assertEquals(4, storage.read(item.getItemMeta()).getDamage());
+
+        assertTrue(pdcService.setStats(item, ItemStats.builder().damage(6).dodge(10).build()));
+        assertEquals(ItemStats.builder().damage(6).dodge(10).build(), storage.read(item.getItemMeta()));
+
+        assertTrue(pdcService.removeStat(item, StatType.DODGE));
+        assertEquals(ItemStats.builder().damage(6).build(), storage.read(item.getItemMeta()));
+
+        assertTrue(pdcService.clearStats(item));
+        assertNull(storage.readRaw(item.getItemMeta()));
+    }
+
+    @Test
+    @DisplayName("마지막 스탯을 제거하면 기록도 지운다")
+    void removingLastStatClearsRecord() {
+        ItemStack item = new ItemStack(Material.DIAMOND_SWORD);
+        pdcService.setStat(item, StatType.DAMAGE, 4);
+
+        assertTrue(pdcService.removeStat(item, StatType.DAMAGE));
+
+        assertNull(storage.readRaw(item.getItemMeta()));
+        assertTrue(pdcService.parseStats(item).isEmpty());
+    }
+
+    /**
+     * PDC 기록 없이 로어에만 스탯이 있는 아이템을 만듭니다.
+     */
+    private ItemStack legacyItem(ItemStats stats) {
+        ItemStack item = new ItemStack(Material.DIAMOND_SWORD);
+        loreService.setStats(item, stats);
+        assertNull(storage.readRaw(item.getItemMeta()));
+        return item;
+    }
+}
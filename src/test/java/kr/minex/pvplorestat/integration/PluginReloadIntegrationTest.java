@@ -9,7 +9,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DisplayName("PVPLoreStat 리로드 통합 테스트")
 class PluginReloadIntegrationTest {
@@ -30,14 +34,26 @@ class PluginReloadIntegrationTest {
 
     @Test
     @DisplayName("리로드를 반복해도 리스너가 중복 등록되지 않는다")
-    void reloadDoesNotDuplicateListeners() {
+    void reloadDoesNotDuplicateListeners() throws Exception {
         int baseline = HandlerList.getRegisteredListeners(plugin).size();
 
-        plugin.reload();
+        assertTrue(awaitReload(plugin.reload()));
         assertEquals(baseline, HandlerList.getRegisteredListeners(plugin).size());
 
-        plugin.reload();
+        assertTrue(awaitReload(plugin.reload()));
         assertEquals(baseline, HandlerList.getRegisteredListeners(plugin).size());
     }
+
+    /**
+     * 워커의 파일 읽기가 끝나 메인 스레드 교체 작업이 실행될 때까지 틱을 진행합니다.
+     */
+    private boolean awaitReload(CompletableFuture<Boolean> result) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!result.isDone() && System.nanoTime() < deadline) {
+            server.getScheduler().performOneTick();
+            Thread.sleep(1);
+        }
+        return result.get(0, TimeUnit.SECONDS);
+    }
 }
 
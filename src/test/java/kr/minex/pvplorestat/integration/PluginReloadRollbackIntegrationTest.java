@@ -0,0 +1,122 @@
+package kr.minex.pvplorestat.integration;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import kr.minex.pvplorestat.PVPLoreStat;
+import kr.minex.pvplorestat.application.ItemLoreService;
+import kr.minex.pvplorestat.application.PlayerStatsService;
+import kr.minex.pvplorestat.infrastructure.cache.ItemStatsInterner;
+import kr.minex.pvplorestat.infrastructure.config.ConfigSnapshot;
+import kr.minex.pvplorestat.infrastructure.lore.LoreManager;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("PVPLoreStat 리로드 실패 통합 테스트")
+class PluginReloadRollbackIntegrationTest {
+
+    private ServerMock server;
+    private FailingReloadPlugin plugin;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        plugin = MockBukkit.load(FailingReloadPlugin.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("교체 준비 중에 실패하면 이전 설정과 서비스가 그대로 남는다")
+    void failedApplyKeepsPreviousState() throws Exception {
+        ConfigSnapshot snapshot = plugin.getConfigManager().getSnapshot();
+        LoreManager loreManager = plugin.getLoreManager();
+        ItemLoreService itemLoreService = plugin.getItemLoreService();
+        PlayerStatsService statsService = plugin.getPlayerStatsService();
+        setLoreCacheSize(snapshot.getLoreCacheSize() + 1); // 서비스 전체를 다시 만드는 변경
+
+        plugin.failServiceBuild = true;
+        assertFalse(awaitReload(plugin.reload()));
+
+        assertSame(snapshot, plugin.getConfigManager().getSnapshot());
+        assertSame(loreManager, plugin.getLoreManager());
+        assertSame(itemLoreService, plugin.getItemLoreService());
+        assertSame(statsService, plugin.getPlayerStatsService());
+
+        // 이전 서비스가 닫히지 않았으면 계산 결과가 공유 캐시에 게시됨
+        PlayerMock player = server.addPlayer();
+        statsService.getCache().remove(player.getUniqueId());
+        statsService.calculateAndCache(player);
+        assertTrue(statsService.getCache().contains(player.getUniqueId()));
+    }
+
+    @Test
+    @DisplayName("실패한 뒤 다시 리로드하면 새 설정과 서비스로 교체된다")
+    void reloadSucceedsAfterFailure() throws Exception {
+        ConfigSnapshot snapshot = plugin.getConfigManager().getSnapshot();
+        PlayerStatsService statsService = plugin.getPlayerStatsService();
+        int cacheSize = snapshot.getLoreCacheSize() + 1;
+        setLoreCacheSize(cacheSize);
+
+        plugin.failServiceBuild = true;
+        assertFalse(awaitReload(plugin.reload()));
+
+        plugin.failServiceBuild = false;
+        assertTrue(awaitReload(plugin.reload()));
+
+        assertEquals(cacheSize, plugin.getConfigManager().getLoreCacheSize());
+        assertNotSame(statsService, plugin.getPlayerStatsService());
+    }
+
+    private void setLoreCacheSize(int size) throws Exception {
+        File file = new File(plugin.getDataFolder(), "config.yml");
+        YamlConfiguration config = YamlConfiguration.loadConfiguration(file);
+        config.set("settings.lore-cache-size", size);
+        config.save(file);
+    }
+
+    /**
+     * 워커의 파일 읽기가 끝나 메인 스레드 교체 작업이 실행될 때까지 틱을 진행합니다.
+     */
+    private boolean awaitReload(CompletableFuture<Boolean> result) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!result.isDone() && System.nanoTime() < deadline) {
+            server.getScheduler().performOneTick();
+            Thread.sleep(1);
+        }
+        return result.get(0, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 스위치를 켜면 리로드 준비 단계에서 스탯 서비스 생성이 실패하는 플러그인
+     */
+    public static class FailingReloadPlugin extends PVPLoreStat {
+
+        volatile boolean failServiceBuild;
+
+        @Override
+        protected PlayerStatsService createPlayerStatsService(ItemLoreService itemLoreService,
+                                                              ItemStatsInterner interner) {
+            if (failServiceBuild) {
+                throw new IllegalStateException("테스트용 서비스 생성 실패");
+            }
+            return super.createPlayerStatsService(itemLoreService, interner);
+        }
+    }
+}
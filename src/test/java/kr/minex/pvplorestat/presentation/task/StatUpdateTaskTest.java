@@ -0,0 +1,193 @@
+package kr.minex.pvplorestat.presentation.task;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import kr.minex.pvplorestat.PVPLoreStat;
+import kr.minex.pvplorestat.infrastructure.cache.DirtyPlayerTracker;
+import kr.minex.pvplorestat.infrastructure.monitoring.PluginMetrics;
+import kr.minex.pvplorestat.infrastructure.scheduler.PluginScheduler;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * StatUpdateTask 틱 예산 테스트
+ * <p>
+ * 가짜 스케줄러가 플레이어 갱신을 기록하고 정해진 비용만큼 시계를 진행시킵니다.
+ * </p>
+ */
+@DisplayName("StatUpdateTask 틱 예산 테스트")
+class StatUpdateTaskTest {
+
+    private static final long BUDGET_MICROS = 1_000;
+
+    private ServerMock server;
+    private PVPLoreStat plugin;
+    private final AtomicLong clock = new AtomicLong();
+    private final DirtyPlayerTracker dirtyTracker = new DirtyPlayerTracker();
+    private final PluginMetrics metrics = new PluginMetrics();
+    private FakeScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        plugin = MockBukkit.load(PVPLoreStat.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("다음 플레이어의 추정 비용이 남은 예산을 넘으면 그 틱의 처리를 멈춰야 한다")
+    void 예산_중단_테스트() throws Exception {
+        StatUpdateTask task = createTask(0, 300);
+        for (int i = 0; i < 10; i++) {
+            dirtyTracker.markDirty(server.addPlayer().getUniqueId());
+        }
+
+        task.run();
+
+        // 추정 비용이 50 → 100 → 140 → 172μs로 따라오며, 세 명 처리 후(900μs) 네 번째는 예산을 넘을 것으로 봄
+        assertEquals(3, scheduler.refreshed.size());
+        assertEquals(7, dirtyTracker.size());
+        assertEquals(0, metrics.getStatBudgetOverruns());
+    }
+
+    @Test
+    @DisplayName("한 명이 예산보다 오래 걸려도 틱마다 한 명은 처리해야 한다")
+    void 최소_진행_테스트() throws Exception {
+        StatUpdateTask task = createTask(0, 3_000);
+        for (int i = 0; i < 3; i++) {
+            dirtyTracker.markDirty(server.addPlayer().getUniqueId());
+        }
+
+        for (int tick = 1; tick <= 3; tick++) {
+            task.run();
+            assertEquals(tick, scheduler.refreshed.size());
+            assertEquals(tick, metrics.getStatBudgetOverruns());
+        }
+        assertEquals(0, dirtyTracker.size());
+    }
+
+    @Test
+    @DisplayName("재확인 커서는 접속/퇴장 후에도 처음으로 돌아가지 않고 이어서 진행해야 한다")
+    void 라운드_로빈_커서_테스트() throws Exception {
+        StatUpdateTask task = createTask(1, BUDGET_MICROS); // 틱당 한 명
+        PlayerMock first = server.addPlayer();
+        PlayerMock second = server.addPlayer();
+        PlayerMock third = server.addPlayer();
+
+        task.run();
+        task.run();
+        PlayerMock joined = server.addPlayer();
+        first.disconnect();
+        for (int i = 0; i < 4; i++) {
+            task.run();
+        }
+
+        // 진행 중인 회차는 세 번째 플레이어까지 마치고, 다음 회차에서 퇴장한 플레이어를 건너뛰고 새 플레이어를 끝에 둠
+        assertEquals(List.of(first.getUniqueId(), second.getUniqueId(), third.getUniqueId(),
+                second.getUniqueId(), third.getUniqueId(), joined.getUniqueId()), scheduler.refreshed);
+        assertEquals(0, metrics.getStatBudgetOverruns());
+    }
+
+    @Test
+    @DisplayName("예산 초과, 반영 지연, 대기열 길이를 기록해야 한다")
+    void 메트릭_테스트() throws Exception {
+        StatUpdateTask task = createTask(0, 3_000);
+        for (int i = 0; i < 3; i++) {
+            dirtyTracker.markDirty(server.addPlayer().getUniqueId());
+        }
+        Thread.sleep(1); // 표시 후 반영까지의 지연이 0보다 크도록
+
+        task.run();
+
+        assertEquals(1, metrics.getStatBudgetOverruns());
+        assertTrue(metrics.getStatStalenessMaxNanos() >= TimeUnit.MILLISECONDS.toNanos(1));
+        assertEquals(2, metrics.getStatQueueDepth());
+
+        task.run();
+        task.run();
+
+        assertEquals(3, metrics.getStatBudgetOverruns());
+        assertEquals(0, metrics.getStatQueueDepth());
+        assertEquals(2, metrics.getStatQueueDepthMax());
+    }
+
+    /**
+     * 설정을 바꾸고 가짜 시계와 스케줄러로 태스크를 만듭니다.
+     *
+     * @param reconcileInterval 재확인 간격 (0이면 사용 안 함)
+     * @param costMicros        플레이어 한 명 갱신 비용
+     */
+    private StatUpdateTask createTask(int reconcileInterval, long costMicros) throws Exception {
+        File file = new File(plugin.getDataFolder(), "config.yml");
+        YamlConfiguration config = YamlConfiguration.loadConfiguration(file);
+        config.set("settings.tick-budget-us", BUDGET_MICROS);
+        config.set("settings.reconcile-interval", reconcileInterval);
+        config.save(file);
+        plugin.getConfigManager().reload();
+
+        scheduler = new FakeScheduler(TimeUnit.MICROSECONDS.toNanos(costMicros));
+        StatUpdateTask task = new StatUpdateTask(plugin.getPlayerStatsService(), dirtyTracker, metrics,
+                plugin.getLogger(), plugin.getConfigManager(), scheduler, clock::get);
+        assertEquals(1, task.getPeriodTicks());
+        return task;
+    }
+
+    /**
+     * 모든 플레이어를 다른 스레드 소유로 보고, 넘겨받은 갱신을 기록하며 시계를 진행시키는 스케줄러
+     */
+    private final class FakeScheduler implements PluginScheduler {
+
+        private final long costNanos;
+        private final List<UUID> refreshed = new ArrayList<>();
+
+        private FakeScheduler(long costNanos) {
+            this.costNanos = costNanos;
+        }
+
+        @Override
+        public TaskHandle runGlobalTimer(Runnable task, long delayTicks, long periodTicks) {
+            return () -> {
+            };
+        }
+
+        @Override
+        public void runGlobal(Runnable task) {
+            task.run();
+        }
+
+        @Override
+        public boolean runForPlayer(Player player, Runnable task) {
+            refreshed.add(player.getUniqueId());
+            clock.addAndGet(costNanos);
+            return true;
+        }
+
+        @Override
+        public boolean isOwnedByCurrentThread(Player player) {
+            return false;
+        }
+
+        @Override
+        public boolean isRegionized() {
+            return false;
+        }
+    }
+}